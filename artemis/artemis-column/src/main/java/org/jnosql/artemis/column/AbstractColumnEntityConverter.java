@@ -21,20 +21,16 @@ import jakarta.nosql.mapping.column.ColumnEntityConverter;
 import jakarta.nosql.mapping.reflection.ClassMapping;
 import jakarta.nosql.mapping.reflection.ClassMappings;
 import jakarta.nosql.mapping.reflection.FieldMapping;
-import jakarta.nosql.mapping.reflection.FieldType;
 import jakarta.nosql.mapping.reflection.FieldValue;
 import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFactory;
+import org.jnosql.artemis.util.WritePlans;
+import org.jnosql.diana.column.Columns;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
-import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED;
-import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED_ENTITY;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -44,6 +40,12 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
 
     private final ColumnFieldConverterFactory converterFactory = new ColumnFieldConverterFactory();
 
+    private final Map<Class<?>, ColumnReadPlan> plans = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, ColumnWritePlan> writePlans = new ConcurrentHashMap<>();
+
+    private final boolean writePlanEnabled = WritePlans.isEnabled();
+
     protected abstract ClassMappings getClassMappings();
 
     protected abstract Converters getConverters();
@@ -52,7 +54,12 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
     public ColumnEntity toColumn(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
-        ColumnEntity entity = ColumnEntity.of(mapping.getName());
+        if (writePlanEnabled) {
+            ColumnWritePlan plan = writePlans.computeIfAbsent(mapping.getClassInstance(),
+                    c -> ColumnWritePlan.of(mapping, getConverters()));
+            return plan.write(entityInstance, this);
+        }
+        ColumnEntity entity = Columns.newEntity(mapping.getName(), mapping.getFields().size());
         mapping.getFields().stream()
                 .map(f -> to(f, entityInstance))
                 .filter(FieldValue::isNotEmpty)
@@ -90,15 +97,6 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
         return DefaultColumnFieldValue.of(value, field);
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
-        return (String k) -> {
-            Optional<Column> column = columns.stream().filter(c -> c.getName().equals(k)).findFirst();
-            FieldMapping field = fieldsGroupByName.get(k);
-            ColumnFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, columns, column, field, this);
-        };
-    }
-
     protected <T> T toEntity(Class<T> entityClass, List<Column> columns) {
         ClassMapping mapping = getClassMappings().get(entityClass);
         T instance = mapping.newInstance();
@@ -106,18 +104,33 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
     }
 
     private <T> T convertEntity(List<Column> columns, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || EMBEDDED_ENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
-
-        return instance;
+        return getReadPlan(mapping).read(instance, columns, this);
+    }
+
+    /**
+     * Feeds a field of the instance from the columns.
+     *
+     * @param instance          the entity instance
+     * @param columns         the columns
+     * @param fieldsGroupByName the fields grouped by name
+     * @param <T>               the entity type
+     * @return a consumer of the field name
+     * @deprecated the entities are read through a read plan kept per entity class, so this method is no longer
+     * called by the converter; it feeds the field through the same plan.
+     */
+    @Deprecated
+    protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
+        ColumnReadPlan plan = getReadPlan(getClassMappings().get(instance.getClass()));
+        return k -> plan.feed(instance, columns, k, fieldsGroupByName.get(k), this);
+    }
+
+    ColumnFieldConverter getFieldConverter(FieldMapping field) {
+        return converterFactory.get(field, getConverters());
+    }
+
+    private ColumnReadPlan getReadPlan(ClassMapping mapping) {
+        return plans.computeIfAbsent(mapping.getClassInstance(),
+                c -> ColumnReadPlan.of(mapping, converterFactory, getConverters()));
     }
 
 }
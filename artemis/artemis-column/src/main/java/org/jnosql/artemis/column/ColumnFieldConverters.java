@@ -16,6 +16,7 @@ package org.jnosql.artemis.column;
 
 import jakarta.nosql.column.Column;
 import jakarta.nosql.mapping.AttributeConverter;
+import jakarta.nosql.mapping.Converters;
 import jakarta.nosql.mapping.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.GenericFieldMapping;
 import jakarta.nosql.TypeReference;
@@ -55,6 +56,15 @@ class ColumnFieldConverters {
             }
         }
 
+        ColumnFieldConverter get(FieldMapping field, Converters converters) {
+            ColumnFieldConverter fieldConverter = get(field);
+            Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
+            if (fieldConverter == defaultConverter && optionalConverter.isPresent()) {
+                return new AttributeFieldConverter(converters.get(optionalConverter.get()));
+            }
+            return fieldConverter;
+        }
+
         private boolean isCollectionEmbeddable(FieldMapping field) {
             return COLLECTION.equals(field.getType()) && ((GenericFieldMapping) field).isEmbeddable();
         }
@@ -127,6 +137,24 @@ class ColumnFieldConverters {
     }
 
 
+    private static class AttributeFieldConverter implements ColumnFieldConverter {
+
+        private final AttributeConverter attributeConverter;
+
+        private AttributeFieldConverter(AttributeConverter attributeConverter) {
+            this.attributeConverter = attributeConverter;
+        }
+
+        @Override
+        public <T> void convert(T instance, List<Column> columns, Optional<Column> column,
+                                FieldMapping field, AbstractColumnEntityConverter converter) {
+            Value value = column.get().getValue();
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
+            field.write(instance, field.getValue(Value.of(attributeConverted)));
+        }
+    }
+
+
     private static class CollectionEmbeddableConverter implements ColumnFieldConverter {
 
         @Override
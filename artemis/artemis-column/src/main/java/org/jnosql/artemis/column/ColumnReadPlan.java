@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import jakarta.nosql.column.Column;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.reflection.ClassMapping;
+import jakarta.nosql.mapping.reflection.FieldMapping;
+import jakarta.nosql.mapping.reflection.FieldType;
+import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED;
+import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED_ENTITY;
+
+/**
+ * The read plan of a {@link ClassMapping}: to each field name, the {@link FieldMapping} and the
+ * {@link ColumnFieldConverter} with its attribute converter already resolved. It feeds an entity in a single pass
+ * over the columns.
+ */
+final class ColumnReadPlan {
+
+    private final Map<String, Integer> indexes;
+
+    private final FieldMapping[] fields;
+
+    private final ColumnFieldConverter[] converters;
+
+    private final boolean[] elements;
+
+    private ColumnReadPlan(Map<String, Integer> indexes, FieldMapping[] fields,
+                           ColumnFieldConverter[] converters, boolean[] elements) {
+        this.indexes = indexes;
+        this.fields = fields;
+        this.converters = converters;
+        this.elements = elements;
+    }
+
+    /**
+     * Feeds the instance from the columns, when there are columns with the same name the first one is used.
+     *
+     * @param instance  the entity instance
+     * @param columns   the columns
+     * @param converter the converter used to the sub entities
+     * @param <T>       the entity type
+     * @return the instance
+     */
+    <T> T read(T instance, List<Column> columns, AbstractColumnEntityConverter converter) {
+        Column[] values = new Column[fields.length];
+        for (Column column : columns) {
+            Integer index = indexes.get(column.getName());
+            if (index != null && values[index] == null) {
+                values[index] = column;
+            }
+        }
+        for (int index = 0; index < fields.length; index++) {
+            Column column = values[index];
+            if (column != null || elements[index]) {
+                converters[index].convert(instance, columns, Optional.ofNullable(column), fields[index],
+                        converter);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Feeds a single field of the instance from the columns, it is the plan behind the deprecated
+     * {@code feedObject} hook of {@link AbstractColumnEntityConverter}.
+     *
+     * @param instance  the entity instance
+     * @param columns the columns
+     * @param name      the field name
+     * @param field     the field
+     * @param converter the converter used to the sub entities
+     * @param <T>       the entity type
+     */
+    <T> void feed(T instance, List<Column> columns, String name, FieldMapping field,
+                  AbstractColumnEntityConverter converter) {
+        Optional<Column> column = columns.stream().filter(c -> c.getName().equals(name)).findFirst();
+        Integer index = indexes.get(name);
+        if (index != null && fields[index].equals(field)) {
+            converters[index].convert(instance, columns, column, field, converter);
+        } else {
+            converter.getFieldConverter(field).convert(instance, columns, column, field, converter);
+        }
+    }
+
+    static ColumnReadPlan of(ClassMapping mapping, ColumnFieldConverterFactory factory, Converters converters) {
+        Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
+        int size = fieldsGroupByName.size();
+        Map<String, Integer> indexes = new HashMap<>();
+        FieldMapping[] fields = new FieldMapping[size];
+        ColumnFieldConverter[] fieldConverters = new ColumnFieldConverter[size];
+        boolean[] elements = new boolean[size];
+        int index = 0;
+        for (Map.Entry<String, FieldMapping> entry : fieldsGroupByName.entrySet()) {
+            FieldMapping field = entry.getValue();
+            FieldType type = field.getType();
+            indexes.put(entry.getKey(), index);
+            fields[index] = field;
+            fieldConverters[index] = factory.get(field, converters);
+            elements[index] = EMBEDDED.equals(type) || EMBEDDED_ENTITY.equals(type);
+            index++;
+        }
+        return new ColumnReadPlan(indexes, fields, fieldConverters, elements);
+    }
+}
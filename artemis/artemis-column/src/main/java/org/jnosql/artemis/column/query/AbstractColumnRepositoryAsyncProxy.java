@@ -18,8 +18,8 @@ package org.jnosql.artemis.column.query;
 import jakarta.nosql.mapping.DynamicQueryException;
 import jakarta.nosql.mapping.RepositoryAsync;
 import jakarta.nosql.mapping.column.ColumnTemplateAsync;
-import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicAsyncQueryMethodReturn;
+import org.jnosql.artemis.reflection.RepositoryMethod;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnQuery;
 
@@ -44,18 +44,18 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
 
-        RepositoryType type = RepositoryType.of(method);
+        RepositoryMethod repositoryMethod = getRepositoryMethod(method);
 
-        switch (type) {
+        switch (repositoryMethod.getType()) {
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                ColumnQuery query = getQuery(method, args);
+                ColumnQuery query = getQuery(repositoryMethod, args);
                 return executeQuery(getCallback(args), query);
             case FIND_ALL:
                 return executeQuery(getCallback(args), select().from(getClassMapping().getName()).build());
             case DELETE_BY:
-                ColumnDeleteQuery deleteQuery = getDeleteQuery(method, args);
+                ColumnDeleteQuery deleteQuery = getDeleteQuery(repositoryMethod, args);
                 return executeDelete(getCallback(args), deleteQuery);
             case OBJECT_METHOD:
                 return method.invoke(this, args);
@@ -21,9 +21,9 @@ import jakarta.nosql.mapping.Pagination;
 import jakarta.nosql.mapping.Repository;
 import jakarta.nosql.mapping.column.ColumnQueryPagination;
 import jakarta.nosql.mapping.column.ColumnTemplate;
-import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicQueryMethodReturn;
 import org.jnosql.artemis.reflection.DynamicReturn;
+import org.jnosql.artemis.reflection.RepositoryMethod;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnQuery;
 
@@ -51,20 +51,21 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends  BaseColumnRep
 
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
-        RepositoryType type = RepositoryType.of(method);
+        RepositoryMethod repositoryMethod = getRepositoryMethod(method);
         Class<?> typeClass = getClassMapping().getClassInstance();
 
-        switch (type) {
+        switch (repositoryMethod.getType()) {
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                ColumnQuery query = getQuery(method, args);
-                return executeQuery(method, args, typeClass, query);
+                ColumnQuery query = getQuery(repositoryMethod, args);
+                return executeQuery(repositoryMethod, args, typeClass, query);
             case FIND_ALL:
                 ColumnQuery queryFindAll = ColumnQuery.select().from(getClassMapping().getName()).build();
-                return executeQuery(method, args, typeClass, getQuerySorts(args, queryFindAll));
+                return executeQuery(repositoryMethod, args, typeClass,
+                        getQuerySorts(repositoryMethod.findSorts(args), queryFindAll));
             case DELETE_BY:
-                ColumnDeleteQuery deleteQuery = getDeleteQuery(method, args);
+                ColumnDeleteQuery deleteQuery = getDeleteQuery(repositoryMethod, args);
                 getTemplate().delete(deleteQuery);
                 return Void.class;
             case OBJECT_METHOD:
@@ -83,18 +84,22 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends  BaseColumnRep
         }
     }
 
-    private Object executeQuery(Method method, Object[] args, Class<?> typeClass, ColumnQuery query) {
-        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+    private Object executeQuery(RepositoryMethod repositoryMethod, Object[] args, Class<?> typeClass,
+                                ColumnQuery query) {
+        Pagination pagination = repositoryMethod.findPagination(args);
+        DynamicReturn.DefaultDynamicReturnBuilder builder = DynamicReturn.builder()
                 .withClassSource(typeClass)
-                .withMethodSource(method)
+                .withMethodSource(repositoryMethod.getMethod())
                 .withList(() -> getTemplate().select(query))
                 .withSingleResult(() -> getTemplate().singleResult(query))
-                .withPagination(DynamicReturn.findPagination(args))
-                .withListPagination(listPagination(query))
-                .withSingleResultPagination(getSingleResult(query))
-                .withPage(getPage(query))
-                .build();
-        return dynamicReturn.execute();
+                .withPagination(pagination);
+        if (pagination != null) {
+            builder.withListPagination(listPagination(query))
+                    .withSingleResultPagination(getSingleResult(query))
+                    .withPage(getPage(query));
+        }
+        DynamicReturn<?> dynamicReturn = builder.build();
+        return repositoryMethod.execute(dynamicReturn);
     }
 
     private Function<Pagination, Page<T>> getPage(ColumnQuery query) {
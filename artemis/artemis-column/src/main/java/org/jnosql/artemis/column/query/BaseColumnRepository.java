@@ -15,21 +15,18 @@
 package org.jnosql.artemis.column.query;
 
 
-import jakarta.nosql.Params;
 import jakarta.nosql.ServiceLoaderProvider;
 import jakarta.nosql.Sort;
 import jakarta.nosql.column.ColumnDeleteQuery;
-import jakarta.nosql.column.ColumnDeleteQueryParams;
 import jakarta.nosql.column.ColumnObserverParser;
 import jakarta.nosql.column.ColumnQuery;
-import jakarta.nosql.column.ColumnQueryParams;
 import jakarta.nosql.column.DeleteQueryConverter;
 import jakarta.nosql.column.SelectQueryConverter;
 import jakarta.nosql.mapping.Converters;
 import jakarta.nosql.mapping.reflection.ClassMapping;
 import jakarta.nosql.query.DeleteQuery;
 import jakarta.nosql.query.SelectQuery;
-import org.jnosql.artemis.reflection.DynamicReturn;
+import org.jnosql.artemis.reflection.RepositoryMethod;
 import org.jnosql.artemis.util.ParamsBinder;
 import org.jnosql.diana.query.method.DeleteMethodProvider;
 import org.jnosql.diana.query.method.SelectMethodProvider;
@@ -37,7 +34,9 @@ import org.jnosql.diana.query.method.SelectMethodProvider;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 abstract class BaseColumnRepository {
 
@@ -53,28 +52,40 @@ abstract class BaseColumnRepository {
 
     private static final DeleteQueryConverter DELETE_CONVERTER = ServiceLoaderProvider.get(DeleteQueryConverter.class);
 
-    protected ColumnQuery getQuery(Method method, Object[] args) {
+    private final Map<Method, RepositoryMethod> methods = new ConcurrentHashMap<>();
+
+    protected ColumnQuery getQuery(RepositoryMethod repositoryMethod, Object[] args) {
+        ColumnQueryTemplate template = repositoryMethod.getQuery(this::getQueryTemplate);
+        ColumnQuery query = template.bindQuery(getValues(template, repositoryMethod, args));
+        return getQuerySorts(repositoryMethod.findSorts(args), query);
+    }
+
+    protected ColumnDeleteQuery getDeleteQuery(RepositoryMethod repositoryMethod, Object[] args) {
+        ColumnQueryTemplate template = repositoryMethod.getQuery(this::getDeleteQueryTemplate);
+        return template.bindDeleteQuery(getValues(template, repositoryMethod, args));
+    }
+
+    private ColumnQueryTemplate getQueryTemplate(RepositoryMethod repositoryMethod) {
         SelectMethodProvider selectMethodFactory = SelectMethodProvider.get();
-        SelectQuery selectQuery = selectMethodFactory.apply(method, getClassMapping().getName());
-        ColumnQueryParams queryParams = SELECT_CONVERTER.apply(selectQuery, getParser());
-        ColumnQuery query = queryParams.getQuery();
-        Params params = queryParams.getParams();
-        getParamsBinder().bind(params, args, method);
-        return getQuerySorts(args, query);
+        SelectQuery selectQuery = selectMethodFactory.apply(repositoryMethod.getMethod(), getClassMapping().getName());
+        return ColumnQueryTemplate.of(SELECT_CONVERTER.apply(selectQuery, getParser()));
     }
 
-    protected ColumnDeleteQuery getDeleteQuery(Method method, Object[] args) {
+    private ColumnQueryTemplate getDeleteQueryTemplate(RepositoryMethod repositoryMethod) {
         DeleteMethodProvider deleteMethodFactory = DeleteMethodProvider.get();
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getClassMapping().getName());
-        ColumnDeleteQueryParams queryParams = DELETE_CONVERTER.apply(deleteQuery, getParser());
-        ColumnDeleteQuery query = queryParams.getQuery();
-        Params params = queryParams.getParams();
-        getParamsBinder().bind(params, args, method);
-        return query;
+        DeleteQuery deleteQuery = deleteMethodFactory.apply(repositoryMethod.getMethod(), getClassMapping().getName());
+        return ColumnQueryTemplate.of(DELETE_CONVERTER.apply(deleteQuery, getParser()));
     }
 
-    protected ColumnQuery getQuerySorts(Object[] args, ColumnQuery query) {
-        List<Sort> sorts = DynamicReturn.findSorts(args);
+    private Object[] getValues(ColumnQueryTemplate template, RepositoryMethod repositoryMethod, Object[] args) {
+        List<String> names = template.getNames();
+        if (names.isEmpty()) {
+            return args;
+        }
+        return getParamsBinder().getValues(names, args, repositoryMethod.getMethod());
+    }
+
+    protected ColumnQuery getQuerySorts(List<Sort> sorts, ColumnQuery query) {
         if (!sorts.isEmpty()) {
             List<Sort> newOrders = new ArrayList<>();
             newOrders.addAll(query.getSorts());
@@ -85,6 +96,10 @@ abstract class BaseColumnRepository {
         return query;
     }
 
+    protected RepositoryMethod getRepositoryMethod(Method method) {
+        return methods.computeIfAbsent(method, m -> RepositoryMethod.of(m, getClassMapping().getClassInstance()));
+    }
+
 
     protected ColumnObserverParser getParser() {
         if (parser == null) {
@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column.query;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.Params;
+import jakarta.nosql.QueryException;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static jakarta.nosql.column.ColumnCondition.and;
+import static jakarta.nosql.column.ColumnCondition.between;
+import static jakarta.nosql.column.ColumnCondition.eq;
+import static jakarta.nosql.column.ColumnCondition.gt;
+import static jakarta.nosql.column.ColumnCondition.gte;
+import static jakarta.nosql.column.ColumnCondition.in;
+import static jakarta.nosql.column.ColumnCondition.like;
+import static jakarta.nosql.column.ColumnCondition.lt;
+import static jakarta.nosql.column.ColumnCondition.lte;
+import static jakarta.nosql.column.ColumnCondition.or;
+
+/**
+ * A {@link ColumnCondition} compiled once from the query of a repository method, where each parameter became a
+ * slot. Binding copies only the conditions that have a slot, the others are shared by every call.
+ */
+final class ColumnConditionTemplate {
+
+    private static final ColumnConditionTemplate[] EMPTY = new ColumnConditionTemplate[0];
+
+    private final Condition operator;
+
+    private final ColumnCondition constant;
+
+    private final String name;
+
+    private final Object value;
+
+    private final ColumnConditionTemplate[] conditions;
+
+    private ColumnConditionTemplate(Condition operator, ColumnCondition constant, String name, Object value,
+                                      ColumnConditionTemplate[] conditions) {
+        this.operator = operator;
+        this.constant = constant;
+        this.name = name;
+        this.value = value;
+        this.conditions = conditions;
+    }
+
+    ColumnCondition bind(Object[] values) {
+        if (Objects.nonNull(constant)) {
+            return constant;
+        }
+        switch (operator) {
+            case NOT:
+                return conditions[0].bind(values).negate();
+            case AND:
+                return and(bind(conditions, values));
+            case OR:
+                return or(bind(conditions, values));
+            default:
+                return bind(Column.of(name, Slot.bind(value, values)));
+        }
+    }
+
+    private ColumnCondition bind(Column column) {
+        switch (operator) {
+            case EQUALS:
+                return eq(column);
+            case GREATER_THAN:
+                return gt(column);
+            case GREATER_EQUALS_THAN:
+                return gte(column);
+            case LESSER_THAN:
+                return lt(column);
+            case LESSER_EQUALS_THAN:
+                return lte(column);
+            case IN:
+                return in(column);
+            case LIKE:
+                return like(column);
+            case BETWEEN:
+                return between(column);
+            default:
+                throw new QueryException("There is not support the type: " + operator);
+        }
+    }
+
+    private static ColumnCondition[] bind(ColumnConditionTemplate[] conditions, Object[] values) {
+        ColumnCondition[] columnConditions = new ColumnCondition[conditions.length];
+        for (int index = 0; index < conditions.length; index++) {
+            columnConditions[index] = conditions[index].bind(values);
+        }
+        return columnConditions;
+    }
+
+    /**
+     * Compiles the condition, the parameters must be already bound by {@link Slot#bindSlots(Params)}.
+     */
+    static ColumnConditionTemplate of(ColumnCondition condition) {
+        Condition operator = condition.getCondition();
+        switch (operator) {
+            case NOT:
+                return of(condition, operator, new ColumnConditionTemplate[]{
+                        of(condition.getColumn().get(ColumnCondition.class))});
+            case AND:
+            case OR:
+                return of(condition, operator, condition.getColumn()
+                        .get(new TypeReference<List<ColumnCondition>>() {
+                        }).stream()
+                        .map(ColumnConditionTemplate::of)
+                        .toArray(ColumnConditionTemplate[]::new));
+            default:
+                Column column = condition.getColumn();
+                Object value = Slot.toTemplate(column.get());
+                if (Slot.hasSlot(value)) {
+                    return new ColumnConditionTemplate(operator, null, column.getName(), value, EMPTY);
+                }
+                return new ColumnConditionTemplate(operator, condition, null, null, EMPTY);
+        }
+    }
+
+    private static ColumnConditionTemplate of(ColumnCondition condition, Condition operator,
+                                                ColumnConditionTemplate[] conditions) {
+        for (ColumnConditionTemplate child : conditions) {
+            if (Objects.isNull(child.constant)) {
+                return new ColumnConditionTemplate(operator, null, null, null, conditions);
+            }
+        }
+        return new ColumnConditionTemplate(operator, condition, null, null, EMPTY);
+    }
+
+    /**
+     * The placeholder of a parameter at the template, it holds the position of the parameter value.
+     */
+    static final class Slot {
+
+        private final int index;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Binds a slot to each parameter, in the parameters names order
+         *
+         * @param params the params of the query
+         * @return the parameters names
+         */
+        static List<String> bindSlots(Params params) {
+            List<String> names = params.getParametersNames();
+            for (int index = 0; index < names.size(); index++) {
+                params.bind(names.get(index), new Slot(index));
+            }
+            return names;
+        }
+
+        private static Object toTemplate(Object value) {
+            if (value instanceof Iterable) {
+                List<Object> elements = new ArrayList<>();
+                for (Object element : (Iterable<?>) value) {
+                    boolean slot = element instanceof Value && ((Value) element).get() instanceof Slot;
+                    elements.add(slot ? ((Value) element).get() : element);
+                }
+                return elements;
+            }
+            return value;
+        }
+
+        private static boolean hasSlot(Object value) {
+            if (value instanceof List) {
+                return ((List<?>) value).stream().anyMatch(Slot.class::isInstance);
+            }
+            return value instanceof Slot;
+        }
+
+        private static Object bind(Object value, Object[] values) {
+            if (value instanceof Slot) {
+                return values[((Slot) value).index];
+            }
+            List<?> template = (List<?>) value;
+            List<Object> elements = new ArrayList<>(template.size());
+            for (Object element : template) {
+                elements.add(element instanceof Slot ? Value.of(values[((Slot) element).index]) : element);
+            }
+            return elements;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column.query;
+
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnDeleteQueryParams;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.column.ColumnQueryParams;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The select or delete query of a repository method, converted once through the observer. Each call copies the
+ * query with the values of the parameters, so the template is shared by concurrent calls.
+ */
+final class ColumnQueryTemplate {
+
+    private final ColumnQuery query;
+
+    private final ColumnDeleteQuery deleteQuery;
+
+    private final List<String> names;
+
+    private final ColumnConditionTemplate condition;
+
+    private ColumnQueryTemplate(ColumnQuery query, ColumnDeleteQuery deleteQuery, List<String> names,
+                                  ColumnConditionTemplate condition) {
+        this.query = query;
+        this.deleteQuery = deleteQuery;
+        this.names = names;
+        this.condition = condition;
+    }
+
+    /**
+     * @return the parameters names, the values given to bind follow this order
+     */
+    List<String> getNames() {
+        return names;
+    }
+
+    ColumnQuery bindQuery(Object[] values) {
+        if (Objects.isNull(condition)) {
+            return query;
+        }
+        return new ArtemisColumnQuery(query.getSorts(), query.getLimit(), query.getSkip(),
+                condition.bind(values), query.getColumnFamily());
+    }
+
+    ColumnDeleteQuery bindDeleteQuery(Object[] values) {
+        if (Objects.isNull(condition)) {
+            return deleteQuery;
+        }
+        return new ArtemisColumnDeleteQuery(deleteQuery.getColumnFamily(), condition.bind(values));
+    }
+
+    static ColumnQueryTemplate of(ColumnQueryParams queryParams) {
+        List<String> names = ColumnConditionTemplate.Slot.bindSlots(queryParams.getParams());
+        ColumnQuery query = queryParams.getQuery();
+        return new ColumnQueryTemplate(query, null, names, getCondition(names, query.getCondition().orElse(null)));
+    }
+
+    static ColumnQueryTemplate of(ColumnDeleteQueryParams queryParams) {
+        List<String> names = ColumnConditionTemplate.Slot.bindSlots(queryParams.getParams());
+        ColumnDeleteQuery query = queryParams.getQuery();
+        return new ColumnQueryTemplate(null, query, names, getCondition(names, query.getCondition().orElse(null)));
+    }
+
+    private static ColumnConditionTemplate getCondition(List<String> names, ColumnCondition condition) {
+        if (names.isEmpty() || Objects.isNull(condition)) {
+            return null;
+        }
+        return ColumnConditionTemplate.of(condition);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.reflection.ClassMappings;
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Actor;
+import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Money;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Worker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(CDIExtension.class)
+class ColumnWritePlanTest {
+
+    @Inject
+    private DefaultColumnEntityConverter converter;
+
+    @Inject
+    private ClassMappings mappings;
+
+    @Inject
+    private Converters converters;
+
+    @Test
+    public void shouldWriteAsGenericPath() {
+        Person person = Person.builder().withAge()
+                .withId(12)
+                .withName("Otavio")
+                .withPhones(Arrays.asList("234", "2342")).build();
+        assertWrite(person);
+    }
+
+    @Test
+    public void shouldIgnoreNullFields() {
+        Actor actor = Actor.actorBuilder().withName()
+                .withMovieCharacter(Collections.singletonMap("JavaZone", "Jedi"))
+                .build();
+        assertWrite(actor);
+    }
+
+    @Test
+    public void shouldWriteEmbeddedAndConvertedFields() {
+        Worker worker = new Worker();
+        Job job = new Job();
+        job.setCity("Sao Paulo");
+        job.setDescription("Java Developer");
+        worker.setName("Bob");
+        worker.setSalary(new Money("BRL", BigDecimal.TEN));
+        worker.setJob(job);
+        assertWrite(worker);
+    }
+
+    private void assertWrite(Object entity) {
+        ColumnEntity expected = converter.toColumn(entity);
+        ColumnWritePlan plan = ColumnWritePlan.of(mappings.get(entity.getClass()), converters);
+        ColumnEntity actual = plan.write(entity, converter);
+        assertEquals(expected.getName(), actual.getName());
+        assertThat(actual.getColumns(), containsInAnyOrder(expected.getColumns().toArray()));
+    }
+}
@@ -30,6 +30,8 @@ import org.jnosql.artemis.model.Vendor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
 import jakarta.nosql.TypeReference;
+import jakarta.nosql.mapping.reflection.ClassMappings;
+import jakarta.nosql.mapping.reflection.FieldMapping;
 import jakarta.nosql.Value;
 import jakarta.nosql.column.Column;
 import jakarta.nosql.column.ColumnEntity;
@@ -66,6 +68,9 @@ public class DefaultColumnEntityConverterTest {
     @Inject
     private DefaultColumnEntityConverter converter;
 
+    @Inject
+    private ClassMappings classMappings;
+
     private Column[] columns;
 
     private Actor actor = Actor.actorBuilder().withAge()
@@ -140,6 +145,32 @@ public class DefaultColumnEntityConverterTest {
         assertEquals(Collections.singletonMap("JavaZone", 10), actor.getMovieRating());
     }
 
+    @Test
+    public void shouldIgnoreUnknownColumnsAndReuseReadPlan() {
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        entity.add(Column.of("unknown", "value"));
+        Stream.of(columns).forEach(entity::add);
+
+        for (int index = 0; index < 2; index++) {
+            Actor actor = converter.toEntity(entity);
+            assertEquals(10, actor.getAge());
+            assertEquals(12L, actor.getId());
+            assertEquals(asList("234", "2342"), actor.getPhones());
+            assertEquals(Collections.singletonMap("JavaZone", "Jedi"), actor.getMovieCharacter());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void shouldFeedObjectThroughReadPlan() {
+        Map<String, FieldMapping> fields = classMappings.get(Actor.class).getFieldsGroupByName();
+        List<Column> columns = Arrays.asList(Column.of("age", "10"), Column.of("name", "Otavio"));
+        Actor actor = classMappings.get(Actor.class).newInstance();
+        Stream.of("age", "name").forEach(converter.feedObject(actor, columns, fields));
+        assertEquals(10, actor.getAge());
+        assertEquals("Otavio", actor.getName());
+    }
+
     @Test
     public void shouldConvertColumnEntityToExistEntity() {
         ColumnEntity entity = ColumnEntity.of("Actor");
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column.query;
+
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnObserverParser;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.Repository;
+import jakarta.nosql.mapping.column.ColumnTemplate;
+import jakarta.nosql.mapping.reflection.ClassMapping;
+import jakarta.nosql.mapping.reflection.ClassMappings;
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import javax.inject.Inject;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(CDIExtension.class)
+public class ColumnRepositoryProxyQueryTemplateTest {
+
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
+    private ColumnTemplate template;
+
+    private AtomicInteger conversions;
+
+    private PersonRepository personRepository;
+
+    @BeforeEach
+    public void setUp() {
+        this.template = Mockito.mock(ColumnTemplate.class);
+        this.conversions = new AtomicInteger();
+        ColumnRepositoryProxy<Person, Long> handler = new ColumnRepositoryProxy<Person, Long>(template, classMappings,
+                PersonRepository.class, converters) {
+            @Override
+            protected ColumnObserverParser getParser() {
+                return new CountingObserverParser(getClassMapping(), conversions);
+            }
+        };
+        personRepository = (PersonRepository) Proxy.newProxyInstance(PersonRepository.class.getClassLoader(),
+                new Class[]{PersonRepository.class}, handler);
+    }
+
+    @Test
+    public void shouldConvertQueryOnceAcrossCalls() {
+        when(template.singleResult(any(ColumnQuery.class))).thenReturn(Optional.empty());
+
+        personRepository.findByName("Ada");
+        personRepository.findByName("Poliana");
+        personRepository.findByName("Otavio");
+
+        assertEquals(1, conversions.get());
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template, times(3)).singleResult(captor.capture());
+        List<Column> columns = captor.getAllValues().stream()
+                .map(ColumnQuery::getCondition)
+                .map(Optional::get)
+                .map(ColumnCondition::getColumn)
+                .collect(toList());
+        assertEquals(Arrays.asList(Column.of("name", "Ada"), Column.of("name", "Poliana"),
+                Column.of("name", "Otavio")), columns);
+    }
+
+    @Test
+    public void shouldConvertDeleteQueryOnceAcrossCalls() {
+        personRepository.deleteByName("Ada");
+        personRepository.deleteByName("Poliana");
+
+        assertEquals(1, conversions.get());
+        ArgumentCaptor<ColumnDeleteQuery> captor = ArgumentCaptor.forClass(ColumnDeleteQuery.class);
+        verify(template, times(2)).delete(captor.capture());
+        assertEquals(Column.of("name", "Ada"), captor.getAllValues().get(0).getCondition().get().getColumn());
+        assertEquals(Column.of("name", "Poliana"), captor.getAllValues().get(1).getCondition().get()
+                .getColumn());
+    }
+
+    @Test
+    public void shouldBindEveryCallIndependently() {
+        personRepository.findByAgeBetween(10, 15);
+        personRepository.findByNameAndAge("Ada", 20);
+        personRepository.findByAgeBetween(30, 35);
+        personRepository.findByNameAndAge("Poliana", 25);
+
+        assertEquals(2, conversions.get());
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template, times(4)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        assertEquals(Arrays.asList(10, 15), getBetween(queries.get(0)));
+        assertEquals(Arrays.asList(30, 35), getBetween(queries.get(2)));
+        assertEquals(Arrays.asList(Column.of("name", "Ada"), Column.of("age", 20)), getAnd(queries.get(1)));
+        assertEquals(Arrays.asList(Column.of("name", "Poliana"), Column.of("age", 25)),
+                getAnd(queries.get(3)));
+    }
+
+    private List<Object> getBetween(ColumnQuery query) {
+        List<Value> values = query.getCondition().get().getColumn().get(new TypeReference<List<Value>>() {
+        });
+        return values.stream().map(Value::get).collect(toList());
+    }
+
+    private List<Column> getAnd(ColumnQuery query) {
+        List<ColumnCondition> conditions = query.getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        return conditions.stream().map(ColumnCondition::getColumn).collect(toList());
+    }
+
+    private static class CountingObserverParser implements ColumnObserverParser {
+
+        private final ColumnObserverParser parser;
+
+        private final AtomicInteger conversions;
+
+        CountingObserverParser(ClassMapping classMapping, AtomicInteger conversions) {
+            this.parser = new RepositoryColumnObserverParser(classMapping);
+            this.conversions = conversions;
+        }
+
+        @Override
+        public String fireEntity(String entity) {
+            conversions.incrementAndGet();
+            return parser.fireEntity(entity);
+        }
+
+        @Override
+        public String fireField(String entity, String field) {
+            return parser.fireField(entity, field);
+        }
+    }
+
+    interface PersonRepository extends Repository<Person, Long> {
+
+        Person findByName(String name);
+
+        void deleteByName(String name);
+
+        List<Person> findByNameAndAge(String name, Integer age);
+
+        List<Person> findByAgeBetween(Integer ageA, Integer ageB);
+    }
+}
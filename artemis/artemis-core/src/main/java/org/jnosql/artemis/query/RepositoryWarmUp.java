@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.query;
+
+import jakarta.nosql.QueryException;
+import jakarta.nosql.mapping.Repository;
+import jakarta.nosql.mapping.RepositoryAsync;
+import jakarta.nosql.mapping.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.ClassMappingExtension;
+import org.jnosql.diana.query.method.DeleteMethodProvider;
+import org.jnosql.diana.query.method.SelectMethodProvider;
+
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
+import javax.enterprise.inject.spi.BeanManager;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Parses the findBy and deleteBy methods of the repository interfaces at start up, so the first call of a
+ * repository method does not pay for parsing its name and an invalid name fails the deployment instead of the call.
+ * It is disabled by default, set the {@value #WARM_UP_PROPERTY} system property to <code>true</code> to enable it.
+ */
+public final class RepositoryWarmUp {
+
+    /**
+     * The system property that enables the warm up
+     */
+    public static final String WARM_UP_PROPERTY = "org.jnosql.artemis.repository.warmup";
+
+    private static final Logger LOGGER = Logger.getLogger(RepositoryWarmUp.class.getName());
+
+    private RepositoryWarmUp() {
+    }
+
+    /**
+     * Checks whether the warm up is enabled
+     *
+     * @return true when the {@value #WARM_UP_PROPERTY} system property is <code>true</code>
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(WARM_UP_PROPERTY);
+    }
+
+    /**
+     * Parses the repository methods when the warm up is enabled, using the entities found by
+     * {@link ClassMappingExtension}. An invalid method is reported as a deployment problem.
+     *
+     * @param validation   the CDI event
+     * @param beanManager  the bean manager
+     * @param repositories the repository interfaces
+     * @throws NullPointerException when there is null parameter
+     */
+    public static void warmUp(AfterDeploymentValidation validation, BeanManager beanManager,
+                              Collection<Class<?>> repositories) {
+        Objects.requireNonNull(validation, "validation is required");
+        Objects.requireNonNull(beanManager, "beanManager is required");
+        Objects.requireNonNull(repositories, "repositories is required");
+        if (!isEnabled() || repositories.isEmpty()) {
+            return;
+        }
+        ClassMappingExtension extension = beanManager.getExtension(ClassMappingExtension.class);
+        try {
+            warmUp(repositories, extension.getClasses());
+        } catch (QueryException exception) {
+            validation.addDeploymentProblem(exception);
+        }
+    }
+
+    /**
+     * Parses, in parallel, every findBy and deleteBy method of the repositories whose entity is in the classes.
+     * The parsed queries are kept by {@link SelectMethodProvider#get()} and {@link DeleteMethodProvider#get()}.
+     *
+     * @param repositories the repository interfaces
+     * @param classes      the entities mapping grouped by Java class
+     * @throws NullPointerException when there is null parameter
+     * @throws QueryException       when a method name is not a valid query
+     */
+    public static void warmUp(Collection<Class<?>> repositories, Map<Class<?>, ClassMapping> classes) {
+        Objects.requireNonNull(repositories, "repositories is required");
+        Objects.requireNonNull(classes, "classes is required");
+        long start = System.nanoTime();
+        List<Runnable> tasks = new ArrayList<>();
+        for (Class<?> repository : repositories) {
+            ClassMapping mapping = getEntity(repository).map(classes::get).orElse(null);
+            if (Objects.isNull(mapping)) {
+                continue;
+            }
+            String entity = mapping.getName();
+            for (Method method : repository.getMethods()) {
+                RepositoryType type = RepositoryType.of(method);
+                if (RepositoryType.FIND_BY.equals(type)) {
+                    tasks.add(() -> parse(repository, method, m -> SelectMethodProvider.get().apply(m, entity)));
+                } else if (RepositoryType.DELETE_BY.equals(type)) {
+                    tasks.add(() -> parse(repository, method, m -> DeleteMethodProvider.get().apply(m, entity)));
+                }
+            }
+        }
+        tasks.parallelStream().forEach(Runnable::run);
+        LOGGER.info(String.format("Parsed %d repository methods in %d ms", tasks.size(),
+                (System.nanoTime() - start) / 1_000_000));
+    }
+
+    private static void parse(Class<?> repository, Method method, Consumer<Method> parser) {
+        try {
+            parser.accept(method);
+        } catch (QueryException exception) {
+            throw new QueryException(String.format("The method %s in the repository %s is not a valid query: %s",
+                    method.getName(), repository.getName(), exception.getMessage()), exception);
+        }
+    }
+
+    private static Optional<Class<?>> getEntity(Class<?> repository) {
+        return getEntity(repository, Collections.emptyMap());
+    }
+
+    private static Optional<Class<?>> getEntity(Class<?> type, Map<TypeVariable<?>, Type> arguments) {
+        for (Type genericInterface : type.getGenericInterfaces()) {
+            if (genericInterface instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) genericInterface;
+                Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+                Type[] actualArguments = parameterizedType.getActualTypeArguments();
+                if (Repository.class.equals(rawType) || RepositoryAsync.class.equals(rawType)) {
+                    Type entity = arguments.getOrDefault(actualArguments[0], actualArguments[0]);
+                    if (entity instanceof Class) {
+                        return Optional.of((Class<?>) entity);
+                    }
+                    continue;
+                }
+                Map<TypeVariable<?>, Type> resolved = new HashMap<>();
+                TypeVariable<?>[] variables = rawType.getTypeParameters();
+                for (int index = 0; index < variables.length; index++) {
+                    Type argument = actualArguments[index];
+                    resolved.put(variables[index], arguments.getOrDefault(argument, argument));
+                }
+                Optional<Class<?>> entity = getEntity(rawType, resolved);
+                if (entity.isPresent()) {
+                    return entity;
+                }
+            } else if (genericInterface instanceof Class) {
+                Optional<Class<?>> entity = getEntity((Class<?>) genericInterface, Collections.emptyMap());
+                if (entity.isPresent()) {
+                    return entity;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
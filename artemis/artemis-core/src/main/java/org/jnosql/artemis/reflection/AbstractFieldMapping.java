@@ -20,6 +20,7 @@ import jakarta.nosql.mapping.reflection.FieldMapping;
 import jakarta.nosql.mapping.reflection.FieldReader;
 import jakarta.nosql.mapping.reflection.FieldType;
 import jakarta.nosql.mapping.reflection.FieldWriter;
+import org.jnosql.diana.PrimitiveValue;
 
 import java.lang.reflect.Field;
 import java.util.Objects;
@@ -109,6 +110,27 @@ abstract class AbstractFieldMapping implements FieldMapping {
     }
 
     public Object getValue(Value value) {
-        return value.get(field.getType());
+        Class<?> fieldType = field.getType();
+        if (fieldType.isPrimitive() && value instanceof PrimitiveValue) {
+            return getPrimitive(fieldType, (PrimitiveValue) value);
+        }
+        return value.get(fieldType);
+    }
+
+    /**
+     * Reads the primitive accessor of the field type, so the value is only boxed once to the {@link FieldWriter}
+     * instead of being converted through the value readers.
+     */
+    private static Object getPrimitive(Class<?> fieldType, PrimitiveValue value) {
+        if (int.class.equals(fieldType)) {
+            return value.getAsInt();
+        } else if (long.class.equals(fieldType)) {
+            return value.getAsLong();
+        } else if (double.class.equals(fieldType)) {
+            return value.getAsDouble();
+        } else if (boolean.class.equals(fieldType)) {
+            return value.getAsBoolean();
+        }
+        return value.get(fieldType);
     }
 }
@@ -18,8 +18,10 @@ import jakarta.nosql.mapping.Convert;
 import jakarta.nosql.mapping.reflection.ClassMapping;
 import jakarta.nosql.mapping.reflection.ClassOperation;
 import jakarta.nosql.mapping.reflection.FieldMapping;
+import jakarta.nosql.mapping.reflection.FieldReader;
 import jakarta.nosql.mapping.reflection.FieldReaderFactory;
 import jakarta.nosql.mapping.reflection.FieldType;
+import jakarta.nosql.mapping.reflection.FieldWriter;
 import jakarta.nosql.mapping.reflection.FieldWriterFactory;
 import jakarta.nosql.mapping.reflection.InstanceSupplier;
 import jakarta.nosql.mapping.reflection.InstanceSupplierFactory;
@@ -28,11 +30,15 @@ import jakarta.nosql.mapping.reflection.Reflections;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -55,6 +61,9 @@ class ClassConverter {
 
     private InstanceSupplierFactory instanceSupplierFactory;
 
+    private String accessorStrategy;
+
+    private final Map<Class<?>, List<FieldMapping>> embeddedFields = new ConcurrentHashMap<>();
 
     @Inject
     ClassConverter(Reflections reflections) {
@@ -64,6 +73,7 @@ class ClassConverter {
         this.readerFactory = classOperation.getFieldReaderFactory();
         this.writerFactory = classOperation.getFieldWriterFactory();
         this.instanceSupplierFactory = classOperation.getInstanceSupplierFactory();
+        this.accessorStrategy = classOperation.getClass().getSimpleName();
     }
 
     ClassConverter() {
@@ -72,6 +82,19 @@ class ClassConverter {
     public ClassMapping create(Class<?> entityClass) {
 
         long start = System.currentTimeMillis();
+        Optional<ClassMappingDescriptor> descriptor = ClassMappingDescriptors.INSTANCE.apply(entityClass);
+        if (descriptor.isPresent()) {
+            try {
+                ClassMapping mapping = create(entityClass, descriptor.get());
+                long end = System.currentTimeMillis() - start;
+                LOGGER.fine(String.format("Loaded %s from the descriptor with time %d ms", entityClass.getName(), end));
+                return mapping;
+            } catch (NoSuchFieldException exception) {
+                LOGGER.log(Level.WARNING, "The descriptor of " + entityClass.getName() + " does not match the class, " +
+                        "it will be scanned by reflection", exception);
+            }
+        }
+
         String entityName = reflections.getEntityName(entityClass);
 
         List<FieldMapping> fields = reflections.getFields(entityClass)
@@ -98,10 +121,50 @@ class ClassConverter {
                 .build();
 
         long end = System.currentTimeMillis() - start;
-        LOGGER.info(String.format("Scanned %s loaded with time %d ms", entityClass.getName(), end));
+        LOGGER.fine(String.format("Scanned %s loaded with time %d ms", entityClass.getName(), end));
         return mapping;
     }
 
+    /**
+     * Returns how the accessors of the class are created: either from the descriptor generated at compile time
+     * or by the {@link ClassOperation} in use.
+     *
+     * @param entityClass the class
+     * @return the accessor strategy name
+     */
+    String getAccessorStrategy(Class<?> entityClass) {
+        if (ClassMappingDescriptors.INSTANCE.apply(entityClass).isPresent()) {
+            return ClassMappingDescriptor.class.getSimpleName();
+        }
+        return accessorStrategy;
+    }
+
+    private ClassMapping create(Class<?> entityClass, ClassMappingDescriptor descriptor) throws NoSuchFieldException {
+
+        List<FieldMapping> fields = getFields(descriptor);
+
+        List<String> fieldsName = fields.stream().map(FieldMapping::getName).collect(toList());
+
+        Map<String, NativeMapping> nativeFieldGroupByJavaField =
+                getNativeFieldGroupByJavaField(fields, "", "");
+
+        Map<String, FieldMapping> fieldsGroupedByName = fields.stream()
+                .collect(collectingAndThen(toMap(FieldMapping::getName,
+                        Function.identity()), Collections::unmodifiableMap));
+
+        InstanceSupplier instanceSupplier = Optional.ofNullable(descriptor.getInstanceSupplier())
+                .orElseGet(() -> instanceSupplierFactory.apply(reflections.makeAccessible(entityClass)));
+
+        return DefaultClassMapping.builder().withName(descriptor.getName())
+                .withClassInstance(entityClass)
+                .withFields(fields)
+                .withFieldsName(fieldsName)
+                .withInstanceSupplier(instanceSupplier)
+                .withJavaFieldGroupedByColumn(nativeFieldGroupByJavaField)
+                .withFieldsGroupedByName(fieldsGroupedByName)
+                .build();
+    }
+
     private Map<String, NativeMapping> getNativeFieldGroupByJavaField(List<FieldMapping> fields,
                                                                       String javaField, String nativeField) {
 
@@ -159,9 +222,8 @@ class ClassConverter {
                               FieldMapping field, String javaField, String nativeField,
                               Class<?> entityClass) {
 
-        Map<String, NativeMapping> entityMap = getNativeFieldGroupByJavaField(
-                reflections.getFields(entityClass)
-                        .stream().map(this::to).collect(toList()),
+        List<FieldMapping> fields = embeddedFields.computeIfAbsent(entityClass, this::getFields);
+        Map<String, NativeMapping> entityMap = getNativeFieldGroupByJavaField(fields,
                 appendPreparePrefix(javaField, field.getFieldName()), nativeField);
 
         String nativeElement = entityMap.values().stream().map(NativeMapping::getNativeField)
@@ -171,6 +233,27 @@ class ClassConverter {
         nativeFieldGroupByJavaField.putAll(entityMap);
     }
 
+    private List<FieldMapping> getFields(Class<?> entityClass) {
+        Optional<ClassMappingDescriptor> descriptor = ClassMappingDescriptors.INSTANCE.apply(entityClass);
+        if (descriptor.isPresent()) {
+            try {
+                return getFields(descriptor.get());
+            } catch (NoSuchFieldException exception) {
+                LOGGER.log(Level.WARNING, "The descriptor of " + entityClass.getName() + " does not match the class, " +
+                        "it will be scanned by reflection", exception);
+            }
+        }
+        return reflections.getFields(entityClass).stream().map(this::to).collect(toList());
+    }
+
+    private List<FieldMapping> getFields(ClassMappingDescriptor descriptor) throws NoSuchFieldException {
+        List<FieldMapping> fields = new ArrayList<>();
+        for (FieldDescriptor field : descriptor.getFields()) {
+            fields.add(to(field));
+        }
+        return fields;
+    }
+
     private String appendPreparePrefix(String prefix, String field) {
         return appendPrefix(prefix, field).concat(".");
     }
@@ -185,16 +268,28 @@ class ClassConverter {
 
 
     private FieldMapping to(Field field) {
-        FieldType fieldType = FieldTypeUtil.of(field);
         reflections.makeAccessible(field);
-        Convert convert = field.getAnnotation(Convert.class);
         boolean id = reflections.isIdField(field);
         String columnName = id ? reflections.getIdName(field) : reflections.getColumnName(field);
+        return to(field, columnName, id, readerFactory.apply(field), writerFactory.apply(field));
+    }
+
+    private FieldMapping to(FieldDescriptor descriptor) throws NoSuchFieldException {
+        Field field = descriptor.getField();
+        reflections.makeAccessible(field);
+        FieldReader reader = Optional.ofNullable(descriptor.getReader()).orElseGet(() -> readerFactory.apply(field));
+        FieldWriter writer = Optional.ofNullable(descriptor.getWriter()).orElseGet(() -> writerFactory.apply(field));
+        return to(field, descriptor.getName(), descriptor.isId(), reader, writer);
+    }
+
+    private FieldMapping to(Field field, String columnName, boolean id, FieldReader reader, FieldWriter writer) {
+        FieldType fieldType = FieldTypeUtil.of(field);
+        Convert convert = field.getAnnotation(Convert.class);
 
         FieldMappingBuilder builder = new FieldMappingBuilder().withName(columnName)
                 .withField(field).withType(fieldType).withId(id)
-                .withReader(readerFactory.apply(field))
-                .withWriter(writerFactory.apply(field));
+                .withReader(reader)
+                .withWriter(writer);
 
         if (nonNull(convert)) {
             builder.withConverter(convert.value());
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.mapping.reflection.InstanceSupplier;
+
+import java.util.List;
+
+/**
+ * The mapping metadata of an {@link jakarta.nosql.mapping.Entity} or {@link jakarta.nosql.mapping.Embeddable} class
+ * generated at compile time by the artemis-processor. When there is a descriptor to a class, the
+ * {@link jakarta.nosql.mapping.reflection.ClassMapping} is created from it, without scanning the class by
+ * reflection, compiling or introspecting its accessors.
+ * The implementations are loaded with {@link java.util.ServiceLoader}.
+ */
+public interface ClassMappingDescriptor {
+
+    /**
+     * @return the class that this descriptor maps
+     */
+    Class<?> getClassInstance();
+
+    /**
+     * @return the entity name
+     */
+    String getName();
+
+    /**
+     * Returns the supplier to create a new instance of the class
+     *
+     * @return the {@link InstanceSupplier} or null when the constructor is not accessible to the generated code
+     */
+    InstanceSupplier getInstanceSupplier();
+
+    /**
+     * Returns the fields in the same order of {@link jakarta.nosql.mapping.reflection.Reflections#getFields(Class)}
+     *
+     * @return the fields
+     */
+    List<FieldDescriptor> getFields();
+}
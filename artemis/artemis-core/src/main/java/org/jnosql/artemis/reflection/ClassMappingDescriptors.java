@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads the {@link ClassMappingDescriptor} generated at compile time with {@link ServiceLoader}, once,
+ * and finds them by class.
+ */
+enum ClassMappingDescriptors implements Function<Class<?>, Optional<ClassMappingDescriptor>> {
+
+    INSTANCE;
+
+    private static final Logger LOGGER = Logger.getLogger(ClassMappingDescriptors.class.getName());
+
+    private volatile Map<Class<?>, ClassMappingDescriptor> descriptors;
+
+    @Override
+    public Optional<ClassMappingDescriptor> apply(Class<?> entityClass) {
+        return Optional.ofNullable(getDescriptors().get(entityClass));
+    }
+
+    private Map<Class<?>, ClassMappingDescriptor> getDescriptors() {
+        Map<Class<?>, ClassMappingDescriptor> loaded = descriptors;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = descriptors;
+                if (loaded == null) {
+                    loaded = load();
+                    descriptors = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private Map<Class<?>, ClassMappingDescriptor> load() {
+        Map<Class<?>, ClassMappingDescriptor> loaded = new HashMap<>();
+        Iterator<ClassMappingDescriptor> iterator = ServiceLoader.load(ClassMappingDescriptor.class).iterator();
+        while (hasNext(iterator)) {
+            try {
+                ClassMappingDescriptor descriptor = iterator.next();
+                loaded.put(descriptor.getClassInstance(), descriptor);
+            } catch (ServiceConfigurationError exception) {
+                LOGGER.log(Level.WARNING, "A class mapping descriptor cannot be loaded, the class will be scanned " +
+                        "by reflection", exception);
+            }
+        }
+        LOGGER.fine(String.format("Class mapping descriptors loaded: %d", loaded.size()));
+        return loaded;
+    }
+
+    private boolean hasNext(Iterator<ClassMappingDescriptor> iterator) {
+        try {
+            return iterator.hasNext();
+        } catch (ServiceConfigurationError exception) {
+            LOGGER.log(Level.WARNING, "The class mapping descriptors cannot be loaded", exception);
+            return false;
+        }
+    }
+}
@@ -21,11 +21,17 @@ import jakarta.nosql.mapping.reflection.ClassMapping;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterTypeDiscovery;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
 
 import static org.jnosql.artemis.reflection.ClassOperationFactory.INSTANCE;
 
@@ -37,18 +43,27 @@ import static org.jnosql.artemis.reflection.ClassOperationFactory.INSTANCE;
 @ApplicationScoped
 public class ClassMappingExtension implements Extension {
 
+    private static final Logger LOGGER = Logger.getLogger(ClassMappingExtension.class.getName());
+
     private final Map<String, ClassMapping> mappings = new ConcurrentHashMap<>();
 
     private final Map<Class<?>, ClassMapping> classes = new ConcurrentHashMap<>();
 
+    private final Queue<Class<?>> entities = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Class<?>> embeddables = new ConcurrentLinkedQueue<>();
+
     private final ClassConverter classConverter;
 
+    private volatile boolean typesDiscovered;
+
     {
         classConverter = new ClassConverter(INSTANCE.getReflections());
     }
 
     /**
-     * Event observer
+     * Event observer, it collects the classes to be converted at {@link AfterTypeDiscovery}, a class added
+     * after it is converted right away.
      *
      * @param target the target
      * @param <T>    the type
@@ -57,16 +72,67 @@ public class ClassMappingExtension implements Extension {
 
         AnnotatedType<T> annotatedType = target.getAnnotatedType();
         if (annotatedType.isAnnotationPresent(Entity.class)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
-            ClassMapping classMapping = classConverter.create(javaClass);
-            mappings.put(classMapping.getName(), classMapping);
-            classes.put(javaClass, classMapping);
+            entities.add(annotatedType.getJavaClass());
         } else if (isSubElement(annotatedType)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
+            embeddables.add(annotatedType.getJavaClass());
+        } else {
+            return;
+        }
+        if (typesDiscovered) {
+            convertAll();
+        }
+
+    }
+
+    /**
+     * Converts the classes collected in parallel at the common {@link java.util.concurrent.ForkJoinPool}, the fields
+     * of the embedded classes are shared between them, and logs a single report.
+     *
+     * @param afterTypeDiscovery the event
+     */
+    void onAfterTypeDiscovery(@Observes final AfterTypeDiscovery afterTypeDiscovery) {
+        typesDiscovered = true;
+        convertAll();
+    }
+
+    private void convertAll() {
+        long start = System.nanoTime();
+        ClassScanReport report = new ClassScanReport();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        drain(embeddables).parallelStream()
+                .forEach(embeddable -> classes.put(embeddable, convert(embeddable, report, classLoader)));
+        drain(entities).parallelStream().forEach(entity -> {
+            ClassMapping classMapping = convert(entity, report, classLoader);
+            mappings.put(classMapping.getName(), classMapping);
+            classes.put(entity, classMapping);
+        });
+
+        if (report.size() > 0) {
+            LOGGER.info(report.toString(System.nanoTime() - start));
+        }
+    }
+
+    private ClassMapping convert(Class<?> javaClass, ClassScanReport report, ClassLoader classLoader) {
+        Thread thread = Thread.currentThread();
+        ClassLoader current = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            long start = System.nanoTime();
             ClassMapping classMapping = classConverter.create(javaClass);
-            classes.put(javaClass, classMapping);
+            report.add(javaClass, System.nanoTime() - start, classConverter.getAccessorStrategy(javaClass));
+            return classMapping;
+        } finally {
+            thread.setContextClassLoader(current);
         }
+    }
 
+    private List<Class<?>> drain(Queue<Class<?>> queue) {
+        List<Class<?>> drained = new ArrayList<>();
+        for (Class<?> javaClass = queue.poll(); javaClass != null; javaClass = queue.poll()) {
+            drained.add(javaClass);
+        }
+        return drained;
     }
 
     private <T> boolean isSubElement(AnnotatedType<T> annotatedType) {
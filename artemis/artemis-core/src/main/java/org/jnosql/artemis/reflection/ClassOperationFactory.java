@@ -17,6 +17,7 @@ package org.jnosql.artemis.reflection;
 import jakarta.nosql.mapping.reflection.ClassOperation;
 import jakarta.nosql.mapping.reflection.Reflections;
 
+import javax.tools.ToolProvider;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.function.Supplier;
@@ -32,16 +33,21 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
     private static final String LOG_MESSAGE = "It will use the compiler optimizations to access the class instead" +
             " of reflections. To disable it set artemis.reclection.disableCompiler as true.";
 
+    private static final String LAMBDA = "artemis.reflection.lambda";
+
+    private static final String LAMBDA_LOG_MESSAGE = "It will use method handles and the lambda metafactory to access" +
+            " the class instead of the compiler. To use it set artemis.reflection.lambda as true, it is the default" +
+            " when there is no system Java compiler.";
+
     private static final Logger LOGGER = Logger.getLogger(ClassOperationFactory.class.getName());
 
     private final Reflections reflections = new DefaultReflections();
 
     private final ClassOperation reflection = new ReflectionClassOperation(reflections);
 
-    private final JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory
-            .class.getClassLoader());
+    private final ClassOperation lambda = new LambdaClassOperation(reflection);
 
-    private final ClassOperation compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+    private ClassOperation compiler;
 
 
     public Reflections getReflections() {
@@ -68,9 +74,22 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
                 LOGGER.fine(LOG_MESSAGE);
                 return reflection;
             }
-            return compiler;
+            boolean isLambda = Boolean.valueOf(System.getProperty(LAMBDA));
+            if (isLambda || ToolProvider.getSystemJavaCompiler() == null) {
+                LOGGER.fine(LAMBDA_LOG_MESSAGE);
+                return lambda;
+            }
+            return getCompiler();
         }
 
 
     }
+
+    private synchronized ClassOperation getCompiler() {
+        if (compiler == null) {
+            JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory.class.getClassLoader());
+            compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+        }
+        return compiler;
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The startup report of the {@link ClassMappingExtension}: the scan time and the accessor strategy of each class,
+ * and the total time. The classes are scanned in parallel, so it is safe to add from several threads.
+ */
+final class ClassScanReport {
+
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+    void add(Class<?> type, long nanos, String strategy) {
+        entries.add(new Entry(type.getName(), nanos, strategy));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Creates the report, the slowest classes first
+     *
+     * @param totalNanos the elapsed time of the whole scan
+     * @return the report
+     */
+    String toString(long totalNanos) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingLong((Entry e) -> e.nanos).reversed());
+        StringBuilder report = new StringBuilder()
+                .append(String.format("Scanned %d classes in %d ms", sorted.size(), toMillis(totalNanos)));
+        for (Entry entry : sorted) {
+            report.append(System.lineSeparator())
+                    .append(String.format("    %s: %d ms, accessors: %s", entry.type, toMillis(entry.nanos),
+                            entry.strategy));
+        }
+        return report.toString();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static final class Entry {
+
+        private final String type;
+
+        private final long nanos;
+
+        private final String strategy;
+
+        private Entry(String type, long nanos, String strategy) {
+            this.type = type;
+            this.nanos = nanos;
+            this.strategy = strategy;
+        }
+    }
+}
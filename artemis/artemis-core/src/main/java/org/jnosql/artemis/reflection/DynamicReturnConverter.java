@@ -49,6 +49,19 @@ enum DynamicReturnConverter {
         Class<?> returnType = method.getReturnType();
 
         DynamicReturnType type = DynamicReturnType.of(typeClass, returnType);
+        return convert(dynamic, type);
+    }
+
+    /**
+     * Converts the entity from a return type already resolved from the Method.
+     *
+     * @param dynamic the information about the method and return source
+     * @param type    the return type of the method
+     * @return the conversion result
+     * @throws NullPointerException when the dynamic is null
+     */
+    Object convert(DynamicReturn<?> dynamic, DynamicReturnType type) {
+
         DynamicExecutorQueryConverter converter = getConverter(dynamic);
 
         switch (type) {
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.mapping.reflection.FieldReader;
+import jakarta.nosql.mapping.reflection.FieldWriter;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * The field metadata of a {@link ClassMappingDescriptor}: the Java field, the column name and the accessors generated
+ * at compile time.
+ * To create an instance, use, {@link FieldDescriptor#of(Class, String, String, boolean, FieldReader, FieldWriter)}
+ */
+public final class FieldDescriptor {
+
+    private final Class<?> declaringClass;
+
+    private final String fieldName;
+
+    private final String name;
+
+    private final boolean id;
+
+    private final FieldReader reader;
+
+    private final FieldWriter writer;
+
+    private FieldDescriptor(Class<?> declaringClass, String fieldName, String name, boolean id,
+                            FieldReader reader, FieldWriter writer) {
+        this.declaringClass = declaringClass;
+        this.fieldName = fieldName;
+        this.name = name;
+        this.id = id;
+        this.reader = reader;
+        this.writer = writer;
+    }
+
+    /**
+     * @return the class that declares the field
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * @return the Java field name
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return the column name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true if the field is the id
+     */
+    public boolean isId() {
+        return id;
+    }
+
+    /**
+     * @return the {@link FieldReader} or null when the field is not accessible to the generated code
+     */
+    public FieldReader getReader() {
+        return reader;
+    }
+
+    /**
+     * @return the {@link FieldWriter} or null when the field is not accessible to the generated code
+     */
+    public FieldWriter getWriter() {
+        return writer;
+    }
+
+    Field getField() throws NoSuchFieldException {
+        return declaringClass.getDeclaredField(fieldName);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldDescriptor{" +
+                "declaringClass=" + declaringClass +
+                ", fieldName='" + fieldName + '\'' +
+                ", name='" + name + '\'' +
+                ", id=" + id +
+                '}';
+    }
+
+    /**
+     * Creates a {@link FieldDescriptor}
+     *
+     * @param declaringClass the class that declares the field
+     * @param fieldName      the Java field name
+     * @param name           the column name
+     * @param id             if the field is the id
+     * @param reader         the reader, it might be null
+     * @param writer         the writer, it might be null
+     * @return a new instance
+     * @throws NullPointerException when either declaringClass, fieldName or name is null
+     */
+    public static FieldDescriptor of(Class<?> declaringClass, String fieldName, String name, boolean id,
+                                     FieldReader reader, FieldWriter writer) {
+        Objects.requireNonNull(declaringClass, "declaringClass is required");
+        Objects.requireNonNull(fieldName, "fieldName is required");
+        Objects.requireNonNull(name, "name is required");
+        return new FieldDescriptor(declaringClass, fieldName, name, id, reader, writer);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The utilitarian class to the {@link LambdaClassOperation} factories: it creates the private
+ * {@link MethodHandles.Lookup} of a class and links a {@link MethodHandle} to a functional interface with
+ * {@link LambdaMetafactory}, so there is no Java compiler at runtime.
+ */
+final class LambdaAccessors {
+
+    private static final Logger LOGGER = Logger.getLogger(LambdaAccessors.class.getName());
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private LambdaAccessors() {
+    }
+
+    /**
+     * Creates a lookup with private access to the class
+     *
+     * @param type the class
+     * @return the lookup
+     * @throws IllegalAccessException when the package of the class is not open to this module
+     */
+    static MethodHandles.Lookup lookup(Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, LOOKUP);
+    }
+
+    /**
+     * Creates an instance of the functional interface that calls the method handle directly.
+     *
+     * @param lookup         the lookup of the class that declares the method handle
+     * @param type           the functional interface
+     * @param name           the method name of the functional interface
+     * @param methodType     the method type of the functional interface
+     * @param implementation the method handle
+     * @param <T>            the functional interface type
+     * @return the instance or {@link Optional#empty()} when the metafactory cannot link it
+     */
+    static <T> Optional<T> metafactory(MethodHandles.Lookup lookup, Class<T> type, String name,
+                                       MethodType methodType, MethodHandle implementation) {
+        MethodType instantiatedType = implementation.type().wrap();
+        if (void.class.equals(methodType.returnType())) {
+            instantiatedType = instantiatedType.changeReturnType(void.class);
+        }
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, name, MethodType.methodType(type),
+                    methodType, implementation, instantiatedType);
+            return Optional.of(type.cast(callSite.getTarget().invoke()));
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINE, "The metafactory cannot link " + implementation + " to the "
+                    + type.getName() + ", using a method handle instead", exception);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the exception thrown by a method handle as an unchecked exception
+     *
+     * @param throwable the exception
+     * @return the unchecked exception
+     */
+    static RuntimeException propagate(Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new UndeclaredThrowableException(throwable);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.mapping.reflection.ClassOperation;
+import jakarta.nosql.mapping.reflection.FieldReaderFactory;
+import jakarta.nosql.mapping.reflection.FieldWriterFactory;
+import jakarta.nosql.mapping.reflection.InstanceSupplierFactory;
+
+/**
+ * An implementation of {@link ClassOperation} the supplier operations with {@link java.lang.invoke.MethodHandle}
+ * and {@link java.lang.invoke.LambdaMetafactory}, it does not need the Java compiler at runtime.
+ */
+final class LambdaClassOperation implements ClassOperation {
+
+    private final InstanceSupplierFactory instanceSupplierFactory;
+
+    private final FieldWriterFactory fieldWriterFactory;
+
+    private final FieldReaderFactory fieldReaderFactory;
+
+    LambdaClassOperation(ClassOperation fallback) {
+        this.instanceSupplierFactory = new LambdaInstanceSupplierFactory(fallback.getInstanceSupplierFactory());
+        this.fieldWriterFactory = new LambdaFieldWriterFactory(fallback.getFieldWriterFactory());
+        this.fieldReaderFactory = new LambdaFieldReaderFactory(fallback.getFieldReaderFactory());
+    }
+
+    @Override
+    public InstanceSupplierFactory getInstanceSupplierFactory() {
+        return instanceSupplierFactory;
+    }
+
+    @Override
+    public FieldWriterFactory getFieldWriterFactory() {
+        return fieldWriterFactory;
+    }
+
+    @Override
+    public FieldReaderFactory getFieldReaderFactory() {
+        return fieldReaderFactory;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.mapping.reflection.FieldReader;
+import jakarta.nosql.mapping.reflection.FieldReaderFactory;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link FieldReaderFactory} implementation that links the public getter accessor to the {@link FieldReader}
+ * with {@link java.lang.invoke.LambdaMetafactory}, otherwise it reads the field with a {@link MethodHandle}.
+ * When the class does not allow the private access, it will use a fallback by reflection.
+ */
+final class LambdaFieldReaderFactory implements FieldReaderFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(LambdaFieldReaderFactory.class.getName());
+
+    private static final MethodType READ = MethodType.methodType(Object.class, Object.class);
+
+    private final FieldReaderFactory fallback;
+
+    LambdaFieldReaderFactory(FieldReaderFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldReader apply(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        Class<?> declaringClass = field.getDeclaringClass();
+        try {
+            MethodHandles.Lookup lookup = LambdaAccessors.lookup(declaringClass);
+            Optional<Method> readMethod = getReadMethod(declaringClass, field);
+            if (readMethod.isPresent()) {
+                Optional<FieldReader> reader = LambdaAccessors.metafactory(lookup, FieldReader.class, "read", READ,
+                        lookup.unreflect(readMethod.get()));
+                if (reader.isPresent()) {
+                    return reader.get();
+                }
+            }
+            MethodHandle getter = lookup.unreflectGetter(field).asType(READ);
+            return bean -> {
+                try {
+                    return getter.invokeExact(bean);
+                } catch (Throwable exception) {
+                    throw LambdaAccessors.propagate(exception);
+                }
+            };
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINE, "There is not access to the field: " + field.getName() + " within class "
+                    + declaringClass.getName() + " using the fallback with reflection", exception);
+            return fallback.apply(field);
+        }
+    }
+
+    private Optional<Method> getReadMethod(Class<?> declaringClass, Field field) {
+        try {
+            Method readMethod = new PropertyDescriptor(field.getName(), declaringClass).getReadMethod();
+            if (Modifier.isPublic(readMethod.getModifiers())) {
+                return Optional.of(readMethod);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "A getter method does not exist to the field: "
+                    + field.getName() + " within class " + declaringClass.getName() + " reading the field", e);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.mapping.reflection.FieldWriter;
+import jakarta.nosql.mapping.reflection.FieldWriterFactory;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link FieldWriterFactory} implementation that links the public setter accessor to the {@link FieldWriter}
+ * with {@link java.lang.invoke.LambdaMetafactory}, otherwise it writes the field with a {@link MethodHandle}.
+ * When the class does not allow the private access or the field is final, it will use a fallback by reflection.
+ */
+final class LambdaFieldWriterFactory implements FieldWriterFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(LambdaFieldWriterFactory.class.getName());
+
+    private static final MethodType WRITE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final FieldWriterFactory fallback;
+
+    LambdaFieldWriterFactory(FieldWriterFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldWriter apply(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        Class<?> declaringClass = field.getDeclaringClass();
+        try {
+            MethodHandles.Lookup lookup = LambdaAccessors.lookup(declaringClass);
+            Optional<Method> writeMethod = getWriteMethod(declaringClass, field);
+            if (writeMethod.isPresent()) {
+                Optional<FieldWriter> writer = LambdaAccessors.metafactory(lookup, FieldWriter.class, "write", WRITE,
+                        lookup.unreflect(writeMethod.get()));
+                if (writer.isPresent()) {
+                    return writer.get();
+                }
+            }
+            MethodHandle setter = lookup.unreflectSetter(field).asType(WRITE);
+            return (bean, value) -> {
+                try {
+                    setter.invokeExact(bean, value);
+                } catch (Throwable exception) {
+                    throw LambdaAccessors.propagate(exception);
+                }
+            };
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINE, "There is not access to the field: " + field.getName() + " within class "
+                    + declaringClass.getName() + " using the fallback with reflection", exception);
+            return fallback.apply(field);
+        }
+    }
+
+    private Optional<Method> getWriteMethod(Class<?> declaringClass, Field field) {
+        try {
+            Method writeMethod = new PropertyDescriptor(field.getName(), declaringClass).getWriteMethod();
+            if (Modifier.isPublic(writeMethod.getModifiers())) {
+                return Optional.of(writeMethod);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "A setter method does not exist to the field: "
+                    + field.getName() + " within class " + declaringClass.getName() + " writing the field", e);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.mapping.reflection.InstanceSupplier;
+import jakarta.nosql.mapping.reflection.InstanceSupplierFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link InstanceSupplierFactory} implementation that links the constructor to the {@link InstanceSupplier}
+ * with {@link java.lang.invoke.LambdaMetafactory}, otherwise it calls the constructor with a {@link MethodHandle}.
+ * When the class does not allow the private access, it will use a fallback by reflection.
+ */
+final class LambdaInstanceSupplierFactory implements InstanceSupplierFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(LambdaInstanceSupplierFactory.class.getName());
+
+    private static final MethodType GET = MethodType.methodType(Object.class);
+
+    private final InstanceSupplierFactory fallback;
+
+    LambdaInstanceSupplierFactory(InstanceSupplierFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InstanceSupplier apply(Constructor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor is required");
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        try {
+            MethodHandles.Lookup lookup = LambdaAccessors.lookup(declaringClass);
+            MethodHandle handle = lookup.unreflectConstructor(constructor);
+            Optional<InstanceSupplier> supplier = LambdaAccessors.metafactory(lookup, InstanceSupplier.class, "get",
+                    GET, handle);
+            if (supplier.isPresent()) {
+                return supplier.get();
+            }
+            MethodHandle newInstance = handle.asType(GET);
+            return () -> {
+                try {
+                    return newInstance.invokeExact();
+                } catch (Throwable exception) {
+                    throw LambdaAccessors.propagate(exception);
+                }
+            };
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINE, "There is not access to the constructor of the class "
+                    + declaringClass.getName() + " using the fallback with reflection", exception);
+            return fallback.apply(constructor);
+        }
+    }
+}
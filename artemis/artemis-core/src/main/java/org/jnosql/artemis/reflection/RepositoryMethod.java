@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.Sort;
+import jakarta.nosql.mapping.Pagination;
+import jakarta.nosql.mapping.Sorts;
+import org.jnosql.artemis.query.RepositoryType;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * The invocation plan of a {@link Method} from a Repository, compiled once per method and entity: the
+ * {@link RepositoryType}, the positions of the parameters that can hold either {@link Sort}, {@link Sorts} or
+ * {@link Pagination}, the return type and the compiled query. The repository proxies keep one instance per method, so
+ * a call only reads the arguments at those positions, binds them to the query and executes it.
+ * To create an instance, use, {@link RepositoryMethod#of(Method, Class)}
+ */
+public final class RepositoryMethod {
+
+    private final Method method;
+
+    private final Class<?> typeClass;
+
+    private final RepositoryType type;
+
+    private final int[] sorts;
+
+    private final int[] paginations;
+
+    private volatile DynamicReturnType returnType;
+
+    private volatile Object query;
+
+    private RepositoryMethod(Method method, Class<?> typeClass, RepositoryType type, int[] sorts, int[] paginations) {
+        this.method = method;
+        this.typeClass = typeClass;
+        this.type = type;
+        this.sorts = sorts;
+        this.paginations = paginations;
+    }
+
+    /**
+     * @return the method source at the Repository
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the operation type of the method
+     */
+    public RepositoryType getType() {
+        return type;
+    }
+
+    /**
+     * Finds {@link Sort} and {@link Sorts} at the parameter array, it has the same result of
+     * {@link DynamicReturn#findSorts(Object[])}, but it only checks the parameters that might hold them.
+     *
+     * @param args the args
+     * @return a list of {@link Sort} found
+     */
+    public List<Sort> findSorts(Object[] args) {
+        if (args == null || sorts.length == 0) {
+            return Collections.emptyList();
+        }
+        List<Sort> result = new ArrayList<>();
+        for (int index : sorts) {
+            Object arg = args[index];
+            if (arg instanceof Sort) {
+                result.add(Sort.class.cast(arg));
+            } else if (arg instanceof Sorts) {
+                result.addAll(Sorts.class.cast(arg).getSorts());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds {@link Pagination} at the parameter array, it has the same result of
+     * {@link DynamicReturn#findPagination(Object[])}, but it only checks the parameters that might hold it.
+     *
+     * @param args the args
+     * @return a {@link Pagination} or null
+     */
+    public Pagination findPagination(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        for (int index : paginations) {
+            Object arg = args[index];
+            if (arg instanceof Pagination) {
+                return Pagination.class.cast(arg);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts the result to the method return type, the return type is resolved at the first call.
+     *
+     * @param dynamicReturn the dynamic return created to this method
+     * @return the conversion result
+     * @throws NullPointerException when dynamicReturn is null
+     */
+    public Object execute(DynamicReturn<?> dynamicReturn) {
+        Objects.requireNonNull(dynamicReturn, "dynamicReturn is required");
+        DynamicReturnType resolved = returnType;
+        if (resolved == null) {
+            resolved = DynamicReturnType.of(typeClass, method.getReturnType());
+            this.returnType = resolved;
+        }
+        return DynamicReturnConverter.INSTANCE.convert(dynamicReturn, resolved);
+    }
+
+    /**
+     * Returns the query compiled to this method, it is created by the loader at the first call and then kept, so the
+     * next calls only bind the arguments to it. The query must be safe to share across calls.
+     *
+     * @param loader the function that compiles the query of this method
+     * @param <Q>    the query type
+     * @return the query compiled to this method
+     * @throws NullPointerException when loader is null
+     */
+    @SuppressWarnings("unchecked")
+    public <Q> Q getQuery(Function<RepositoryMethod, Q> loader) {
+        Objects.requireNonNull(loader, "loader is required");
+        Object resolved = query;
+        if (resolved == null) {
+            resolved = Objects.requireNonNull(loader.apply(this), "loader must return a query");
+            this.query = resolved;
+        }
+        return (Q) resolved;
+    }
+
+    @Override
+    public String toString() {
+        return "RepositoryMethod{" +
+                "method=" + method +
+                ", type=" + type +
+                '}';
+    }
+
+    /**
+     * Compiles the invocation plan of a Repository method.
+     *
+     * @param method    the method
+     * @param typeClass the entity class of the Repository
+     * @return a new instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static RepositoryMethod of(Method method, Class<?> typeClass) {
+        Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(typeClass, "typeClass is required");
+        Class<?>[] parameters = method.getParameterTypes();
+        int[] sorts = IntStream.range(0, parameters.length)
+                .filter(i -> mightHold(parameters[i], Sort.class) || mightHold(parameters[i], Sorts.class))
+                .toArray();
+        int[] paginations = IntStream.range(0, parameters.length)
+                .filter(i -> mightHold(parameters[i], Pagination.class))
+                .toArray();
+        return new RepositoryMethod(method, typeClass, RepositoryType.of(method), sorts, paginations);
+    }
+
+    /**
+     * Checks if an argument of the parameter type might be an instance of the type: either the parameter is a
+     * subtype of it, or it is a class that still might be extended by an implementation of it.
+     */
+    private static boolean mightHold(Class<?> parameter, Class<?> type) {
+        if (type.isAssignableFrom(parameter)) {
+            return true;
+        }
+        return !parameter.isPrimitive() && !Modifier.isFinal(parameter.getModifiers());
+    }
+}
@@ -78,7 +78,7 @@ public final class ConverterUtil {
                 .orElse(value);
     }
 
-    private static Supplier<Object> getSupplier(Object value, Field nativeField) {
+    static Supplier<Object> getSupplier(Object value, Field nativeField) {
         return () -> {
             if (Iterable.class.isAssignableFrom(nativeField.getType())) {
                 return value;
@@ -104,7 +104,11 @@ public final class ConverterUtil {
     }
 
     private static Predicate<AttributeConverter> isNative(Object value) {
-        return a -> getGenericInterface(a).getActualTypeArguments()[1].equals(value.getClass());
+        return a -> getDatabaseType(a).equals(value.getClass());
+    }
+
+    static Type getDatabaseType(AttributeConverter converter) {
+        return getGenericInterface(converter).getActualTypeArguments()[1];
     }
 
 
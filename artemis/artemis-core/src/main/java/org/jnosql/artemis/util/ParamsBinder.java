@@ -15,18 +15,26 @@
 package org.jnosql.artemis.util;
 
 import jakarta.nosql.Params;
+import jakarta.nosql.mapping.AttributeConverter;
 import jakarta.nosql.mapping.Converters;
 import jakarta.nosql.mapping.DynamicQueryException;
 import jakarta.nosql.mapping.reflection.ClassMapping;
 import jakarta.nosql.mapping.reflection.FieldMapping;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Binder class, that will apply values in the {@link Params} instance to a dynamic query.
+ * The first bind of a method resolves, to each parameter, the argument position, the {@link FieldMapping} and the
+ * {@link AttributeConverter} instance, so the next binds of the same method only convert and set the values.
  */
 public class ParamsBinder {
 
@@ -35,6 +43,10 @@ public class ParamsBinder {
 
     private final Converters converters;
 
+    private final Map<Method, MethodBinding> bindings = new ConcurrentHashMap<>();
+
+    private volatile Map<String, FieldMapping> fields;
+
 
     /**
      * Creates a ParamsBinder instance
@@ -60,24 +72,132 @@ public class ParamsBinder {
         Objects.requireNonNull(args, "args is required");
         Objects.requireNonNull(method, "method is required");
 
-        List<String> names = params.getParametersNames();
+        getBinding(params.getParametersNames(), args, method).bind(params, args);
+    }
+
+    /**
+     * Converts the args to the values of the parameters, without a {@link Params} instance
+     * @param names the parameters names
+     * @param args the args
+     * @param method the method
+     * @return the values of the parameters in the names order
+     * @throws NullPointerException when there is null parameter
+     */
+    public Object[] getValues(List<String> names, Object[] args, Method method) {
+
+        Objects.requireNonNull(names, "names is required");
+        Objects.requireNonNull(args, "args is required");
+        Objects.requireNonNull(method, "method is required");
+
+        return getBinding(names, args, method).getValues(args);
+    }
+
+    private MethodBinding getBinding(List<String> names, Object[] args, Method method) {
         if (names.size() > args.length) {
             throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
                     "parameters in the method: " + method);
         }
-        for (int index = 0; index < names.size(); index++) {
-            String name = names.get(index);
-            String fieldName = name.substring(0, name.lastIndexOf('_'));
-            Optional<FieldMapping> field = this.mapping.getFields().stream()
-                    .filter(f -> f.getName().equals(fieldName)).findFirst();
-
-            Object value;
-            if (field.isPresent()) {
-                value = ConverterUtil.getValue(args[index], converters, field.get());
-            } else {
-                value = args[index];
+        MethodBinding binding = bindings.get(method);
+        if (binding == null || !binding.isCompatible(names)) {
+            binding = new MethodBinding(names, getFields(), converters);
+            bindings.put(method, binding);
+        }
+        return binding;
+    }
+
+    private Map<String, FieldMapping> getFields() {
+        Map<String, FieldMapping> result = fields;
+        if (result == null) {
+            result = new HashMap<>();
+            for (FieldMapping field : mapping.getFields()) {
+                result.putIfAbsent(field.getName(), field);
+            }
+            this.fields = result;
+        }
+        return result;
+    }
+
+    private static final class MethodBinding {
+
+        private final List<String> names;
+
+        private final ParamBinding[] binders;
+
+        private MethodBinding(List<String> names, Map<String, FieldMapping> fields, Converters converters) {
+            this.names = new ArrayList<>(names);
+            this.binders = new ParamBinding[names.size()];
+            for (int index = 0; index < binders.length; index++) {
+                String name = names.get(index);
+                String fieldName = name.substring(0, name.lastIndexOf('_'));
+                binders[index] = ParamBinding.of(name, index, fields.get(fieldName), converters);
+            }
+        }
+
+        private boolean isCompatible(List<String> names) {
+            return this.names.equals(names);
+        }
+
+        private void bind(Params params, Object[] args) {
+            for (ParamBinding binder : binders) {
+                params.bind(binder.name, binder.getValue(args[binder.index]));
+            }
+        }
+
+        private Object[] getValues(Object[] args) {
+            Object[] values = new Object[binders.length];
+            for (ParamBinding binder : binders) {
+                values[binder.index] = binder.getValue(args[binder.index]);
+            }
+            return values;
+        }
+    }
+
+    private static final class ParamBinding {
+
+        private final String name;
+
+        private final int index;
+
+        private final Field field;
+
+        private final AttributeConverter converter;
+
+        private final Type databaseType;
+
+        private ParamBinding(String name, int index, Field field, AttributeConverter converter, Type databaseType) {
+            this.name = name;
+            this.index = index;
+            this.field = field;
+            this.converter = converter;
+            this.databaseType = databaseType;
+        }
+
+        private Object getValue(Object value) {
+            if (field == null) {
+                return value;
+            }
+            Class<?> valueType = value.getClass();
+            if (converter != null) {
+                if (databaseType.equals(valueType)) {
+                    return value;
+                }
+                return converter.convertToDatabaseColumn(value);
+            }
+            if (!field.getType().equals(valueType)) {
+                return ConverterUtil.getSupplier(value, field).get();
+            }
+            return value;
+        }
+
+        private static ParamBinding of(String name, int index, FieldMapping fieldMapping, Converters converters) {
+            if (fieldMapping == null) {
+                return new ParamBinding(name, index, null, null, null);
             }
-            params.bind(name, value);
+            AttributeConverter converter = fieldMapping.getConverter()
+                    .map(converters::get)
+                    .orElse(null);
+            Type databaseType = converter == null ? null : ConverterUtil.getDatabaseType(converter);
+            return new ParamBinding(name, index, fieldMapping.getNativeField(), converter, databaseType);
         }
     }
 }
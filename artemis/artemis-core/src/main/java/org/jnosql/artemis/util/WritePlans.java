@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+/**
+ * The switch of the compiled write path of the entity converters. When it is enabled, the document, column and
+ * graph converters compile, at the first write of an entity class, one writer per field that emits the
+ * document, column or property straight from the field value. The embedded fields and embeddable collections keep
+ * the generic path. It is disabled by default, set the {@value #WRITE_PLAN_PROPERTY} system property to
+ * <code>true</code> to enable it.
+ */
+public final class WritePlans {
+
+    /**
+     * The system property that enables the compiled write path
+     */
+    public static final String WRITE_PLAN_PROPERTY = "org.jnosql.artemis.converter.writeplan";
+
+    private WritePlans() {
+    }
+
+    /**
+     * Checks whether the compiled write path is enabled
+     *
+     * @return true when the {@value #WRITE_PLAN_PROPERTY} system property is <code>true</code>
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(WRITE_PLAN_PROPERTY);
+    }
+}
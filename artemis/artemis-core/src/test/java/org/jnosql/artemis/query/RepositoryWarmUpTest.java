@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.query;
+
+import jakarta.nosql.QueryException;
+import jakarta.nosql.mapping.Repository;
+import jakarta.nosql.mapping.RepositoryAsync;
+import jakarta.nosql.mapping.reflection.ClassMapping;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+class RepositoryWarmUpTest {
+
+    private Map<Class<?>, ClassMapping> classes;
+
+    @BeforeEach
+    public void setUp() {
+        ClassMapping mapping = Mockito.mock(ClassMapping.class);
+        Mockito.when(mapping.getName()).thenReturn("Person");
+        classes = Collections.singletonMap(Person.class, mapping);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> RepositoryWarmUp.warmUp(null, classes));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                RepositoryWarmUp.warmUp(Collections.singletonList(PersonRepository.class), null));
+    }
+
+    @Test
+    public void shouldParseRepositories() {
+        List<Class<?>> repositories = Arrays.asList(PersonRepository.class, PersonRepositoryAsync.class);
+        RepositoryWarmUp.warmUp(repositories, classes);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMethodIsInvalid() {
+        QueryException exception = Assertions.assertThrows(QueryException.class, () ->
+                RepositoryWarmUp.warmUp(Collections.singletonList(InvalidRepository.class), classes));
+        Assertions.assertTrue(exception.getMessage().contains("findByNameAnd"));
+        Assertions.assertTrue(exception.getMessage().contains(InvalidRepository.class.getName()));
+    }
+
+    @Test
+    public void shouldResolveEntityThroughIntermediateInterfaces() {
+        QueryException exception = Assertions.assertThrows(QueryException.class, () ->
+                RepositoryWarmUp.warmUp(Collections.singletonList(InvalidIntermediateRepository.class), classes));
+        Assertions.assertTrue(exception.getMessage().contains("findByNameAnd"));
+        QueryException genericException = Assertions.assertThrows(QueryException.class, () ->
+                RepositoryWarmUp.warmUp(Collections.singletonList(InvalidGenericRepository.class), classes));
+        Assertions.assertTrue(genericException.getMessage().contains("findByNameAnd"));
+    }
+
+    @Test
+    public void shouldIgnoreRepositoryWithoutEntity() {
+        RepositoryWarmUp.warmUp(Collections.singletonList(InvalidRepository.class), Collections.emptyMap());
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        Assertions.assertFalse(RepositoryWarmUp.isEnabled());
+    }
+
+    interface PersonRepository extends Repository<Person, Long> {
+
+        List<Person> findByNameAndAgeGreaterThan(String name, Integer age);
+
+        List<Person> findByNameOrderByAgeDesc(String name);
+
+        void deleteByName(String name);
+    }
+
+    interface PersonRepositoryAsync extends RepositoryAsync<Person, Long> {
+
+        void findByAgeBetween(Integer min, Integer max);
+
+        void deleteByAgeLessThan(Integer age);
+    }
+
+    interface InvalidRepository extends Repository<Person, Long> {
+
+        List<Person> findByNameAnd(String name);
+    }
+
+    interface PersonBaseRepository extends Repository<Person, Long> {
+    }
+
+    interface InvalidIntermediateRepository extends PersonBaseRepository {
+
+        List<Person> findByNameAnd(String name);
+    }
+
+    interface GenericRepository<T, K> extends Repository<T, K> {
+    }
+
+    interface InvalidGenericRepository extends GenericRepository<Person, Long> {
+
+        List<Person> findByNameAnd(String name);
+    }
+}
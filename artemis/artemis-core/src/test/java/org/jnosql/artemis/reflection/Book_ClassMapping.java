@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.mapping.reflection.InstanceSupplier;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The descriptor that the artemis-processor generates to {@link Book}
+ */
+public final class Book_ClassMapping implements ClassMappingDescriptor {
+
+    static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private static final InstanceSupplier SUPPLIER = () -> {
+        INSTANCES.incrementAndGet();
+        return new Book();
+    };
+
+    private static final List<FieldDescriptor> FIELDS = Collections.unmodifiableList(Arrays.asList(
+            FieldDescriptor.of(Book.class, "isbn", "_id", true,
+                    bean -> ((Book) bean).getIsbn(),
+                    (bean, value) -> ((Book) bean).setIsbn((String) value)),
+            FieldDescriptor.of(Book.class, "title", "title", false,
+                    bean -> ((Book) bean).getTitle(),
+                    (bean, value) -> ((Book) bean).setTitle((String) value)),
+            FieldDescriptor.of(Book.class, "year", "published", false,
+                    bean -> ((Book) bean).year,
+                    null)));
+
+    @Override
+    public Class<?> getClassInstance() {
+        return Book.class;
+    }
+
+    @Override
+    public String getName() {
+        return "book";
+    }
+
+    @Override
+    public InstanceSupplier getInstanceSupplier() {
+        return SUPPLIER;
+    }
+
+    @Override
+    public List<FieldDescriptor> getFields() {
+        return FIELDS;
+    }
+}
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -103,6 +104,32 @@ public class ClassConverterTest {
         Assertions.assertThrows(ConstructorException.class, () -> classConverter.create(Animal.class));
     }
 
+    @Test
+    public void shouldCreateClassMappingFromDescriptor() {
+        ClassMapping classMapping = classConverter.create(Book.class);
+        assertEquals("book", classMapping.getName());
+        assertEquals(Book.class, classMapping.getClassInstance());
+        assertThat(classMapping.getFieldsName(), contains("_id", "title", "published"));
+        assertTrue(classMapping.getId().isPresent());
+
+        int instances = Book_ClassMapping.INSTANCES.get();
+        Book book = classMapping.newInstance();
+        assertEquals(instances + 1, Book_ClassMapping.INSTANCES.get());
+
+        FieldMapping year = classMapping.getFieldMapping("year").get();
+        year.write(book, 2019);
+        assertEquals(2019, year.read(book));
+        classMapping.getFieldMapping("title").get().write(book, "Effective Java");
+        assertEquals("Effective Java", book.getTitle());
+    }
+
+    @Test
+    public void shouldScanWhenDescriptorDoesNotMatch() {
+        ClassMapping classMapping = classConverter.create(Magazine.class);
+        assertEquals("Magazine", classMapping.getName());
+        assertThat(classMapping.getFieldsName(), contains("name", "edition"));
+    }
+
     @Test
     public void shouldReturnWhenIsDefaultConstructor() {
         ClassMapping classMapping = classConverter.create(Machine.class);
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Worker;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassScanReportTest {
+
+    @Test
+    public void shouldReportSlowestClassFirst() {
+        ClassScanReport report = new ClassScanReport();
+        report.add(Person.class, TimeUnit.MILLISECONDS.toNanos(2), "JavaCompilerClassOperation");
+        report.add(Worker.class, TimeUnit.MILLISECONDS.toNanos(5), "ClassMappingDescriptor");
+
+        String[] lines = report.toString(TimeUnit.MILLISECONDS.toNanos(6)).split(System.lineSeparator());
+
+        assertEquals(3, lines.length);
+        assertEquals("Scanned 2 classes in 6 ms", lines[0]);
+        assertTrue(lines[1].contains(Worker.class.getName() + ": 5 ms, accessors: ClassMappingDescriptor"));
+        assertTrue(lines[2].contains(Person.class.getName() + ": 2 ms, accessors: JavaCompilerClassOperation"));
+    }
+
+    @Test
+    public void shouldAddInParallel() {
+        ClassScanReport report = new ClassScanReport();
+        IntStream.range(0, 100).parallel().forEach(i -> report.add(Person.class, i, "ReflectionClassOperation"));
+        assertEquals(100, report.size());
+    }
+}
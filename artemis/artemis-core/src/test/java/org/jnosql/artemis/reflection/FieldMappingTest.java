@@ -15,9 +15,11 @@
 package org.jnosql.artemis.reflection;
 
 
+import jakarta.nosql.Value;
 import jakarta.nosql.mapping.reflection.ClassMapping;
 import jakarta.nosql.mapping.reflection.FieldMapping;
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.diana.PrimitiveValue;
 import jakarta.nosql.mapping.Column;
 import jakarta.nosql.mapping.Embeddable;
 import org.junit.jupiter.api.Test;
@@ -139,6 +141,15 @@ public class FieldMappingTest {
         assertEquals(forClass.map, map.read(forClass));
         assertEquals(forClass.barClass, barClass.read(forClass));
     }
+    @Test
+    public void shouldReadPrimitiveValue() {
+        ClassMapping classMapping = classConverter.create(ForClass.class);
+        FieldMapping counter = classMapping.getFieldMapping("counter").get();
+
+        assertEquals(10L, counter.getValue(PrimitiveValue.of(10)));
+        assertEquals(10L, counter.getValue(PrimitiveValue.of(10.5D)));
+        assertEquals(10L, counter.getValue(Value.of("10")));
+    }
 
 
     public static class ForClass {
@@ -155,6 +166,9 @@ public class FieldMappingTest {
 
         @Column
         private BarClass barClass;
+
+        @Column
+        private long counter;
     }
 
     @Embeddable
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.mapping.reflection.FieldWriter;
+import jakarta.nosql.mapping.reflection.FieldWriterFactory;
+import jakarta.nosql.mapping.reflection.Reflections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+class LambdaFieldWriterFactoryTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private FieldWriterFactory fallback = new ReflectionFieldWriterFactory(reflections);
+
+    private FieldWriterFactory factory = new LambdaFieldWriterFactory(fallback);
+
+    @Test
+    public void shouldReturnErrorWhenFieldIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> factory.apply(null));
+    }
+
+    @Test
+    public void shouldCreateFieldWriter() {
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        FieldWriter writer = factory.apply(Foo.class.getDeclaredFields()[0]);
+        Assertions.assertNotNull(writer);
+        writer.write(foo, "update");
+        Assertions.assertEquals("update", foo.getBar());
+    }
+
+    @Test
+    public void shouldWriteFieldWhenThereIsNotSetter() throws IllegalAccessException {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredFields()[1];
+        FieldWriter writer = factory.apply(field);
+        Assertions.assertNotNull(writer);
+        writer.write(foo, "update");
+        field.setAccessible(true);
+        Assertions.assertEquals("update", field.get(foo));
+    }
+
+    @Test
+    public void shouldWriteFieldWhenSetterIsNotPublic() throws IllegalAccessException {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredFields()[2];
+        FieldWriter writer = factory.apply(field);
+        Assertions.assertNotNull(writer);
+        writer.write(foo, "update");
+        field.setAccessible(true);
+        Assertions.assertEquals("update", field.get(foo));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.mapping.reflection.InstanceSupplier;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A descriptor that does not match {@link Magazine} anymore, e.g. it was generated before a field was renamed
+ */
+public final class Magazine_ClassMapping implements ClassMappingDescriptor {
+
+    @Override
+    public Class<?> getClassInstance() {
+        return Magazine.class;
+    }
+
+    @Override
+    public String getName() {
+        return "Magazine";
+    }
+
+    @Override
+    public InstanceSupplier getInstanceSupplier() {
+        return Magazine::new;
+    }
+
+    @Override
+    public List<FieldDescriptor> getFields() {
+        return Collections.singletonList(FieldDescriptor.of(Magazine.class, "title", "title", false, null, null));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+import jakarta.nosql.mapping.Pagination;
+import jakarta.nosql.mapping.Repository;
+import jakarta.nosql.mapping.Sorts;
+import org.jnosql.artemis.query.RepositoryType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RepositoryMethodTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Method method = getMethod("findByName");
+        Assertions.assertThrows(NullPointerException.class, () -> RepositoryMethod.of(null, Person.class));
+        Assertions.assertThrows(NullPointerException.class, () -> RepositoryMethod.of(method, null));
+    }
+
+    @Test
+    public void shouldReturnType() {
+        assertEquals(RepositoryType.FIND_BY, RepositoryMethod.of(getMethod("findByName"), Person.class).getType());
+        assertEquals(RepositoryType.FIND_ALL, RepositoryMethod.of(getMethod("findAll"), Person.class).getType());
+        assertEquals(RepositoryType.DELETE_BY, RepositoryMethod.of(getMethod("deleteByName"), Person.class).getType());
+    }
+
+    @Test
+    public void shouldLoadQueryOnce() {
+        RepositoryMethod repositoryMethod = RepositoryMethod.of(getMethod("findByName"), Person.class);
+        AtomicInteger loads = new AtomicInteger();
+        Function<RepositoryMethod, String> loader = m -> m.getMethod().getName() + loads.incrementAndGet();
+        assertEquals("findByName1", repositoryMethod.getQuery(loader));
+        assertEquals("findByName1", repositoryMethod.getQuery(loader));
+        assertEquals(1, loads.get());
+        Assertions.assertThrows(NullPointerException.class, () -> repositoryMethod.getQuery(null));
+    }
+
+    @Test
+    public void shouldFindSorts() {
+        RepositoryMethod repositoryMethod = RepositoryMethod.of(getMethod("findByName"), Person.class);
+        Sort name = Sort.of("name", SortType.ASC);
+        Object[] args = {"Ada", name, Sorts.sorts().desc("age"), Pagination.page(1).size(2)};
+        List<Sort> sorts = repositoryMethod.findSorts(args);
+        assertThat(sorts, contains(name, Sort.of("age", SortType.DESC)));
+        assertEquals(DynamicReturn.findSorts(args), sorts);
+    }
+
+    @Test
+    public void shouldFindSortsAtObjectParameter() {
+        RepositoryMethod repositoryMethod = RepositoryMethod.of(getMethod("findByAge"), Person.class);
+        Sort age = Sort.of("age", SortType.ASC);
+        Pagination pagination = Pagination.page(1).size(2);
+        assertThat(repositoryMethod.findSorts(new Object[]{age}), contains(age));
+        assertSame(pagination, repositoryMethod.findPagination(new Object[]{pagination}));
+    }
+
+    @Test
+    public void shouldFindPagination() {
+        RepositoryMethod repositoryMethod = RepositoryMethod.of(getMethod("findByName"), Person.class);
+        Pagination pagination = Pagination.page(2).size(10);
+        assertSame(pagination, repositoryMethod.findPagination(new Object[]{"Ada", null, null, pagination}));
+        assertNull(repositoryMethod.findPagination(new Object[]{"Ada", null, null, null}));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoArgs() {
+        RepositoryMethod repositoryMethod = RepositoryMethod.of(getMethod("findAll"), Person.class);
+        assertTrue(repositoryMethod.findSorts(null).isEmpty());
+        assertNull(repositoryMethod.findPagination(null));
+    }
+
+    @Test
+    public void shouldExecute() {
+        RepositoryMethod repositoryMethod = RepositoryMethod.of(getMethod("findByName"), Person.class);
+        Supplier<List<?>> list = Collections::emptyList;
+        Supplier<Optional<?>> singleResult = DynamicReturn.toSingleResult(repositoryMethod.getMethod()).apply(list);
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(Person.class)
+                .withMethodSource(repositoryMethod.getMethod())
+                .withList(list)
+                .withSingleResult(singleResult)
+                .build();
+        Object result = repositoryMethod.execute(dynamicReturn);
+        assertTrue(result instanceof Optional);
+        assertEquals(result, repositoryMethod.execute(dynamicReturn));
+    }
+
+    private Method getMethod(String methodName) {
+        return Stream.of(PersonRepository.class.getDeclaredMethods())
+                .filter(m -> m.getName().equals(methodName))
+                .findFirst().get();
+    }
+
+    private static class Person {
+    }
+
+    private interface PersonRepository extends Repository<Person, String> {
+
+        Optional<Person> findByName(String name, Sort sort, Sorts sorts, Pagination pagination);
+
+        List<Person> findByAge(Object param);
+
+        List<Person> findAll();
+
+        void deleteByName(String name);
+    }
+}
@@ -21,20 +21,16 @@ import jakarta.nosql.mapping.document.DocumentEntityConverter;
 import jakarta.nosql.mapping.reflection.ClassMapping;
 import jakarta.nosql.mapping.reflection.ClassMappings;
 import jakarta.nosql.mapping.reflection.FieldMapping;
-import jakarta.nosql.mapping.reflection.FieldType;
 import jakarta.nosql.mapping.reflection.FieldValue;
 import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverterFactory;
+import org.jnosql.artemis.util.WritePlans;
+import org.jnosql.diana.document.Documents;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
-import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED;
-import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED_ENTITY;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -48,12 +44,23 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
 
     private final DocumentFieldConverterFactory converterFactory = new DocumentFieldConverterFactory();
 
+    private final Map<Class<?>, DocumentReadPlan> plans = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, DocumentWritePlan> writePlans = new ConcurrentHashMap<>();
+
+    private final boolean writePlanEnabled = WritePlans.isEnabled();
+
 
     @Override
     public DocumentEntity toDocument(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
-        DocumentEntity entity = DocumentEntity.of(mapping.getName());
+        if (writePlanEnabled) {
+            DocumentWritePlan plan = writePlans.computeIfAbsent(mapping.getClassInstance(),
+                    c -> DocumentWritePlan.of(mapping, getConverters()));
+            return plan.write(entityInstance, this);
+        }
+        DocumentEntity entity = Documents.newEntity(mapping.getName(), mapping.getFields().size());
         mapping.getFields().stream()
                 .map(f -> to(f, entityInstance))
                 .filter(FieldValue::isNotEmpty)
@@ -97,29 +104,33 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
     }
 
     private <T> T convertEntity(List<Document> documents, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || EMBEDDED_ENTITY.equals(type);
-        };
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
-
-        return instance;
+        return getReadPlan(mapping).read(instance, documents, this);
     }
 
+    /**
+     * Feeds a field of the instance from the documents.
+     *
+     * @param instance          the entity instance
+     * @param documents         the documents
+     * @param fieldsGroupByName the fields grouped by name
+     * @param <T>               the entity type
+     * @return a consumer of the field name
+     * @deprecated the entities are read through a read plan kept per entity class, so this method is no longer
+     * called by the converter; it feeds the field through the same plan.
+     */
+    @Deprecated
     protected <T> Consumer<String> feedObject(T instance, List<Document> documents, Map<String, FieldMapping> fieldsGroupByName) {
-        return k -> {
-            Optional<Document> document = documents.stream().filter(c -> c.getName().equals(k)).findFirst();
+        DocumentReadPlan plan = getReadPlan(getClassMappings().get(instance.getClass()));
+        return k -> plan.feed(instance, documents, k, fieldsGroupByName.get(k), this);
+    }
+
+    DocumentFieldConverter getFieldConverter(FieldMapping field) {
+        return converterFactory.get(field, getConverters());
+    }
 
-            FieldMapping field = fieldsGroupByName.get(k);
-            DocumentFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, documents, document, field, this);
-        };
+    private DocumentReadPlan getReadPlan(ClassMapping mapping) {
+        return plans.computeIfAbsent(mapping.getClassInstance(),
+                c -> DocumentReadPlan.of(mapping, converterFactory, getConverters()));
     }
 
 
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.document;
 
 import jakarta.nosql.mapping.AttributeConverter;
+import jakarta.nosql.mapping.Converters;
 import jakarta.nosql.mapping.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.GenericFieldMapping;
 import jakarta.nosql.TypeReference;
@@ -55,6 +56,15 @@ class DocumentFieldConverters {
             }
         }
 
+        DocumentFieldConverter get(FieldMapping field, Converters converters) {
+            DocumentFieldConverter fieldConverter = get(field);
+            Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
+            if (fieldConverter == defaultConverter && optionalConverter.isPresent()) {
+                return new AttributeFieldConverter(converters.get(optionalConverter.get()));
+            }
+            return fieldConverter;
+        }
+
         private boolean isCollectionEmbeddable(FieldMapping field) {
             return COLLECTION.equals(field.getType()) && ((GenericFieldMapping) field).isEmbeddable();
         }
@@ -122,6 +132,23 @@ class DocumentFieldConverters {
         }
     }
 
+    private static class AttributeFieldConverter implements DocumentFieldConverter {
+
+        private final AttributeConverter attributeConverter;
+
+        private AttributeFieldConverter(AttributeConverter attributeConverter) {
+            this.attributeConverter = attributeConverter;
+        }
+
+        @Override
+        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
+                                FieldMapping field, AbstractDocumentEntityConverter converter) {
+            Value value = document.get().getValue();
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
+            field.write(instance, field.getValue(Value.of(attributeConverted)));
+        }
+    }
+
     private static class CollectionEmbeddableConverter implements DocumentFieldConverter {
 
         @Override
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.reflection.ClassMapping;
+import jakarta.nosql.mapping.reflection.FieldMapping;
+import jakarta.nosql.mapping.reflection.FieldType;
+import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverterFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED;
+import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED_ENTITY;
+
+/**
+ * The read plan of a {@link ClassMapping}: to each field name, the {@link FieldMapping} and the
+ * {@link DocumentFieldConverter} with its attribute converter already resolved. It feeds an entity in a single pass
+ * over the documents.
+ */
+final class DocumentReadPlan {
+
+    private final Map<String, Integer> indexes;
+
+    private final FieldMapping[] fields;
+
+    private final DocumentFieldConverter[] converters;
+
+    private final boolean[] elements;
+
+    private DocumentReadPlan(Map<String, Integer> indexes, FieldMapping[] fields,
+                             DocumentFieldConverter[] converters, boolean[] elements) {
+        this.indexes = indexes;
+        this.fields = fields;
+        this.converters = converters;
+        this.elements = elements;
+    }
+
+    /**
+     * Feeds the instance from the documents, when there are documents with the same name the first one is used.
+     *
+     * @param instance  the entity instance
+     * @param documents the documents
+     * @param converter the converter used to the sub entities
+     * @param <T>       the entity type
+     * @return the instance
+     */
+    <T> T read(T instance, List<Document> documents, AbstractDocumentEntityConverter converter) {
+        Document[] values = new Document[fields.length];
+        for (Document document : documents) {
+            Integer index = indexes.get(document.getName());
+            if (index != null && values[index] == null) {
+                values[index] = document;
+            }
+        }
+        for (int index = 0; index < fields.length; index++) {
+            Document document = values[index];
+            if (document != null || elements[index]) {
+                converters[index].convert(instance, documents, Optional.ofNullable(document), fields[index],
+                        converter);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Feeds a single field of the instance from the documents, it is the plan behind the deprecated
+     * {@code feedObject} hook of {@link AbstractDocumentEntityConverter}.
+     *
+     * @param instance  the entity instance
+     * @param documents the documents
+     * @param name      the field name
+     * @param field     the field
+     * @param converter the converter used to the sub entities
+     * @param <T>       the entity type
+     */
+    <T> void feed(T instance, List<Document> documents, String name, FieldMapping field,
+                  AbstractDocumentEntityConverter converter) {
+        Optional<Document> document = documents.stream().filter(c -> c.getName().equals(name)).findFirst();
+        Integer index = indexes.get(name);
+        if (index != null && fields[index].equals(field)) {
+            converters[index].convert(instance, documents, document, field, converter);
+        } else {
+            converter.getFieldConverter(field).convert(instance, documents, document, field, converter);
+        }
+    }
+
+    static DocumentReadPlan of(ClassMapping mapping, DocumentFieldConverterFactory factory, Converters converters) {
+        Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
+        int size = fieldsGroupByName.size();
+        Map<String, Integer> indexes = new HashMap<>();
+        FieldMapping[] fields = new FieldMapping[size];
+        DocumentFieldConverter[] fieldConverters = new DocumentFieldConverter[size];
+        boolean[] elements = new boolean[size];
+        int index = 0;
+        for (Map.Entry<String, FieldMapping> entry : fieldsGroupByName.entrySet()) {
+            FieldMapping field = entry.getValue();
+            FieldType type = field.getType();
+            indexes.put(entry.getKey(), index);
+            fields[index] = field;
+            fieldConverters[index] = factory.get(field, converters);
+            elements[index] = EMBEDDED.equals(type) || EMBEDDED_ENTITY.equals(type);
+            index++;
+        }
+        return new DocumentReadPlan(indexes, fields, fieldConverters, elements);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.mapping.AttributeConverter;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.reflection.ClassMapping;
+import jakarta.nosql.mapping.reflection.FieldMapping;
+import jakarta.nosql.mapping.reflection.FieldType;
+import org.jnosql.artemis.reflection.GenericFieldMapping;
+import org.jnosql.diana.document.Documents;
+
+import java.util.List;
+import java.util.Optional;
+
+import static jakarta.nosql.mapping.reflection.FieldType.COLLECTION;
+import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED;
+import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED_ENTITY;
+
+/**
+ * The write plan of a {@link ClassMapping}: one writer per field, compiled at the first write of the entity class,
+ * that adds the {@link Document} straight from the field value. The embedded fields and the embeddable collections
+ * use the {@link DocumentFieldValue} path.
+ */
+final class DocumentWritePlan {
+
+    private final String name;
+
+    private final FieldMapping[] fields;
+
+    private final FieldWriter[] writers;
+
+    private DocumentWritePlan(String name, FieldMapping[] fields, FieldWriter[] writers) {
+        this.name = name;
+        this.fields = fields;
+        this.writers = writers;
+    }
+
+    /**
+     * Creates the {@link DocumentEntity} from the entity instance, the fields with null value are ignored.
+     *
+     * @param instance  the entity instance
+     * @param converter the converter used to the embedded fields
+     * @return the {@link DocumentEntity}
+     */
+    DocumentEntity write(Object instance, AbstractDocumentEntityConverter converter) {
+        DocumentEntity entity = Documents.newEntity(name, fields.length);
+        for (int index = 0; index < fields.length; index++) {
+            Object value = fields[index].read(instance);
+            if (value != null) {
+                writers[index].write(entity, value, converter);
+            }
+        }
+        return entity;
+    }
+
+    static DocumentWritePlan of(ClassMapping mapping, Converters converters) {
+        List<FieldMapping> fieldMappings = mapping.getFields();
+        FieldMapping[] fields = fieldMappings.toArray(new FieldMapping[0]);
+        FieldWriter[] writers = new FieldWriter[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            writers[index] = writer(fields[index], converters);
+        }
+        return new DocumentWritePlan(mapping.getName(), fields, writers);
+    }
+
+    private static FieldWriter writer(FieldMapping field, Converters converters) {
+        FieldType type = field.getType();
+        if (EMBEDDED.equals(type) || EMBEDDED_ENTITY.equals(type)
+                || (COLLECTION.equals(type) && ((GenericFieldMapping) field).isEmbeddable())) {
+            return (entity, value, converter) -> DefaultDocumentFieldValue.of(value, field)
+                    .toDocument(converter, converters)
+                    .forEach(entity::add);
+        }
+        String documentName = field.getName();
+        Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
+        if (optionalConverter.isPresent()) {
+            AttributeConverter attributeConverter = converters.get(optionalConverter.get());
+            return (entity, value, converter) ->
+                    entity.add(Document.of(documentName, attributeConverter.convertToDatabaseColumn(value)));
+        }
+        return (entity, value, converter) -> entity.add(Document.of(documentName, value));
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+
+        void write(DocumentEntity entity, Object value, AbstractDocumentEntityConverter converter);
+    }
+}
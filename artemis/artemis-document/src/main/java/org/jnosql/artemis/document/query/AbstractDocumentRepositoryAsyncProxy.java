@@ -18,8 +18,8 @@ package org.jnosql.artemis.document.query;
 import jakarta.nosql.mapping.DynamicQueryException;
 import jakarta.nosql.mapping.RepositoryAsync;
 import jakarta.nosql.mapping.document.DocumentTemplateAsync;
-import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicAsyncQueryMethodReturn;
+import org.jnosql.artemis.reflection.RepositoryMethod;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentQuery;
 
@@ -43,16 +43,16 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
 
 
-        RepositoryType type = RepositoryType.of(method);
+        RepositoryMethod repositoryMethod = getRepositoryMethod(method);
 
-        switch (type) {
+        switch (repositoryMethod.getType()) {
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                DocumentQuery query = getQuery(method, args);
+                DocumentQuery query = getQuery(repositoryMethod, args);
                 return executeQuery(getCallBack(args), query);
             case DELETE_BY:
-                DocumentDeleteQuery deleteQuery = getDeleteQuery(method, args);
+                DocumentDeleteQuery deleteQuery = getDeleteQuery(repositoryMethod, args);
                 return executeDelete(args, deleteQuery);
             case OBJECT_METHOD:
                 return method.invoke(this, args);
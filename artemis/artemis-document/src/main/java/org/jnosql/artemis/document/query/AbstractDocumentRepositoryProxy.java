@@ -20,9 +20,9 @@ import jakarta.nosql.mapping.Pagination;
 import jakarta.nosql.mapping.Repository;
 import jakarta.nosql.mapping.document.DocumentQueryPagination;
 import jakarta.nosql.mapping.document.DocumentTemplate;
-import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicQueryMethodReturn;
 import org.jnosql.artemis.reflection.DynamicReturn;
+import org.jnosql.artemis.reflection.RepositoryMethod;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentQuery;
 
@@ -50,20 +50,21 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
 
-        RepositoryType type = RepositoryType.of(method);
+        RepositoryMethod repositoryMethod = getRepositoryMethod(method);
         Class<?> typeClass = getClassMapping().getClassInstance();
 
-        switch (type) {
+        switch (repositoryMethod.getType()) {
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                DocumentQuery query = getQuery(method, args);
-                return executeQuery(method, args, typeClass, query);
+                DocumentQuery query = getQuery(repositoryMethod, args);
+                return executeQuery(repositoryMethod, args, typeClass, query);
             case FIND_ALL:
                 DocumentQuery queryFindAll = select().from(getClassMapping().getName()).build();
-                return executeQuery(method, args, typeClass, getQuerySorts(args, queryFindAll));
+                return executeQuery(repositoryMethod, args, typeClass,
+                        getQuerySorts(repositoryMethod.findSorts(args), queryFindAll));
             case DELETE_BY:
-                DocumentDeleteQuery documentDeleteQuery = getDeleteQuery(method, args);
+                DocumentDeleteQuery documentDeleteQuery = getDeleteQuery(repositoryMethod, args);
                 getTemplate().delete(documentDeleteQuery);
                 return null;
             case OBJECT_METHOD:
@@ -82,18 +83,22 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
     }
 
 
-    private Object executeQuery(Method method, Object[] args, Class<?> typeClass, DocumentQuery query) {
-        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+    private Object executeQuery(RepositoryMethod repositoryMethod, Object[] args, Class<?> typeClass,
+                                DocumentQuery query) {
+        Pagination pagination = repositoryMethod.findPagination(args);
+        DynamicReturn.DefaultDynamicReturnBuilder builder = DynamicReturn.builder()
                 .withClassSource(typeClass)
-                .withMethodSource(method)
+                .withMethodSource(repositoryMethod.getMethod())
                 .withList(() -> getTemplate().select(query))
                 .withSingleResult(() -> getTemplate().singleResult(query))
-                .withPagination(DynamicReturn.findPagination(args))
-                .withListPagination(listPagination(query))
-                .withSingleResultPagination(getSingleResult(query))
-                .withPage(getPage(query))
-                .build();
-        return dynamicReturn.execute();
+                .withPagination(pagination);
+        if (pagination != null) {
+            builder.withListPagination(listPagination(query))
+                    .withSingleResultPagination(getSingleResult(query))
+                    .withPage(getPage(query));
+        }
+        DynamicReturn<?> dynamicReturn = builder.build();
+        return repositoryMethod.execute(dynamicReturn);
     }
 
     private Function<Pagination, Page<T>> getPage(DocumentQuery query) {
@@ -14,21 +14,18 @@
  */
 package org.jnosql.artemis.document.query;
 
-import jakarta.nosql.Params;
 import jakarta.nosql.ServiceLoaderProvider;
 import jakarta.nosql.Sort;
 import jakarta.nosql.document.DeleteQueryConverter;
 import jakarta.nosql.document.DocumentDeleteQuery;
-import jakarta.nosql.document.DocumentDeleteQueryParams;
 import jakarta.nosql.document.DocumentObserverParser;
 import jakarta.nosql.document.DocumentQuery;
-import jakarta.nosql.document.DocumentQueryParams;
 import jakarta.nosql.document.SelectQueryConverter;
 import jakarta.nosql.mapping.Converters;
 import jakarta.nosql.mapping.reflection.ClassMapping;
 import jakarta.nosql.query.DeleteQuery;
 import jakarta.nosql.query.SelectQuery;
-import org.jnosql.artemis.reflection.DynamicReturn;
+import org.jnosql.artemis.reflection.RepositoryMethod;
 import org.jnosql.artemis.util.ParamsBinder;
 import org.jnosql.diana.query.method.DeleteMethodProvider;
 import org.jnosql.diana.query.method.SelectMethodProvider;
@@ -36,7 +33,9 @@ import org.jnosql.diana.query.method.SelectMethodProvider;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 abstract class BaseDocumentRepository {
 
@@ -45,24 +44,24 @@ abstract class BaseDocumentRepository {
 
     protected abstract ClassMapping getClassMapping();
 
+    private static final SelectQueryConverter SELECT_CONVERTER = ServiceLoaderProvider.get(SelectQueryConverter.class);
+
+    private static final DeleteQueryConverter DELETE_CONVERTER = ServiceLoaderProvider.get(DeleteQueryConverter.class);
+
+    private final Map<Method, RepositoryMethod> methods = new ConcurrentHashMap<>();
+
     private DocumentObserverParser parser;
 
     private ParamsBinder paramsBinder;
 
 
-    protected DocumentQuery getQuery(Method method, Object[] args) {
-        SelectMethodProvider methodProvider = SelectMethodProvider.get();
-        SelectQuery selectQuery = methodProvider.apply(method, getClassMapping().getName());
-        SelectQueryConverter converter = ServiceLoaderProvider.get(SelectQueryConverter.class);
-        DocumentQueryParams queryParams = converter.apply(selectQuery, getParser());
-        DocumentQuery query = queryParams.getQuery();
-        Params params = queryParams.getParams();
-        getParamsBinder().bind(params, args, method);
-        return getQuerySorts(args, query);
+    protected DocumentQuery getQuery(RepositoryMethod repositoryMethod, Object[] args) {
+        DocumentQueryTemplate template = repositoryMethod.getQuery(this::getQueryTemplate);
+        DocumentQuery query = template.bindQuery(getValues(template, repositoryMethod, args));
+        return getQuerySorts(repositoryMethod.findSorts(args), query);
     }
 
-    protected DocumentQuery getQuerySorts(Object[] args, DocumentQuery query) {
-        List<Sort> sorts = DynamicReturn.findSorts(args);
+    protected DocumentQuery getQuerySorts(List<Sort> sorts, DocumentQuery query) {
         if (!sorts.isEmpty()) {
             List<Sort> newOrders = new ArrayList<>();
             newOrders.addAll(query.getSorts());
@@ -73,17 +72,34 @@ abstract class BaseDocumentRepository {
         return query;
     }
 
-    protected DocumentDeleteQuery getDeleteQuery(Method method, Object[] args) {
+    protected DocumentDeleteQuery getDeleteQuery(RepositoryMethod repositoryMethod, Object[] args) {
+        DocumentQueryTemplate template = repositoryMethod.getQuery(this::getDeleteQueryTemplate);
+        return template.bindDeleteQuery(getValues(template, repositoryMethod, args));
+    }
+
+    private DocumentQueryTemplate getQueryTemplate(RepositoryMethod repositoryMethod) {
+        SelectMethodProvider methodProvider = SelectMethodProvider.get();
+        SelectQuery selectQuery = methodProvider.apply(repositoryMethod.getMethod(), getClassMapping().getName());
+        return DocumentQueryTemplate.of(SELECT_CONVERTER.apply(selectQuery, getParser()));
+    }
+
+    private DocumentQueryTemplate getDeleteQueryTemplate(RepositoryMethod repositoryMethod) {
         DeleteMethodProvider methodProvider = DeleteMethodProvider.get();
-        DeleteQuery deleteQuery = methodProvider.apply(method, getClassMapping().getName());
-        DeleteQueryConverter converter = ServiceLoaderProvider.get(DeleteQueryConverter.class);
-        DocumentDeleteQueryParams queryParams = converter.apply(deleteQuery, getParser());
-        DocumentDeleteQuery query = queryParams.getQuery();
-        Params params = queryParams.getParams();
-        getParamsBinder().bind(params, args, method);
-        return query;
+        DeleteQuery deleteQuery = methodProvider.apply(repositoryMethod.getMethod(), getClassMapping().getName());
+        return DocumentQueryTemplate.of(DELETE_CONVERTER.apply(deleteQuery, getParser()));
     }
 
+    private Object[] getValues(DocumentQueryTemplate template, RepositoryMethod repositoryMethod, Object[] args) {
+        List<String> names = template.getNames();
+        if (names.isEmpty()) {
+            return args;
+        }
+        return getParamsBinder().getValues(names, args, repositoryMethod.getMethod());
+    }
+
+    protected RepositoryMethod getRepositoryMethod(Method method) {
+        return methods.computeIfAbsent(method, m -> RepositoryMethod.of(m, getClassMapping().getClassInstance()));
+    }
 
     protected DocumentObserverParser getParser() {
         if (parser == null) {
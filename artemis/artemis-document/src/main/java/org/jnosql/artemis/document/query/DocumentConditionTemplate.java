@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document.query;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.Params;
+import jakarta.nosql.QueryException;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static jakarta.nosql.document.DocumentCondition.and;
+import static jakarta.nosql.document.DocumentCondition.between;
+import static jakarta.nosql.document.DocumentCondition.eq;
+import static jakarta.nosql.document.DocumentCondition.gt;
+import static jakarta.nosql.document.DocumentCondition.gte;
+import static jakarta.nosql.document.DocumentCondition.in;
+import static jakarta.nosql.document.DocumentCondition.like;
+import static jakarta.nosql.document.DocumentCondition.lt;
+import static jakarta.nosql.document.DocumentCondition.lte;
+import static jakarta.nosql.document.DocumentCondition.or;
+
+/**
+ * A {@link DocumentCondition} compiled once from the query of a repository method, where each parameter became a
+ * slot. Binding copies only the conditions that have a slot, the others are shared by every call.
+ */
+final class DocumentConditionTemplate {
+
+    private static final DocumentConditionTemplate[] EMPTY = new DocumentConditionTemplate[0];
+
+    private final Condition operator;
+
+    private final DocumentCondition constant;
+
+    private final String name;
+
+    private final Object value;
+
+    private final DocumentConditionTemplate[] conditions;
+
+    private DocumentConditionTemplate(Condition operator, DocumentCondition constant, String name, Object value,
+                                      DocumentConditionTemplate[] conditions) {
+        this.operator = operator;
+        this.constant = constant;
+        this.name = name;
+        this.value = value;
+        this.conditions = conditions;
+    }
+
+    DocumentCondition bind(Object[] values) {
+        if (Objects.nonNull(constant)) {
+            return constant;
+        }
+        switch (operator) {
+            case NOT:
+                return conditions[0].bind(values).negate();
+            case AND:
+                return and(bind(conditions, values));
+            case OR:
+                return or(bind(conditions, values));
+            default:
+                return bind(Document.of(name, Slot.bind(value, values)));
+        }
+    }
+
+    private DocumentCondition bind(Document document) {
+        switch (operator) {
+            case EQUALS:
+                return eq(document);
+            case GREATER_THAN:
+                return gt(document);
+            case GREATER_EQUALS_THAN:
+                return gte(document);
+            case LESSER_THAN:
+                return lt(document);
+            case LESSER_EQUALS_THAN:
+                return lte(document);
+            case IN:
+                return in(document);
+            case LIKE:
+                return like(document);
+            case BETWEEN:
+                return between(document);
+            default:
+                throw new QueryException("There is not support the type: " + operator);
+        }
+    }
+
+    private static DocumentCondition[] bind(DocumentConditionTemplate[] conditions, Object[] values) {
+        DocumentCondition[] documentConditions = new DocumentCondition[conditions.length];
+        for (int index = 0; index < conditions.length; index++) {
+            documentConditions[index] = conditions[index].bind(values);
+        }
+        return documentConditions;
+    }
+
+    /**
+     * Compiles the condition, the parameters must be already bound by {@link Slot#bindSlots(Params)}.
+     */
+    static DocumentConditionTemplate of(DocumentCondition condition) {
+        Condition operator = condition.getCondition();
+        switch (operator) {
+            case NOT:
+                return of(condition, operator, new DocumentConditionTemplate[]{
+                        of(condition.getDocument().get(DocumentCondition.class))});
+            case AND:
+            case OR:
+                return of(condition, operator, condition.getDocument()
+                        .get(new TypeReference<List<DocumentCondition>>() {
+                        }).stream()
+                        .map(DocumentConditionTemplate::of)
+                        .toArray(DocumentConditionTemplate[]::new));
+            default:
+                Document document = condition.getDocument();
+                Object value = Slot.toTemplate(document.get());
+                if (Slot.hasSlot(value)) {
+                    return new DocumentConditionTemplate(operator, null, document.getName(), value, EMPTY);
+                }
+                return new DocumentConditionTemplate(operator, condition, null, null, EMPTY);
+        }
+    }
+
+    private static DocumentConditionTemplate of(DocumentCondition condition, Condition operator,
+                                                DocumentConditionTemplate[] conditions) {
+        for (DocumentConditionTemplate child : conditions) {
+            if (Objects.isNull(child.constant)) {
+                return new DocumentConditionTemplate(operator, null, null, null, conditions);
+            }
+        }
+        return new DocumentConditionTemplate(operator, condition, null, null, EMPTY);
+    }
+
+    /**
+     * The placeholder of a parameter at the template, it holds the position of the parameter value.
+     */
+    static final class Slot {
+
+        private final int index;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Binds a slot to each parameter, in the parameters names order
+         *
+         * @param params the params of the query
+         * @return the parameters names
+         */
+        static List<String> bindSlots(Params params) {
+            List<String> names = params.getParametersNames();
+            for (int index = 0; index < names.size(); index++) {
+                params.bind(names.get(index), new Slot(index));
+            }
+            return names;
+        }
+
+        private static Object toTemplate(Object value) {
+            if (value instanceof Iterable) {
+                List<Object> elements = new ArrayList<>();
+                for (Object element : (Iterable<?>) value) {
+                    boolean slot = element instanceof Value && ((Value) element).get() instanceof Slot;
+                    elements.add(slot ? ((Value) element).get() : element);
+                }
+                return elements;
+            }
+            return value;
+        }
+
+        private static boolean hasSlot(Object value) {
+            if (value instanceof List) {
+                return ((List<?>) value).stream().anyMatch(Slot.class::isInstance);
+            }
+            return value instanceof Slot;
+        }
+
+        private static Object bind(Object value, Object[] values) {
+            if (value instanceof Slot) {
+                return values[((Slot) value).index];
+            }
+            List<?> template = (List<?>) value;
+            List<Object> elements = new ArrayList<>(template.size());
+            for (Object element : template) {
+                elements.add(element instanceof Slot ? Value.of(values[((Slot) element).index]) : element);
+            }
+            return elements;
+        }
+    }
+}
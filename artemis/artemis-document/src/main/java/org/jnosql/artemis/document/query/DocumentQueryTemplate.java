@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document.query;
+
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentDeleteQueryParams;
+import jakarta.nosql.document.DocumentQuery;
+import jakarta.nosql.document.DocumentQueryParams;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The select or delete query of a repository method, converted once through the observer. Each call copies the
+ * query with the values of the parameters, so the template is shared by concurrent calls.
+ */
+final class DocumentQueryTemplate {
+
+    private final DocumentQuery query;
+
+    private final DocumentDeleteQuery deleteQuery;
+
+    private final List<String> names;
+
+    private final DocumentConditionTemplate condition;
+
+    private DocumentQueryTemplate(DocumentQuery query, DocumentDeleteQuery deleteQuery, List<String> names,
+                                  DocumentConditionTemplate condition) {
+        this.query = query;
+        this.deleteQuery = deleteQuery;
+        this.names = names;
+        this.condition = condition;
+    }
+
+    /**
+     * @return the parameters names, the values given to bind follow this order
+     */
+    List<String> getNames() {
+        return names;
+    }
+
+    DocumentQuery bindQuery(Object[] values) {
+        if (Objects.isNull(condition)) {
+            return query;
+        }
+        return new ArtemisDocumentQuery(query.getSorts(), query.getLimit(), query.getSkip(),
+                condition.bind(values), query.getDocumentCollection());
+    }
+
+    DocumentDeleteQuery bindDeleteQuery(Object[] values) {
+        if (Objects.isNull(condition)) {
+            return deleteQuery;
+        }
+        return new ArtemisDocumentDeleteQuery(deleteQuery.getDocumentCollection(), condition.bind(values));
+    }
+
+    static DocumentQueryTemplate of(DocumentQueryParams queryParams) {
+        List<String> names = DocumentConditionTemplate.Slot.bindSlots(queryParams.getParams());
+        DocumentQuery query = queryParams.getQuery();
+        return new DocumentQueryTemplate(query, null, names, getCondition(names, query.getCondition().orElse(null)));
+    }
+
+    static DocumentQueryTemplate of(DocumentDeleteQueryParams queryParams) {
+        List<String> names = DocumentConditionTemplate.Slot.bindSlots(queryParams.getParams());
+        DocumentDeleteQuery query = queryParams.getQuery();
+        return new DocumentQueryTemplate(null, query, names, getCondition(names, query.getCondition().orElse(null)));
+    }
+
+    private static DocumentConditionTemplate getCondition(List<String> names, DocumentCondition condition) {
+        if (names.isEmpty() || Objects.isNull(condition)) {
+            return null;
+        }
+        return DocumentConditionTemplate.of(condition);
+    }
+}
@@ -22,6 +22,7 @@ import jakarta.nosql.mapping.Repository;
 import jakarta.nosql.mapping.RepositoryAsync;
 import org.jnosql.artemis.document.query.RepositoryAsyncDocumentBean;
 import org.jnosql.artemis.document.query.RepositoryDocumentBean;
+import org.jnosql.artemis.query.RepositoryWarmUp;
 import org.jnosql.artemis.util.ConfigurationUnitUtils;
 import org.jnosql.artemis.util.RepositoryUnit;
 import jakarta.nosql.document.DocumentCollectionManager;
@@ -29,6 +30,7 @@ import jakarta.nosql.document.DocumentCollectionManagerAsync;
 
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.InjectionPoint;
@@ -37,9 +39,11 @@ import javax.enterprise.inject.spi.ProcessInjectionPoint;
 import javax.enterprise.inject.spi.ProcessProducer;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -167,4 +171,10 @@ public class DocumentCollectionProducerExtension implements Extension {
 
     }
 
+    void onAfterDeploymentValidation(@Observes final AfterDeploymentValidation validation,
+                                     final BeanManager beanManager) {
+        List<Class<?>> repositories = new ArrayList<>(crudTypes);
+        repositories.addAll(crudAsyncTypes);
+        RepositoryWarmUp.warmUp(validation, beanManager, repositories);
+    }
 }
@@ -30,6 +30,8 @@ import org.jnosql.artemis.model.Vendor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
 import jakarta.nosql.TypeReference;
+import jakarta.nosql.mapping.reflection.ClassMappings;
+import jakarta.nosql.mapping.reflection.FieldMapping;
 import jakarta.nosql.Value;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
@@ -65,6 +67,9 @@ public class DefaultDocumentEntityConverterTest {
     @Inject
     private DefaultDocumentEntityConverter converter;
 
+    @Inject
+    private ClassMappings classMappings;
+
     private Document[] documents;
 
     private Actor actor = Actor.actorBuilder().withAge()
@@ -127,6 +132,32 @@ public class DefaultDocumentEntityConverterTest {
     }
 
 
+    @Test
+    public void shouldIgnoreUnknownDocumentsAndReuseReadPlan() {
+        DocumentEntity entity = DocumentEntity.of("Actor");
+        entity.add(Document.of("unknown", "value"));
+        Stream.of(documents).forEach(entity::add);
+
+        for (int index = 0; index < 2; index++) {
+            Actor actor = converter.toEntity(Actor.class, entity);
+            assertEquals(10, actor.getAge());
+            assertEquals(12L, actor.getId());
+            assertEquals(Arrays.asList("234", "2342"), actor.getPhones());
+            assertEquals(Collections.singletonMap("JavaZone", "Jedi"), actor.getMovieCharacter());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void shouldFeedObjectThroughReadPlan() {
+        Map<String, FieldMapping> fields = classMappings.get(Actor.class).getFieldsGroupByName();
+        List<Document> documents = Arrays.asList(Document.of("age", "10"), Document.of("name", "Otavio"));
+        Actor actor = classMappings.get(Actor.class).newInstance();
+        Stream.of("age", "name").forEach(converter.feedObject(actor, documents, fields));
+        assertEquals(10, actor.getAge());
+        assertEquals("Otavio", actor.getName());
+    }
+
     @Test
     public void shouldConvertColumnEntityToExistEntity() {
         DocumentEntity entity = DocumentEntity.of("Actor");
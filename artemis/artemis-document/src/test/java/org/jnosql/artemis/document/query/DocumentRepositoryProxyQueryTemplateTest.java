@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document.query;
+
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentObserverParser;
+import jakarta.nosql.document.DocumentQuery;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.Repository;
+import jakarta.nosql.mapping.document.DocumentTemplate;
+import jakarta.nosql.mapping.reflection.ClassMapping;
+import jakarta.nosql.mapping.reflection.ClassMappings;
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import javax.inject.Inject;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(CDIExtension.class)
+public class DocumentRepositoryProxyQueryTemplateTest {
+
+    @Inject
+    private ClassMappings classMappings;
+
+    @Inject
+    private Converters converters;
+
+    private DocumentTemplate template;
+
+    private AtomicInteger conversions;
+
+    private PersonRepository personRepository;
+
+    @BeforeEach
+    public void setUp() {
+        this.template = Mockito.mock(DocumentTemplate.class);
+        this.conversions = new AtomicInteger();
+        DocumentRepositoryProxy<Person> handler = new DocumentRepositoryProxy<Person>(template, classMappings,
+                PersonRepository.class, converters) {
+            @Override
+            protected DocumentObserverParser getParser() {
+                return new CountingObserverParser(getClassMapping(), conversions);
+            }
+        };
+        personRepository = (PersonRepository) Proxy.newProxyInstance(PersonRepository.class.getClassLoader(),
+                new Class[]{PersonRepository.class}, handler);
+    }
+
+    @Test
+    public void shouldConvertQueryOnceAcrossCalls() {
+        when(template.singleResult(any(DocumentQuery.class))).thenReturn(Optional.empty());
+
+        personRepository.findByName("Ada");
+        personRepository.findByName("Poliana");
+        personRepository.findByName("Otavio");
+
+        assertEquals(1, conversions.get());
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template, times(3)).singleResult(captor.capture());
+        List<Document> documents = captor.getAllValues().stream()
+                .map(DocumentQuery::getCondition)
+                .map(Optional::get)
+                .map(DocumentCondition::getDocument)
+                .collect(toList());
+        assertEquals(Arrays.asList(Document.of("name", "Ada"), Document.of("name", "Poliana"),
+                Document.of("name", "Otavio")), documents);
+    }
+
+    @Test
+    public void shouldConvertDeleteQueryOnceAcrossCalls() {
+        personRepository.deleteByName("Ada");
+        personRepository.deleteByName("Poliana");
+
+        assertEquals(1, conversions.get());
+        ArgumentCaptor<DocumentDeleteQuery> captor = ArgumentCaptor.forClass(DocumentDeleteQuery.class);
+        verify(template, times(2)).delete(captor.capture());
+        assertEquals(Document.of("name", "Ada"), captor.getAllValues().get(0).getCondition().get().getDocument());
+        assertEquals(Document.of("name", "Poliana"), captor.getAllValues().get(1).getCondition().get()
+                .getDocument());
+    }
+
+    @Test
+    public void shouldBindEveryCallIndependently() {
+        personRepository.findByAgeBetween(10, 15);
+        personRepository.findByNameAndAge("Ada", 20);
+        personRepository.findByAgeBetween(30, 35);
+        personRepository.findByNameAndAge("Poliana", 25);
+
+        assertEquals(2, conversions.get());
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template, times(4)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+        assertEquals(Arrays.asList(10, 15), getBetween(queries.get(0)));
+        assertEquals(Arrays.asList(30, 35), getBetween(queries.get(2)));
+        assertEquals(Arrays.asList(Document.of("name", "Ada"), Document.of("age", 20)), getAnd(queries.get(1)));
+        assertEquals(Arrays.asList(Document.of("name", "Poliana"), Document.of("age", 25)),
+                getAnd(queries.get(3)));
+    }
+
+    private List<Object> getBetween(DocumentQuery query) {
+        List<Value> values = query.getCondition().get().getDocument().get(new TypeReference<List<Value>>() {
+        });
+        return values.stream().map(Value::get).collect(toList());
+    }
+
+    private List<Document> getAnd(DocumentQuery query) {
+        List<DocumentCondition> conditions = query.getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        return conditions.stream().map(DocumentCondition::getDocument).collect(toList());
+    }
+
+    private static class CountingObserverParser extends RepositoryDocumentObserverParser {
+
+        private final AtomicInteger conversions;
+
+        CountingObserverParser(ClassMapping classMapping, AtomicInteger conversions) {
+            super(classMapping);
+            this.conversions = conversions;
+        }
+
+        @Override
+        public String fireEntity(String entity) {
+            conversions.incrementAndGet();
+            return super.fireEntity(entity);
+        }
+    }
+
+    interface PersonRepository extends Repository<Person, Long> {
+
+        Person findByName(String name);
+
+        void deleteByName(String name);
+
+        List<Person> findByNameAndAge(String name, Integer age);
+
+        List<Person> findByAgeBetween(Integer ageA, Integer ageB);
+    }
+}
@@ -105,6 +105,30 @@ class ParamsBinderTest {
 
     }
 
+    @Test
+    public void shouldReuseBindingPlan() {
+
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals("findByAgeAndName")).findFirst().get();
+        ClassMapping classMapping = mappings.get(Person.class);
+        RepositoryDocumentObserverParser parser = new RepositoryDocumentObserverParser(classMapping);
+        paramsBinder = new ParamsBinder(classMapping, converters);
+
+        SelectQuery selectQuery = SelectMethodProvider.get().apply(method, classMapping.getName());
+        SelectQueryConverter converter = ServiceLoaderProvider.get(SelectQueryConverter.class);
+        for (long age = 10; age < 13; age++) {
+            DocumentQueryParams queryParams = converter.apply(selectQuery, parser);
+            paramsBinder.bind(queryParams.getParams(), new Object[]{age, "Ada" + age}, method);
+            DocumentCondition condition = queryParams.getQuery().getCondition().get();
+            List<Object> values = condition.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+            }).stream().map(DocumentCondition::getDocument)
+                    .map(Document::getValue)
+                    .map(Value::get).collect(Collectors.toList());
+            assertEquals((int) age, values.get(0));
+            assertEquals("Ada" + age, values.get(1));
+        }
+    }
+
 
     interface PersonRepository {
 
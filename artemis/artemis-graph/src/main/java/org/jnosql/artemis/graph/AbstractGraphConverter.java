@@ -25,6 +25,7 @@ import jakarta.nosql.mapping.reflection.ClassMapping;
 import jakarta.nosql.mapping.reflection.ClassMappings;
 import jakarta.nosql.mapping.reflection.FieldMapping;
 import jakarta.nosql.Value;
+import org.jnosql.artemis.util.WritePlans;
 
 import java.util.Collections;
 import java.util.Iterator;
@@ -32,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -43,6 +45,9 @@ import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED;
 
 abstract class AbstractGraphConverter implements GraphConverter {
 
+    private final Map<Class<?>, GraphWritePlan> writePlans = new ConcurrentHashMap<>();
+
+    private final boolean writePlanEnabled = WritePlans.isEnabled();
 
     protected abstract ClassMappings getClassMappings();
 
@@ -55,6 +60,11 @@ abstract class AbstractGraphConverter implements GraphConverter {
         requireNonNull(entity, "entity is required");
 
         ClassMapping mapping = getClassMappings().get(entity.getClass());
+        if (writePlanEnabled) {
+            GraphWritePlan plan = writePlans.computeIfAbsent(mapping.getClassInstance(),
+                    c -> GraphWritePlan.of(mapping, getConverters()));
+            return plan.write(entity, getGraph(), this);
+        }
         String label = mapping.getName();
 
         List<FieldGraph> fields = mapping.getFields().stream()
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import jakarta.nosql.mapping.AttributeConverter;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.reflection.ClassMapping;
+import jakarta.nosql.mapping.reflection.FieldMapping;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static jakarta.nosql.mapping.reflection.FieldType.EMBEDDED;
+
+/**
+ * The write plan of a {@link ClassMapping}: the id field and one writer per field, compiled at the first write of the
+ * entity class, that sets the vertex property straight from the field value. The embedded fields use the
+ * {@link GraphConverter#getProperties(Object)} path.
+ */
+final class GraphWritePlan {
+
+    private final String label;
+
+    private final FieldMapping id;
+
+    private final AttributeConverter idConverter;
+
+    private final FieldMapping[] fields;
+
+    private final PropertyWriter[] writers;
+
+    private GraphWritePlan(String label, FieldMapping id, AttributeConverter idConverter, FieldMapping[] fields,
+                           PropertyWriter[] writers) {
+        this.label = label;
+        this.id = id;
+        this.idConverter = idConverter;
+        this.fields = fields;
+        this.writers = writers;
+    }
+
+    /**
+     * Finds the vertex by the entity id, or creates it, and sets the properties of the fields with value.
+     *
+     * @param entity    the entity instance
+     * @param graph     the graph
+     * @param converter the converter used to the embedded fields
+     * @return the vertex
+     */
+    Vertex write(Object entity, Graph graph, GraphConverter converter) {
+        Vertex vertex = findOrCreate(entity, graph);
+        for (int index = 0; index < fields.length; index++) {
+            Object value = fields[index].read(entity);
+            if (value != null) {
+                writers[index].write(vertex, value, converter);
+            }
+        }
+        return vertex;
+    }
+
+    private Vertex findOrCreate(Object entity, Graph graph) {
+        Object value = id == null ? null : id.read(entity);
+        if (value == null) {
+            return graph.addVertex(label);
+        }
+        Object vertexId = idConverter == null ? value : idConverter.convertToDatabaseColumn(value);
+        Iterator<Vertex> vertices = graph.vertices(vertexId);
+        return vertices.hasNext() ? vertices.next() : graph.addVertex(T.label, label, T.id, vertexId);
+    }
+
+    static GraphWritePlan of(ClassMapping mapping, Converters converters) {
+        FieldMapping id = null;
+        List<FieldMapping> fields = new ArrayList<>();
+        List<PropertyWriter> writers = new ArrayList<>();
+        for (FieldMapping field : mapping.getFields()) {
+            if (field.isId()) {
+                if (id == null) {
+                    id = field;
+                }
+            } else {
+                fields.add(field);
+                writers.add(writer(field, converters));
+            }
+        }
+        AttributeConverter idConverter = null;
+        if (id != null && id.getConverter().isPresent()) {
+            idConverter = converters.get(id.getConverter().get());
+        }
+        return new GraphWritePlan(mapping.getName(), id, idConverter, fields.toArray(new FieldMapping[0]),
+                writers.toArray(new PropertyWriter[0]));
+    }
+
+    private static PropertyWriter writer(FieldMapping field, Converters converters) {
+        if (EMBEDDED.equals(field.getType())) {
+            return (vertex, value, converter) -> converter.getProperties(value)
+                    .forEach(p -> vertex.property(p.key(), p.value()));
+        }
+        String name = field.getName();
+        Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
+        if (optionalConverter.isPresent()) {
+            AttributeConverter attributeConverter = converters.get(optionalConverter.get());
+            return (vertex, value, converter) -> vertex.property(name, attributeConverter.convertToDatabaseColumn(value));
+        }
+        return (vertex, value, converter) -> vertex.property(name, value);
+    }
+
+    @FunctionalInterface
+    private interface PropertyWriter {
+
+        void write(Vertex vertex, Object value, GraphConverter converter);
+    }
+}
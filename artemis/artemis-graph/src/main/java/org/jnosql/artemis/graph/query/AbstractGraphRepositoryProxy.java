@@ -24,15 +24,17 @@ import jakarta.nosql.mapping.Pagination;
 import jakarta.nosql.mapping.Repository;
 import org.jnosql.artemis.graph.GraphConverter;
 import org.jnosql.artemis.graph.GraphTemplate;
-import org.jnosql.artemis.query.RepositoryType;
 import jakarta.nosql.mapping.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.DynamicQueryMethodReturn;
 import org.jnosql.artemis.reflection.DynamicReturn;
+import org.jnosql.artemis.reflection.RepositoryMethod;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -51,6 +53,8 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
 
     private final DeleteQueryConverter deleteConverter = new DeleteQueryConverter();
 
+    private final Map<Method, RepositoryMethod> methods = new ConcurrentHashMap<>();
+
     protected abstract ClassMapping getClassMapping();
 
     protected abstract Repository getRepository();
@@ -67,16 +71,17 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
 
-        RepositoryType type = RepositoryType.of(method);
+        RepositoryMethod repositoryMethod = methods.computeIfAbsent(method,
+                m -> RepositoryMethod.of(m, getClassMapping().getClassInstance()));
         Class<?> typeClass = getClassMapping().getClassInstance();
 
-        switch (type) {
+        switch (repositoryMethod.getType()) {
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                return findBy(method, args, typeClass);
+                return findBy(repositoryMethod, args, typeClass);
             case FIND_ALL:
-                return findAll(method, typeClass, args);
+                return findAll(repositoryMethod, typeClass, args);
             case DELETE_BY:
                 return executeDeleteMethod(method, args);
             case OBJECT_METHOD:
@@ -96,31 +101,31 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
         }
     }
 
-    private Object findAll(Method method, Class<?> typeClass, Object[] args) {
+    private Object findAll(RepositoryMethod repositoryMethod, Class<?> typeClass, Object[] args) {
 
         Supplier<List<?>> querySupplier = () -> {
 
             GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V().hasLabel(getClassMapping().getName());
 
-            SelectQueryConverter.setSort(args, traversal);
-            SelectQueryConverter.setPagination(args, traversal);
+            SelectQueryConverter.setSort(repositoryMethod.findSorts(args), traversal);
+            SelectQueryConverter.setPagination(repositoryMethod.findPagination(args), traversal);
             return traversal.toList()
                     .stream()
                     .map(getConverter()::toEntity)
                     .collect(toList());
         };
 
-        return converter(method, typeClass, querySupplier, args);
+        return converter(repositoryMethod, typeClass, querySupplier, args);
     }
 
 
 
-    private Object findBy(Method method, Object[] args, Class<?> typeClass) {
+    private Object findBy(RepositoryMethod repositoryMethod, Object[] args, Class<?> typeClass) {
 
         Supplier<List<?>> querySupplier = () -> {
             GraphQueryMethod queryMethod = new GraphQueryMethod(getClassMapping(),
                     getGraph().traversal().V(),
-                    getConverters(), method, args);
+                    getConverters(), repositoryMethod.getMethod(), args);
 
 
             return converter.apply(queryMethod, args)
@@ -129,16 +134,16 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
                     .collect(toList());
         };
 
-        return converter(method, typeClass, querySupplier, args);
+        return converter(repositoryMethod, typeClass, querySupplier, args);
     }
 
 
-    private Object converter(Method method, Class<?> typeClass,
+    private Object converter(RepositoryMethod repositoryMethod, Class<?> typeClass,
                              Supplier<List<?>> querySupplier,
                              Object[] args) {
 
         Supplier<Optional<?>> singleSupplier =
-                DynamicReturn.toSingleResult(method).apply(querySupplier);
+                DynamicReturn.toSingleResult(repositoryMethod.getMethod()).apply(querySupplier);
 
         Function<Pagination, Page<?>> pageFunction = p -> {
             throw new DynamicQueryException("Graph database repository does not support Page as return Type");
@@ -146,16 +151,16 @@ abstract class AbstractGraphRepositoryProxy<T, K> implements InvocationHandler {
 
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .withClassSource(typeClass)
-                .withMethodSource(method)
+                .withMethodSource(repositoryMethod.getMethod())
                 .withList(querySupplier)
                 .withSingleResult(singleSupplier)
-                .withPagination(DynamicReturn.findPagination(args))
+                .withPagination(repositoryMethod.findPagination(args))
                 .withListPagination(p -> querySupplier.get())
                 .withSingleResultPagination(p -> singleSupplier.get())
                 .withPage(pageFunction)
                 .build();
 
-        return dynamicReturn.execute();
+        return repositoryMethod.execute(dynamicReturn);
     }
 
     private Object executeDeleteMethod(Method method, Object[] args) {
@@ -44,8 +44,8 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
         GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, query::getWhere, mapping);
 
         query.getOrderBy().forEach(getSort(traversal, mapping));
-        setSort(params, traversal);
-        setPagination(params, traversal, query);
+        setSort(DynamicReturn.findSorts(params), traversal);
+        setPagination(DynamicReturn.findPagination(params), traversal, query);
         traversal.hasLabel(mapping.getName());
         return traversal.toList();
     }
@@ -62,13 +62,13 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
     }
 
 
-    static void setPagination(Object[] args, GraphTraversal<Vertex, Vertex> traversal) {
-        setPagination(args, traversal, null);
+    static void setPagination(Pagination pagination, GraphTraversal<Vertex, Vertex> traversal) {
+        setPagination(pagination, traversal, null);
     }
 
 
-    private static void setPagination(Object[] args, GraphTraversal<Vertex, Vertex> traversal, SelectQuery query) {
-        Pagination pagination = DynamicReturn.findPagination(args);
+    private static void setPagination(Pagination pagination, GraphTraversal<Vertex, Vertex> traversal,
+                                      SelectQuery query) {
         if (pagination != null) {
             traversal.skip(pagination.getSkip())
                     .limit(pagination.getLimit());
@@ -87,8 +87,7 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
 
     }
 
-    static void setSort(Object[] args, GraphTraversal<Vertex, Vertex> traversal) {
-        List<Sort> sorts = DynamicReturn.findSorts(args);
+    static void setSort(List<Sort> sorts, GraphTraversal<Vertex, Vertex> traversal) {
         if (!sorts.isEmpty()) {
             for (Sort sort : sorts) {
                 traversal.order().by(sort.getName(), sort.getType() == SortType.ASC ? asc : desc);
@@ -20,11 +20,13 @@ import org.jnosql.artemis.DatabaseMetadata;
 import org.jnosql.artemis.Databases;
 import jakarta.nosql.mapping.Repository;
 import org.jnosql.artemis.graph.query.RepositoryGraphBean;
+import org.jnosql.artemis.query.RepositoryWarmUp;
 import org.jnosql.artemis.util.ConfigurationUnitUtils;
 import org.jnosql.artemis.util.RepositoryUnit;
 
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.InjectionPoint;
@@ -112,4 +114,9 @@ public class GraphProducerExtension implements Extension {
         repositoryUnits.forEach(type -> afterBeanDiscovery.addBean(new RepositoryUnitGraphBean(beanManager, type)));
 
     }
+
+    void onAfterDeploymentValidation(@Observes final AfterDeploymentValidation validation,
+                                     final BeanManager beanManager) {
+        RepositoryWarmUp.warmUp(validation, beanManager, crudTypes);
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.reflection.ClassMappings;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.artemis.graph.cdi.CDIExtension;
+import org.jnosql.artemis.graph.model.Job;
+import org.jnosql.artemis.graph.model.Money;
+import org.jnosql.artemis.graph.model.Movie;
+import org.jnosql.artemis.graph.model.Person;
+import org.jnosql.artemis.graph.model.Worker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@ExtendWith(CDIExtension.class)
+class GraphWritePlanTest {
+
+    @Inject
+    private GraphConverter converter;
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private ClassMappings mappings;
+
+    @Inject
+    private Converters converters;
+
+    @BeforeEach
+    public void setUp() {
+        graph.traversal().V().toList().forEach(Vertex::remove);
+        graph.traversal().E().toList().forEach(Edge::remove);
+    }
+
+    @Test
+    public void shouldWriteAsGenericPath() {
+        Person person = Person.builder().withName("Otavio").withAge(30)
+                .withPhones(Arrays.asList("234", "2342")).build();
+        assertWrite(person);
+    }
+
+    @Test
+    public void shouldIgnoreNullFields() {
+        Person person = Person.builder().withName("Poliana").build();
+        assertWrite(person);
+    }
+
+    @Test
+    public void shouldWriteNativeNames() {
+        assertWrite(new Movie("Matrix", 1999, null));
+    }
+
+    @Test
+    public void shouldWriteEmbeddedAndConvertedFields() {
+        Worker worker = new Worker();
+        Job job = new Job();
+        job.setCity("Sao Paulo");
+        job.setDescription("Java Developer");
+        worker.setName("Bob");
+        worker.setSalary(new Money("BRL", BigDecimal.TEN));
+        worker.setJob(job);
+        assertWrite(worker);
+    }
+
+    @Test
+    public void shouldFindVertexById() {
+        Vertex vertex = converter.toVertex(Person.builder().withName("Ada").build());
+        Person person = Person.builder().withId((Long) vertex.id()).withName("Ada Lovelace").withAge(36).build();
+        GraphWritePlan plan = GraphWritePlan.of(mappings.get(Person.class), converters);
+
+        Vertex actual = plan.write(person, graph, converter);
+
+        assertEquals(vertex.id(), actual.id());
+        assertEquals(1L, graph.traversal().V().count().next().longValue());
+        assertEquals("Ada Lovelace", actual.value("name"));
+        assertEquals(Integer.valueOf(36), actual.value("age"));
+    }
+
+    private void assertWrite(Object entity) {
+        Vertex expected = converter.toVertex(entity);
+        GraphWritePlan plan = GraphWritePlan.of(mappings.get(entity.getClass()), converters);
+        Vertex actual = plan.write(entity, graph, converter);
+        assertNotEquals(expected.id(), actual.id());
+        assertEquals(expected.label(), actual.label());
+        assertEquals(getProperties(expected), getProperties(actual));
+    }
+
+    private Map<String, Object> getProperties(Vertex vertex) {
+        Map<String, Object> properties = new HashMap<>();
+        vertex.properties().forEachRemaining(p -> properties.put(p.key(), p.value()));
+        return properties;
+    }
+}
@@ -63,6 +63,14 @@ public abstract class AbstractKeyValueEntityConverter implements KeyValueEntityC
         return bean;
     }
 
+    /**
+     * Returns the key as the id field of the entity class keeps it, through the id {@link AttributeConverter} when
+     * it has one, so the keys of the same entity compare equal regardless of their type, such as 1 and 1L.
+     */
+    Object toEntityKey(Object key, Class<?> entityClass) {
+        return getKey(key, entityClass, true);
+    }
+
     private <T> Object getKey(Object key, Class<T> entityClass, boolean toEntity) {
         FieldMapping id = getId(entityClass);
         if (id.getConverter().isPresent()) {
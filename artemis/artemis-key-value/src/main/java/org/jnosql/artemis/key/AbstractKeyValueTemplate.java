@@ -25,13 +25,13 @@ import jakarta.nosql.mapping.key.KeyValueTemplate;
 import jakarta.nosql.mapping.key.KeyValueWorkflow;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -42,6 +42,17 @@ import static java.util.stream.Collectors.toList;
  */
 public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
+    /**
+     * The system property that defines how many keys or entities go to the {@link BucketManager} in each bulk
+     * operation of {@link #get(Iterable, Class)}, {@link #put(Iterable)} and {@link #put(Iterable, Duration)}
+     */
+    public static final String CHUNK_SIZE_PROPERTY = "org.jnosql.artemis.key.chunk.size";
+
+    /**
+     * The chunk size when the {@value #CHUNK_SIZE_PROPERTY} system property is not defined
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
@@ -74,6 +85,48 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         return getFlow().flow(entity, putAction);
     }
 
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return putChunks(entities, getChunkSize(), k -> getManager().put(k));
+    }
+
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl class is required");
+        return putChunks(entities, getChunkSize(), k -> getManager().put(k, ttl));
+    }
+
+    /**
+     * Saves all the entities in a single {@link BucketManager#put(Iterable)} call, regardless of the chunk size.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return the entities
+     * @throws NullPointerException when entities is null
+     */
+    public <T> Iterable<T> putAll(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return putChunks(entities, Integer.MAX_VALUE, k -> getManager().put(k));
+    }
+
+    /**
+     * Saves all the entities in a single {@link BucketManager#put(Iterable, Duration)} call, regardless of the
+     * chunk size.
+     *
+     * @param entities the entities
+     * @param ttl      the time to live
+     * @param <T>      the entity type
+     * @return the entities
+     * @throws NullPointerException when either entities or ttl is null
+     */
+    public <T> Iterable<T> putAll(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl class is required");
+        return putChunks(entities, Integer.MAX_VALUE, k -> getManager().put(k, ttl));
+    }
+
     @Override
     public <K, T> Optional<T> get(K key, Class<T> entityClass) {
         requireNonNull(key, "key is required");
@@ -88,12 +141,20 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> entityClass) {
         requireNonNull(keys, "keys is required");
         requireNonNull(entityClass, "entity class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(entityClass, e.get()))
-                .collect(Collectors.toList());
+        int chunkSize = getChunkSize();
+        List<T> entities = new ArrayList<>();
+        List<K> chunk = new ArrayList<>();
+        for (K key : keys) {
+            chunk.add(requireNonNull(key, "key is required"));
+            if (chunk.size() == chunkSize) {
+                addEntities(chunk, entityClass, entities);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            addEntities(chunk, entityClass, entities);
+        }
+        return entities;
     }
 
     @Override
@@ -143,4 +204,73 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         return new org.jnosql.artemis.key.KeyValuePreparedStatement(getManager().prepare(query), entityClass);
     }
 
+    /**
+     * Returns how many keys or entities go to the {@link BucketManager} in each bulk operation, by default the
+     * {@value #CHUNK_SIZE_PROPERTY} system property or {@value #DEFAULT_CHUNK_SIZE}.
+     *
+     * @return the chunk size
+     */
+    protected int getChunkSize() {
+        int chunkSize = Integer.getInteger(CHUNK_SIZE_PROPERTY, DEFAULT_CHUNK_SIZE);
+        if (chunkSize <= 0) {
+            throw new IllegalStateException("The chunk size must be greater than zero: " + chunkSize);
+        }
+        return chunkSize;
+    }
+
+    /**
+     * {@link BucketManager#get(Iterable)} returns the values without their keys, in the order of the keys. When every
+     * key is found, each value is paired with its key and goes through {@link KeyValueEntityConverter#toEntity(Class,
+     * KeyValueEntity)}, as {@link #get(Object, Class)} does; otherwise, the position of a value does not tell its key,
+     * so the keys are split in two halves that are read again, until each value is paired with its key.
+     */
+    private <K, T> void addEntities(List<K> keys, Class<T> entityClass, List<T> entities) {
+        List<Value> values = new ArrayList<>(keys.size());
+        getManager().get(keys).forEach(values::add);
+        if (values.size() == keys.size()) {
+            for (int index = 0; index < values.size(); index++) {
+                KeyValueEntity keyValue = KeyValueEntity.of(keys.get(index), values.get(index));
+                T entity = getConverter().toEntity(entityClass, keyValue);
+                if (Objects.nonNull(entity)) {
+                    entities.add(entity);
+                }
+            }
+        } else if (keys.size() > 1 && !values.isEmpty()) {
+            int half = keys.size() / 2;
+            addEntities(keys.subList(0, half), entityClass, entities);
+            addEntities(keys.subList(half, keys.size()), entityClass, entities);
+        }
+    }
+
+    private <T> List<T> putChunks(Iterable<T> entities, int chunkSize, Consumer<List<KeyValueEntity>> action) {
+        List<T> result = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        for (T entity : entities) {
+            chunk.add(entity);
+            if (chunk.size() == chunkSize) {
+                result.addAll(putChunk(chunk, action));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(putChunk(chunk, action));
+        }
+        return result;
+    }
+
+    private <T> List<T> putChunk(List<T> chunk, Consumer<List<KeyValueEntity>> action) {
+        KeyValueWorkflow flow = getFlow();
+        if (flow instanceof AbstractKeyValueWorkflow) {
+            return ((AbstractKeyValueWorkflow) flow).flow(chunk, action);
+        }
+        List<T> result = new ArrayList<>(chunk.size());
+        for (T entity : chunk) {
+            result.add(flow.flow(entity, k -> {
+                action.accept(Collections.singletonList(k));
+                return k;
+            }));
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import jakarta.nosql.mapping.key.KeyValueEntityConverter;
+import jakarta.nosql.mapping.key.KeyValueTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class provides a skeletal implementation of the {@link KeyValueTemplateAsync} interface, it runs the
+ * {@link KeyValueTemplate} operations on an {@link Executor} and, when the {@value #BATCH_WINDOW_PROPERTY} system
+ * property enables it, groups the concurrent {@link #get(Object, Class)} calls in bulk gets.
+ */
+public abstract class AbstractKeyValueTemplateAsync implements KeyValueTemplateAsync {
+
+    /**
+     * The system property that defines, in microseconds, how long the concurrent gets wait to be grouped in a
+     * single bulk get. Zero, the default, disables the grouping, so an isolated get does not wait for the window.
+     */
+    public static final String BATCH_WINDOW_PROPERTY = "org.jnosql.artemis.key.async.batch.window";
+
+    /**
+     * The batch window when the {@value #BATCH_WINDOW_PROPERTY} system property is not defined
+     */
+    public static final long DEFAULT_BATCH_WINDOW = 0L;
+
+    private volatile KeyValueGetBatcher batcher;
+
+    protected abstract KeyValueTemplate getTemplate();
+
+    protected abstract KeyValueEntityConverter getConverter();
+
+    /**
+     * Returns the executor of the operations, by default it runs a virtual thread per task when the JVM has them,
+     * otherwise a cached pool of daemon threads.
+     *
+     * @return the executor
+     */
+    protected Executor getExecutor() {
+        return KeyValueExecutors.getDefault();
+    }
+
+    /**
+     * Returns how long, in microseconds, the concurrent gets wait to be grouped, by default the
+     * {@value #BATCH_WINDOW_PROPERTY} system property or {@value #DEFAULT_BATCH_WINDOW}.
+     *
+     * @return the batch window, zero or less to disable the grouping
+     */
+    protected long getBatchWindow() {
+        return Long.getLong(BATCH_WINDOW_PROPERTY, DEFAULT_BATCH_WINDOW);
+    }
+
+    /**
+     * Returns the number of keys that closes a batch before its window, by default the
+     * {@value AbstractKeyValueTemplate#CHUNK_SIZE_PROPERTY} system property or
+     * {@value AbstractKeyValueTemplate#DEFAULT_CHUNK_SIZE}.
+     *
+     * @return the maximum batch size
+     */
+    protected int getBatchSize() {
+        int batchSize = Integer.getInteger(AbstractKeyValueTemplate.CHUNK_SIZE_PROPERTY,
+                AbstractKeyValueTemplate.DEFAULT_CHUNK_SIZE);
+        if (batchSize <= 0) {
+            throw new IllegalStateException("The batch size must be greater than zero: " + batchSize);
+        }
+        return batchSize;
+    }
+
+    @Override
+    public <T> CompletionStage<T> put(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> getTemplate().put(entity), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<T> put(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl class is required");
+        return CompletableFuture.supplyAsync(() -> getTemplate().put(entity, ttl), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> put(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletableFuture.supplyAsync(() -> getTemplate().put(entities), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> put(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl class is required");
+        return CompletableFuture.supplyAsync(() -> getTemplate().put(entities, ttl), getExecutor());
+    }
+
+    @Override
+    public <K, T> CompletionStage<Optional<T>> get(K key, Class<T> entityClass) {
+        requireNonNull(key, "key is required");
+        requireNonNull(entityClass, "entity class is required");
+        if (getBatchWindow() <= 0) {
+            return CompletableFuture.supplyAsync(() -> getTemplate().get(key, entityClass), getExecutor());
+        }
+        return getBatcher().get(key, entityClass);
+    }
+
+    @Override
+    public <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> entityClass) {
+        requireNonNull(keys, "keys is required");
+        requireNonNull(entityClass, "entity class is required");
+        return CompletableFuture.supplyAsync(() -> getTemplate().get(keys, entityClass), getExecutor());
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(K key) {
+        requireNonNull(key, "key is required");
+        return CompletableFuture.runAsync(() -> getTemplate().remove(key), getExecutor());
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        return CompletableFuture.runAsync(() -> getTemplate().remove(keys), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> query(String query, Class<T> entityClass) {
+        requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> getTemplate().query(query, entityClass), getExecutor());
+    }
+
+    private KeyValueGetBatcher getBatcher() {
+        KeyValueGetBatcher current = batcher;
+        if (current == null) {
+            synchronized (this) {
+                current = batcher;
+                if (current == null) {
+                    current = new KeyValueGetBatcher(getTemplate(), getConverter(), getExecutor(),
+                            getBatchWindow(), getBatchSize());
+                    batcher = current;
+                }
+            }
+        }
+        return current;
+    }
+}
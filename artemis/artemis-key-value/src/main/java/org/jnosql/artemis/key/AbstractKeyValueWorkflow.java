@@ -19,7 +19,10 @@ import jakarta.nosql.mapping.key.KeyValueEntityConverter;
 import jakarta.nosql.mapping.key.KeyValueEventPersistManager;
 import jakarta.nosql.mapping.key.KeyValueWorkflow;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -40,6 +43,44 @@ public abstract class AbstractKeyValueWorkflow implements KeyValueWorkflow {
 
     }
 
+    /**
+     * Executes the workflow to several entities at once: the pre events are fired to each entity, then the action
+     * receives all the {@link KeyValueEntity} of the list, then the post events are fired to each entity.
+     *
+     * @param entities the entities
+     * @param action   the action that receives the key-value entities, in the same order of the entities
+     * @param <T>      the entity type
+     * @return the entities after the workflow
+     * @throws NullPointerException when either entities, an entity or action is null
+     */
+    public <T> List<T> flow(List<T> entities, Consumer<List<KeyValueEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<KeyValueEntity> keyValues = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            getEventPersistManager().firePreEntity(entity);
+            getEventPersistManager().firePreKeyValueEntity(entity);
+            KeyValueEntity keyValue = getConverter().toKeyValue(entity);
+            getEventPersistManager().firePreKeyValue(keyValue);
+            keyValues.add(keyValue);
+        }
+
+        action.accept(keyValues);
+
+        List<T> result = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            KeyValueEntity keyValue = keyValues.get(index);
+            getEventPersistManager().firePostKeyValue(keyValue);
+            T entity = getConverter().toEntity((Class<T>) entities.get(index).getClass(), keyValue);
+            getEventPersistManager().firePostEntity(entity);
+            getEventPersistManager().firePostKeyValueEntity(entity);
+            result.add(entity);
+        }
+        return result;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<KeyValueEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+
+import jakarta.nosql.key.BucketManager;
+import jakarta.nosql.mapping.key.KeyValueEntityConverter;
+import jakarta.nosql.mapping.key.KeyValueTemplate;
+import jakarta.nosql.mapping.key.KeyValueTemplateProducer;
+
+import javax.enterprise.inject.Vetoed;
+import javax.inject.Inject;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+class DefaultKeyValueTemplateAsyncProducer implements KeyValueTemplateAsyncProducer {
+
+    @Inject
+    private KeyValueTemplateProducer producer;
+
+    @Inject
+    private KeyValueEntityConverter converter;
+
+    @Override
+    public KeyValueTemplateAsync get(BucketManager manager) {
+        return get(manager, KeyValueExecutors.getDefault());
+    }
+
+    @Override
+    public KeyValueTemplateAsync get(BucketManager manager, Executor executor) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new ProducerKeyValueTemplateAsync(producer.get(manager), converter, executor);
+    }
+
+    @Vetoed
+    static class ProducerKeyValueTemplateAsync extends AbstractKeyValueTemplateAsync {
+
+        private KeyValueTemplate template;
+
+        private KeyValueEntityConverter converter;
+
+        private Executor executor;
+
+        ProducerKeyValueTemplateAsync(KeyValueTemplate template, KeyValueEntityConverter converter,
+                                      Executor executor) {
+            this.template = template;
+            this.converter = converter;
+            this.executor = executor;
+        }
+
+        ProducerKeyValueTemplateAsync() {
+        }
+
+        @Override
+        protected KeyValueTemplate getTemplate() {
+            return template;
+        }
+
+        @Override
+        protected KeyValueEntityConverter getConverter() {
+            return converter;
+        }
+
+        @Override
+        protected Executor getExecutor() {
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The shared executors of the asynchronous key-value operations. The default executor starts a virtual thread
+ * per task when the JVM has them, otherwise it is a cached pool of daemon threads, since the tasks block on the
+ * bucket.
+ */
+final class KeyValueExecutors {
+
+    private static final Logger LOGGER = Logger.getLogger(KeyValueExecutors.class.getName());
+
+    private KeyValueExecutors() {
+    }
+
+    /**
+     * @return the default executor of the asynchronous key-value operations
+     */
+    static Executor getDefault() {
+        return DefaultHolder.EXECUTOR;
+    }
+
+    /**
+     * @return the scheduler that closes the window of the batched gets
+     */
+    static ScheduledExecutorService getScheduler() {
+        return SchedulerHolder.SCHEDULER;
+    }
+
+    private static ExecutorService createDefault() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            LOGGER.log(Level.FINEST, "There are no virtual threads, using a cached thread pool", exception);
+            return Executors.newCachedThreadPool(new DaemonThreadFactory("jnosql-key-value-async-"));
+        }
+    }
+
+    private static class DefaultHolder {
+        private static final Executor EXECUTOR = createDefault();
+    }
+
+    private static class SchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER = Executors
+                .newSingleThreadScheduledExecutor(new DaemonThreadFactory("jnosql-key-value-batch-"));
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private final String prefix;
+
+        DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
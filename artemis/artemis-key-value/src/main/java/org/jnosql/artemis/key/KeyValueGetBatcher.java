@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import jakarta.nosql.mapping.key.KeyValueEntityConverter;
+import jakarta.nosql.mapping.key.KeyValueTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups the concurrent single-key gets of a bucket. The first get of an entity class opens a window, and when it
+ * closes, or when the batch reaches its maximum size, all the keys are read in a single
+ * {@link KeyValueTemplate#get(Iterable, Class)} call. The bulk call returns the entities without their keys, so each
+ * entity is matched to its request by the key of {@link KeyValueEntityConverter#toKeyValue(Object)}, both keys
+ * converted to the id field type of the entity when the converter is an {@link AbstractKeyValueEntityConverter};
+ * a key without a match is read alone, hence a missing key costs a second call.
+ */
+final class KeyValueGetBatcher {
+
+    private final KeyValueTemplate template;
+
+    private final KeyValueEntityConverter converter;
+
+    private final Executor executor;
+
+    private final long window;
+
+    private final int maxSize;
+
+    private final Map<Class<?>, List<Request>> pending = new HashMap<>();
+
+    /**
+     * @param template  the template that reads the bucket
+     * @param converter the converter that gives the key of the entities
+     * @param executor  the executor of the bulk calls
+     * @param window    the window in microseconds
+     * @param maxSize   the number of keys that closes the window earlier
+     */
+    KeyValueGetBatcher(KeyValueTemplate template, KeyValueEntityConverter converter, Executor executor,
+                       long window, int maxSize) {
+        this.template = template;
+        this.converter = converter;
+        this.executor = executor;
+        this.window = window;
+        this.maxSize = maxSize;
+    }
+
+    <T> CompletableFuture<Optional<T>> get(Object key, Class<T> entityClass) {
+        Request request = new Request(key);
+        List<Request> full = null;
+        synchronized (this) {
+            List<Request> requests = pending.computeIfAbsent(entityClass, k -> new ArrayList<>());
+            requests.add(request);
+            if (requests.size() >= maxSize) {
+                full = pending.remove(entityClass);
+            } else if (requests.size() == 1) {
+                KeyValueExecutors.getScheduler().schedule(() -> flush(entityClass), window, TimeUnit.MICROSECONDS);
+            }
+        }
+        if (full != null) {
+            List<Request> requests = full;
+            executor.execute(() -> load(requests, entityClass));
+        }
+        return (CompletableFuture<Optional<T>>) (CompletableFuture<?>) request.result;
+    }
+
+    private void flush(Class<?> entityClass) {
+        List<Request> requests;
+        synchronized (this) {
+            requests = pending.remove(entityClass);
+        }
+        if (requests != null) {
+            try {
+                executor.execute(() -> load(requests, entityClass));
+            } catch (RuntimeException exception) {
+                requests.forEach(r -> r.result.completeExceptionally(exception));
+            }
+        }
+    }
+
+    private void load(List<Request> requests, Class<?> entityClass) {
+        try {
+            LinkedHashSet<Object> keys = new LinkedHashSet<>();
+            requests.forEach(r -> keys.add(r.key));
+            Map<Object, Object> entities = new HashMap<>();
+            for (Object entity : template.get(keys, entityClass)) {
+                entities.put(toEntityKey(converter.toKeyValue(entity).getKey(), entityClass), entity);
+            }
+            for (Request request : requests) {
+                Object entity = entities.get(toEntityKey(request.key, entityClass));
+                if (entity == null) {
+                    request.result.complete(template.get(request.key, entityClass));
+                } else {
+                    request.result.complete(Optional.of(entity));
+                }
+            }
+        } catch (RuntimeException exception) {
+            requests.forEach(r -> r.result.completeExceptionally(exception));
+        }
+    }
+
+    private Object toEntityKey(Object key, Class<?> entityClass) {
+        if (converter instanceof AbstractKeyValueEntityConverter) {
+            return ((AbstractKeyValueEntityConverter) converter).toEntityKey(key, entityClass);
+        }
+        return key;
+    }
+
+    private static class Request {
+
+        private final Object key;
+
+        private final CompletableFuture<Optional<?>> result = new CompletableFuture<>();
+
+        Request(Object key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous key-value repository, every operation returns a {@link CompletionStage}. An interface that
+ * extends it is implemented by a proxy on top of {@link KeyValueTemplateAsync}.
+ *
+ * @param <T> the entity type
+ * @param <K> the key type
+ */
+public interface KeyValueRepositoryAsync<T, K> {
+
+    /**
+     * Saves the entity
+     *
+     * @param entity the entity
+     * @param <S>    the entity type
+     * @return the stage of the saved entity
+     * @throws NullPointerException when entity is null
+     */
+    <S extends T> CompletionStage<S> save(S entity);
+
+    /**
+     * Saves the entities
+     *
+     * @param entities the entities
+     * @param <S>      the entity type
+     * @return the stage of the saved entities
+     * @throws NullPointerException when entities is null
+     */
+    <S extends T> CompletionStage<Iterable<S>> save(Iterable<S> entities);
+
+    /**
+     * Deletes the entity from the key
+     *
+     * @param key the key
+     * @return the stage that completes when the entity is deleted
+     * @throws NullPointerException when key is null
+     */
+    CompletionStage<Void> deleteById(K key);
+
+    /**
+     * Deletes the entities from the keys
+     *
+     * @param keys the keys
+     * @return the stage that completes when the entities are deleted
+     * @throws NullPointerException when keys is null
+     */
+    CompletionStage<Void> deleteById(Iterable<K> keys);
+
+    /**
+     * Finds the entity from the key
+     *
+     * @param key the key
+     * @return the stage of the entity, empty when the key is not found
+     * @throws NullPointerException when key is null
+     */
+    CompletionStage<Optional<T>> findById(K key);
+
+    /**
+     * Finds the entities from the keys
+     *
+     * @param keys the keys
+     * @return the stage of the entities found
+     * @throws NullPointerException when keys is null
+     */
+    CompletionStage<Iterable<T>> findById(Iterable<K> keys);
+
+    /**
+     * Checks whether the key exists
+     *
+     * @param key the key
+     * @return the stage of true when the key exists
+     * @throws NullPointerException when key is null
+     */
+    CompletionStage<Boolean> existsById(K key);
+}
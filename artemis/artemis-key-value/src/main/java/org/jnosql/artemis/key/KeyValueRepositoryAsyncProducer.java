@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import jakarta.nosql.key.BucketManager;
+
+/**
+ * The producer of {@link KeyValueRepositoryAsync}
+ */
+public interface KeyValueRepositoryAsyncProducer {
+
+    /**
+     * creates a {@link KeyValueRepositoryAsync}
+     *
+     * @param repositoryClass the repository interface
+     * @param manager         the manager
+     * @param <T>             the entity type
+     * @param <K>             the key type
+     * @param <R>             the repository type
+     * @return a new repository
+     * @throws NullPointerException when either repositoryClass or manager is null
+     */
+    <T, K, R extends KeyValueRepositoryAsync<T, K>> R get(Class<R> repositoryClass, BucketManager manager);
+
+    /**
+     * creates a {@link KeyValueRepositoryAsync}
+     *
+     * @param repositoryClass the repository interface
+     * @param template        the template
+     * @param <T>             the entity type
+     * @param <K>             the key type
+     * @param <R>             the repository type
+     * @return a new repository
+     * @throws NullPointerException when either repositoryClass or template is null
+     */
+    <T, K, R extends KeyValueRepositoryAsync<T, K>> R get(Class<R> repositoryClass, KeyValueTemplateAsync template);
+}
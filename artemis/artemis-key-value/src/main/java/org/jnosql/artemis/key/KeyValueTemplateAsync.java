@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous version of {@link jakarta.nosql.mapping.key.KeyValueTemplate}. Each operation returns a
+ * {@link CompletionStage} that completes when the bucket answers, so the caller thread does not wait for it.
+ */
+public interface KeyValueTemplateAsync {
+
+    /**
+     * Saves the entity
+     *
+     * @param entity the entity to be saved
+     * @param <T>    the entity type
+     * @return the stage of the saved entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> put(T entity);
+
+    /**
+     * Saves the entity with time to live
+     *
+     * @param entity the entity to be saved
+     * @param ttl    the time to live
+     * @param <T>    the entity type
+     * @return the stage of the saved entity
+     * @throws NullPointerException when either entity or ttl is null
+     */
+    <T> CompletionStage<T> put(T entity, Duration ttl);
+
+    /**
+     * Saves the entities
+     *
+     * @param entities the entities to be saved
+     * @param <T>      the entity type
+     * @return the stage of the saved entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> put(Iterable<T> entities);
+
+    /**
+     * Saves the entities with time to live
+     *
+     * @param entities the entities to be saved
+     * @param ttl      the time to live
+     * @param <T>      the entity type
+     * @return the stage of the saved entities
+     * @throws NullPointerException when either entities or ttl is null
+     */
+    <T> CompletionStage<Iterable<T>> put(Iterable<T> entities, Duration ttl);
+
+    /**
+     * Finds the entity from the key. The concurrent calls to the same bucket might be grouped in a single bulk
+     * call to {@link jakarta.nosql.key.BucketManager#get(Iterable)}.
+     *
+     * @param key         the key
+     * @param entityClass the entity class
+     * @param <K>         the key type
+     * @param <T>         the entity type
+     * @return the stage of the entity, empty when the key is not found
+     * @throws NullPointerException when either key or entityClass is null
+     */
+    <K, T> CompletionStage<Optional<T>> get(K key, Class<T> entityClass);
+
+    /**
+     * Finds the entities from the keys
+     *
+     * @param keys        the keys
+     * @param entityClass the entity class
+     * @param <K>         the key type
+     * @param <T>         the entity type
+     * @return the stage of the entities found
+     * @throws NullPointerException when either keys or entityClass is null
+     */
+    <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> entityClass);
+
+    /**
+     * Removes the entity from the key
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the stage that completes when the entity is removed
+     * @throws NullPointerException when key is null
+     */
+    <K> CompletionStage<Void> remove(K key);
+
+    /**
+     * Removes the entities from the keys
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the stage that completes when the entities are removed
+     * @throws NullPointerException when keys is null
+     */
+    <K> CompletionStage<Void> remove(Iterable<K> keys);
+
+    /**
+     * Executes a query on the bucket
+     *
+     * @param query       the query
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return the stage of the query result
+     * @throws NullPointerException when query is null
+     */
+    <T> CompletionStage<List<T>> query(String query, Class<T> entityClass);
+}
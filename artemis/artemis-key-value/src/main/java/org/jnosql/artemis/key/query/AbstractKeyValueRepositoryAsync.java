@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key.query;
+
+import org.jnosql.artemis.key.KeyValueRepositoryAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The template method to the asynchronous key-value repository
+ */
+public abstract class AbstractKeyValueRepositoryAsync<T> implements KeyValueRepositoryAsync {
+
+
+    private final Class<T> typeClass;
+
+
+    protected abstract KeyValueTemplateAsync getTemplate();
+
+    public AbstractKeyValueRepositoryAsync(Class<T> typeClass) {
+        this.typeClass = typeClass;
+    }
+
+
+    @Override
+    public CompletionStage save(Object entity) {
+        return getTemplate().put(entity);
+    }
+
+    @Override
+    public CompletionStage save(Iterable entities) {
+        return getTemplate().put(entities);
+    }
+
+    @Override
+    public CompletionStage<Void> deleteById(Object key) {
+        return getTemplate().remove(key);
+    }
+
+    @Override
+    public CompletionStage<Void> deleteById(Iterable keys) {
+        return getTemplate().remove(keys);
+    }
+
+    @Override
+    public CompletionStage<Optional> findById(Object key) {
+        return (CompletionStage) getTemplate().get(key, typeClass);
+    }
+
+    @Override
+    public CompletionStage<Iterable> findById(Iterable keys) {
+        return (CompletionStage) getTemplate().get(keys, typeClass);
+    }
+
+    @Override
+    public CompletionStage<Boolean> existsById(Object key) {
+        return getTemplate().get(key, typeClass).thenApply(Optional::isPresent);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key.query;
+
+import jakarta.nosql.mapping.DynamicQueryException;
+import org.jnosql.artemis.key.KeyValueRepositoryAsync;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+/**
+ * The template method to {@link KeyValueRepositoryAsync}
+ *
+ * @param <T> the entity type
+ */
+public abstract class AbstractKeyValueRepositoryAsyncProxy<T> implements InvocationHandler {
+
+
+    protected abstract KeyValueRepositoryAsync getRepository();
+
+    @Override
+    public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
+
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (KeyValueRepositoryAsync.class.equals(declaringClass)) {
+            return method.invoke(getRepository(), args);
+        }
+        if (Object.class.equals(declaringClass)) {
+            return method.invoke(this, args);
+        }
+        throw new DynamicQueryException("Key Value repository async does not support query method");
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key.query;
+
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+
+class DefaultKeyValueRepositoryAsync<T> extends AbstractKeyValueRepositoryAsync<T> {
+
+
+    private final KeyValueTemplateAsync template;
+
+    DefaultKeyValueRepositoryAsync(Class<T> typeClass, KeyValueTemplateAsync template) {
+        super(typeClass);
+        this.template = template;
+    }
+
+    @Override
+    protected KeyValueTemplateAsync getTemplate() {
+        return template;
+    }
+}
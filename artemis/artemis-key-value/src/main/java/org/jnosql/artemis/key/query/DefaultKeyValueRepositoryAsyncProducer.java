@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key.query;
+
+import jakarta.nosql.key.BucketManager;
+import org.jnosql.artemis.key.KeyValueRepositoryAsync;
+import org.jnosql.artemis.key.KeyValueRepositoryAsyncProducer;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsyncProducer;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+
+@ApplicationScoped
+class DefaultKeyValueRepositoryAsyncProducer implements KeyValueRepositoryAsyncProducer {
+
+    @Inject
+    private KeyValueTemplateAsyncProducer producer;
+
+    @Override
+    public <T, K, R extends KeyValueRepositoryAsync<T, K>> R get(Class<R> repositoryClass, BucketManager manager) {
+        Objects.requireNonNull(repositoryClass, "repository class is required");
+        Objects.requireNonNull(manager, "manager class is required");
+        KeyValueTemplateAsync template = producer.get(manager);
+        return get(repositoryClass, template);
+    }
+
+    @Override
+    public <T, K, R extends KeyValueRepositoryAsync<T, K>> R get(Class<R> repositoryClass,
+                                                                  KeyValueTemplateAsync template) {
+        Objects.requireNonNull(repositoryClass, "repository class is required");
+        Objects.requireNonNull(template, "template class is required");
+
+        KeyValueRepositoryAsyncProxy<T> handler = new KeyValueRepositoryAsyncProxy<>(repositoryClass, template);
+        return (R) Proxy.newProxyInstance(repositoryClass.getClassLoader(),
+                new Class[]{repositoryClass},
+                handler);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key.query;
+
+
+import org.jnosql.artemis.key.KeyValueRepositoryAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+
+import java.lang.reflect.ParameterizedType;
+
+class KeyValueRepositoryAsyncProxy<T> extends AbstractKeyValueRepositoryAsyncProxy<T> {
+
+    private final DefaultKeyValueRepositoryAsync repository;
+
+    KeyValueRepositoryAsyncProxy(Class<?> repositoryType, KeyValueTemplateAsync template) {
+        Class<T> typeClass = (Class) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
+                .getActualTypeArguments()[0];
+        this.repository = new DefaultKeyValueRepositoryAsync(typeClass, template);
+    }
+
+    @Override
+    protected KeyValueRepositoryAsync getRepository() {
+        return repository;
+    }
+}
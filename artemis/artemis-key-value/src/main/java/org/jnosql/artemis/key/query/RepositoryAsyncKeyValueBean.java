@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key.query;
+
+import jakarta.nosql.mapping.DatabaseType;
+import org.jnosql.artemis.DatabaseQualifier;
+import org.jnosql.artemis.key.KeyValueRepositoryAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+import org.jnosql.artemis.spi.AbstractBean;
+import org.jnosql.artemis.util.AnnotationLiteralUtil;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.BeanManager;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Artemis discoveryBean to CDI extension to register {@link KeyValueRepositoryAsync}
+ */
+public class RepositoryAsyncKeyValueBean extends AbstractBean<KeyValueRepositoryAsync> {
+
+    private final Class type;
+
+    private final Set<Type> types;
+
+    private final String provider;
+
+    private final Set<Annotation> qualifiers;
+
+    /**
+     * Constructor
+     *
+     * @param type        the tye
+     * @param beanManager the beanManager
+     * @param provider    the provider name, that must be a
+     */
+    public RepositoryAsyncKeyValueBean(Class type, BeanManager beanManager, String provider) {
+        super(beanManager);
+        this.type = type;
+        this.types = Collections.singleton(type);
+        this.provider = provider;
+        if (provider.isEmpty()) {
+            this.qualifiers = new HashSet<>();
+            qualifiers.add(DatabaseQualifier.ofKeyValue());
+            qualifiers.add(AnnotationLiteralUtil.DEFAULT_ANNOTATION);
+        } else {
+            this.qualifiers = Collections.singleton(DatabaseQualifier.ofKeyValue(provider));
+        }
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return type;
+    }
+
+
+    @Override
+    public KeyValueRepositoryAsync create(CreationalContext<KeyValueRepositoryAsync> creationalContext) {
+        KeyValueTemplateAsync template = provider.isEmpty() ? getInstance(KeyValueTemplateAsync.class) :
+                getInstance(KeyValueTemplateAsync.class, DatabaseQualifier.ofKeyValue(provider));
+        KeyValueRepositoryAsyncProxy handler = new KeyValueRepositoryAsyncProxy(type, template);
+        return (KeyValueRepositoryAsync) Proxy.newProxyInstance(type.getClassLoader(),
+                new Class[]{type},
+                handler);
+    }
+
+
+    @Override
+    public Set<Type> getTypes() {
+        return types;
+    }
+
+    @Override
+    public Set<Annotation> getQualifiers() {
+        return qualifiers;
+    }
+
+    @Override
+    public String getId() {
+        return type.getName() + "@Async" + DatabaseType.KEY_VALUE + "-" + provider;
+    }
+
+}
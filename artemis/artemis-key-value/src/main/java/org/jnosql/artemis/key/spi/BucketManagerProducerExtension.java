@@ -19,6 +19,8 @@ import jakarta.nosql.mapping.ConfigurationUnit;
 import org.jnosql.artemis.DatabaseMetadata;
 import org.jnosql.artemis.Databases;
 import jakarta.nosql.mapping.Repository;
+import org.jnosql.artemis.key.KeyValueRepositoryAsync;
+import org.jnosql.artemis.key.query.RepositoryAsyncKeyValueBean;
 import org.jnosql.artemis.key.query.RepositoryKeyValueBean;
 import org.jnosql.artemis.util.RepositoryUnit;
 import org.jnosql.artemis.util.ConfigurationUnitUtils;
@@ -43,8 +45,10 @@ import java.util.logging.Logger;
 import static jakarta.nosql.mapping.DatabaseType.KEY_VALUE;
 
 /**
- * Extension to start up {@link jakarta.nosql.mapping.key.KeyValueTemplate} and {@link jakarta.nosql.mapping.Repository}
- * from the {@link javax.enterprise.inject.Default} and {@link jakarta.nosql.mapping.Database} qualifier
+ * Extension to start up {@link jakarta.nosql.mapping.key.KeyValueTemplate},
+ * {@link org.jnosql.artemis.key.KeyValueTemplateAsync}, {@link jakarta.nosql.mapping.Repository} and
+ * {@link KeyValueRepositoryAsync} from the {@link javax.enterprise.inject.Default} and
+ * {@link jakarta.nosql.mapping.Database} qualifier
  */
 public class BucketManagerProducerExtension implements Extension {
 
@@ -54,6 +58,8 @@ public class BucketManagerProducerExtension implements Extension {
 
     private final Collection<Class<?>> crudTypes = new HashSet<>();
 
+    private final Collection<Class<?>> crudAsyncTypes = new HashSet<>();
+
     private final Collection<RepositoryUnit> repositoryUnits = new HashSet<>();
 
     <T, X extends BucketManager> void observes(@Observes final ProcessProducer<T, X> pp) {
@@ -74,6 +80,20 @@ public class BucketManagerProducerExtension implements Extension {
         }
     }
 
+    <T extends KeyValueRepositoryAsync> void observesAsync(@Observes final ProcessAnnotatedType<T> repo) {
+        Class<T> javaClass = repo.getAnnotatedType().getJavaClass();
+
+        if (KeyValueRepositoryAsync.class.equals(javaClass)) {
+            return;
+        }
+
+        if (Arrays.asList(javaClass.getInterfaces()).contains(KeyValueRepositoryAsync.class)
+                && Modifier.isInterface(javaClass.getModifiers())) {
+            LOGGER.info("Adding a new KeyValueRepositoryAsync as discovered on key-value: " + javaClass);
+            crudAsyncTypes.add(javaClass);
+        }
+    }
+
     <T, R extends Repository<?, ?>> void observes(@Observes ProcessInjectionPoint<T, R> event) {
 
         InjectionPoint injectionPoint = event.getInjectionPoint();
@@ -94,12 +114,13 @@ public class BucketManagerProducerExtension implements Extension {
     }
 
     void onAfterBeanDiscovery(@Observes final AfterBeanDiscovery afterBeanDiscovery, final BeanManager beanManager) {
-        LOGGER.info(String.format("Processing buckets: %d databases crud %d ",
-                databases.size(), crudTypes.size()));
+        LOGGER.info(String.format("Processing buckets: %d databases crud %d crudAsync %d",
+                databases.size(), crudTypes.size(), crudAsyncTypes.size()));
 
         databases.forEach(type -> {
             final TemplateBean bean = new TemplateBean(beanManager, type.getProvider());
             afterBeanDiscovery.addBean(bean);
+            afterBeanDiscovery.addBean(new TemplateAsyncBean(beanManager, type.getProvider()));
         });
 
         crudTypes.forEach(type -> {
@@ -112,6 +133,16 @@ public class BucketManagerProducerExtension implements Extension {
                     .addBean(new RepositoryKeyValueBean(type, beanManager, database.getProvider())));
         });
 
+        crudAsyncTypes.forEach(type -> {
+
+            if (!databases.contains(DatabaseMetadata.DEFAULT_KEY_VALUE)) {
+                afterBeanDiscovery.addBean(new RepositoryAsyncKeyValueBean(type, beanManager, ""));
+            }
+
+            databases.forEach(database -> afterBeanDiscovery
+                    .addBean(new RepositoryAsyncKeyValueBean(type, beanManager, database.getProvider())));
+        });
+
         repositoryUnits.forEach(type -> afterBeanDiscovery.addBean(new RepositoryUnitKeyValueBean(beanManager, type)));
 
     }
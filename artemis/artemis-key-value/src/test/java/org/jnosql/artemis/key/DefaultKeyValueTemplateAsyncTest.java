@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.key.BucketManager;
+import jakarta.nosql.key.KeyValueEntity;
+import jakarta.nosql.mapping.key.KeyValueEntityConverter;
+import jakarta.nosql.mapping.key.KeyValueTemplate;
+import jakarta.nosql.mapping.key.KeyValueTemplateProducer;
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import javax.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(CDIExtension.class)
+public class DefaultKeyValueTemplateAsyncTest {
+
+    @Inject
+    private KeyValueTemplateProducer templateProducer;
+
+    @Inject
+    private KeyValueTemplateAsyncProducer producer;
+
+    @Inject
+    private KeyValueEntityConverter converter;
+
+    private BucketManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        this.manager = Mockito.mock(BucketManager.class);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenManagerIsNull() {
+        assertThrows(NullPointerException.class, () -> producer.get(null));
+        assertThrows(NullPointerException.class, () -> producer.get(manager, null));
+        assertNotNull(producer.get(manager));
+    }
+
+    @Test
+    public void shouldPut() {
+        KeyValueTemplateAsync template = producer.get(manager, Runnable::run);
+        User user = new User("otaviojava", "otavio", 27);
+
+        assertSame(user, template.put(user).toCompletableFuture().join());
+        ArgumentCaptor<KeyValueEntity> captor = ArgumentCaptor.forClass(KeyValueEntity.class);
+        verify(manager).put(captor.capture());
+        assertEquals("otaviojava", captor.getValue().getKey());
+    }
+
+    @Test
+    public void shouldPutTTL() {
+        KeyValueTemplateAsync template = producer.get(manager, Runnable::run);
+        Duration ttl = Duration.ofSeconds(2L);
+        template.put(new User("otaviojava", "otavio", 27), ttl).toCompletableFuture().join();
+
+        verify(manager).put(any(KeyValueEntity.class), Mockito.eq(ttl));
+    }
+
+    @Test
+    public void shouldRunOnExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        KeyValueTemplateAsync template = producer.get(manager, tasks::add);
+        CompletableFuture<Void> result = template.remove("otaviojava").toCompletableFuture();
+
+        assertFalse(result.isDone());
+        verify(manager, never()).remove("otaviojava");
+        tasks.forEach(Runnable::run);
+        assertTrue(result.isDone());
+        verify(manager).remove("otaviojava");
+    }
+
+    @Test
+    public void shouldGroupConcurrentGets() {
+        User ada = new User("ada", "Ada", 36);
+        User otavio = new User("otavio", "Otavio", 27);
+        when(manager.get(anyIterable())).thenReturn(Arrays.asList(Value.of(ada), Value.of(otavio)));
+        when(manager.get("poliana")).thenReturn(Optional.empty());
+        KeyValueTemplateAsync template = batched(Runnable::run);
+
+        CompletableFuture<Optional<User>> first = template.get("ada", User.class).toCompletableFuture();
+        CompletableFuture<Optional<User>> second = template.get("otavio", User.class).toCompletableFuture();
+        CompletableFuture<Optional<User>> third = template.get("poliana", User.class).toCompletableFuture();
+
+        assertEquals(ada, first.join().get());
+        assertEquals(otavio, second.join().get());
+        assertFalse(third.join().isPresent());
+        ArgumentCaptor<Iterable<Object>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(manager).get(captor.capture());
+        assertThat(captor.getValue(), containsInAnyOrder("ada", "otavio", "poliana"));
+    }
+
+    @Test
+    public void shouldMatchKeysOfAnotherType() {
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+        Person otavio = Person.builder().withId(2L).withName("Otavio").build();
+        when(manager.get(anyIterable())).thenReturn(Arrays.asList(Value.of(ada), Value.of(otavio)));
+        KeyValueTemplateAsync template = batched(Runnable::run);
+
+        CompletableFuture<Optional<Person>> first = template.get(1, Person.class).toCompletableFuture();
+        CompletableFuture<Optional<Person>> second = template.get(2L, Person.class).toCompletableFuture();
+
+        assertEquals("Ada", first.join().get().getName());
+        assertEquals("Otavio", second.join().get().getName());
+        verify(manager).get(anyIterable());
+        verify(manager, never()).get(any(Object.class));
+    }
+
+    @Test
+    public void shouldNotGroupGetsByDefault() {
+        User ada = new User("ada", "Ada", 36);
+        when(manager.get("ada")).thenReturn(Optional.of(Value.of(ada)));
+        KeyValueTemplateAsync template = producer.get(manager, Runnable::run);
+
+        assertEquals(0L, AbstractKeyValueTemplateAsync.DEFAULT_BATCH_WINDOW);
+        assertEquals(ada, template.get("ada", User.class).toCompletableFuture().join().get());
+        verify(manager, never()).get(anyIterable());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenBulkGetFails() {
+        when(manager.get(anyIterable())).thenThrow(new IllegalStateException("bucket is down"));
+        KeyValueTemplateAsync template = batched(Runnable::run);
+
+        CompletableFuture<Optional<User>> result = template.get("ada", User.class).toCompletableFuture();
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertEquals(IllegalStateException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    public void shouldGetIterable() {
+        User ada = new User("ada", "Ada", 36);
+        when(manager.get(singletonList("ada"))).thenReturn(singletonList(Value.of(ada)));
+        KeyValueTemplateAsync template = producer.get(manager, Runnable::run);
+
+        Iterable<User> users = template.get(singletonList("ada"), User.class).toCompletableFuture().join();
+        assertEquals(singletonList(ada), users);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        KeyValueTemplateAsync template = producer.get(manager, Runnable::run);
+        assertThrows(NullPointerException.class, () -> template.put((Object) null));
+        assertThrows(NullPointerException.class, () -> template.get(null, User.class));
+        assertThrows(NullPointerException.class, () -> template.get("ada", null));
+        assertThrows(NullPointerException.class, () -> template.remove((Object) null));
+        assertThrows(NullPointerException.class, () -> template.query(null, User.class));
+        assertThrows(NullPointerException.class, () -> template.put(Collections.emptyList(), null));
+    }
+
+    private KeyValueTemplateAsync batched(Executor executor) {
+        KeyValueTemplate template = templateProducer.get(manager);
+        return new AbstractKeyValueTemplateAsync() {
+            @Override
+            protected KeyValueTemplate getTemplate() {
+                return template;
+            }
+
+            @Override
+            protected KeyValueEntityConverter getConverter() {
+                return converter;
+            }
+
+            @Override
+            protected Executor getExecutor() {
+                return executor;
+            }
+
+            @Override
+            protected long getBatchWindow() {
+                return 100_000L;
+            }
+        };
+    }
+}
@@ -26,6 +26,8 @@ import jakarta.nosql.mapping.key.KeyValueWorkflow;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Car;
+import org.jnosql.artemis.model.Plate;
 import org.jnosql.artemis.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -71,6 +73,9 @@ public class DefaultKeyValueTemplateTest {
     @Captor
     private ArgumentCaptor<KeyValueEntity> captor;
 
+    @Captor
+    private ArgumentCaptor<Iterable<KeyValueEntity>> entitiesCaptor;
+
     private KeyValueTemplate subject;
 
 
@@ -103,12 +108,49 @@ public class DefaultKeyValueTemplateTest {
     public void shouldPutIterable() {
         User user = new User(KEY, "otavio", 27);
         subject.put(singletonList(user));
-        Mockito.verify(manager).put(captor.capture());
-        KeyValueEntity entity = captor.getValue();
+        Mockito.verify(manager).put(entitiesCaptor.capture());
+        KeyValueEntity entity = entitiesCaptor.getValue().iterator().next();
         assertEquals(KEY, entity.getKey());
         assertEquals(user, entity.getValue());
     }
 
+    @Test
+    public void shouldPutIterableInChunks() {
+        AbstractKeyValueTemplate template = chunkedTemplate();
+        List<User> users = Arrays.asList(new User("ada", "Ada", 36), new User("otavio", "Otavio", 27),
+                new User("poliana", "Poliana", 25));
+        Iterable<User> result = template.put(users);
+
+        Mockito.verify(manager, Mockito.times(2)).put(entitiesCaptor.capture());
+        List<Iterable<KeyValueEntity>> chunks = entitiesCaptor.getAllValues();
+        assertEquals(Arrays.asList("ada", "otavio"), keys(chunks.get(0)));
+        assertEquals(singletonList("poliana"), keys(chunks.get(1)));
+        MatcherAssert.assertThat(result, Matchers.contains(users.toArray()));
+    }
+
+    @Test
+    public void shouldPutAll() {
+        AbstractKeyValueTemplate template = chunkedTemplate();
+        List<User> users = Arrays.asList(new User("ada", "Ada", 36), new User("otavio", "Otavio", 27),
+                new User("poliana", "Poliana", 25));
+        template.putAll(users);
+
+        Mockito.verify(manager).put(entitiesCaptor.capture());
+        assertEquals(Arrays.asList("ada", "otavio", "poliana"), keys(entitiesCaptor.getValue()));
+    }
+
+    @Test
+    public void shouldPutAllTTL() {
+        Duration duration = Duration.ofSeconds(2L);
+        AbstractKeyValueTemplate template = chunkedTemplate();
+        List<User> users = Arrays.asList(new User("ada", "Ada", 36), new User("otavio", "Otavio", 27),
+                new User("poliana", "Poliana", 25));
+        template.putAll(users, duration);
+
+        Mockito.verify(manager).put(entitiesCaptor.capture(), Mockito.eq(duration));
+        assertEquals(Arrays.asList("ada", "otavio", "poliana"), keys(entitiesCaptor.getValue()));
+    }
+
     @Test
     public void shouldPutTTL() {
 
@@ -129,8 +171,8 @@ public class DefaultKeyValueTemplateTest {
         User user = new User(KEY, "otavio", 27);
         subject.put(singletonList(user), duration);
 
-        Mockito.verify(manager).put(captor.capture(), Mockito.eq(duration));
-        KeyValueEntity entity = captor.getValue();
+        Mockito.verify(manager).put(entitiesCaptor.capture(), Mockito.eq(duration));
+        KeyValueEntity entity = entitiesCaptor.getValue().iterator().next();
         assertEquals(KEY, entity.getKey());
         assertEquals(user, entity.getValue());
     }
@@ -151,7 +193,7 @@ public class DefaultKeyValueTemplateTest {
     public void shouldGetIterable() {
         User user = new User(KEY, "otavio", 27);
 
-        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+        when(manager.get(singletonList(KEY))).thenReturn(singletonList(Value.of(user)));
         List<User> userOptional = stream(subject.get(singletonList(KEY), User.class).spliterator(), false)
                 .collect(toList());
 
@@ -159,11 +201,70 @@ public class DefaultKeyValueTemplateTest {
         assertEquals(user, userOptional.get(0));
     }
 
+    @Test
+    public void shouldGetIterableInChunks() {
+        User ada = new User("ada", "Ada", 36);
+        User poliana = new User("poliana", "Poliana", 25);
+        AbstractKeyValueTemplate template = chunkedTemplate();
+
+        when(manager.get(Arrays.asList("ada", "otavio"))).thenReturn(singletonList(Value.of(ada)));
+        when(manager.get(singletonList("ada"))).thenReturn(singletonList(Value.of(ada)));
+        when(manager.get(singletonList("otavio"))).thenReturn(Collections.emptyList());
+        when(manager.get(singletonList("poliana"))).thenReturn(singletonList(Value.of(poliana)));
+        Iterable<User> users = template.get(Arrays.asList("ada", "otavio", "poliana"), User.class);
+
+        MatcherAssert.assertThat(users, Matchers.contains(ada, poliana));
+        Mockito.verify(manager, Mockito.never()).get(Mockito.anyString());
+    }
+
+    @Test
+    public void shouldGetIterableThroughTheConverter() {
+        Car ferrari = new Car();
+        ferrari.setName("Ferrari");
+        Car porsche = new Car();
+        porsche.setName("Porsche");
+
+        when(manager.get(Arrays.asList("123-BRL", "456-BRL"))).thenReturn(Arrays.asList(Value.of(ferrari),
+                Value.of(porsche)));
+        List<Car> cars = stream(subject.get(Arrays.asList("123-BRL", "456-BRL"), Car.class).spliterator(), false)
+                .collect(toList());
+
+        assertEquals(2, cars.size());
+        assertEquals(Plate.of("123-BRL"), cars.get(0).getPlate());
+        assertEquals("Ferrari", cars.get(0).getName());
+        assertEquals(Plate.of("456-BRL"), cars.get(1).getPlate());
+        assertEquals("Porsche", cars.get(1).getName());
+    }
+
+    @Test
+    public void shouldGetIterableThroughTheConverterWhenKeyIsMissing() {
+        Car ferrari = new Car();
+        ferrari.setName("Ferrari");
+        Car porsche = new Car();
+        porsche.setName("Porsche");
+
+        when(manager.get(Arrays.asList("123-BRL", "000-XXX", "456-BRL"))).thenReturn(Arrays.asList(
+                Value.of(ferrari), Value.of(porsche)));
+        when(manager.get(singletonList("123-BRL"))).thenReturn(singletonList(Value.of(ferrari)));
+        when(manager.get(Arrays.asList("000-XXX", "456-BRL"))).thenReturn(singletonList(Value.of(porsche)));
+        when(manager.get(singletonList("000-XXX"))).thenReturn(Collections.emptyList());
+        when(manager.get(singletonList("456-BRL"))).thenReturn(singletonList(Value.of(porsche)));
+        List<Car> cars = stream(subject.get(Arrays.asList("123-BRL", "000-XXX", "456-BRL"), Car.class)
+                .spliterator(), false).collect(toList());
+
+        assertEquals(2, cars.size());
+        assertEquals(Plate.of("123-BRL"), cars.get(0).getPlate());
+        assertEquals("Ferrari", cars.get(0).getName());
+        assertEquals(Plate.of("456-BRL"), cars.get(1).getPlate());
+        assertEquals("Porsche", cars.get(1).getName());
+        Mockito.verify(manager, Mockito.never()).get(Mockito.anyString());
+    }
+
     @Test
     public void shouldReturnEmptyIterable() {
         User user = new User(KEY, "otavio", 27);
 
-        when(manager.get(KEY)).thenReturn(Optional.empty());
+        when(manager.get(singletonList(KEY))).thenReturn(Collections.emptyList());
         List<User> userOptional = stream(subject.get(singletonList(KEY), User.class).spliterator(), false)
                 .collect(toList());
 
@@ -262,4 +363,19 @@ public class DefaultKeyValueTemplateTest {
     }
 
 
+    private AbstractKeyValueTemplate chunkedTemplate() {
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        return new DefaultKeyValueTemplate(converter, instance, flow) {
+            @Override
+            protected int getChunkSize() {
+                return 2;
+            }
+        };
+    }
+
+    private static List<Object> keys(Iterable<KeyValueEntity> entities) {
+        return stream(entities.spliterator(), false).map(KeyValueEntity::getKey).collect(toList());
+    }
+
 }
\ No newline at end of file
@@ -24,9 +24,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -62,4 +66,19 @@ public class DefaultKeyValueWorkflowTest {
         verify(eventPersistManager).firePostKeyValue(any(KeyValueEntity.class));
     }
 
+    @Test
+    public void shouldFollowWorkflowToEntities() {
+        AtomicInteger calls = new AtomicInteger();
+        subject.flow(Arrays.asList("ada", "otavio"), entities -> {
+            calls.incrementAndGet();
+            assertEquals(Arrays.asList(keyValueEntity, keyValueEntity), entities);
+        });
+
+        assertEquals(1, calls.get());
+        verify(eventPersistManager, times(2)).firePreEntity(any(String.class));
+        verify(eventPersistManager, times(2)).firePreKeyValue(any(KeyValueEntity.class));
+        verify(eventPersistManager, times(2)).firePostKeyValue(any(KeyValueEntity.class));
+        verify(converter, times(2)).toEntity(String.class, keyValueEntity);
+    }
+
 }
\ No newline at end of file
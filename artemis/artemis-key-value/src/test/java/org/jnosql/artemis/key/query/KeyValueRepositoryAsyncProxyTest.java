@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key.query;
+
+import jakarta.nosql.mapping.DynamicQueryException;
+import org.jnosql.artemis.key.KeyValueRepositoryAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+import org.jnosql.artemis.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class KeyValueRepositoryAsyncProxyTest {
+
+    @Mock
+    private KeyValueTemplateAsync template;
+
+    private UserRepositoryAsync userRepository;
+
+    @BeforeEach
+    public void setUp() {
+        KeyValueRepositoryAsyncProxy handler = new KeyValueRepositoryAsyncProxy(UserRepositoryAsync.class, template);
+        userRepository = (UserRepositoryAsync) Proxy.newProxyInstance(UserRepositoryAsync.class.getClassLoader(),
+                new Class[]{UserRepositoryAsync.class},
+                handler);
+    }
+
+    @Test
+    public void shouldSave() {
+        User user = new User("ada", "Ada", 10);
+        when(template.put(user)).thenReturn(CompletableFuture.completedFuture(user));
+
+        assertEquals(user, userRepository.save(user).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldSaveIterable() {
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+
+        User user = new User("ada", "Ada", 10);
+        userRepository.save(Collections.singleton(user));
+        Mockito.verify(template).put(captor.capture());
+        assertEquals(user, captor.getValue().iterator().next());
+    }
+
+    @Test
+    public void shouldDelete() {
+        when(template.remove("key")).thenReturn(CompletableFuture.completedFuture(null));
+
+        userRepository.deleteById("key").toCompletableFuture().join();
+        Mockito.verify(template).remove("key");
+    }
+
+    @Test
+    public void shouldDeleteIterable() {
+        userRepository.deleteById(Collections.singletonList("key"));
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(template).remove(captor.capture());
+        assertEquals("key", captor.getValue().iterator().next());
+    }
+
+    @Test
+    public void shouldFindById() {
+        User user = new User("ada", "Ada", 10);
+        when(template.get("key", User.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(user)));
+
+        assertEquals(user, userRepository.findById("key").toCompletableFuture().join().get());
+    }
+
+    @Test
+    public void shouldFindByIdIterable() {
+        User user = new User("ada", "Ada", 10);
+        User user2 = new User("poliana", "Poliana", 25);
+        List<String> keys = Arrays.asList("key", "key2");
+        when(template.get(keys, User.class)).thenReturn(CompletableFuture.completedFuture(Arrays.asList(user, user2)));
+
+        assertThat(userRepository.findById(keys).toCompletableFuture().join(), contains(user, user2));
+    }
+
+    @Test
+    public void shouldExistsById() {
+        when(template.get("key", User.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(template.get("key2", User.class)).thenReturn(CompletableFuture.completedFuture(
+                Optional.of(new User("ada", "Ada", 10))));
+
+        assertFalse(userRepository.existsById("key").toCompletableFuture().join());
+        assertTrue(userRepository.existsById("key2").toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldReturnErrorOnQueryMethod() {
+        assertThrows(DynamicQueryException.class, () -> userRepository.findByName("Ada"));
+    }
+
+    @Test
+    public void shouldReturnToString() {
+        assertTrue(userRepository.toString().contains(KeyValueRepositoryAsyncProxy.class.getSimpleName()));
+    }
+
+    interface UserRepositoryAsync extends KeyValueRepositoryAsync<User, String> {
+
+        CompletionStage<List<User>> findByName(String name);
+    }
+}
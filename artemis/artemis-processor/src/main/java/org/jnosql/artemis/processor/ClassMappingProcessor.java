@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The annotation processor that generates a {@code org.jnosql.artemis.reflection.ClassMappingDescriptor} to each
+ * class annotated with either {@code jakarta.nosql.mapping.Entity} or {@code jakarta.nosql.mapping.Embeddable},
+ * and registers them at the {@link java.util.ServiceLoader} file. When a class cannot be described at compile
+ * time, e.g. it is private, there is no descriptor and the class is scanned by reflection at runtime.
+ */
+@SupportedAnnotationTypes({ClassMappingSource.ENTITY, ClassMappingSource.EMBEDDABLE})
+public class ClassMappingProcessor extends AbstractProcessor {
+
+    static final String SERVICE_FILE = "META-INF/services/org.jnosql.artemis.reflection.ClassMappingDescriptor";
+
+    private final Set<String> descriptors = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (ElementKind.CLASS.equals(element.getKind())) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !descriptors.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        Optional<ClassMappingSource> source = ClassMappingSource.of(type, processingEnv);
+        if (!source.isPresent()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "The class mapping of "
+                    + type.getQualifiedName() + " is not accessible at compile time, it will be scanned by reflection",
+                    type);
+            return;
+        }
+        String name = source.get().getName();
+        if (!descriptors.add(name)) {
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.get().getJavaSource());
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write the class mapping "
+                    + name + ": " + exception.getMessage(), type);
+        }
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String descriptor : descriptors) {
+                    writer.write(descriptor);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write the file "
+                    + SERVICE_FILE + ": " + exception.getMessage());
+        }
+    }
+}
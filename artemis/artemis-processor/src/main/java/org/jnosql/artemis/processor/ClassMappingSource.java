@@ -0,0 +1,341 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Creates the Java source of the descriptor of a class. It follows the same rules of the runtime scanning: the
+ * fields annotated with either {@code Id} or {@code Column}, after the fields of the {@code MappedSuperclass}
+ * parents, and the column name from the annotation value, otherwise the field name. A field is read by its public
+ * getter and written by its public setter, otherwise directly when it is accessible to the descriptor package;
+ * when none of them are, the accessor is null and the runtime creates it.
+ */
+final class ClassMappingSource {
+
+    static final String ENTITY = "jakarta.nosql.mapping.Entity";
+
+    static final String EMBEDDABLE = "jakarta.nosql.mapping.Embeddable";
+
+    private static final String MAPPED_SUPERCLASS = "jakarta.nosql.mapping.MappedSuperclass";
+
+    private static final String COLUMN = "jakarta.nosql.mapping.Column";
+
+    private static final String ID = "jakarta.nosql.mapping.Id";
+
+    private static final String SUFFIX = "_ClassMapping";
+
+    private static final String DESCRIPTOR = "org.jnosql.artemis.reflection.ClassMappingDescriptor";
+
+    private static final String FIELD_DESCRIPTOR = "org.jnosql.artemis.reflection.FieldDescriptor";
+
+    private static final String INSTANCE_SUPPLIER = "jakarta.nosql.mapping.reflection.InstanceSupplier";
+
+    private final TypeElement type;
+
+    private final PackageElement packageElement;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private List<ExecutableElement> methods;
+
+    private ClassMappingSource(TypeElement type, ProcessingEnvironment environment) {
+        this.type = type;
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+        this.packageElement = elements.getPackageOf(type);
+    }
+
+    /**
+     * @return the qualified name of the descriptor
+     */
+    String getName() {
+        String packageName = packageElement.getQualifiedName().toString();
+        String simpleName = getSimpleName(type) + SUFFIX;
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    /**
+     * @return the Java source of the descriptor
+     */
+    String getJavaSource() {
+        String className = getTypeName(type);
+        String simpleName = getSimpleName(type) + SUFFIX;
+        StringBuilder source = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            source.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(ClassMappingProcessor.class.getName())
+                .append("\")\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(DESCRIPTOR)
+                .append(" {\n\n")
+                .append("    private static final java.util.List<").append(FIELD_DESCRIPTOR)
+                .append("> FIELDS = java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+        List<VariableElement> fields = getFields(type);
+        for (int index = 0; index < fields.size(); index++) {
+            source.append(index == 0 ? "\n" : ",\n");
+            appendField(source, className, fields.get(index));
+        }
+        source.append("));\n\n")
+                .append("    @Override\n")
+                .append("    public Class<?> getClassInstance() {\n")
+                .append("        return ").append(className).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public String getName() {\n")
+                .append("        return ").append(elements.getConstantExpression(getEntityName())).append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(INSTANCE_SUPPLIER).append(" getInstanceSupplier() {\n")
+                .append("        return ").append(hasConstructor() ? className + "::new" : "null").append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<").append(FIELD_DESCRIPTOR).append("> getFields() {\n")
+                .append("        return FIELDS;\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private void appendField(StringBuilder source, String className, VariableElement field) {
+        TypeElement declaringClass = (TypeElement) field.getEnclosingElement();
+        String fieldName = field.getSimpleName().toString();
+        boolean id = getAnnotation(field, ID).isPresent();
+        String name = getValue(field, id ? ID : COLUMN).orElse(fieldName);
+        String bean = "((" + className + ") bean)";
+
+        String reader = getReadMethod(field)
+                .map(method -> "bean -> " + bean + '.' + method.getSimpleName() + "()")
+                .orElseGet(() -> isAccessible(field) ? "bean -> " + bean + '.' + fieldName : "null");
+
+        String writer = "null";
+        if (isCastable(field.asType())) {
+            String value = "(" + types.erasure(field.asType()) + ") value";
+            Optional<ExecutableElement> writeMethod = getWriteMethod(field);
+            if (writeMethod.isPresent()) {
+                writer = "(bean, value) -> " + bean + '.' + writeMethod.get().getSimpleName() + '(' + value + ')';
+            } else if (isAccessible(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+                writer = "(bean, value) -> " + bean + '.' + fieldName + " = " + value;
+            }
+        }
+
+        source.append("            ").append(FIELD_DESCRIPTOR).append(".of(")
+                .append(getTypeName(declaringClass)).append(".class, ")
+                .append(elements.getConstantExpression(fieldName)).append(", ")
+                .append(elements.getConstantExpression(name)).append(", ")
+                .append(id).append(",\n")
+                .append("                    ").append(reader).append(",\n")
+                .append("                    ").append(writer).append(')');
+    }
+
+    private List<VariableElement> getFields(TypeElement element) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeElement superclass = getSuperclass(element);
+        if (superclass != null && getAnnotation(superclass, MAPPED_SUPERCLASS).isPresent()) {
+            fields.addAll(getFields(superclass));
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+            if (getAnnotation(field, COLUMN).isPresent() || getAnnotation(field, ID).isPresent()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private String getEntityName() {
+        return getValue(type, ENTITY).orElse(type.getSimpleName().toString());
+    }
+
+    private boolean hasConstructor() {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(constructor -> constructor.getParameters().isEmpty())
+                .anyMatch(this::isAccessible);
+    }
+
+    private Optional<ExecutableElement> getReadMethod(VariableElement field) {
+        String property = capitalize(field.getSimpleName().toString());
+        String prefix = TypeKind.BOOLEAN.equals(field.asType().getKind()) ? "is" : "get";
+        return getMethods().stream()
+                .filter(method -> method.getSimpleName().contentEquals(prefix + property))
+                .filter(method -> method.getParameters().isEmpty())
+                .filter(method -> types.isSameType(method.getReturnType(), field.asType()))
+                .findFirst();
+    }
+
+    private Optional<ExecutableElement> getWriteMethod(VariableElement field) {
+        String name = "set" + capitalize(field.getSimpleName().toString());
+        return getMethods().stream()
+                .filter(method -> method.getSimpleName().contentEquals(name))
+                .filter(method -> method.getParameters().size() == 1)
+                .filter(method -> TypeKind.VOID.equals(method.getReturnType().getKind()))
+                .filter(method -> types.isSameType(method.getParameters().get(0).asType(), field.asType()))
+                .findFirst();
+    }
+
+    private List<ExecutableElement> getMethods() {
+        if (methods != null) {
+            return methods;
+        }
+        methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)
+                    && !modifiers.contains(Modifier.ABSTRACT) && isAccessible(method)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private boolean isAccessible(Element member) {
+        Element declaringClass = member.getEnclosingElement();
+        if (member.getModifiers().contains(Modifier.PUBLIC) && isAccessible((TypeElement) declaringClass)) {
+            return true;
+        }
+        return !member.getModifiers().contains(Modifier.PRIVATE)
+                && elements.getPackageOf(declaringClass).equals(packageElement);
+    }
+
+    private boolean isAccessible(TypeElement element) {
+        Element current = element;
+        while (current instanceof TypeElement) {
+            TypeElement typeElement = (TypeElement) current;
+            if (!NestingKind.TOP_LEVEL.equals(typeElement.getNestingKind())
+                    && !NestingKind.MEMBER.equals(typeElement.getNestingKind())) {
+                return false;
+            }
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            boolean samePackage = elements.getPackageOf(typeElement).equals(packageElement);
+            if (!samePackage && !typeElement.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            if (NestingKind.MEMBER.equals(typeElement.getNestingKind())
+                    && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isCastable(TypeMirror typeMirror) {
+        if (TypeKind.TYPEVAR.equals(typeMirror.getKind())) {
+            return false;
+        }
+        if (TypeKind.ARRAY.equals(typeMirror.getKind())) {
+            return isCastable(((ArrayType) typeMirror).getComponentType());
+        }
+        return true;
+    }
+
+    private TypeElement getSuperclass(TypeElement element) {
+        TypeMirror superclass = element.getSuperclass();
+        if (TypeKind.DECLARED.equals(superclass.getKind())) {
+            return (TypeElement) ((DeclaredType) superclass).asElement();
+        }
+        return null;
+    }
+
+    private String getTypeName(TypeElement element) {
+        return types.erasure(element.asType()).toString();
+    }
+
+    private Optional<AnnotationMirror> getAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotation)) {
+                return Optional.of(mirror);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> getValue(Element element, String annotation) {
+        return getAnnotation(element, annotation).flatMap(mirror -> {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    return Optional.of(entry.getValue().getValue().toString());
+                }
+            }
+            return Optional.empty();
+        }).filter(value -> !value.trim().isEmpty());
+    }
+
+    private static String getSimpleName(TypeElement element) {
+        StringBuilder name = new StringBuilder(element.getSimpleName());
+        Element enclosing = element.getEnclosingElement();
+        while (ElementKind.CLASS.equals(enclosing.getKind()) || ElementKind.INTERFACE.equals(enclosing.getKind())) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Creates the source to the class, when the class and the classes that declare its fields are accessible to
+     * the descriptor.
+     *
+     * @param type        the class
+     * @param environment the processing environment
+     * @return the source or {@link Optional#empty()} when it cannot be described at compile time
+     */
+    static Optional<ClassMappingSource> of(TypeElement type, ProcessingEnvironment environment) {
+        ClassMappingSource source = new ClassMappingSource(type, environment);
+        if (!source.isAccessible(type)) {
+            return Optional.empty();
+        }
+        for (VariableElement field : source.getFields(type)) {
+            if (!source.isAccessible((TypeElement) field.getEnclosingElement())) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(source);
+    }
+}
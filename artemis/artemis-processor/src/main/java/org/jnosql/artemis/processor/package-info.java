@@ -0,0 +1,20 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+/**
+ * The artemis-processor is a subproject of Artemis that generates, at compile time, the mapping metadata of the
+ * classes annotated with {@code jakarta.nosql.mapping.Entity} and {@code jakarta.nosql.mapping.Embeddable}.
+ * At runtime, the artemis-core reads them instead of scanning those classes by reflection.
+ */
+package org.jnosql.artemis.processor;
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import jakarta.nosql.mapping.reflection.FieldReader;
+import jakarta.nosql.mapping.reflection.FieldWriter;
+import org.jnosql.artemis.reflection.ClassMappingDescriptor;
+import org.jnosql.artemis.reflection.FieldDescriptor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassMappingProcessorTest {
+
+    private static final String PERSON = "package sample;\n" +
+            "import jakarta.nosql.mapping.*;\n" +
+            "@Entity(\"person\")\n" +
+            "public class Person extends Animal {\n" +
+            "    @Id private String id;\n" +
+            "    @Column(\"native_name\") private String name;\n" +
+            "    @Column int age;\n" +
+            "    @Column private java.util.List<String> phones;\n" +
+            "    private String ignored;\n" +
+            "    public String getId() { return id; }\n" +
+            "    public void setId(String id) { this.id = id; }\n" +
+            "    public String getName() { return name; }\n" +
+            "    public void setName(String name) { this.name = name; }\n" +
+            "}\n";
+
+    private static final String ANIMAL = "package sample;\n" +
+            "import jakarta.nosql.mapping.*;\n" +
+            "@MappedSuperclass\n" +
+            "public class Animal {\n" +
+            "    @Column protected long version;\n" +
+            "}\n";
+
+    private static final String OUTER = "package sample;\n" +
+            "import jakarta.nosql.mapping.*;\n" +
+            "public class Outer {\n" +
+            "    @Embeddable public static class Address { @Column String city; }\n" +
+            "    @Entity private static class Hidden { @Column String name; }\n" +
+            "}\n";
+
+    private static List<ClassMappingDescriptor> descriptors;
+
+    private static ClassLoader classLoader;
+
+    @BeforeAll
+    public static void compile() throws IOException {
+        Path directory = Files.createTempDirectory("artemis-processor");
+        Path sources = Files.createDirectories(directory.resolve("sample"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        List<Path> files = new ArrayList<>();
+        files.add(Files.write(sources.resolve("Person.java"), PERSON.getBytes(StandardCharsets.UTF_8)));
+        files.add(Files.write(sources.resolve("Animal.java"), ANIMAL.getBytes(StandardCharsets.UTF_8)));
+        files.add(Files.write(sources.resolve("Outer.java"), OUTER.getBytes(StandardCharsets.UTF_8)));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                    "-d", classes.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+                    fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(Collections.singletonList(new ClassMappingProcessor()));
+            assertTrue(task.call());
+        }
+        classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                ClassMappingProcessorTest.class.getClassLoader());
+        descriptors = new ArrayList<>();
+        ServiceLoader.load(ClassMappingDescriptor.class, classLoader).forEach(descriptors::add);
+    }
+
+    @Test
+    public void shouldGenerateDescriptors() {
+        List<String> names = descriptors.stream().map(d -> d.getClassInstance().getName())
+                .collect(Collectors.toList());
+        assertThat(names, containsInAnyOrder("sample.Person", "sample.Outer$Address"));
+    }
+
+    @Test
+    public void shouldDescribeEntity() throws ReflectiveOperationException {
+        ClassMappingDescriptor descriptor = getDescriptor("sample.Person");
+        assertEquals("person", descriptor.getName());
+        List<String> fields = descriptor.getFields().stream().map(FieldDescriptor::getName)
+                .collect(Collectors.toList());
+        assertThat(fields, contains("version", "_id", "native_name", "age", "phones"));
+        assertTrue(descriptor.getFields().get(1).isId());
+        assertEquals(classLoader.loadClass("sample.Animal"), descriptor.getFields().get(0).getDeclaringClass());
+
+        Object person = descriptor.getInstanceSupplier().get();
+        assertNotNull(person);
+        for (FieldDescriptor field : descriptor.getFields().subList(0, 4)) {
+            FieldWriter writer = field.getWriter();
+            FieldReader reader = field.getReader();
+            Object value = "age".equals(field.getName()) ? 10 : "version".equals(field.getName()) ? 2L : "value";
+            writer.write(person, value);
+            assertEquals(value, reader.read(person));
+        }
+    }
+
+    @Test
+    public void shouldReturnNullAccessorWhenFieldIsNotAccessible() {
+        FieldDescriptor phones = getDescriptor("sample.Person").getFields().get(4);
+        assertEquals("phones", phones.getFieldName());
+        assertNull(phones.getReader());
+        assertNull(phones.getWriter());
+    }
+
+    @Test
+    public void shouldDescribeEmbeddable() {
+        ClassMappingDescriptor descriptor = getDescriptor("sample.Outer$Address");
+        assertEquals("Address", descriptor.getName());
+        assertNotNull(descriptor.getInstanceSupplier());
+        assertFalse(descriptor.getFields().get(0).isId());
+        assertEquals("city", descriptor.getFields().get(0).getName());
+    }
+
+    private ClassMappingDescriptor getDescriptor(String name) {
+        return descriptors.stream().filter(d -> d.getClassInstance().getName().equals(name))
+                .findFirst().orElseThrow(() -> new AssertionError("There is no descriptor to " + name));
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.column;
+
+import jakarta.nosql.QueryException;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnEntity;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles a {@link ColumnCondition} into a {@link Predicate} of {@link ColumnEntity}. The work that does not
+ * depend on the entity is done once: the values are read, the in values are hashed, the like patterns are
+ * compiled and the column names are split into the sub-column path.
+ */
+final class ColumnPredicates {
+
+    private static final Object MISSING = new Object();
+
+    private static final int UNCOMPARABLE = Integer.MIN_VALUE;
+
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private ColumnPredicates() {
+    }
+
+    static Predicate<ColumnEntity> compile(ColumnCondition condition) {
+        switch (condition.getCondition()) {
+            case AND:
+                Predicate<ColumnEntity>[] and = compile(ColumnConditions.getConditions(condition));
+                return entity -> {
+                    for (Predicate<ColumnEntity> predicate : and) {
+                        if (!predicate.test(entity)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            case OR:
+                Predicate<ColumnEntity>[] or = compile(ColumnConditions.getConditions(condition));
+                return entity -> {
+                    for (Predicate<ColumnEntity> predicate : or) {
+                        if (predicate.test(entity)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            case NOT:
+                return compile(condition.getColumn().get(ColumnCondition.class)).negate();
+            default:
+                return field(condition.getColumn().getName(), matcher(condition));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<ColumnEntity>[] compile(List<ColumnCondition> conditions) {
+        Predicate<ColumnEntity>[] predicates = new Predicate[conditions.size()];
+        for (int index = 0; index < predicates.length; index++) {
+            predicates[index] = compile(conditions.get(index));
+        }
+        return predicates;
+    }
+
+    private static Predicate<ColumnEntity> field(String name, Predicate<Object> matcher) {
+        String[] path = name.split("\\.");
+        return entity -> {
+            Object value = find(entity, name, path);
+            return value != MISSING && matches(matcher, value);
+        };
+    }
+
+    private static boolean matches(Predicate<Object> matcher, Object value) {
+        if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                if (matches(matcher, element)) {
+                    return true;
+                }
+            }
+            return matcher.test(value);
+        }
+        return value != null && matcher.test(value);
+    }
+
+    private static Predicate<Object> matcher(ColumnCondition condition) {
+        Object value = condition.getColumn().get();
+        switch (condition.getCondition()) {
+            case EQUALS:
+                Object key = key(value);
+                return v -> key.equals(key(v));
+            case GREATER_THAN:
+                return v -> compare(v, value) > 0;
+            case GREATER_EQUALS_THAN:
+                return v -> compare(v, value) >= 0;
+            case LESSER_THAN:
+                return v -> {
+                    int compare = compare(v, value);
+                    return compare < 0 && compare != UNCOMPARABLE;
+                };
+            case LESSER_EQUALS_THAN:
+                return v -> {
+                    int compare = compare(v, value);
+                    return compare <= 0 && compare != UNCOMPARABLE;
+                };
+            case IN:
+                Set<Object> keys = new HashSet<>();
+                ((Iterable<?>) value).forEach(v -> keys.add(key(v)));
+                return v -> keys.contains(key(v));
+            case BETWEEN:
+                Iterator<?> bounds = ((Iterable<?>) value).iterator();
+                Object lower = bounds.next();
+                Object upper = bounds.next();
+                return v -> {
+                    int compareLower = compare(v, lower);
+                    int compareUpper = compare(v, upper);
+                    return compareLower >= 0 && compareUpper <= 0 && compareUpper != UNCOMPARABLE;
+                };
+            case LIKE:
+                return like(value.toString());
+            default:
+                throw new QueryException("There is not support the type: " + condition.getCondition());
+        }
+    }
+
+    /**
+     * Compiles the like pattern, where % matches any sequence and _ matches one character, the patterns that
+     * only have a % either at the start or at the end do not use a regular expression.
+     */
+    private static Predicate<Object> like(String pattern) {
+        String text = pattern.replace("%", "");
+        boolean single = pattern.indexOf('_') >= 0;
+        int wildcards = pattern.length() - text.length();
+        if (!single && wildcards == 0) {
+            return v -> v instanceof CharSequence && text.contentEquals((CharSequence) v);
+        }
+        if (!single && wildcards == 1 && pattern.endsWith("%")) {
+            return v -> v instanceof CharSequence && v.toString().startsWith(text);
+        }
+        if (!single && wildcards == 1 && pattern.startsWith("%")) {
+            return v -> v instanceof CharSequence && v.toString().endsWith(text);
+        }
+        if (!single && wildcards == 2 && pattern.length() > 1 && pattern.startsWith("%") && pattern.endsWith("%")) {
+            return v -> v instanceof CharSequence && v.toString().contains(text);
+        }
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        Pattern compiled = Pattern.compile(regex.toString(), Pattern.DOTALL);
+        return v -> v instanceof CharSequence && compiled.matcher((CharSequence) v).matches();
+    }
+
+    /**
+     * Returns the value of the column, when the entity does not have a column with this name, the name is
+     * read as a path of sub-columns separated by dots.
+     */
+    private static Object find(ColumnEntity entity, String name, String[] path) {
+        Optional<Column> column = entity.find(name);
+        if (column.isPresent()) {
+            return column.get().get();
+        }
+        if (path.length == 1) {
+            return MISSING;
+        }
+        Object value = entity.find(path[0]).<Object>map(Column::get).orElse(MISSING);
+        for (int index = 1; index < path.length && value != MISSING; index++) {
+            value = child(value, path[index]);
+        }
+        return value;
+    }
+
+    private static Object child(Object value, String name) {
+        if (value instanceof Column) {
+            Column column = (Column) value;
+            return name.equals(column.getName()) ? column.get() : MISSING;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            return map.containsKey(name) ? map.get(name) : MISSING;
+        }
+        if (value instanceof Iterable) {
+            List<Object> values = new ArrayList<>();
+            for (Object element : (Iterable<?>) value) {
+                if (element instanceof Column) {
+                    Column column = (Column) element;
+                    if (name.equals(column.getName())) {
+                        return column.get();
+                    }
+                } else {
+                    Object child = child(element, name);
+                    if (child != MISSING) {
+                        values.add(child);
+                    }
+                }
+            }
+            return values.isEmpty() ? MISSING : values;
+        }
+        return MISSING;
+    }
+
+    /**
+     * Compares the values, the numbers are compared by their numeric value whatever their types are.
+     * Returns {@link ColumnPredicates#UNCOMPARABLE} when the values are not comparable.
+     */
+    @SuppressWarnings("unchecked")
+    private static int compare(Object value, Object other) {
+        if (value instanceof Number && other instanceof Number) {
+            Number number = (Number) value;
+            Number otherNumber = (Number) other;
+            if (isIntegral(number) && isIntegral(otherNumber)) {
+                return Long.compare(number.longValue(), otherNumber.longValue());
+            }
+            if (!isFinite(number) || !isFinite(otherNumber)) {
+                return Double.compare(number.doubleValue(), otherNumber.doubleValue());
+            }
+            return decimal(number).compareTo(decimal(otherNumber));
+        }
+        if (value instanceof Comparable && other != null && value.getClass().equals(other.getClass())) {
+            return Integer.signum(((Comparable<Object>) value).compareTo(other));
+        }
+        return UNCOMPARABLE;
+    }
+
+    /**
+     * Returns the value used to either equals or in, the numbers with the same numeric value have the same key.
+     */
+    private static Object key(Object value) {
+        if (!(value instanceof Number) || value instanceof Long) {
+            return value;
+        }
+        if (isIntegral(value)) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (!Double.isFinite(number)) {
+                return number;
+            }
+            if (number == Math.rint(number) && Math.abs(number) <= MAX_EXACT_DOUBLE) {
+                return (long) number;
+            }
+        }
+        BigDecimal decimal = decimal((Number) value).stripTrailingZeros();
+        if (decimal.scale() <= 0 && decimal.precision() - decimal.scale() < 19) {
+            return decimal.longValue();
+        }
+        return decimal;
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isFinite(Number number) {
+        return !(number instanceof Double || number instanceof Float) || Double.isFinite(number.doubleValue());
+    }
+
+    private static BigDecimal decimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return new BigDecimal(number.toString());
+    }
+}
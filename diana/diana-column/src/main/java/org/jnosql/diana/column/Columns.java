@@ -20,6 +20,7 @@ package org.jnosql.diana.column;
 
 import jakarta.nosql.Value;
 import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnEntity;
 
 import java.util.List;
 import java.util.Map;
@@ -67,6 +68,24 @@ public final class Columns {
                 .collect(toList());
     }
 
+    /**
+     * Creates a {@link ColumnEntity} with room to the expected number of columns, so adding them does not
+     * grow its storage. It has the same behavior of {@link ColumnEntity#of(String)}
+     *
+     * @param name         the column family name
+     * @param expectedSize the expected number of columns
+     * @return a new {@link ColumnEntity}
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when expectedSize is negative
+     */
+    public static ColumnEntity newEntity(String name, int expectedSize) {
+        Objects.requireNonNull(name, "name is required");
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size must not be negative: " + expectedSize);
+        }
+        return new DefaultColumnEntity(name, expectedSize);
+    }
+
     private static Object getValue(Object value) {
 
         if (value instanceof Map) {
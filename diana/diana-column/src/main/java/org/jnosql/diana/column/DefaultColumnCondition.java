@@ -24,9 +24,12 @@ import jakarta.nosql.Value;
 import jakarta.nosql.column.Column;
 import jakarta.nosql.column.ColumnCondition;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -41,9 +44,22 @@ final class DefaultColumnCondition implements ColumnCondition {
 
     private final Condition condition;
 
+    private final List<ColumnCondition> conditions;
+
+    private final Chain chain;
+
     private DefaultColumnCondition(Column column, Condition condition) {
         this.column = column;
         this.condition = condition;
+        this.conditions = null;
+        this.chain = null;
+    }
+
+    private DefaultColumnCondition(Condition condition, Chain chain, List<ColumnCondition> conditions) {
+        this.column = Column.of(condition.getNameField(), conditions);
+        this.condition = condition;
+        this.conditions = conditions;
+        this.chain = chain;
     }
 
     static DefaultColumnCondition of(Column column, Condition condition) {
@@ -52,15 +68,19 @@ final class DefaultColumnCondition implements ColumnCondition {
 
     static DefaultColumnCondition and(ColumnCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Column column = Column.of(Condition.AND.getNameField(), asList(conditions));
-        return DefaultColumnCondition.of(column, Condition.AND);
+        return DefaultColumnCondition.of(Condition.AND, asList(conditions));
     }
 
 
     static DefaultColumnCondition or(ColumnCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Column column = Column.of(Condition.OR.getNameField(), asList(conditions));
-        return DefaultColumnCondition.of(column, Condition.OR);
+        return DefaultColumnCondition.of(Condition.OR, asList(conditions));
+    }
+
+
+    static DefaultColumnCondition of(Condition condition, List<ColumnCondition> conditions) {
+        Chain chain = new Chain(conditions.toArray(new ColumnCondition[0]));
+        return new DefaultColumnCondition(condition, chain, chain.view());
     }
 
 
@@ -110,8 +130,7 @@ final class DefaultColumnCondition implements ColumnCondition {
     public ColumnCondition and(ColumnCondition condition) {
         requireNonNull(condition, "Conditions is required");
         if (Condition.AND.equals(this.condition)) {
-            Column newColumn = getConditions(condition, Condition.AND);
-            return new DefaultColumnCondition(newColumn, Condition.AND);
+            return append(condition);
         }
         return DefaultColumnCondition.and(this, condition);
     }
@@ -131,17 +150,44 @@ final class DefaultColumnCondition implements ColumnCondition {
     public ColumnCondition or(ColumnCondition condition) {
         requireNonNull(condition, "Condition is required");
         if (Condition.OR.equals(this.condition)) {
-            Column newColumn = getConditions(condition, Condition.OR);
-            return new DefaultColumnCondition(newColumn, Condition.OR);
+            return append(condition);
         }
         return DefaultColumnCondition.or(this, condition);
     }
 
-    private Column getConditions(ColumnCondition columnCondition, Condition condition) {
-        List<ColumnCondition> conditions = new ArrayList<>(column.get(new TypeReference<List<ColumnCondition>>() {
-        }));
-        conditions.add(columnCondition);
-        return Column.of(condition.getNameField(), conditions);
+    /**
+     * Appends the condition to the conditions of this AND or OR condition. When this condition holds the last
+     * element of its chain, the condition is written in place after it, otherwise, the conditions are copied.
+     * Either way, this condition does not change, so chained and/or calls are amortized constant time.
+     */
+    private ColumnCondition append(ColumnCondition condition) {
+        if (chain != null) {
+            synchronized (chain) {
+                if (chain.size == conditions.size()) {
+                    chain.add(condition);
+                    return new DefaultColumnCondition(this.condition, chain, chain.view());
+                }
+            }
+        }
+        List<ColumnCondition> children = getConditions();
+        List<ColumnCondition> conditions = new ArrayList<>(children.size() + 1);
+        conditions.addAll(children);
+        conditions.add(condition);
+        return DefaultColumnCondition.of(this.condition, conditions);
+    }
+
+    /**
+     * Returns the conditions of either an AND or an OR condition, without reading them from the column value when
+     * this condition was created with them.
+     *
+     * @return the conditions
+     */
+    List<ColumnCondition> getConditions() {
+        if (conditions != null) {
+            return conditions;
+        }
+        return column.get(new TypeReference<List<ColumnCondition>>() {
+        });
     }
 
     @Override
@@ -168,4 +214,54 @@ final class DefaultColumnCondition implements ColumnCondition {
                 ", condition=" + condition +
                 '}';
     }
+
+    /**
+     * The conditions of AND and OR conditions chained from each other. The elements are only appended, so each
+     * condition keeps the array and the size it was created with as its view.
+     */
+    private static final class Chain {
+
+        private ColumnCondition[] elements;
+
+        private int size;
+
+        private Chain(ColumnCondition[] elements) {
+            this.elements = elements;
+            this.size = elements.length;
+        }
+
+        private void add(ColumnCondition condition) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(4, size * 2));
+            }
+            elements[size++] = condition;
+        }
+
+        private List<ColumnCondition> view() {
+            return new ChainView(elements, size);
+        }
+    }
+
+    private static final class ChainView extends AbstractList<ColumnCondition> implements RandomAccess {
+
+        private final ColumnCondition[] elements;
+
+        private final int size;
+
+        private ChainView(ColumnCondition[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        public ColumnCondition get(int index) {
+            Objects.checkIndex(index, size);
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
@@ -20,8 +20,11 @@ package org.jnosql.diana.column;
 import jakarta.nosql.Value;
 import jakarta.nosql.column.Column;
 import jakarta.nosql.column.ColumnEntity;
+import org.jnosql.diana.EntityShape;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,26 +32,37 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import static java.util.Arrays.asList;
-import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
-import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toList;
 
 /**
- * The default {@link ColumnEntity} implementation
+ * The default {@link ColumnEntity} implementation. The columns are kept in an array, in the insertion order, at
+ * the indexes of an {@link EntityShape} shared with the other entities of the same column family. Either
+ * {@link ColumnEntity#copy()} or the list views share the array, which is copied at the next change.
  */
 final class DefaultColumnEntity implements ColumnEntity {
 
-    private final Map<String, Column> columns = new HashMap<>();
+    private static final Column[] EMPTY = new Column[0];
 
     private final String name;
 
+    private EntityShape shape;
+
+    private Column[] columns;
+
+    private boolean shared;
+
     DefaultColumnEntity(String name) {
+        this(name, 0);
+    }
+
+    DefaultColumnEntity(String name, int expectedSize) {
         this.name = name;
+        this.shape = EntityShape.of(name);
+        this.columns = expectedSize == 0 ? EMPTY : new Column[expectedSize];
     }
 
     static DefaultColumnEntity of(String name, Column... columns) {
@@ -72,7 +86,15 @@ final class DefaultColumnEntity implements ColumnEntity {
     @Override
     public void add(Column column) {
         Objects.requireNonNull(column, "Column is required");
-        this.columns.put(column.getName(), column);
+        String columnName = column.getName();
+        int index = shape.indexOf(columnName);
+        if (index >= 0) {
+            writable(shape.size())[index] = column;
+            return;
+        }
+        int size = shape.size();
+        writable(size + 1)[size] = column;
+        shape = shape.add(columnName);
     }
 
     @Override
@@ -91,9 +113,10 @@ final class DefaultColumnEntity implements ColumnEntity {
 
     @Override
     public Map<String, Object> toMap() {
-        Map<String, Object> map = new HashMap<>();
-        for (Map.Entry<String, Column> entry : columns.entrySet()) {
-            Column value = entry.getValue();
+        int size = shape.size();
+        Map<String, Object> map = new HashMap<>(Math.max(16, size * 2));
+        for (int index = 0; index < size; index++) {
+            Column value = columns[index];
             map.put(value.getName(), convert(value.get()));
         }
         return Collections.unmodifiableMap(map);
@@ -113,10 +136,8 @@ final class DefaultColumnEntity implements ColumnEntity {
 
     @Override
     public List<Column> getColumns() {
-        return columns.entrySet()
-                .stream()
-                .map(Map.Entry::getValue)
-                .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        shared = true;
+        return shape.view(columns);
     }
 
     public String getName() {
@@ -126,55 +147,89 @@ final class DefaultColumnEntity implements ColumnEntity {
     @Override
     public boolean remove(String columnName) {
         requireNonNull(columnName, "columnName is required");
-        return columns.remove(columnName) != null;
+        int index = shape.indexOf(columnName);
+        if (index < 0) {
+            return false;
+        }
+        int size = shape.size();
+        Column[] values = writable(size);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        values[size - 1] = null;
+        shape = shape.remove(columnName);
+        return true;
     }
 
 
     @Override
     public Optional<Column> find(String columnName) {
         requireNonNull(columnName, "columnName is required");
-        Column column = columns.get(columnName);
-        return ofNullable(column);
+        int index = shape.indexOf(columnName);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(columns[index]);
     }
 
     @Override
     public int size() {
-        return columns.size();
+        return shape.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return columns.isEmpty();
+        return shape.size() == 0;
     }
 
     @Override
     public ColumnEntity copy() {
         DefaultColumnEntity entity = new DefaultColumnEntity(this.name);
-        entity.columns.putAll(new HashMap<>(this.columns));
+        entity.shape = this.shape;
+        entity.columns = this.columns;
+        entity.shared = true;
+        this.shared = true;
         return entity;
     }
 
     @Override
     public Set<String> getColumnNames() {
-        return unmodifiableSet(columns.keySet());
+        return shape.getNames();
     }
 
     @Override
     public Collection<Value> getValues() {
-        return columns.values().stream()
-                .map(Column::getValue)
-                .collect(toList());
+        shared = true;
+        return new Values(columns, shape.size());
     }
 
     @Override
     public boolean contains(String columnName) {
         requireNonNull(columnName, "columnName is required");
-        return columns.containsKey(columnName);
+        return shape.indexOf(columnName) >= 0;
     }
 
     @Override
     public void clear() {
-        columns.clear();
+        if (shared) {
+            columns = new Column[columns.length];
+            shared = false;
+        } else {
+            Arrays.fill(columns, 0, shape.size(), null);
+        }
+        shape = shape.clear();
+    }
+
+    /**
+     * Returns the array to change with room to the size, copying it when it is either shared or full.
+     */
+    private Column[] writable(int size) {
+        if (columns.length < size) {
+            columns = Arrays.copyOf(columns, Math.max(size, Math.max(4, columns.length * 2)));
+            shared = false;
+        } else if (shared) {
+            columns = columns.clone();
+            shared = false;
+        }
+        return columns;
     }
 
     @Override
@@ -186,13 +241,25 @@ final class DefaultColumnEntity implements ColumnEntity {
             return false;
         }
         DefaultColumnEntity that = (DefaultColumnEntity) o;
-        return Objects.equals(columns, that.columns) &&
-                Objects.equals(name, that.name);
+        if (!Objects.equals(name, that.name) || shape.size() != that.shape.size()) {
+            return false;
+        }
+        for (int index = 0; index < shape.size(); index++) {
+            int thatIndex = that.shape.indexOf(shape.getName(index));
+            if (thatIndex < 0 || !Objects.equals(columns[index], that.columns[thatIndex])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(columns, name);
+        int columnsHash = 0;
+        for (int index = 0; index < shape.size(); index++) {
+            columnsHash += shape.getName(index).hashCode() ^ columns[index].hashCode();
+        }
+        return Objects.hash(columnsHash, name);
     }
 
     @Override
@@ -201,4 +268,27 @@ final class DefaultColumnEntity implements ColumnEntity {
                 ", name='" + name + '\'' +
                 '}';
     }
+
+    private static final class Values extends AbstractList<Value> implements RandomAccess {
+
+        private final Column[] columns;
+
+        private final int size;
+
+        private Values(Column[] columns, int size) {
+            this.columns = columns;
+            this.size = size;
+        }
+
+        @Override
+        public Value get(int index) {
+            Objects.checkIndex(index, size);
+            return columns[index].getValue();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
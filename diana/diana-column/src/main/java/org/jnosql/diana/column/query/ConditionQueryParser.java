@@ -16,40 +16,34 @@
  */
 package org.jnosql.diana.column.query;
 
-import jakarta.nosql.Params;
 import jakarta.nosql.QueryException;
 import jakarta.nosql.column.Column;
-import jakarta.nosql.column.ColumnCondition;
-import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnObserverParser;
 import jakarta.nosql.query.JSONQueryValue;
 
+import java.time.Duration;
 import java.util.List;
 
+
 /**
  * A template class to Update and Insert query parser to extract the condition
  */
 abstract class ConditionQueryParser {
 
-
-    protected ColumnEntity getEntity(ConditionQuerySupplier query, String columnFamily, Params params,
-                                     ColumnObserverParser observer) {
-        ColumnEntity entity = ColumnEntity.of(columnFamily);
+    protected EntityTemplate getTemplate(ConditionQuerySupplier query, String columnFamily, Duration ttl,
+                                       ColumnObserverParser observer) {
 
         if (query.useJSONCondition()) {
-            JSONQueryValue jsonValue = query.getValue()
-                    .orElseThrow(() -> new QueryException("It is an invalid state of" +
+            JSONQueryValue jsonValue = query.getValue().orElseThrow(() -> new QueryException("It is an invalid state of" +
                     " either Update or Insert."));
             List<Column> columns = JsonObjects.getColumns(jsonValue.get());
-            entity.addAll(columns);
-            return entity;
+            return new EntityTemplate(columnFamily, columns, null, ttl);
         }
 
-        query.getConditions()
+        ConditionTemplate[] conditions = query.getConditions()
                 .stream()
-                .map(c -> Conditions.getCondition(c, params, observer, columnFamily))
-                .map(ColumnCondition::getColumn)
-                .forEach(entity::add);
-        return entity;
+                .map(c -> ConditionTemplate.of(c, observer, columnFamily))
+                .toArray(ConditionTemplate[]::new);
+        return new EntityTemplate(columnFamily, null, conditions, ttl);
     }
 }
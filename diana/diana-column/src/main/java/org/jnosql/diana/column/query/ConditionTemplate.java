@@ -0,0 +1,121 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.column.query;
+
+import jakarta.nosql.Params;
+import jakarta.nosql.QueryException;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnObserverParser;
+import jakarta.nosql.query.Condition;
+import jakarta.nosql.query.ConditionQueryValue;
+import jakarta.nosql.query.Operator;
+import jakarta.nosql.query.QueryValue;
+
+import java.util.List;
+
+import static jakarta.nosql.column.ColumnCondition.and;
+import static jakarta.nosql.column.ColumnCondition.between;
+import static jakarta.nosql.column.ColumnCondition.eq;
+import static jakarta.nosql.column.ColumnCondition.gt;
+import static jakarta.nosql.column.ColumnCondition.gte;
+import static jakarta.nosql.column.ColumnCondition.in;
+import static jakarta.nosql.column.ColumnCondition.like;
+import static jakarta.nosql.column.ColumnCondition.lt;
+import static jakarta.nosql.column.ColumnCondition.lte;
+import static jakarta.nosql.column.ColumnCondition.or;
+
+/**
+ * An immutable {@link Condition} whose field names were already resolved by the {@link ColumnObserverParser}.
+ * Binding it to a {@link Params} creates a new {@link ColumnCondition} without calling the observer again.
+ */
+final class ConditionTemplate {
+
+    private static final ConditionTemplate[] EMPTY = new ConditionTemplate[0];
+
+    private final Operator operator;
+
+    private final String name;
+
+    private final QueryValue<?> value;
+
+    private final ConditionTemplate[] conditions;
+
+    private ConditionTemplate(Operator operator, String name, QueryValue<?> value, ConditionTemplate[] conditions) {
+        this.operator = operator;
+        this.name = name;
+        this.value = value;
+        this.conditions = conditions;
+    }
+
+    ColumnCondition bind(Params params) {
+        switch (operator) {
+            case EQUALS:
+                return eq(getColumn(params));
+            case GREATER_THAN:
+                return gt(getColumn(params));
+            case GREATER_EQUALS_THAN:
+                return gte(getColumn(params));
+            case LESSER_THAN:
+                return lt(getColumn(params));
+            case LESSER_EQUALS_THAN:
+                return lte(getColumn(params));
+            case IN:
+                return in(getColumn(params));
+            case LIKE:
+                return like(getColumn(params));
+            case BETWEEN:
+                return between(getColumn(params));
+            case NOT:
+                return conditions[0].bind(params).negate();
+            case OR:
+                return or(bind(conditions, params));
+            case AND:
+                return and(bind(conditions, params));
+            default:
+                throw new QueryException("There is not support the type: " + operator);
+        }
+    }
+
+    private Column getColumn(Params params) {
+        return Column.of(name, Values.get(value, params));
+    }
+
+    private static ColumnCondition[] bind(ConditionTemplate[] conditions, Params params) {
+        ColumnCondition[] columnConditions = new ColumnCondition[conditions.length];
+        for (int index = 0; index < conditions.length; index++) {
+            columnConditions[index] = conditions[index].bind(params);
+        }
+        return columnConditions;
+    }
+
+    static ConditionTemplate of(Condition condition, ColumnObserverParser observer, String entity) {
+        Operator operator = condition.getOperator();
+        switch (operator) {
+            case NOT:
+            case OR:
+            case AND:
+                List<Condition> conditions = ConditionQueryValue.class.cast(condition.getValue()).get();
+                return new ConditionTemplate(operator, null, null, conditions.stream()
+                        .map(c -> of(c, observer, entity))
+                        .toArray(ConditionTemplate[]::new));
+            default:
+                return new ConditionTemplate(operator, observer.fireField(entity, condition.getName()),
+                        condition.getValue(), EMPTY);
+        }
+    }
+}
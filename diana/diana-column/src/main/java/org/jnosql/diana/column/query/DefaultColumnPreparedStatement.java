@@ -24,16 +24,21 @@ import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnFamilyManager;
 import jakarta.nosql.column.ColumnPreparedStatement;
 import jakarta.nosql.column.ColumnQuery;
+import org.jnosql.diana.IndexedParams;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
-final class DefaultColumnPreparedStatement implements ColumnPreparedStatement {
+final class DefaultColumnPreparedStatement implements IndexedColumnPreparedStatement {
+
+    private static final boolean COPY_ON_BIND = Boolean.getBoolean(IndexedParams.COPY_ON_BIND_PROPERTY);
 
     private final ColumnEntity entity;
 
@@ -43,50 +48,79 @@ final class DefaultColumnPreparedStatement implements ColumnPreparedStatement {
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final IndexedParams params;
 
     private final String query;
 
-    private final List<String> paramsLeft;
-
     private final Duration duration;
 
     private final ColumnFamilyManager manager;
 
+    private final Supplier<DefaultColumnPreparedStatement> copy;
+
     private DefaultColumnPreparedStatement(ColumnEntity entity,
                                            ColumnQuery columnQuery,
                                            ColumnDeleteQuery columnDeleteQuery,
                                            PreparedStatementType type,
-                                           Params params,
+                                           IndexedParams params,
                                            String query,
-                                           List<String> paramsLeft,
                                            Duration duration,
-                                           ColumnFamilyManager manager) {
+                                           ColumnFamilyManager manager,
+                                           Supplier<DefaultColumnPreparedStatement> copy) {
         this.entity = entity;
         this.columnQuery = columnQuery;
         this.columnDeleteQuery = columnDeleteQuery;
         this.type = type;
         this.params = params;
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
+        this.copy = copy;
     }
 
     @Override
-    public ColumnPreparedStatement bind(String name, Object value) {
+    public IndexedColumnPreparedStatement bind(String name, Object value) {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        int index = params.indexOf(name);
+        if (index < 0) {
+            return this;
+        }
+        return bindSlot(index, value);
+    }
+
+    @Override
+    public int indexOf(String name) {
+        return params.indexOf(name);
+    }
+
+    @Override
+    public IndexedColumnPreparedStatement bind(int index, Object value) {
+        Objects.requireNonNull(value, "value is required");
+        if (index < 0 || index >= params.size()) {
+            throw new IndexOutOfBoundsException("There is no parameter at the index: " + index);
+        }
+        return bindSlot(index, value);
+    }
+
+    @Override
+    public IndexedColumnPreparedStatement clearBindings() {
+        params.clearBindings();
         return this;
     }
 
+    private IndexedColumnPreparedStatement bindSlot(int index, Object value) {
+        DefaultColumnPreparedStatement statement = Objects.isNull(copy) ? this : copy.get();
+        statement.params.bind(index, value);
+        return statement;
+    }
+
     @Override
     public List<ColumnEntity> getResultList() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        if (!params.isBound()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: "
+                    + params.getUnboundNames());
         }
         switch (type) {
             case SELECT:
@@ -131,46 +165,69 @@ final class DefaultColumnPreparedStatement implements ColumnPreparedStatement {
         return query;
     }
 
-    static ColumnPreparedStatement select(
-            ColumnQuery columnQuery,
-            Params params,
-            String query,
-            ColumnFamilyManager manager) {
-        return new DefaultColumnPreparedStatement(null, columnQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
-
+    static DefaultColumnPreparedStatement select(Function<Params, ColumnQuery> template,
+                                                 String query,
+                                                 ColumnFamilyManager manager) {
+        return select(template, query, manager, COPY_ON_BIND);
     }
 
-    static ColumnPreparedStatement delete(ColumnDeleteQuery columnDeleteQuery,
-                                          Params params,
-                                          String query,
-                                          ColumnFamilyManager manager) {
+    static DefaultColumnPreparedStatement delete(Function<Params, ColumnDeleteQuery> template,
+                                                 String query,
+                                                 ColumnFamilyManager manager) {
+        return delete(template, query, manager, COPY_ON_BIND);
+    }
 
-        return new DefaultColumnPreparedStatement(null, null,
-                columnDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultColumnPreparedStatement insert(Function<Params, ColumnEntity> template,
+                                                 String query,
+                                                 Duration duration,
+                                                 ColumnFamilyManager manager) {
+        return insert(template, query, duration, manager, COPY_ON_BIND);
+    }
 
+    static DefaultColumnPreparedStatement update(Function<Params, ColumnEntity> template,
+                                                 String query,
+                                                 ColumnFamilyManager manager) {
+        return update(template, query, manager, COPY_ON_BIND);
     }
 
-    static ColumnPreparedStatement insert(ColumnEntity entity,
-                                          Params params,
-                                          String query,
-                                          Duration duration,
-                                          ColumnFamilyManager manager) {
-        return new DefaultColumnPreparedStatement(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+    static DefaultColumnPreparedStatement select(Function<Params, ColumnQuery> template,
+                                                         String query,
+                                                         ColumnFamilyManager manager,
+                                                         boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultColumnPreparedStatement(null, template.apply(params),
+                null, PreparedStatementType.SELECT, params, query, null, manager,
+                copyOnBind ? () -> select(template, query, manager, false) : null);
+    }
 
+    static DefaultColumnPreparedStatement delete(Function<Params, ColumnDeleteQuery> template,
+                                                         String query,
+                                                         ColumnFamilyManager manager,
+                                                         boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultColumnPreparedStatement(null, null,
+                template.apply(params), PreparedStatementType.DELETE, params, query, null, manager,
+                copyOnBind ? () -> delete(template, query, manager, false) : null);
     }
 
-    static ColumnPreparedStatement update(ColumnEntity entity,
-                                          Params params,
-                                          String query,
-                                          ColumnFamilyManager manager) {
-        return new DefaultColumnPreparedStatement(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultColumnPreparedStatement insert(Function<Params, ColumnEntity> template,
+                                                         String query,
+                                                         Duration duration,
+                                                         ColumnFamilyManager manager,
+                                                         boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultColumnPreparedStatement(template.apply(params), null,
+                null, PreparedStatementType.INSERT, params, query, duration, manager,
+                copyOnBind ? () -> insert(template, query, duration, manager, false) : null);
+    }
 
+    static DefaultColumnPreparedStatement update(Function<Params, ColumnEntity> template,
+                                                         String query,
+                                                         ColumnFamilyManager manager,
+                                                         boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultColumnPreparedStatement(template.apply(params), null,
+                null, PreparedStatementType.UPDATE, params, query, null, manager,
+                copyOnBind ? () -> update(template, query, manager, false) : null);
     }
 }
@@ -24,6 +24,7 @@ import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnFamilyManagerAsync;
 import jakarta.nosql.column.ColumnPreparedStatementAsync;
 import jakarta.nosql.column.ColumnQuery;
+import org.jnosql.diana.IndexedParams;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -31,8 +32,12 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStatementAsync {
+final class DefaultColumnPreparedStatementAsync implements IndexedColumnPreparedStatementAsync {
+
+    private static final boolean COPY_ON_BIND = Boolean.getBoolean(IndexedParams.COPY_ON_BIND_PROPERTY);
 
     private final ColumnEntity entity;
 
@@ -42,52 +47,81 @@ final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStateme
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final IndexedParams params;
 
     private final String query;
 
-    private final List<String> paramsLeft;
-
     private final Duration duration;
 
     private final ColumnFamilyManagerAsync manager;
 
+    private final Supplier<DefaultColumnPreparedStatementAsync> copy;
+
     private DefaultColumnPreparedStatementAsync(ColumnEntity entity,
                                                 ColumnQuery columnQuery,
                                                 ColumnDeleteQuery columnDeleteQuery,
                                                 PreparedStatementType type,
-                                                Params params,
+                                                IndexedParams params,
                                                 String query,
-                                                List<String> paramsLeft,
                                                 Duration duration,
-                                                ColumnFamilyManagerAsync manager) {
+                                                ColumnFamilyManagerAsync manager,
+                                                Supplier<DefaultColumnPreparedStatementAsync> copy) {
         this.entity = entity;
         this.columnQuery = columnQuery;
         this.columnDeleteQuery = columnDeleteQuery;
         this.type = type;
         this.params = params;
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
+        this.copy = copy;
     }
 
     @Override
-    public ColumnPreparedStatementAsync bind(String name, Object value) {
+    public IndexedColumnPreparedStatementAsync bind(String name, Object value) {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        int index = params.indexOf(name);
+        if (index < 0) {
+            return this;
+        }
+        return bindSlot(index, value);
+    }
+
+    @Override
+    public int indexOf(String name) {
+        return params.indexOf(name);
+    }
+
+    @Override
+    public IndexedColumnPreparedStatementAsync bind(int index, Object value) {
+        Objects.requireNonNull(value, "value is required");
+        if (index < 0 || index >= params.size()) {
+            throw new IndexOutOfBoundsException("There is no parameter at the index: " + index);
+        }
+        return bindSlot(index, value);
+    }
+
+    @Override
+    public IndexedColumnPreparedStatementAsync clearBindings() {
+        params.clearBindings();
         return this;
     }
 
+    private IndexedColumnPreparedStatementAsync bindSlot(int index, Object value) {
+        DefaultColumnPreparedStatementAsync statement = Objects.isNull(copy) ? this : copy.get();
+        statement.params.bind(index, value);
+        return statement;
+    }
+
     @Override
     public void getResultList(Consumer<List<ColumnEntity>> callBack) {
         Objects.requireNonNull(callBack, "callBack is required");
 
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        if (!params.isBound()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: "
+                    + params.getUnboundNames());
         }
         switch (type) {
             case SELECT:
@@ -139,46 +173,69 @@ final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStateme
         return query;
     }
 
-    static ColumnPreparedStatementAsync select(
-            ColumnQuery columnQuery,
-            Params params,
-            String query,
-            ColumnFamilyManagerAsync manager) {
-        return new DefaultColumnPreparedStatementAsync(null, columnQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
-
+    static DefaultColumnPreparedStatementAsync select(Function<Params, ColumnQuery> template,
+                                                      String query,
+                                                      ColumnFamilyManagerAsync manager) {
+        return select(template, query, manager, COPY_ON_BIND);
     }
 
-    static ColumnPreparedStatementAsync delete(ColumnDeleteQuery columnDeleteQuery,
-                                               Params params,
-                                               String query,
-                                               ColumnFamilyManagerAsync manager) {
+    static DefaultColumnPreparedStatementAsync delete(Function<Params, ColumnDeleteQuery> template,
+                                                      String query,
+                                                      ColumnFamilyManagerAsync manager) {
+        return delete(template, query, manager, COPY_ON_BIND);
+    }
 
-        return new DefaultColumnPreparedStatementAsync(null, null,
-                columnDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultColumnPreparedStatementAsync insert(Function<Params, ColumnEntity> template,
+                                                      String query,
+                                                      Duration duration,
+                                                      ColumnFamilyManagerAsync manager) {
+        return insert(template, query, duration, manager, COPY_ON_BIND);
+    }
 
+    static DefaultColumnPreparedStatementAsync update(Function<Params, ColumnEntity> template,
+                                                      String query,
+                                                      ColumnFamilyManagerAsync manager) {
+        return update(template, query, manager, COPY_ON_BIND);
     }
 
-    static ColumnPreparedStatementAsync insert(ColumnEntity entity,
-                                               Params params,
-                                               String query,
-                                               Duration duration,
-                                               ColumnFamilyManagerAsync manager) {
-        return new DefaultColumnPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+    static DefaultColumnPreparedStatementAsync select(Function<Params, ColumnQuery> template,
+                                                              String query,
+                                                              ColumnFamilyManagerAsync manager,
+                                                              boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultColumnPreparedStatementAsync(null, template.apply(params),
+                null, PreparedStatementType.SELECT, params, query, null, manager,
+                copyOnBind ? () -> select(template, query, manager, false) : null);
+    }
 
+    static DefaultColumnPreparedStatementAsync delete(Function<Params, ColumnDeleteQuery> template,
+                                                              String query,
+                                                              ColumnFamilyManagerAsync manager,
+                                                              boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultColumnPreparedStatementAsync(null, null,
+                template.apply(params), PreparedStatementType.DELETE, params, query, null, manager,
+                copyOnBind ? () -> delete(template, query, manager, false) : null);
     }
 
-    static ColumnPreparedStatementAsync update(ColumnEntity entity,
-                                               Params params,
-                                               String query,
-                                               ColumnFamilyManagerAsync manager) {
-        return new DefaultColumnPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultColumnPreparedStatementAsync insert(Function<Params, ColumnEntity> template,
+                                                              String query,
+                                                              Duration duration,
+                                                              ColumnFamilyManagerAsync manager,
+                                                              boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultColumnPreparedStatementAsync(template.apply(params), null,
+                null, PreparedStatementType.INSERT, params, query, duration, manager,
+                copyOnBind ? () -> insert(template, query, duration, manager, false) : null);
+    }
 
+    static DefaultColumnPreparedStatementAsync update(Function<Params, ColumnEntity> template,
+                                                              String query,
+                                                              ColumnFamilyManagerAsync manager,
+                                                              boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultColumnPreparedStatementAsync(template.apply(params), null,
+                null, PreparedStatementType.UPDATE, params, query, null, manager,
+                copyOnBind ? () -> update(template, query, manager, false) : null);
     }
 }
\ No newline at end of file
@@ -19,7 +19,6 @@ package org.jnosql.diana.column.query;
 import jakarta.nosql.Params;
 import jakarta.nosql.QueryException;
 import jakarta.nosql.ServiceLoaderProvider;
-import jakarta.nosql.column.ColumnCondition;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnDeleteQueryParams;
 import jakarta.nosql.column.ColumnEntity;
@@ -35,7 +34,6 @@ import jakarta.nosql.query.DeleteQuery.DeleteQueryProvider;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
@@ -45,16 +43,16 @@ import static java.util.Objects.requireNonNull;
 public final class DefaultDeleteQueryConverter implements DeleteQueryConverter {
 
     private final DeleteQueryProvider deleteQueryProvider;
-    private final CacheQuery<ColumnDeleteQuery> cache;
+    private final CacheQuery<DeleteTemplate> cache;
 
     public DefaultDeleteQueryConverter() {
         this.deleteQueryProvider = ServiceLoaderProvider.get(DeleteQueryProvider.class);
-        cache = new CacheQuery<>(this::getQuery);
+        cache = new CacheQuery<>(this::getTemplate);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        ColumnDeleteQuery columnDeleteQuery = cache.get(query, observer);
+        ColumnDeleteQuery columnDeleteQuery = getQuery(query, observer);
         manager.delete(columnDeleteQuery);
         return Collections.emptyList();
     }
@@ -62,23 +60,19 @@ public final class DefaultDeleteQueryConverter implements DeleteQueryConverter {
     void queryAsync(String query, ColumnFamilyManagerAsync manager,
                     Consumer<List<ColumnEntity>> callBack, ColumnObserverParser observer) {
 
-        ColumnDeleteQuery columnDeleteQuery = cache.get(query, observer);
+        ColumnDeleteQuery columnDeleteQuery = getQuery(query, observer);
         manager.delete(columnDeleteQuery, v -> callBack.accept(Collections.emptyList()));
     }
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager,
                                     ColumnObserverParser observer) {
-        Params params = Params.newParams();
-        ColumnDeleteQuery columnDeleteQuery = getQuery(query, params, observer);
-        return DefaultColumnPreparedStatement.delete(columnDeleteQuery, params, query, manager);
+        return DefaultColumnPreparedStatement.delete(cache.get(query, observer)::bind, query, manager);
     }
 
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = Params.newParams();
-        ColumnDeleteQuery columnDeleteQuery = getQuery(query, params, observer);
-        return DefaultColumnPreparedStatementAsync.delete(columnDeleteQuery, params, query, manager);
+        return DefaultColumnPreparedStatementAsync.delete(cache.get(query, observer)::bind, query, manager);
 
     }
 
@@ -89,47 +83,23 @@ public final class DefaultDeleteQueryConverter implements DeleteQueryConverter {
         requireNonNull(deleteQuery, "deleteQuery is required");
         requireNonNull(columnObserverParser, "columnObserverParser is required");
         Params params = Params.newParams();
-        ColumnDeleteQuery query = getQuery(params, columnObserverParser, deleteQuery);
+        ColumnDeleteQuery query = DeleteTemplate.of(deleteQuery, columnObserverParser).bind(params);
         return new DefaultColumnDeleteQueryParams(query, params);
     }
 
-    private ColumnDeleteQuery getQuery(String query, Params params, ColumnObserverParser observer) {
-        DeleteQuery deleteQuery = deleteQueryProvider.apply(query);
-
-        return getQuery(params, observer, deleteQuery);
-    }
-
-    private ColumnDeleteQuery getQuery(Params params, ColumnObserverParser observer, DeleteQuery deleteQuery) {
-        String columnFamily = observer.fireEntity(deleteQuery.getEntity());
-        List<String> columns = deleteQuery.getFields().stream()
-                .map(f -> observer.fireField(columnFamily, f))
-                .collect(Collectors.toList());
-        ColumnCondition condition = null;
-
-        if (deleteQuery.getWhere().isPresent()) {
-            condition = deleteQuery.getWhere().map(c -> Conditions.getCondition(c, params, observer, columnFamily)).get();
-        }
-
-        return new DefaultColumnDeleteQuery(columnFamily, condition, columns);
-    }
-
     private ColumnDeleteQuery getQuery(String query, ColumnObserverParser observer) {
-        DeleteQuery deleteQuery = deleteQueryProvider.apply(query);
-
-        String columnFamily = observer.fireEntity(deleteQuery.getEntity());
-        List<String> columns = deleteQuery.getFields().stream()
-                .map(f -> observer.fireField(columnFamily, f))
-                .collect(Collectors.toList());
-        ColumnCondition condition = null;
         Params params = Params.newParams();
-
-        if (deleteQuery.getWhere().isPresent()) {
-            condition = deleteQuery.getWhere().map(c -> Conditions.getCondition(c, params, observer, columnFamily)).get();
-        }
-
+        ColumnDeleteQuery columnDeleteQuery = cache.get(query, observer).bind(params);
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultColumnDeleteQuery(columnFamily, condition, columns);
+        return columnDeleteQuery;
     }
-}
\ No newline at end of file
+
+    private DeleteTemplate getTemplate(String query, ColumnObserverParser observer) {
+        DeleteQuery deleteQuery = deleteQueryProvider.apply(query);
+        return DeleteTemplate.of(deleteQuery, observer);
+    }
+
+
+}
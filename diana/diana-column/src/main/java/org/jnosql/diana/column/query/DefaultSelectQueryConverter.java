@@ -19,8 +19,6 @@ package org.jnosql.diana.column.query;
 import jakarta.nosql.Params;
 import jakarta.nosql.QueryException;
 import jakarta.nosql.ServiceLoaderProvider;
-import jakarta.nosql.Sort;
-import jakarta.nosql.column.ColumnCondition;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnFamilyManager;
 import jakarta.nosql.column.ColumnFamilyManagerAsync;
@@ -36,9 +34,6 @@ import jakarta.nosql.query.SelectQuery.SelectQueryProvider;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
-
-import static java.util.stream.Collectors.toList;
 
 /**
  * The default implementation of {@link SelectQueryConverter}
@@ -46,101 +41,57 @@ import static java.util.stream.Collectors.toList;
 public final class DefaultSelectQueryConverter implements SelectQueryConverter {
 
     private final SelectQueryProvider selectQueryProvider;
-    private final CacheQuery<ColumnQuery> cache;
+    private final CacheQuery<SelectTemplate> cache;
 
     public DefaultSelectQueryConverter() {
         this.selectQueryProvider = ServiceLoaderProvider.get(SelectQueryProvider.class);
-        this.cache = new CacheQuery<>(this::getColumnQuery);
+        this.cache = new CacheQuery<>(this::getTemplate);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        ColumnQuery columnQuery = cache.get(query, observer);
+        ColumnQuery columnQuery = getColumnQuery(query, observer);
         return manager.select(columnQuery);
     }
 
     void queryAsync(String query, ColumnFamilyManagerAsync manager, Consumer<List<ColumnEntity>> callBack,
                     ColumnObserverParser observer) {
 
-        ColumnQuery columnQuery = cache.get(query, observer);
+        ColumnQuery columnQuery = getColumnQuery(query, observer);
         manager.select(columnQuery, callBack);
     }
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        Params params = Params.newParams();
-
-        SelectQuery selectQuery = selectQueryProvider.apply(query);
-
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
-        return DefaultColumnPreparedStatement.select(columnQuery, params, query, manager);
+        return DefaultColumnPreparedStatement.select(cache.get(query, observer)::bind, query, manager);
     }
 
+    ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
+                                              ColumnObserverParser observer) {
+        return DefaultColumnPreparedStatementAsync.select(cache.get(query, observer)::bind, query, manager);
+    }
 
     @Override
     public ColumnQueryParams apply(SelectQuery selectQuery, ColumnObserverParser observer) {
         Objects.requireNonNull(selectQuery, "selectQuery is required");
         Objects.requireNonNull(observer, "observer is required");
-
         Params params = Params.newParams();
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
+        ColumnQuery columnQuery = SelectTemplate.of(selectQuery, observer).bind(params);
         return new DefaultColumnQueryParams(columnQuery, params);
     }
 
-    ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
-                                              ColumnObserverParser observer) {
-        Params params = Params.newParams();
-
-        SelectQuery selectQuery = selectQueryProvider.apply(query);
-
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
-        return DefaultColumnPreparedStatementAsync.select(columnQuery, params, query, manager);
-    }
-
     private ColumnQuery getColumnQuery(String query, ColumnObserverParser observer) {
-
-        SelectQuery selectQuery = selectQueryProvider.apply(query);
-        String columnFamily = observer.fireEntity(selectQuery.getEntity());
-        long limit = selectQuery.getLimit();
-        long skip = selectQuery.getSkip();
-        List<String> columns = selectQuery.getFields().stream()
-                .map(f -> observer.fireField(columnFamily, f))
-                .collect(Collectors.toList());
-        List<Sort> sorts = selectQuery.getOrderBy().stream().map(s -> toSort(s, observer, columnFamily))
-                .collect(toList());
-        ColumnCondition condition = null;
         Params params = Params.newParams();
-        if (selectQuery.getWhere().isPresent()) {
-            condition = selectQuery.getWhere().map(c -> Conditions.getCondition(c, params, observer, columnFamily)).get();
-        }
-
+        ColumnQuery columnQuery = cache.get(query, observer).bind(params);
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
-    }
-
-    private ColumnQuery getColumnQuery(Params params, SelectQuery selectQuery, ColumnObserverParser observer) {
-
-        String columnFamily = observer.fireEntity(selectQuery.getEntity());
-        long limit = selectQuery.getLimit();
-        long skip = selectQuery.getSkip();
-        List<String> columns = selectQuery.getFields().stream()
-                .map(f -> observer.fireField(columnFamily, f))
-                .collect(Collectors.toList());
-
-        List<Sort> sorts = selectQuery.getOrderBy().stream().map(s -> toSort(s, observer, columnFamily)).collect(toList());
-        ColumnCondition condition = null;
-        if (selectQuery.getWhere().isPresent()) {
-            condition = selectQuery.getWhere().map(c -> Conditions.getCondition(c, params, observer, columnFamily)).get();
-        }
-
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return columnQuery;
     }
 
-    private Sort toSort(Sort sort, ColumnObserverParser observer, String entity) {
-        return Sort.of(observer.fireField(entity, sort.getName()), sort.getType());
+    private SelectTemplate getTemplate(String query, ColumnObserverParser observer) {
+        SelectQuery selectQuery = selectQueryProvider.apply(query);
+        return SelectTemplate.of(selectQuery, observer);
     }
 
-
-}
\ No newline at end of file
+}
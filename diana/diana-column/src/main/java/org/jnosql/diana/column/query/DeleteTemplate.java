@@ -0,0 +1,67 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.column.query;
+
+import jakarta.nosql.Params;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnObserverParser;
+import jakarta.nosql.query.DeleteQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An immutable delete statement whose names were already resolved by the {@link ColumnObserverParser}.
+ * Each {@link #bind(Params)} creates a new {@link ColumnDeleteQuery}, so one template serves many executions.
+ */
+final class DeleteTemplate {
+
+    private final String columnFamily;
+
+    private final List<String> columns;
+
+    private final ConditionTemplate condition;
+
+    private DeleteTemplate(String columnFamily, List<String> columns, ConditionTemplate condition) {
+        this.columnFamily = columnFamily;
+        this.columns = columns;
+        this.condition = condition;
+    }
+
+    ColumnDeleteQuery bind(Params params) {
+        ColumnCondition columnCondition = null;
+        if (Objects.nonNull(condition)) {
+            columnCondition = condition.bind(params);
+        }
+        return new DefaultColumnDeleteQuery(columnFamily, columnCondition, columns);
+    }
+
+    static DeleteTemplate of(DeleteQuery deleteQuery, ColumnObserverParser observer) {
+        String columnFamily = observer.fireEntity(deleteQuery.getEntity());
+        List<String> columns = deleteQuery.getFields().stream()
+                .map(f -> observer.fireField(columnFamily, f))
+                .collect(toList());
+        ConditionTemplate condition = deleteQuery.getWhere()
+                .map(w -> ConditionTemplate.of(w.getCondition(), observer, columnFamily))
+                .orElse(null);
+        return new DeleteTemplate(columnFamily, unmodifiableList(columns), condition);
+    }
+}
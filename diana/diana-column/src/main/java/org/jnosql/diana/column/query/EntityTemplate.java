@@ -0,0 +1,65 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.column.query;
+
+import jakarta.nosql.Params;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable insert or update statement whose names were already resolved by the
+ * {@link jakarta.nosql.column.ColumnObserverParser}. Each {@link #bind(Params)} creates a new
+ * {@link ColumnEntity}, so one template serves many executions.
+ */
+final class EntityTemplate {
+
+    private final String columnFamily;
+
+    private final List<Column> columns;
+
+    private final ConditionTemplate[] conditions;
+
+    private final Duration ttl;
+
+    EntityTemplate(String columnFamily, List<Column> columns, ConditionTemplate[] conditions, Duration ttl) {
+        this.columnFamily = columnFamily;
+        this.columns = columns;
+        this.conditions = conditions;
+        this.ttl = ttl;
+    }
+
+    ColumnEntity bind(Params params) {
+        ColumnEntity entity = ColumnEntity.of(columnFamily);
+        if (Objects.nonNull(columns)) {
+            entity.addAll(columns);
+            return entity;
+        }
+        for (ConditionTemplate condition : conditions) {
+            entity.add(condition.bind(params).getColumn());
+        }
+        return entity;
+    }
+
+    Optional<Duration> getTtl() {
+        return Optional.ofNullable(ttl);
+    }
+}
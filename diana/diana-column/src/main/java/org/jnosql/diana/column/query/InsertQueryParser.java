@@ -40,24 +40,19 @@ import static java.util.Collections.singletonList;
 final class InsertQueryParser extends ConditionQueryParser {
 
     private final InsertQueryProvider insertQueryProvider;
+    private final CacheQuery<EntityTemplate> cache;
 
     InsertQueryParser() {
         this.insertQueryProvider = ServiceLoaderProvider.get(InsertQueryProvider.class);
+        this.cache = new CacheQuery<>(this::getTemplate);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        InsertQuery insertQuery = insertQueryProvider.apply(query);
-
-        String columnFamily = insertQuery.getEntity();
-        Params params = Params.newParams();
-
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
+        EntityTemplate template = cache.get(query, observer);
+        ColumnEntity entity = getEntity(template);
 
-        Optional<Duration> ttl = insertQuery.getTtl();
-        if (params.isNotEmpty()) {
-            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
-        }
+        Optional<Duration> ttl = template.getTtl();
         if (ttl.isPresent()) {
             return singletonList(manager.insert(entity, ttl.get()));
         } else {
@@ -66,21 +61,12 @@ final class InsertQueryParser extends ConditionQueryParser {
     }
 
     void queryAsync(String query, ColumnFamilyManagerAsync manager,
-                    Consumer<List<ColumnEntity>> callBack,
-                    ColumnObserverParser observer) {
-
-        InsertQuery insertQuery = insertQueryProvider.apply(query);
-
-        String columnFamily = observer.fireEntity(insertQuery.getEntity());
-
-        Params params = Params.newParams();
+                    Consumer<List<ColumnEntity>> callBack, ColumnObserverParser observer) {
 
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
+        EntityTemplate template = cache.get(query, observer);
+        ColumnEntity entity = getEntity(template);
 
-        Optional<Duration> ttl = insertQuery.getTtl();
-        if (params.isNotEmpty()) {
-            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
-        }
+        Optional<Duration> ttl = template.getTtl();
         if (ttl.isPresent()) {
             manager.insert(entity, ttl.get(), c -> callBack.accept(singletonList(c)));
         } else {
@@ -90,33 +76,33 @@ final class InsertQueryParser extends ConditionQueryParser {
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager,
                                     ColumnObserverParser observer) {
-        InsertQuery insertQuery = insertQueryProvider.apply(query);
-
-        String columnFamily = observer.fireEntity(insertQuery.getEntity());
-        Params params = Params.newParams();
-
-        Optional<Duration> ttl = insertQuery.getTtl();
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
-
-        return DefaultColumnPreparedStatement.insert(entity, params, query, ttl.orElse(null), manager);
+        EntityTemplate template = cache.get(query, observer);
+        return DefaultColumnPreparedStatement.insert(template::bind, query, template.getTtl().orElse(null),
+                manager);
 
     }
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
+        EntityTemplate template = cache.get(query, observer);
+        return DefaultColumnPreparedStatementAsync.insert(template::bind, query, template.getTtl().orElse(null),
+                manager);
+    }
+
+    private ColumnEntity getEntity(EntityTemplate template) {
         Params params = Params.newParams();
+        ColumnEntity entity = template.bind(params);
+        if (params.isNotEmpty()) {
+            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
+        }
+        return entity;
+    }
 
+    private EntityTemplate getTemplate(String query, ColumnObserverParser observer) {
         InsertQuery insertQuery = insertQueryProvider.apply(query);
         String columnFamily = observer.fireEntity(insertQuery.getEntity());
-        Optional<Duration> ttl = insertQuery.getTtl();
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
-
-        return DefaultColumnPreparedStatementAsync.insert(entity, params, query, ttl.orElse(null), manager);
-    }
-
-    private ColumnEntity getEntity(InsertQuery insertQuery, String columnFamily, Params params,
-                                   ColumnObserverParser observer) {
-        return getEntity(new InsertQueryConditionSupplier(insertQuery), columnFamily, params, observer);
+        return getTemplate(new InsertQueryConditionSupplier(insertQuery), columnFamily,
+                insertQuery.getTtl().orElse(null), observer);
     }
 
 
@@ -137,5 +123,4 @@ final class InsertQueryParser extends ConditionQueryParser {
             return query.getValue();
         }
     }
-
 }
@@ -0,0 +1,82 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.column.query;
+
+import jakarta.nosql.Params;
+import jakarta.nosql.Sort;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnObserverParser;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.query.SelectQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An immutable select statement whose names were already resolved by the {@link ColumnObserverParser}.
+ * Each {@link #bind(Params)} creates a new {@link ColumnQuery}, so one template serves many executions.
+ */
+final class SelectTemplate {
+
+    private final String columnFamily;
+
+    private final long limit;
+
+    private final long skip;
+
+    private final List<String> columns;
+
+    private final List<Sort> sorts;
+
+    private final ConditionTemplate condition;
+
+    private SelectTemplate(String columnFamily, long limit, long skip, List<String> columns, List<Sort> sorts,
+                           ConditionTemplate condition) {
+        this.columnFamily = columnFamily;
+        this.limit = limit;
+        this.skip = skip;
+        this.columns = columns;
+        this.sorts = sorts;
+        this.condition = condition;
+    }
+
+    ColumnQuery bind(Params params) {
+        ColumnCondition columnCondition = null;
+        if (Objects.nonNull(condition)) {
+            columnCondition = condition.bind(params);
+        }
+        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, columnCondition);
+    }
+
+    static SelectTemplate of(SelectQuery selectQuery, ColumnObserverParser observer) {
+        String columnFamily = observer.fireEntity(selectQuery.getEntity());
+        List<String> columns = selectQuery.getFields().stream()
+                .map(f -> observer.fireField(columnFamily, f))
+                .collect(toList());
+        List<Sort> sorts = selectQuery.getOrderBy().stream()
+                .map(s -> Sort.of(observer.fireField(columnFamily, s.getName()), s.getType()))
+                .collect(toList());
+        ConditionTemplate condition = selectQuery.getWhere()
+                .map(w -> ConditionTemplate.of(w.getCondition(), observer, columnFamily))
+                .orElse(null);
+        return new SelectTemplate(columnFamily, selectQuery.getLimit(), selectQuery.getSkip(),
+                unmodifiableList(columns), unmodifiableList(sorts), condition);
+    }
+}
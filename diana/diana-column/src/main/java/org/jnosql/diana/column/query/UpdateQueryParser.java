@@ -16,7 +16,6 @@
  */
 package org.jnosql.diana.column.query;
 
-import jakarta.nosql.query.Condition;
 import jakarta.nosql.Params;
 import jakarta.nosql.QueryException;
 import jakarta.nosql.ServiceLoaderProvider;
@@ -26,6 +25,7 @@ import jakarta.nosql.column.ColumnFamilyManagerAsync;
 import jakarta.nosql.column.ColumnObserverParser;
 import jakarta.nosql.column.ColumnPreparedStatement;
 import jakarta.nosql.column.ColumnPreparedStatementAsync;
+import jakarta.nosql.query.Condition;
 import jakarta.nosql.query.JSONQueryValue;
 import jakarta.nosql.query.UpdateQuery;
 import jakarta.nosql.query.UpdateQuery.UpdateQueryProvider;
@@ -39,65 +39,49 @@ import static java.util.Collections.singletonList;
 final class UpdateQueryParser extends ConditionQueryParser {
 
     private final UpdateQueryProvider updateQueryProvider;
+    private final CacheQuery<EntityTemplate> cache;
 
     UpdateQueryParser() {
         this.updateQueryProvider = ServiceLoaderProvider.get(UpdateQueryProvider.class);
+        this.cache = new CacheQuery<>(this::getTemplate);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        UpdateQuery updateQuery = updateQueryProvider.apply(query);
-
-        Params params = Params.newParams();
-
-        ColumnEntity entity = getEntity(params, updateQuery, observer);
-
-        if (params.isNotEmpty()) {
-            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
-        }
+        ColumnEntity entity = getEntity(query, observer);
         return singletonList(manager.update(entity));
     }
 
     void queryAsync(String query, ColumnFamilyManagerAsync manager,
                     Consumer<List<ColumnEntity>> callBack, ColumnObserverParser observer) {
 
-        UpdateQuery updateQuery = updateQueryProvider.apply(query);
-
-        Params params = Params.newParams();
-
-        ColumnEntity entity = getEntity(params, updateQuery, observer);
-
-        if (params.isNotEmpty()) {
-            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
-        }
+        ColumnEntity entity = getEntity(query, observer);
         manager.update(entity, c -> callBack.accept(singletonList(c)));
     }
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        Params params = Params.newParams();
-
-        UpdateQuery updateQuery = updateQueryProvider.apply(query);
-
-        ColumnEntity entity = getEntity(params, updateQuery, observer);
-
-        return DefaultColumnPreparedStatement.update(entity, params, query, manager);
+        return DefaultColumnPreparedStatement.update(cache.get(query, observer)::bind, query, manager);
     }
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = Params.newParams();
-        UpdateQuery updateQuery = updateQueryProvider.apply(query);
-
-        ColumnEntity entity = getEntity(params, updateQuery, observer);
+        return DefaultColumnPreparedStatementAsync.update(cache.get(query, observer)::bind, query, manager);
+    }
 
-        return DefaultColumnPreparedStatementAsync.update(entity, params, query, manager);
+    private ColumnEntity getEntity(String query, ColumnObserverParser observer) {
+        Params params = Params.newParams();
+        ColumnEntity entity = cache.get(query, observer).bind(params);
+        if (params.isNotEmpty()) {
+            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
+        }
+        return entity;
     }
 
-    private ColumnEntity getEntity(Params params, UpdateQuery updateQuery, ColumnObserverParser observer) {
+    private EntityTemplate getTemplate(String query, ColumnObserverParser observer) {
+        UpdateQuery updateQuery = updateQueryProvider.apply(query);
         String columnFamily = observer.fireEntity(updateQuery.getEntity());
-
-        return getEntity(new UpdateQueryConditionSupplier(updateQuery), columnFamily, params, observer);
+        return getTemplate(new UpdateQueryConditionSupplier(updateQuery), columnFamily, null, observer);
     }
 
     private static final class UpdateQueryConditionSupplier implements ConditionQuerySupplier {
@@ -107,7 +91,6 @@ final class UpdateQueryParser extends ConditionQueryParser {
             this.query = query;
         }
 
-
         @Override
         public List<Condition> getConditions() {
             return query.getConditions();
@@ -119,4 +102,4 @@ final class UpdateQueryParser extends ConditionQueryParser {
         }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,174 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.column;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static jakarta.nosql.column.ColumnCondition.and;
+import static jakarta.nosql.column.ColumnCondition.between;
+import static jakarta.nosql.column.ColumnCondition.eq;
+import static jakarta.nosql.column.ColumnCondition.gt;
+import static jakarta.nosql.column.ColumnCondition.gte;
+import static jakarta.nosql.column.ColumnCondition.in;
+import static jakarta.nosql.column.ColumnCondition.like;
+import static jakarta.nosql.column.ColumnCondition.lt;
+import static jakarta.nosql.column.ColumnCondition.lte;
+import static jakarta.nosql.column.ColumnCondition.or;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnConditionsTest {
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNull() {
+        assertThrows(NullPointerException.class, () -> ColumnConditions.normalize(null));
+        assertThrows(NullPointerException.class, () -> ColumnConditions.and().add(null));
+        assertThrows(NullPointerException.class, () -> ColumnConditions.or().addAll(null));
+        assertThrows(IllegalStateException.class, () -> ColumnConditions.and().build());
+    }
+
+    @Test
+    public void shouldBuildFlattenedCondition() {
+        ColumnConditions.Builder builder = ColumnConditions.and();
+        for (int index = 0; index < 500; index++) {
+            builder.add(eq(Column.of("field" + index, index)));
+        }
+        builder.add(and(eq(Column.of("name", "Ada")), eq(Column.of("city", "London"))));
+        ColumnCondition condition = builder.build();
+        assertEquals(Condition.AND, condition.getCondition());
+        List<ColumnCondition> conditions = getConditions(condition);
+        assertEquals(502, conditions.size());
+        assertEquals(eq(Column.of("city", "London")), conditions.get(501));
+    }
+
+    @Test
+    public void shouldAppendConditions() {
+        ColumnCondition condition = eq(Column.of("name", "Ada"));
+        for (int index = 0; index < 500; index++) {
+            condition = condition.or(eq(Column.of("field" + index, index)));
+        }
+        assertEquals(Condition.OR, condition.getCondition());
+        assertEquals(501, getConditions(condition).size());
+    }
+
+    @Test
+    public void shouldFlattenAndRemoveDoubleNegation() {
+        ColumnCondition name = eq(Column.of("name", "Ada"));
+        ColumnCondition age = eq(Column.of("age", 10));
+        ColumnCondition condition = and(name, and(age.negate().negate(), and(name)));
+        assertEquals(and(name, age, name), ColumnConditions.normalize(condition));
+        assertEquals(name, ColumnConditions.normalize(and(name)));
+    }
+
+    @Test
+    public void shouldMergeEqualsIntoIn() {
+        ColumnCondition condition = or(eq(Column.of("name", "Ada")), eq(Column.of("age", 10)),
+                or(eq(Column.of("name", "Grace")), in(Column.of("name", Arrays.asList("Ada", "Linus")))));
+        ColumnCondition normalized = ColumnConditions.normalize(condition);
+        assertEquals(or(in(Column.of("name", Arrays.asList("Ada", "Grace", "Linus"))), eq(Column.of("age", 10))),
+                normalized);
+    }
+
+    @Test
+    public void shouldIntersectRanges() {
+        ColumnCondition condition = and(eq(Column.of("name", "Ada")), gt(Column.of("age", 10)),
+                gte(Column.of("age", 12)), lt(Column.of("age", 30)), lte(Column.of("age", 30)));
+        assertThat(getConditions(ColumnConditions.normalize(condition)), contains(eq(Column.of("name", "Ada")),
+                gte(Column.of("age", 12)), lt(Column.of("age", 30))));
+
+        ColumnCondition between = and(gte(Column.of("age", 10)), lte(Column.of("age", 20)),
+                between(Column.of("age", Arrays.asList(15, 40))));
+        assertEquals(between(Column.of("age", Arrays.asList(15, 20))), ColumnConditions.normalize(between));
+    }
+
+    @Test
+    public void shouldReturnSameConditionWhenThereIsNothingToNormalize() {
+        ColumnCondition condition = and(eq(Column.of("name", "Ada")), eq(Column.of("age", 10)));
+        assertSame(condition, ColumnConditions.normalize(condition));
+        ColumnCondition types = and(gt(Column.of("age", 10)), lt(Column.of("age", 20L)));
+        assertSame(types, ColumnConditions.normalize(types));
+    }
+
+    @Test
+    public void shouldEvaluateCondition() {
+        ColumnEntity entity = ColumnEntity.of("person", Arrays.asList(Column.of("name", "Ada Lovelace"),
+                Column.of("age", 36), Column.of("salary", 10.5), Column.of("tags", Arrays.asList("math", "poetry"))));
+
+        assertTrue(test(eq(Column.of("age", 36L)), entity));
+        assertTrue(test(eq(Column.of("age", 36.0)), entity));
+        assertFalse(test(eq(Column.of("age", 37)), entity));
+        assertTrue(test(gt(Column.of("age", 35.5)), entity));
+        assertFalse(test(gt(Column.of("age", 36)), entity));
+        assertTrue(test(gte(Column.of("age", 36)), entity));
+        assertTrue(test(lte(Column.of("age", 36)), entity));
+        assertFalse(test(lt(Column.of("age", 36)), entity));
+        assertFalse(test(lt(Column.of("name", 10)), entity));
+        assertTrue(test(in(Column.of("age", Arrays.asList(1, 36L))), entity));
+        assertTrue(test(between(Column.of("salary", Arrays.asList(10, 11))), entity));
+        assertFalse(test(between(Column.of("salary", Arrays.asList(11, 12))), entity));
+        assertTrue(test(eq(Column.of("tags", "math")), entity));
+        assertFalse(test(eq(Column.of("phone", "123")), entity));
+        assertTrue(test(eq(Column.of("phone", "123")).negate(), entity));
+        assertTrue(test(and(eq(Column.of("age", 36)), or(eq(Column.of("name", "Grace")),
+                like(Column.of("name", "Ada%")))), entity));
+        assertFalse(test(and(eq(Column.of("age", 36)), eq(Column.of("name", "Grace"))), entity));
+    }
+
+    @Test
+    public void shouldEvaluateLike() {
+        ColumnEntity entity = ColumnEntity.of("person", Arrays.asList(Column.of("name", "Ada (Lovelace)")));
+        assertTrue(test(like(Column.of("name", "Ada%")), entity));
+        assertTrue(test(like(Column.of("name", "%(Lovelace)")), entity));
+        assertTrue(test(like(Column.of("name", "%Love%")), entity));
+        assertTrue(test(like(Column.of("name", "A_a (%e)")), entity));
+        assertTrue(test(like(Column.of("name", "Ada (Lovelace)")), entity));
+        assertFalse(test(like(Column.of("name", "A_a")), entity));
+        assertFalse(test(like(Column.of("name", "%Grace%")), entity));
+    }
+
+    @Test
+    public void shouldEvaluateSubColumn() {
+        ColumnEntity entity = ColumnEntity.of("person", Arrays.asList(Column.of("address",
+                Arrays.asList(Column.of("city", "London"), Column.of("zip", 123)))));
+        assertTrue(test(eq(Column.of("address.city", "London")), entity));
+        assertTrue(test(gt(Column.of("address.zip", 100)), entity));
+        assertFalse(test(eq(Column.of("address.city", "Paris")), entity));
+        assertFalse(test(eq(Column.of("address.country", "England")), entity));
+    }
+
+    private boolean test(ColumnCondition condition, ColumnEntity entity) {
+        return ColumnConditions.toPredicate(condition).test(entity);
+    }
+
+    private List<ColumnCondition> getConditions(ColumnCondition condition) {
+        return condition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+    }
+}
@@ -378,4 +378,46 @@ public class ColumnEntityTest {
         assertTrue(columnFamily.isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldKeepTheInsertionOrder() {
+        ColumnEntity entity = ColumnEntity.of("person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add("city", "London");
+        entity.add("age", 11);
+        entity.remove("name");
+        entity.add("name", "Grace");
+
+        assertEquals(asList(Column.of("age", 11), Column.of("city", "London"), Column.of("name", "Grace")),
+                entity.getColumns());
+    }
+
+    @Test
+    public void shouldNotChangeTheCopyWhenTheEntityChanges() {
+        ColumnEntity entity = ColumnEntity.of("person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        List<Column> columns = entity.getColumns();
+        ColumnEntity copy = entity.copy();
+
+        entity.add("age", 11);
+        entity.remove("name");
+        copy.add("city", "London");
+
+        assertEquals(asList(Column.of("name", "Ada"), Column.of("age", 10)), columns);
+        assertEquals(singletonList(Column.of("age", 11)), entity.getColumns());
+        assertEquals(asList(Column.of("name", "Ada"), Column.of("age", 10), Column.of("city", "London")),
+                copy.getColumns());
+    }
+
+    @Test
+    public void shouldCreateWithExpectedSize() {
+        ColumnEntity entity = Columns.newEntity("person", 1);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        assertEquals(ColumnEntity.of("person", asList(Column.of("age", 10), Column.of("name", "Ada"))), entity);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Columns.newEntity("person", -1));
+        Assertions.assertThrows(NullPointerException.class, () -> Columns.newEntity(null, 1));
+    }
+
+}
@@ -243,4 +243,28 @@ public class DefaultColumnConditionTest {
         assertThat(integers, contains(12, 13));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldAppendChainedConditionsWithoutChangingThePreviousOnes() {
+        ColumnCondition condition = ColumnCondition.eq(Column.of("field0", 0));
+        ColumnCondition first = null;
+        for (int index = 1; index < 1_000; index++) {
+            condition = condition.and(ColumnCondition.eq(Column.of("field" + index, index)));
+            if (first == null) {
+                first = condition;
+            }
+        }
+        List<ColumnCondition> conditions = condition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+        assertEquals(1_000, conditions.size());
+        assertEquals(ColumnCondition.eq(Column.of("field999", 999)), conditions.get(999));
+        assertEquals(2, first.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        }).size());
+
+        ColumnCondition branch = first.and(ColumnCondition.eq(Column.of("age", 10)));
+        List<ColumnCondition> branchConditions = branch.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+        assertEquals(3, branchConditions.size());
+        assertEquals(ColumnCondition.eq(Column.of("age", 10)), branchConditions.get(2));
+        assertEquals(ColumnCondition.eq(Column.of("field2", 2)), conditions.get(2));
+    }
+}
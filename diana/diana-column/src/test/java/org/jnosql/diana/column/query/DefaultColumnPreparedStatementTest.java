@@ -0,0 +1,158 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.column.query;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.Params;
+import jakarta.nosql.QueryException;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnFamilyManager;
+import jakarta.nosql.column.ColumnFamilyManagerAsync;
+import jakarta.nosql.column.ColumnQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static jakarta.nosql.column.ColumnQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+class DefaultColumnPreparedStatementTest {
+
+    private static final String QUERY = "select * from God where name = @name and age = @age";
+
+    private static final Function<Params, ColumnQuery> TEMPLATE = params -> select().from("God")
+            .where("name").eq(params.add("name"))
+            .and("age").eq(params.add("age"))
+            .build();
+
+    private ColumnFamilyManager manager;
+
+    private List<List<Object>> values;
+
+    @BeforeEach
+    public void setUp() {
+        this.manager = Mockito.mock(ColumnFamilyManager.class);
+        this.values = new ArrayList<>();
+        Mockito.when(manager.select(any(ColumnQuery.class))).thenAnswer(invocation -> {
+            values.add(getValues(invocation.getArgument(0)));
+            return new ArrayList<>();
+        });
+    }
+
+    @Test
+    public void shouldBindInPlaceWithoutCopyOnBind() {
+        DefaultColumnPreparedStatement prepared = DefaultColumnPreparedStatement.select(TEMPLATE, QUERY,
+                manager, false);
+        assertSame(prepared, prepared.bind("name", "Diana"));
+        assertSame(prepared, prepared.bind("age", 10));
+        assertSame(prepared, prepared.bind("unknown", "value"));
+        prepared.getResultList();
+        assertEquals(Arrays.asList(Arrays.asList("Diana", 10)), values);
+    }
+
+    @Test
+    public void shouldBindCopyWithCopyOnBind() {
+        DefaultColumnPreparedStatement prepared = DefaultColumnPreparedStatement.select(TEMPLATE, QUERY,
+                manager, true);
+        IndexedColumnPreparedStatement diana = prepared.bind("name", "Diana");
+        IndexedColumnPreparedStatement artemis = prepared.bind("name", "Artemis");
+        assertNotSame(prepared, diana);
+        assertNotSame(diana, artemis);
+        assertSame(diana, diana.bind("age", 10));
+        assertSame(artemis, artemis.bind(prepared.indexOf("age"), 20));
+
+        assertThrows(QueryException.class, prepared::getResultList);
+        diana.getResultList();
+        artemis.getResultList();
+        assertEquals(Arrays.asList(Arrays.asList("Diana", 10), Arrays.asList("Artemis", 20)), values);
+    }
+
+    @Test
+    public void shouldRebindAfterClearBindings() {
+        DefaultColumnPreparedStatement prepared = DefaultColumnPreparedStatement.select(TEMPLATE, QUERY,
+                manager, false);
+        prepared.bind("name", "Diana").bind("age", 10).getResultList();
+
+        assertSame(prepared, prepared.clearBindings());
+        assertThrows(QueryException.class, prepared::getResultList);
+
+        prepared.bind("name", "Artemis").bind("age", 20).getResultList();
+        assertEquals(Arrays.asList(Arrays.asList("Diana", 10), Arrays.asList("Artemis", 20)), values);
+    }
+
+    @Test
+    public void shouldBindBySlot() {
+        DefaultColumnPreparedStatement prepared = DefaultColumnPreparedStatement.select(TEMPLATE, QUERY,
+                manager, false);
+        assertEquals(0, prepared.indexOf("name"));
+        assertEquals(1, prepared.indexOf("age"));
+        assertEquals(-1, prepared.indexOf("unknown"));
+        assertThrows(IndexOutOfBoundsException.class, () -> prepared.bind(2, "value"));
+        assertThrows(IndexOutOfBoundsException.class, () -> prepared.bind(-1, "value"));
+        assertThrows(NullPointerException.class, () -> prepared.bind(0, null));
+
+        prepared.bind(0, "Diana").bind(1, 10).getResultList();
+        assertEquals(Arrays.asList(Arrays.asList("Diana", 10)), values);
+    }
+
+    @Test
+    public void shouldBindAsyncBySlotAndClearBindings() {
+        ColumnFamilyManagerAsync managerAsync = Mockito.mock(ColumnFamilyManagerAsync.class);
+        DefaultColumnPreparedStatementAsync prepared = DefaultColumnPreparedStatementAsync.select(TEMPLATE,
+                QUERY, managerAsync, true);
+        Consumer<List<ColumnEntity>> callBack = l -> {
+        };
+        IndexedColumnPreparedStatementAsync diana = prepared.bind(0, "Diana").bind(1, 10);
+        assertNotSame(prepared, diana);
+        diana.getResultList(callBack);
+        diana.clearBindings();
+        assertThrows(QueryException.class, () -> diana.getResultList(callBack));
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerAsync).select(captor.capture(), any(Consumer.class));
+        assertEquals("God", captor.getValue().getColumnFamily());
+    }
+
+    private static List<Object> getValues(ColumnQuery query) {
+        List<Object> result = new ArrayList<>();
+        query.getCondition().ifPresent(condition -> collect(condition, result));
+        return result;
+    }
+
+    private static void collect(ColumnCondition condition, List<Object> values) {
+        if (Condition.AND.equals(condition.getCondition())) {
+            condition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+            }).forEach(c -> collect(c, values));
+            return;
+        }
+        values.add(condition.getColumn().get());
+    }
+}
@@ -572,6 +572,53 @@ public class DefaultSelectQueryConverterTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select name from God where age = 20"})
+    public void shouldUseObserverWhenQueryIsCached(String query) {
+        ColumnObserverParser upperCase = new ColumnObserverParser() {
+            @Override
+            public String fireEntity(String entity) {
+                return entity.toUpperCase();
+            }
+
+            @Override
+            public String fireField(String entity, String field) {
+                return field.toUpperCase();
+            }
+        };
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        parser.query(query, manager, observer);
+        parser.query(query, manager, upperCase);
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+
+        assertEquals("God", queries.get(0).getColumnFamily());
+        assertThat(queries.get(0).getColumns(), contains("name"));
+        assertEquals("age", queries.get(0).getCondition().get().getColumn().getName());
+        assertEquals("GOD", queries.get(1).getColumnFamily());
+        assertThat(queries.get(1).getColumns(), contains("NAME"));
+        assertEquals("AGE", queries.get(1).getCondition().get().getColumn().getName());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldPrepareIndependentStatements(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        ColumnPreparedStatement first = parser.prepare(query, manager, observer);
+        ColumnPreparedStatement second = parser.prepare(query, manager, observer);
+        first.bind("age", 12);
+        second.bind("age", 20);
+        first.getResultList();
+        second.getResultList();
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+
+        assertEquals(12, queries.get(0).getCondition().get().getColumn().get());
+        assertEquals(20, queries.get(1).getCondition().get().getColumn().get());
+    }
+
+
     private void checkBaseQuery(ColumnQuery columnQuery, long limit, long skip) {
         assertTrue(columnQuery.getColumns().isEmpty());
         assertTrue(columnQuery.getSorts().isEmpty());
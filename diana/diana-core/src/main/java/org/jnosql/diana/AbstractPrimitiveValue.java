@@ -0,0 +1,97 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+import jakarta.nosql.TypeSupplier;
+import jakarta.nosql.Value;
+
+import java.util.Objects;
+
+/**
+ * The base of the {@link PrimitiveValue} implementations. The wrapper instance is kept when the value was created
+ * from it, otherwise it is boxed at the first {@link Value#get()}; the conversions to the primitives and their
+ * wrappers don't go to the {@link ValueReaderTable}.
+ */
+abstract class AbstractPrimitiveValue implements PrimitiveValue {
+
+    static final ValueReaderTable SERVICE_PROVIDER = ValueReaderTable.INSTANCE;
+
+    private static final TypeReferenceReaderTable REFERENCE_READER = TypeReferenceReaderTable.INSTANCE;
+
+    private Object boxed;
+
+    AbstractPrimitiveValue(Object boxed) {
+        this.boxed = boxed;
+    }
+
+    abstract Object box();
+
+    @Override
+    public Object get() {
+        Object value = boxed;
+        if (value == null) {
+            value = box();
+            this.boxed = value;
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(Class<T> clazz) {
+        Objects.requireNonNull(clazz, "clazz is required");
+        if (int.class.equals(clazz) || Integer.class.equals(clazz)) {
+            return (T) Integer.valueOf(getAsInt());
+        } else if (long.class.equals(clazz) || Long.class.equals(clazz)) {
+            return (T) Long.valueOf(getAsLong());
+        } else if (double.class.equals(clazz) || Double.class.equals(clazz)) {
+            return (T) Double.valueOf(getAsDouble());
+        } else if (boolean.class.equals(clazz) || Boolean.class.equals(clazz)) {
+            return (T) Boolean.valueOf(getAsBoolean());
+        }
+        return SERVICE_PROVIDER.read(clazz, get());
+    }
+
+    @Override
+    public <T> T get(TypeSupplier<T> typeReference) {
+        return REFERENCE_READER.convert(Objects.requireNonNull(typeReference, "typeReference is required"), get());
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> typeClass) {
+        Objects.requireNonNull(typeClass, "typeClass is required");
+        return typeClass.isInstance(get());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Value)) {
+            return false;
+        }
+        Value that = (Value) o;
+        return Objects.equals(get(), that.get());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + "value=" + get() +
+                '}';
+    }
+}
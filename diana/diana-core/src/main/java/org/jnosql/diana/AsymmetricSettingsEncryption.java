@@ -28,15 +28,19 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.security.InvalidKeyException;
+import java.security.Key;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
-import java.security.PrivateKey;
-import java.security.PublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
@@ -58,6 +62,8 @@ import static java.util.Objects.requireNonNull;
  * on the symmetric encryption process. The default value is <b>RSA</b>
  * https://docs.oracle.com/javase/8/docs/technotes/guides/security/SunProviders.html.
  * </p>
+ * <p>The keys are cached by file and algorithm until the file is modified, and the {@link Cipher} is kept per
+ * thread.</p>
  */
 public final class AsymmetricSettingsEncryption implements SettingsEncryption {
 
@@ -74,6 +80,9 @@ public final class AsymmetricSettingsEncryption implements SettingsEncryption {
             " absolute path setting the property: " + PUBLIC_PROPERTY;
 
 
+    private static final Map<List<String>, CachedKey> KEYS = new ConcurrentHashMap<>();
+
+
     @Override
     public String encrypt(String property, Settings settings) {
         checkArguments(property, settings);
@@ -82,11 +91,10 @@ public final class AsymmetricSettingsEncryption implements SettingsEncryption {
                 .orElseThrow(() -> new EncryptionException(ERROR_MESSAGE_PRIVATE));
 
         try {
-            byte[] contents = contents(file);
-            PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(contents);
-            KeyFactory keyFactory = getKeyFactory(settings);
-            PrivateKey privateKey = keyFactory.generatePrivate(spec);
-            Cipher cipher = getCipher(settings);
+            String algorithm = getAlgorithm(settings);
+            Key privateKey = getKey(file, algorithm, PRIVATE_PROPERTY,
+                    contents -> getKeyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(contents)));
+            Cipher cipher = getCipher(algorithm);
             cipher.init(Cipher.ENCRYPT_MODE, privateKey);
             byte[] plainTextBytes = property.getBytes(UTF_8);
             byte[] buf = cipher.doFinal(plainTextBytes);
@@ -105,11 +113,10 @@ public final class AsymmetricSettingsEncryption implements SettingsEncryption {
                 .orElseThrow(() -> new EncryptionException(ERROR_MESSAGE_PUBLIC));
 
         try {
-            byte[] contents = contents(file);
-            X509EncodedKeySpec spec = new X509EncodedKeySpec(contents);
-            KeyFactory keyFactory = getKeyFactory(settings);
-            PublicKey publicKey = keyFactory.generatePublic(spec);
-            Cipher cipher = getCipher(settings);
+            String algorithm = getAlgorithm(settings);
+            Key publicKey = getKey(file, algorithm, PUBLIC_PROPERTY,
+                    contents -> getKeyFactory(algorithm).generatePublic(new X509EncodedKeySpec(contents)));
+            Cipher cipher = getCipher(algorithm);
             cipher.init(Cipher.DECRYPT_MODE, publicKey);
             byte[] message = Base64.getDecoder().decode(property.getBytes(UTF_8));
             byte[] plainText = cipher.doFinal(message);
@@ -124,43 +131,94 @@ public final class AsymmetricSettingsEncryption implements SettingsEncryption {
         requireNonNull(settings, "settings is required");
     }
 
-    private byte[] contents(String file) {
+    /**
+     * Returns the key of the file, it is read and generated again only when the file was modified since the
+     * last call.
+     */
+    private Key getKey(String file, String algorithm, String type, KeyGenerator generator)
+            throws InvalidKeySpecException {
+        Path path = path(file);
+        FileTime modified;
+        long size;
+        try {
+            modified = Files.getLastModifiedTime(path);
+            size = Files.size(path);
+        } catch (IOException ex) {
+            throw new EncryptionException("Error to read the file " + file, ex);
+        }
+        List<String> id = Arrays.asList(type, algorithm, path.toAbsolutePath().toString());
+        CachedKey cached = KEYS.get(id);
+        if (cached != null && cached.isValid(modified, size)) {
+            return cached.key;
+        }
+        try {
+            Key key = generator.generate(Files.readAllBytes(path));
+            KEYS.put(id, new CachedKey(key, modified, size));
+            return key;
+        } catch (IOException ex) {
+            throw new EncryptionException("Error to read the file " + file, ex);
+        }
+    }
+
+    private Path path(String file) {
         try {
             URL url = AsymmetricSettingsEncryption.class.getClassLoader().getResource(file);
             if (url != null) {
-                return Files.readAllBytes(Paths.get(url.toURI()));
-            }
-            Path path = Paths.get(file);
-            if (Files.exists(path)) {
-                return Files.readAllBytes(path);
+                return Paths.get(url.toURI());
             }
-        } catch (IOException | URISyntaxException ex) {
+        } catch (URISyntaxException ex) {
             throw new EncryptionException("Error to read the file " + file, ex);
         }
+        Path path = Paths.get(file);
+        if (Files.exists(path)) {
+            return path;
+        }
         throw new EncryptionException("Path does not exist " + file);
     }
 
-    private Cipher getCipher(Settings settings) {
-        String cipher = SettingsPriority
+    private String getAlgorithm(Settings settings) {
+        return SettingsPriority
                 .get(CRYPT_PROPERTY, settings)
                 .map(Object::toString)
                 .orElse(CRYPT_DEFAULT_ALGORITHM);
+    }
+
+    private Cipher getCipher(String cipher) {
         try {
-            return Cipher.getInstance(cipher);
+            return Ciphers.get(cipher);
         } catch (NoSuchPaddingException | NoSuchAlgorithmException exp) {
             throw new EncryptionException("Error to load Cipher at asymmetric", exp);
         }
     }
 
-    private KeyFactory getKeyFactory(Settings settings) {
-        String cipher = SettingsPriority
-                .get(CRYPT_PROPERTY, settings)
-                .map(Object::toString)
-                .orElse(CRYPT_DEFAULT_ALGORITHM);
+    private KeyFactory getKeyFactory(String cipher) {
         try {
             return KeyFactory.getInstance(cipher);
         } catch (NoSuchAlgorithmException exp) {
             throw new EncryptionException("Error to load KeyFactory at asymmetric", exp);
         }
     }
+
+    private interface KeyGenerator {
+        Key generate(byte[] contents) throws InvalidKeySpecException;
+    }
+
+    private static final class CachedKey {
+
+        private final Key key;
+
+        private final FileTime modified;
+
+        private final long size;
+
+        private CachedKey(Key key, FileTime modified, long size) {
+            this.key = key;
+            this.modified = modified;
+            this.size = size;
+        }
+
+        private boolean isValid(FileTime modified, long size) {
+            return this.modified.equals(modified) && this.size == size;
+        }
+    }
 }
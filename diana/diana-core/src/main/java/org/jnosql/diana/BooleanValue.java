@@ -0,0 +1,61 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+/**
+ * The {@link PrimitiveValue} of boolean, the {@link DefaultValueProvider} creates it to {@link Boolean}.
+ * A boolean is not a number, so the numeric accessors keep the {@link jakarta.nosql.Value#get(Class)} rules
+ */
+final class BooleanValue extends AbstractPrimitiveValue {
+
+    private final boolean value;
+
+    BooleanValue(boolean value, Boolean boxed) {
+        super(boxed);
+        this.value = value;
+    }
+
+    @Override
+    Object box() {
+        return Boolean.valueOf(value);
+    }
+
+    @Override
+    public int getAsInt() {
+        return SERVICE_PROVIDER.read(Integer.class, get());
+    }
+
+    @Override
+    public long getAsLong() {
+        return SERVICE_PROVIDER.read(Long.class, get());
+    }
+
+    @Override
+    public double getAsDouble() {
+        return SERVICE_PROVIDER.read(Double.class, get());
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(value);
+    }
+}
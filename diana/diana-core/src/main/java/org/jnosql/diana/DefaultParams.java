@@ -16,20 +16,24 @@
  */
 package org.jnosql.diana;
 
-import jakarta.nosql.Params;
 import jakarta.nosql.Value;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
-final class DefaultParams implements Params {
+final class DefaultParams implements IndexedParams {
 
 
     private final List<ParamValue> parameters = new ArrayList<>();
 
+    private final Map<String, Integer> indexes = new HashMap<>();
+
     @Override
     public boolean isNotEmpty() {
         return !parameters.isEmpty();
@@ -37,7 +41,12 @@ final class DefaultParams implements Params {
 
     @Override
     public Value add(String param) {
+        Integer index = indexes.get(param);
+        if (index != null) {
+            return parameters.get(index);
+        }
         ParamValue value = new ParamValue(param);
+        indexes.put(param, parameters.size());
         parameters.add(value);
         return value;
     }
@@ -54,6 +63,45 @@ final class DefaultParams implements Params {
 
     @Override
     public void bind(String name, Object value) {
-        parameters.stream().filter(p -> p.getName().equals(name)).forEach(p -> p.setValue(value));
+        int index = indexOf(name);
+        if (index >= 0) {
+            parameters.get(index).setValue(value);
+        }
+    }
+
+    @Override
+    public int size() {
+        return parameters.size();
+    }
+
+    @Override
+    public int indexOf(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return indexes.getOrDefault(name, -1);
+    }
+
+    @Override
+    public void bind(int index, Object value) {
+        parameters.get(index).setValue(value);
+    }
+
+    @Override
+    public void clearBindings() {
+        parameters.forEach(p -> p.setValue(null));
+    }
+
+    @Override
+    public boolean isBound() {
+        for (ParamValue parameter : parameters) {
+            if (parameter.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> getUnboundNames() {
+        return parameters.stream().filter(ParamValue::isEmpty).map(ParamValue::getName).collect(toList());
     }
 }
@@ -19,31 +19,50 @@ package org.jnosql.diana;
 import jakarta.nosql.Settings;
 import jakarta.nosql.Value;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.unmodifiableMap;
 
+/**
+ * The default implementation of {@link Settings}. The configurations are sorted by key, so a prefix lookup only
+ * visits the keys that start with the prefix. The {@link Value} of a key and its conversions to immutable types at
+ * {@link Settings#get(String, Class)} are cached.
+ */
 final class DefaultSettings  implements Settings {
 
     private static final SettingsPropertyReader READER = SettingsPropertyReader.INSTANCE;
 
-    private final Map<String, Object> configurations;
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Integer.class,
+            Long.class, Double.class, Float.class, Short.class, Byte.class, Boolean.class, Character.class,
+            BigDecimal.class, BigInteger.class));
+
+    private final NavigableMap<String, Object> configurations;
+
+    private final ConcurrentMap<String, Value> values = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Map<Class<?>, Object>> typedValues = new ConcurrentHashMap<>();
 
     DefaultSettings(Map<String, Object> configurations) {
-        this.configurations = configurations.entrySet().stream()
-                .collect(Collectors.toMap(e -> e.getKey(),
-                        e -> getValue(e.getValue())));
+        this.configurations = new TreeMap<>(configurations);
+        this.configurations.putAll(READER.applyAll(this.configurations, this));
     }
 
 
@@ -70,25 +89,21 @@ final class DefaultSettings  implements Settings {
     @Override
     public Optional<Object> get(Collection<String> keys) {
         Objects.requireNonNull(keys, "keys is required");
-
-        Predicate<Map.Entry<String, Object>> equals = keys.stream()
-                .map(prefix -> (Predicate<Map.Entry<String, Object>>) e -> e.getKey().equals(prefix))
-                .reduce((a, b) -> a.or(b)).orElse(e -> false);
-
-        return configurations.entrySet().stream()
-                .filter(equals)
-                .findFirst()
-                .map(Map.Entry::getValue);
+        for (String key : keys) {
+            Object value = configurations.get(key);
+            if (value != null) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
     }
 
     @Override
     public List<Object> prefix(String prefix) {
         Objects.requireNonNull(prefix, "prefix is required");
-        return configurations.entrySet().stream()
-                .filter(e -> e.getKey().startsWith(prefix))
-                .sorted(Comparator.comparing(Map.Entry::getKey))
-                .map(Map.Entry::getValue)
-                .collect(Collectors.toList());
+        List<Object> result = new ArrayList<>();
+        appendPrefix(prefix, result);
+        return result;
     }
 
     @Override
@@ -97,22 +112,32 @@ final class DefaultSettings  implements Settings {
         if (prefixes.isEmpty()) {
             return Collections.emptyList();
         }
-        Predicate<Map.Entry<String, Object>> prefixCondition = prefixes.stream()
-                .map(prefix -> (Predicate<Map.Entry<String, Object>>) e -> e.getKey().startsWith(prefix))
-                .reduce((a, b) -> a.or(b)).orElse(e -> false);
-
-        return configurations.entrySet().stream()
-                .filter(prefixCondition)
-                .sorted(Comparator.comparing(Map.Entry::getKey))
-                .map(Map.Entry::getValue)
-                .collect(Collectors.toList());
+        List<Object> result = new ArrayList<>();
+        String previous = null;
+        for (String prefix : new TreeSet<>(prefixes)) {
+            if (previous == null || !prefix.startsWith(previous)) {
+                appendPrefix(prefix, result);
+                previous = prefix;
+            }
+        }
+        return result;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> get(String key, Class<T> type) {
         Objects.requireNonNull(key, "key is required");
         Objects.requireNonNull(type, "type is required");
-        return get(key).map(Value::of).map(v -> v.get(type));
+        Object value = configurations.get(key);
+        if (value == null) {
+            return Optional.empty();
+        }
+        Value cached = values.computeIfAbsent(key, k -> Value.of(value));
+        if (!type.isPrimitive() && !type.isEnum() && !IMMUTABLE_TYPES.contains(type)) {
+            return Optional.ofNullable(cached.get(type));
+        }
+        Map<Class<?>, Object> converted = typedValues.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        return Optional.ofNullable((T) converted.computeIfAbsent(type, cached::get));
     }
 
     @Override
@@ -182,12 +207,13 @@ final class DefaultSettings  implements Settings {
                 '}';
     }
 
-
-    private Object getValue(Object value) {
-        if (value != null) {
-            return READER.apply(value, this);
+    private void appendPrefix(String prefix, List<Object> result) {
+        for (Map.Entry<String, Object> entry : configurations.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                return;
+            }
+            result.add(entry.getValue());
         }
-        return null;
     }
 
 }
\ No newline at end of file
@@ -16,12 +16,8 @@
  */
 package org.jnosql.diana;
 
-import jakarta.nosql.TypeReferenceReader;
-import jakarta.nosql.TypeReferenceReaderDecorator;
 import jakarta.nosql.TypeSupplier;
 import jakarta.nosql.Value;
-import jakarta.nosql.ValueReader;
-import jakarta.nosql.ValueReaderDecorator;
 
 import java.util.Objects;
 
@@ -30,9 +26,9 @@ import java.util.Objects;
  */
 final class DefaultValue  implements Value {
 
-    private static final transient ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
+    private static final transient ValueReaderTable SERVICE_PROVIDER = ValueReaderTable.INSTANCE;
 
-    private static final transient TypeReferenceReader REFERENCE_READER = TypeReferenceReaderDecorator.getInstance();
+    private static final transient TypeReferenceReaderTable REFERENCE_READER = TypeReferenceReaderTable.INSTANCE;
 
     private final Object value;
 
@@ -53,10 +49,7 @@ final class DefaultValue  implements Value {
 
     @Override
     public <T> T get(TypeSupplier<T> typeReference) {
-        if (REFERENCE_READER.isCompatible(Objects.requireNonNull(typeReference, "typeReference is required"))) {
-            return REFERENCE_READER.convert(typeReference, value);
-        }
-        throw new UnsupportedOperationException("The type " + typeReference + " is not supported");
+        return REFERENCE_READER.convert(Objects.requireNonNull(typeReference, "typeReference is required"), value);
     }
 
     @Override
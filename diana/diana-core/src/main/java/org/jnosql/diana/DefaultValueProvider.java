@@ -22,13 +22,23 @@ import jakarta.nosql.Value.ValueProvider;
 import java.util.Objects;
 
 /**
- * The default implementation of {@link ValueProvider}
+ * The default implementation of {@link ValueProvider}, it creates a {@link PrimitiveValue} to {@link Integer},
+ * {@link Long}, {@link Double} and {@link Boolean}.
  */
 public class DefaultValueProvider implements ValueProvider {
 
     @Override
     public Value apply(Object value) {
         Objects.requireNonNull(value, "value is required");
+        if (value instanceof Integer) {
+            return new IntValue((Integer) value, (Integer) value);
+        } else if (value instanceof Long) {
+            return new LongValue((Long) value, (Long) value);
+        } else if (value instanceof Double) {
+            return new DoubleValue((Double) value, (Double) value);
+        } else if (value instanceof Boolean) {
+            return new BooleanValue((Boolean) value, (Boolean) value);
+        }
         return new DefaultValue(value);
     }
 }
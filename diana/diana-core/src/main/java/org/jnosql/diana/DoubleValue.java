@@ -0,0 +1,60 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+/**
+ * The {@link PrimitiveValue} of double, the {@link DefaultValueProvider} creates it to {@link Double}
+ */
+final class DoubleValue extends AbstractPrimitiveValue {
+
+    private final double value;
+
+    DoubleValue(double value, Double boxed) {
+        super(boxed);
+        this.value = value;
+    }
+
+    @Override
+    Object box() {
+        return Double.valueOf(value);
+    }
+
+    @Override
+    public int getAsInt() {
+        return (int) value;
+    }
+
+    @Override
+    public long getAsLong() {
+        return (long) value;
+    }
+
+    @Override
+    public double getAsDouble() {
+        return value;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return (long) value != 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The layout of the fields of an entity: the field names in the insertion order, where each name has the index
+ * of its value at an array. A shape is immutable, adding a name moves to the next shape, and the shapes are
+ * interned, so the entities of the same collection that receive the same fields in the same order share them,
+ * instead of each one keeping its own hash table. The interned shapes are bounded: past 64 fields, 64 distinct
+ * next fields or 1024 shapes of the same collection, the next shapes have a private index, the names and a hash
+ * table that the shapes that follow each other grow in place, as a hash table entity would. The collections are
+ * bounded to 1024 as well, past it they start again without interned shapes.
+ * To get the first shape of a collection, use {@link EntityShape#of(String)}
+ */
+public final class EntityShape {
+
+    private static final Map<String, EntityShape> ROOTS = new ConcurrentHashMap<>();
+
+    static final int MAX_ROOTS = 1_024;
+
+    static final int MAX_SHAPES = 1_024;
+
+    static final int MAX_DEPTH = 64;
+
+    static final int MAX_TRANSITIONS = 64;
+
+    private static final int LINEAR_SEARCH = 8;
+
+    private final String entity;
+
+    private final String[] names;
+
+    private final int size;
+
+    private final Map<String, EntityShape> transitions;
+
+    private final AtomicInteger interned;
+
+    private final PrivateIndex privateIndex;
+
+    private volatile Map<String, Integer> indexes;
+
+    private volatile Set<String> nameSet;
+
+    private EntityShape(String entity, String[] names, AtomicInteger interned) {
+        this.entity = entity;
+        this.names = names;
+        this.size = names.length;
+        this.transitions = names.length < MAX_DEPTH ? new ConcurrentHashMap<>() : null;
+        this.interned = interned;
+        this.privateIndex = null;
+    }
+
+    private EntityShape(String entity, PrivateIndex index) {
+        this.entity = entity;
+        this.names = index.names;
+        this.size = index.size;
+        this.transitions = null;
+        this.interned = null;
+        this.privateIndex = index;
+    }
+
+    /**
+     * @return the number of fields
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the field name at the index
+     *
+     * @param index the index
+     * @return the field name
+     * @throws IndexOutOfBoundsException when there is no field at the index
+     */
+    public String getName(int index) {
+        Objects.checkIndex(index, size);
+        return names[index];
+    }
+
+    /**
+     * Returns the index of the field
+     *
+     * @param name the field name
+     * @return the index or -1 when the shape does not have the field
+     * @throws NullPointerException when name is null
+     */
+    public int indexOf(String name) {
+        Objects.requireNonNull(name, "name is required");
+        if (privateIndex != null) {
+            Integer position = privateIndex.indexes.get(name);
+            return position != null && position < size ? position : -1;
+        }
+        if (size <= LINEAR_SEARCH) {
+            for (int position = 0; position < size; position++) {
+                if (names[position].equals(name)) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+        return getIndexes().getOrDefault(name, -1);
+    }
+
+    /**
+     * Returns the shape with the field appended
+     *
+     * @param name the field name
+     * @return the shape with the field at the index {@link EntityShape#size()} of this shape
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when the shape already has the field
+     */
+    public EntityShape add(String name) {
+        Objects.requireNonNull(name, "name is required");
+        if (transitions != null) {
+            EntityShape next = transitions.get(name);
+            if (next != null) {
+                return next;
+            }
+        }
+        if (indexOf(name) >= 0) {
+            throw new IllegalArgumentException("The shape already has the field: " + name);
+        }
+        if (privateIndex != null) {
+            synchronized (privateIndex) {
+                if (privateIndex.size == size) {
+                    privateIndex.add(name);
+                    return new EntityShape(entity, privateIndex);
+                }
+            }
+        }
+        String[] nextNames = Arrays.copyOf(names, size + 1);
+        nextNames[size] = name;
+        if (transitions != null && transitions.size() < MAX_TRANSITIONS) {
+            EntityShape next = transitions.computeIfAbsent(name, n -> reserve(interned)
+                    ? new EntityShape(entity, nextNames, interned) : null);
+            if (next != null) {
+                return next;
+            }
+        }
+        return new EntityShape(entity, new PrivateIndex(nextNames));
+    }
+
+    /**
+     * Returns the shape without the field, the fields after it move one index back
+     *
+     * @param name the field name
+     * @return the shape without the field or this shape when it does not have the field
+     * @throws NullPointerException when name is null
+     */
+    public EntityShape remove(String name) {
+        int removed = indexOf(name);
+        if (removed < 0) {
+            return this;
+        }
+        EntityShape shape = of(entity);
+        for (int position = 0; position < size; position++) {
+            if (position != removed) {
+                shape = shape.add(names[position]);
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * @return the first shape of the same collection, the one without fields
+     */
+    public EntityShape clear() {
+        return of(entity);
+    }
+
+    /**
+     * @return an unmodifiable view of the field names in the index order
+     */
+    public Set<String> getNames() {
+        Set<String> set = nameSet;
+        if (set == null) {
+            set = new NameSet();
+            this.nameSet = set;
+        }
+        return set;
+    }
+
+    /**
+     * Creates an unmodifiable list view of the first {@link EntityShape#size()} elements of the array, the
+     * array is not copied, so it must not change while the view is in use.
+     *
+     * @param values the values in the index order of the shape
+     * @param <T>    the value type
+     * @return the list view
+     */
+    public <T> List<T> view(T[] values) {
+        return new ArrayView<>(values, size);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityShape{" +
+                "entity='" + entity + '\'' +
+                ", names=" + Arrays.toString(Arrays.copyOf(names, size)) +
+                '}';
+    }
+
+    /**
+     * @return the number of interned shapes of the collection of this shape, zero when this shape is not interned
+     */
+    int getInternedShapes() {
+        return interned == null ? 0 : interned.get();
+    }
+
+    private Map<String, Integer> getIndexes() {
+        Map<String, Integer> map = indexes;
+        if (map == null) {
+            map = new HashMap<>(size * 2);
+            for (int position = 0; position < size; position++) {
+                map.put(names[position], position);
+            }
+            this.indexes = map;
+        }
+        return map;
+    }
+
+    /**
+     * Returns the shape without fields of the collection, the same instance to the same name
+     *
+     * @param entity the collection name
+     * @return the shape without fields
+     * @throws NullPointerException when entity is null
+     */
+    public static EntityShape of(String entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        EntityShape root = ROOTS.get(entity);
+        if (root != null) {
+            return root;
+        }
+        if (ROOTS.size() >= MAX_ROOTS) {
+            ROOTS.clear();
+        }
+        return ROOTS.computeIfAbsent(entity, e -> new EntityShape(e, new String[0], new AtomicInteger(1)));
+    }
+
+    private static boolean reserve(AtomicInteger interned) {
+        int count;
+        do {
+            count = interned.get();
+            if (count >= MAX_SHAPES) {
+                return false;
+            }
+        } while (!interned.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * The names and their indexes of the shapes that are not interned. The shapes that follow each other share it:
+     * each shape only reads its first {@link EntityShape#size()} names, and the shape with all the names appends
+     * the next one in place, so building an entity is linear. A shape that is not the last one copies it instead.
+     */
+    private static final class PrivateIndex {
+
+        private final Map<String, Integer> indexes = new ConcurrentHashMap<>();
+
+        private String[] names;
+
+        private int size;
+
+        private PrivateIndex(String[] names) {
+            this.names = names;
+            this.size = names.length;
+            for (int position = 0; position < names.length; position++) {
+                indexes.put(names[position], position);
+            }
+        }
+
+        private void add(String name) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, Math.max(MAX_DEPTH, size * 2));
+            }
+            names[size] = name;
+            indexes.put(name, size);
+            size++;
+        }
+    }
+
+    private final class NameSet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            return Arrays.asList(names).subList(0, size).iterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String && indexOf((String) o) >= 0;
+        }
+    }
+
+    private static final class ArrayView<T> extends AbstractList<T> implements RandomAccess {
+
+        private final T[] values;
+
+        private final int size;
+
+        private ArrayView(T[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
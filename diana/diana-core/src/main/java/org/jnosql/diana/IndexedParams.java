@@ -0,0 +1,83 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+import jakarta.nosql.Params;
+
+import java.util.List;
+
+/**
+ * A {@link Params} that gives each parameter name a slot, in the order the parameters were added, so the
+ * value of a parameter might be bound by its slot, see {@link IndexedParams#indexOf(String)}. The same name
+ * added twice shares the slot. The bindings might be cleared to run the same statement again with new values.
+ */
+public interface IndexedParams extends Params {
+
+    /**
+     * When it is true, binding a parameter at either a document or a column prepared statement creates a copy of
+     * the statement and binds the copy, so the statement returned by {@link Params#bind(String, Object)} is the one
+     * to run and the prepared statement might be shared across threads.
+     */
+    String COPY_ON_BIND_PROPERTY = "org.jnosql.diana.preparedstatement.copyonbind";
+
+    /**
+     * @return the number of slots
+     */
+    int size();
+
+    /**
+     * Returns the slot of the parameter
+     *
+     * @param name the parameter name
+     * @return the slot or -1 when there is not a parameter with this name
+     * @throws NullPointerException when name is null
+     */
+    int indexOf(String name);
+
+    /**
+     * Binds a value to the slot
+     *
+     * @param index the slot
+     * @param value the value
+     * @throws IndexOutOfBoundsException when there is no slot at the index
+     */
+    void bind(int index, Object value);
+
+    /**
+     * Removes the value of every slot
+     */
+    void clearBindings();
+
+    /**
+     * @return true when every slot has a value
+     */
+    boolean isBound();
+
+    /**
+     * @return the names of the slots without value, in the slot order
+     */
+    List<String> getUnboundNames();
+
+    /**
+     * Creates a new {@link IndexedParams} instance
+     *
+     * @return a new {@link IndexedParams} instance
+     */
+    static IndexedParams newParams() {
+        return new DefaultParams();
+    }
+}
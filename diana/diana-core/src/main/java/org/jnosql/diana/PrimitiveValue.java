@@ -0,0 +1,91 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+import jakarta.nosql.Value;
+
+/**
+ * A {@link Value} that holds either an int, a long, a double or a boolean. Besides the {@link Value} methods, it
+ * reads the value as a primitive without boxing it, the same rules of {@link Value#get(Class)} apply: a number
+ * is narrowed like {@link Number#intValue()} and a number is true when it is not zero.
+ * The {@link DefaultValueProvider} creates it to {@link Integer}, {@link Long}, {@link Double} and {@link Boolean}.
+ */
+public interface PrimitiveValue extends Value {
+
+    /**
+     * @return the value as int
+     * @throws NumberFormatException when the value is a boolean
+     */
+    int getAsInt();
+
+    /**
+     * @return the value as long
+     * @throws NumberFormatException when the value is a boolean
+     */
+    long getAsLong();
+
+    /**
+     * @return the value as double
+     * @throws NumberFormatException when the value is a boolean
+     */
+    double getAsDouble();
+
+    /**
+     * @return the value as boolean
+     */
+    boolean getAsBoolean();
+
+    /**
+     * Creates a {@link PrimitiveValue} from an int
+     *
+     * @param value the value
+     * @return a {@link PrimitiveValue} instance
+     */
+    static PrimitiveValue of(int value) {
+        return new IntValue(value, null);
+    }
+
+    /**
+     * Creates a {@link PrimitiveValue} from a long
+     *
+     * @param value the value
+     * @return a {@link PrimitiveValue} instance
+     */
+    static PrimitiveValue of(long value) {
+        return new LongValue(value, null);
+    }
+
+    /**
+     * Creates a {@link PrimitiveValue} from a double
+     *
+     * @param value the value
+     * @return a {@link PrimitiveValue} instance
+     */
+    static PrimitiveValue of(double value) {
+        return new DoubleValue(value, null);
+    }
+
+    /**
+     * Creates a {@link PrimitiveValue} from a boolean
+     *
+     * @param value the value
+     * @return a {@link PrimitiveValue} instance
+     */
+    static PrimitiveValue of(boolean value) {
+        return new BooleanValue(value, null);
+    }
+}
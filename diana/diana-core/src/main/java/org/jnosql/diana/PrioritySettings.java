@@ -0,0 +1,182 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.Value;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * The {@link Settings} of {@link SettingsPriority}: {@link System#getProperties()} first, then
+ * {@link System#getenv()} and then the settings. The lookups by key read the system layers when they are called,
+ * the methods that need every key, e.g. {@link Settings#prefix(String)} and {@link Settings#toMap()}, use a merged
+ * {@link Settings} created at the first call.
+ */
+final class PrioritySettings implements Settings {
+
+    private static final SettingsPropertyReader READER = SettingsPropertyReader.INSTANCE;
+
+    private final Settings settings;
+
+    private volatile Settings merged;
+
+    PrioritySettings(Settings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public int size() {
+        return getMerged().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getMerged().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return get(key).isPresent();
+    }
+
+    @Override
+    public Optional<Object> get(String key) {
+        Objects.requireNonNull(key, "key is required");
+        Object value = System.getProperty(key);
+        if (value == null) {
+            value = System.getenv(key);
+        }
+        if (value != null) {
+            return Optional.of(READER.apply(value, this));
+        }
+        return settings.get(key);
+    }
+
+    @Override
+    public Optional<Object> get(Collection<String> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return keys.stream()
+                .map(this::get)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst();
+    }
+
+    @Override
+    public List<Object> prefix(String prefix) {
+        return getMerged().prefix(prefix);
+    }
+
+    @Override
+    public List<Object> prefix(Collection<String> prefixes) {
+        return getMerged().prefix(prefixes);
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(type, "type is required");
+        if (System.getProperty(key) == null && System.getenv(key) == null) {
+            return settings.get(key, type);
+        }
+        return get(key).map(Value::of).map(v -> v.get(type));
+    }
+
+    @Override
+    public Object getOrDefault(String key, Object defaultValue) {
+        return get(key).orElse(defaultValue);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return getMerged().keySet();
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        return getMerged().toMap();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return getMerged().entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<String, Object> action) {
+        getMerged().forEach(action);
+    }
+
+    @Override
+    public void computeIfPresent(String key, BiConsumer<String, Object> action) {
+        Objects.requireNonNull(action, "action is required");
+        get(key).ifPresent(value -> action.accept(key, value));
+    }
+
+    @Override
+    public void computeIfAbsent(String key, Function<String, Object> action) {
+        Objects.requireNonNull(action, "action is required");
+        if (!containsKey(key)) {
+            settings.computeIfAbsent(key, action);
+            this.merged = null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PrioritySettings)) {
+            return false;
+        }
+        PrioritySettings that = (PrioritySettings) o;
+        return Objects.equals(settings, that.settings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(settings);
+    }
+
+    @Override
+    public String toString() {
+        return "PrioritySettings{" + "settings=" + settings +
+                '}';
+    }
+
+    private Settings getMerged() {
+        Settings result = merged;
+        if (result == null) {
+            Map<String, Object> configurations = new HashMap<>(settings.toMap());
+            configurations.putAll(System.getenv());
+            System.getProperties().forEach((k, v) -> configurations.put(k.toString(), v));
+            result = new DefaultSettings(configurations);
+            this.merged = result;
+        }
+        return result;
+    }
+}
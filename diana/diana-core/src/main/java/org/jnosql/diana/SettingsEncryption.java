@@ -18,6 +18,8 @@ package org.jnosql.diana;
 
 import jakarta.nosql.Settings;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -51,6 +53,20 @@ public interface SettingsEncryption {
      */
     String decrypt(String property, Settings settings);
 
+    /**
+     * Decrypts every property in the "ENC(value)" format, in parallel when there are many of them
+     *
+     * @param settings the settings to decrypt and to read using the priority
+     * @return a new {@link Settings} with the properties decrypted
+     * @throws NullPointerException when settings is null
+     */
+    default Settings decryptAll(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        Map<String, Object> configurations = new HashMap<>(settings.toMap());
+        configurations.putAll(SettingsPropertyReader.INSTANCE.decryptAll(configurations, this, settings));
+        return Settings.of(configurations);
+    }
+
 
     /**
      * Returns a {@link SettingsEncryption} instance reading the {@link jakarta.nosql.Configurations#ENCRYPTION}
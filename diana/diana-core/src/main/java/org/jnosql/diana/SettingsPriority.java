@@ -18,7 +18,6 @@ package org.jnosql.diana;
 
 import jakarta.nosql.Settings;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -35,7 +34,7 @@ public final class SettingsPriority {
 
     /**
      * Creates a {@link Settings} appending {@link System#getProperties()}, {@link System#getenv()}
-     * with priority
+     * with priority. The system properties and the environment are not copied, they are read at the lookups
      *
      * @param settings the settings
      * @return a new {@link Settings} instance
@@ -48,7 +47,7 @@ public final class SettingsPriority {
 
     /**
      * Creates a {@link Settings} appending {@link System#getProperties()}, {@link System#getenv()}
-     * with priority
+     * with priority. The system properties and the environment are not copied, they are read at the lookups
      *
      * @param settings the settings
      * @return a new {@link Settings} instance
@@ -100,9 +99,6 @@ public final class SettingsPriority {
     }
 
     private static Settings getSettings(Map<String, Object> settings) {
-        Map<String, Object> configurations = new HashMap<>(settings);
-        configurations.putAll(System.getenv());
-        System.getProperties().forEach((k, v) -> configurations.put(k.toString(), v));
-        return Settings.of(configurations);
+        return new PrioritySettings(new DefaultSettings(settings));
     }
 }
@@ -17,8 +17,13 @@
 package org.jnosql.diana;
 import jakarta.nosql.Settings;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toMap;
 
 /**
  * A reader that checks if it needs to use {@link SettingsEncryption}
@@ -31,6 +36,8 @@ enum SettingsPropertyReader {
 
     private static final Pattern EXTRACT = Pattern.compile("\\((.*?)\\)");
 
+    private static final int PARALLEL_THRESHOLD = 16;
+
 
     public Object apply(Object value, Settings settings) {
         if (value instanceof String) {
@@ -44,6 +51,32 @@ enum SettingsPropertyReader {
         return value;
     }
 
+    /**
+     * Decrypts the encrypted values, the {@link SettingsEncryption} is resolved once to every value. From 16 values on,
+     * they are decrypted in parallel.
+     *
+     * @param values   the values
+     * @param settings the settings to read using the priority
+     * @return the decrypted values by key, it only has the keys of encrypted values
+     */
+    public Map<String, Object> applyAll(Map<String, Object> values, Settings settings) {
+        boolean encrypted = values.values().stream()
+                .anyMatch(value -> value instanceof String && isValid(value.toString()));
+        if (!encrypted) {
+            return Collections.emptyMap();
+        }
+        return decryptAll(values, SettingsEncryption.get(settings), settings);
+    }
+
+    Map<String, Object> decryptAll(Map<String, Object> values, SettingsEncryption encryption, Settings settings) {
+        Stream<Map.Entry<String, Object>> entries = values.size() < PARALLEL_THRESHOLD ? values.entrySet().stream()
+                : values.entrySet().parallelStream();
+        return entries
+                .filter(entry -> entry.getValue() instanceof String && isValid(entry.getValue().toString()))
+                .collect(toMap(Map.Entry::getKey,
+                        entry -> encryption.decrypt(extract(entry.getValue().toString()), settings)));
+    }
+
     boolean isValid(String property) {
         Matcher matcher = PATTERN.matcher(property);
         return matcher.matches();
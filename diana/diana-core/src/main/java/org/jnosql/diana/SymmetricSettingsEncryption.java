@@ -27,6 +27,9 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
@@ -40,6 +43,8 @@ import static java.util.Objects.requireNonNull;
  * {@link SymmetricSettingsEncryption#PASSWORD_PROPERTY} The mandatory configuration that defines the password to both encrypt and decrypt the property.
  * {@link SymmetricSettingsEncryption#CRYPT_PROPERTY} This property defines the crypt algorithm that will use on the symmetric encryption process. The default value is DESede.
  * To know more about: https://docs.oracle.com/javase/8/docs/technotes/guides/security/SunProviders.html
+ * The key of each password and algorithm is created once and kept by the pair, up to 1024 keys, when the cache is full
+ * it starts again empty; the {@link Cipher} is kept per thread.
  *
  */
 public final class SymmetricSettingsEncryption implements SettingsEncryption {
@@ -53,6 +58,9 @@ public final class SymmetricSettingsEncryption implements SettingsEncryption {
     private static final int MIN_VALUE = 24;
     private static final String ALGORITHM = "md5";
     private static final String CRYPT_DEFAULT_ALGORITHM = "DESede";
+    private static final int MAX_KEYS = 1_024;
+
+    private static final Map<KeyId, SecretKey> KEYS = new ConcurrentHashMap<>();
 
 
 
@@ -88,21 +96,38 @@ public final class SymmetricSettingsEncryption implements SettingsEncryption {
     private Cipher getCipher(Settings settings, int mode)
             throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException {
         String password = getPassword(settings);
-        MessageDigest md = MessageDigest.getInstance(ALGORITHM);
-        byte[] digestOfPassword = md.digest(password.getBytes(UTF_8));
-        byte[] keyBytes = Arrays.copyOf(digestOfPassword, MIN_VALUE);
-        for (int j = 0, k = 16; j < 8;) {
-            keyBytes[k++] = keyBytes[j++];
-        }
         String crypt = SettingsPriority.get(CRYPT_PROPERTY, settings)
                 .map(Object::toString)
                 .orElse(CRYPT_DEFAULT_ALGORITHM);
-        SecretKey secretKey = new SecretKeySpec(keyBytes, crypt);
-        Cipher cipher = Cipher.getInstance(crypt);
+        SecretKey secretKey = getSecretKey(password, crypt);
+        Cipher cipher = Ciphers.get(crypt);
         cipher.init(mode, secretKey);
         return cipher;
     }
 
+    private SecretKey getSecretKey(String password, String crypt) throws NoSuchAlgorithmException {
+        KeyId key = new KeyId(crypt, password);
+        SecretKey secretKey = KEYS.get(key);
+        if (secretKey == null) {
+            MessageDigest md = MessageDigest.getInstance(ALGORITHM);
+            byte[] digestOfPassword = md.digest(password.getBytes(UTF_8));
+            byte[] keyBytes = Arrays.copyOf(digestOfPassword, MIN_VALUE);
+            for (int j = 0, k = 16; j < 8;) {
+                keyBytes[k++] = keyBytes[j++];
+            }
+            secretKey = new SecretKeySpec(keyBytes, crypt);
+            if (KEYS.size() >= MAX_KEYS) {
+                KEYS.clear();
+            }
+            KEYS.putIfAbsent(key, secretKey);
+        }
+        return secretKey;
+    }
+
+    static int getCachedKeys() {
+        return KEYS.size();
+    }
+
     private String getPassword(Settings settings) {
         return SettingsPriority.get(PASSWORD_PROPERTY, settings)
                 .map(Object::toString)
@@ -113,4 +138,33 @@ public final class SymmetricSettingsEncryption implements SettingsEncryption {
         requireNonNull(property, "property is required");
         requireNonNull(settings, "settings is required");
     }
+
+    private static final class KeyId {
+
+        private final String crypt;
+
+        private final String password;
+
+        private KeyId(String crypt, String password) {
+            this.crypt = crypt;
+            this.password = password;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            KeyId keyId = (KeyId) o;
+            return crypt.equals(keyId.crypt) && password.equals(keyId.password);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(crypt, password);
+        }
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+import jakarta.nosql.TypeReferenceReader;
+import jakarta.nosql.TypeReferenceReaderDecorator;
+import jakarta.nosql.TypeSupplier;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+
+/**
+ * The dispatch table to {@link DefaultValue#get(TypeSupplier)}. It has the same readers and the same rules of the
+ * {@link TypeReferenceReaderDecorator}, but the {@link TypeReferenceReader} of a {@link Type} is resolved once.
+ * The table is bounded, since a {@link Type} implementation might not define equality.
+ */
+final class TypeReferenceReaderTable {
+
+    static final TypeReferenceReaderTable INSTANCE = new TypeReferenceReaderTable();
+
+    private static final int MAX_SIZE = 1_024;
+
+    private final List<TypeReferenceReader> readers;
+
+    private final Map<Type, Optional<TypeReferenceReader>> table = new ConcurrentHashMap<>();
+
+    private TypeReferenceReaderTable() {
+        this.readers = stream(ServiceLoader.load(TypeReferenceReader.class).spliterator(), false)
+                .collect(toList());
+    }
+
+    /**
+     * Converts the value to the type reference
+     *
+     * @param typeReference the type reference
+     * @param value         the value
+     * @param <T>           the type
+     * @return the value converted
+     * @throws UnsupportedOperationException when there is no reader to the type reference
+     */
+    <T> T convert(TypeSupplier<T> typeReference, Object value) {
+        Type type = typeReference.get();
+        Optional<TypeReferenceReader> reader = table.get(type);
+        if (reader == null) {
+            reader = readers.stream().filter(r -> r.isCompatible(typeReference)).findFirst();
+            if (table.size() < MAX_SIZE) {
+                table.putIfAbsent(type, reader);
+            }
+        }
+        return reader.orElseThrow(() ->
+                new UnsupportedOperationException("The type " + typeReference + " is not supported"))
+                .convert(typeReference, value);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+import jakarta.nosql.ValueReader;
+import jakarta.nosql.ValueReaderDecorator;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+
+/**
+ * The dispatch table to {@link DefaultValue#get(Class)}. It has the same readers and the same rules of the
+ * {@link ValueReaderDecorator}, but the {@link ValueReader} of a target class is resolved once and kept at a
+ * {@link ClassValue} instead of checking every reader on each read.
+ */
+final class ValueReaderTable {
+
+    static final ValueReaderTable INSTANCE = new ValueReaderTable();
+
+    private final List<ValueReader> readers;
+
+    private final ClassValue<Optional<ValueReader>> table = new ClassValue<Optional<ValueReader>>() {
+        @Override
+        protected Optional<ValueReader> computeValue(Class<?> type) {
+            return readers.stream().filter(reader -> reader.isCompatible(type)).findFirst();
+        }
+    };
+
+    private ValueReaderTable() {
+        this.readers = stream(ServiceLoader.load(ValueReader.class).spliterator(), false).collect(toList());
+    }
+
+    /**
+     * Converts the value to the type, when the value is already an instance of the type, e.g. an enum constant or
+     * any {@link Number} to {@link Number}, it returns it without looking for a reader.
+     *
+     * @param type  the type
+     * @param value the value
+     * @param <T>   the type
+     * @return the value converted
+     * @throws UnsupportedOperationException when there is no reader to the type
+     */
+    <T> T read(Class<T> type, Object value) {
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        ValueReader reader = table.get(type).orElseThrow(() ->
+                new UnsupportedOperationException("The type " + type + " is not supported yet"));
+        return reader.read(type, value);
+    }
+}
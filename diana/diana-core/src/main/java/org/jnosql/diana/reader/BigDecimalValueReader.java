@@ -46,7 +46,7 @@ public final class BigDecimalValueReader implements ValueReader {
         if (Number.class.isInstance(value)) {
             return (T) BigDecimal.valueOf(Number.class.cast(value).doubleValue());
         } else {
-            return (T) BigDecimal.valueOf(Double.valueOf(value.toString()));
+            return (T) BigDecimal.valueOf(CharSequenceParsers.toDouble(CharSequenceParsers.toText(value)));
         }
     }
 }
@@ -45,7 +45,7 @@ public final class BigIntegerValueReader implements ValueReader {
         if (Number.class.isInstance(value)) {
             return (T) BigInteger.valueOf(Number.class.cast(value).longValue());
         } else {
-            return (T) BigInteger.valueOf(Long.valueOf(value.toString()));
+            return (T) BigInteger.valueOf(CharSequenceParsers.toLong(CharSequenceParsers.toText(value)));
         }
     }
 }
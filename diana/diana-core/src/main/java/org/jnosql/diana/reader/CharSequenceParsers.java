@@ -0,0 +1,229 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+package org.jnosql.diana.reader;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * The text parsers of the readers. They work on {@link CharSequence}, so a value that is not a {@link String} is
+ * not copied, and they read the common ISO-8601 layouts and the decimal integers without the
+ * {@link DateTimeFormatter} machinery: yyyy-MM-dd, HH:mm[:ss[.SSSSSSSSS]], both joined by 'T', and then followed by
+ * either 'Z' or ±HH:mm. Any other text goes to the ISO formatters, so the results and the errors are the same of
+ * {@link LocalDate#parse(CharSequence)} and friends.
+ */
+final class CharSequenceParsers {
+
+    private static final int DATE_LENGTH = 10;
+
+    private static final int OFFSET_LENGTH = 6;
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final int[] NANO_SCALE = {100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+    private CharSequenceParsers() {
+    }
+
+    static CharSequence toText(Object value) {
+        if (value instanceof CharSequence) {
+            return (CharSequence) value;
+        }
+        return value.toString();
+    }
+
+    static LocalDate toLocalDate(CharSequence text) {
+        if (text.length() == DATE_LENGTH) {
+            LocalDate date = date(text);
+            if (date != null) {
+                return date;
+            }
+        }
+        return LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    static LocalTime toLocalTime(CharSequence text) {
+        LocalTime time = time(text, 0, text.length());
+        if (time != null) {
+            return time;
+        }
+        return LocalTime.parse(text, DateTimeFormatter.ISO_LOCAL_TIME);
+    }
+
+    static LocalDateTime toLocalDateTime(CharSequence text) {
+        LocalDateTime dateTime = dateTime(text, text.length());
+        if (dateTime != null) {
+            return dateTime;
+        }
+        return LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    static ZonedDateTime toZonedDateTime(CharSequence text) {
+        int length = text.length();
+        if (length > 0 && text.charAt(length - 1) == 'Z') {
+            LocalDateTime dateTime = dateTime(text, length - 1);
+            if (dateTime != null) {
+                return ZonedDateTime.of(dateTime, ZoneOffset.UTC);
+            }
+        } else if (length > OFFSET_LENGTH) {
+            ZoneOffset offset = offset(text, length - OFFSET_LENGTH);
+            LocalDateTime dateTime = offset == null ? null : dateTime(text, length - OFFSET_LENGTH);
+            if (dateTime != null) {
+                return ZonedDateTime.of(dateTime, offset);
+            }
+        }
+        return ZonedDateTime.parse(text, DateTimeFormatter.ISO_ZONED_DATE_TIME);
+    }
+
+    static int toInt(CharSequence text) {
+        return Integer.parseInt(text, 0, text.length(), 10);
+    }
+
+    static long toLong(CharSequence text) {
+        return Long.parseLong(text, 0, text.length(), 10);
+    }
+
+    /**
+     * Converts a decimal integer of up to 18 digits without {@link Double#parseDouble(String)}, the long to double
+     * conversion rounds to the nearest as the parser does, so the result is the same.
+     */
+    static double toDouble(CharSequence text) {
+        int length = text.length();
+        boolean negative = length > 1 && text.charAt(0) == '-';
+        int start = negative ? 1 : 0;
+        if (length > start && length - start <= MAX_LONG_DIGITS) {
+            long result = 0;
+            for (int index = start; index < length; index++) {
+                int digit = text.charAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    return Double.parseDouble(text.toString());
+                }
+                result = result * 10 + digit;
+            }
+            if (negative && result == 0) {
+                return -0.0D;
+            }
+            return negative ? -result : result;
+        }
+        return Double.parseDouble(text.toString());
+    }
+
+    private static LocalDateTime dateTime(CharSequence text, int end) {
+        if (end <= DATE_LENGTH || text.charAt(DATE_LENGTH) != 'T') {
+            return null;
+        }
+        LocalDate date = date(text);
+        LocalTime time = date == null ? null : time(text, DATE_LENGTH + 1, end);
+        if (time == null) {
+            return null;
+        }
+        return LocalDateTime.of(date, time);
+    }
+
+    private static LocalDate date(CharSequence text) {
+        if (text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException exception) {
+            return null;
+        }
+    }
+
+    private static LocalTime time(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length < 5 || text.charAt(start + 2) != ':') {
+            return null;
+        }
+        int hour = digits(text, start, start + 2);
+        int minute = digits(text, start + 3, start + 5);
+        int second = 0;
+        int nano = 0;
+        if (length > 5) {
+            if (length < 8 || text.charAt(start + 5) != ':') {
+                return null;
+            }
+            second = digits(text, start + 6, start + 8);
+            if (length > 8) {
+                int fraction = length - 9;
+                if (text.charAt(start + 8) != '.' || fraction < 1 || fraction > NANO_SCALE.length) {
+                    return null;
+                }
+                nano = digits(text, start + 9, end);
+                if (nano >= 0) {
+                    nano *= NANO_SCALE[fraction - 1];
+                }
+            }
+        }
+        if (hour < 0 || minute < 0 || second < 0 || nano < 0) {
+            return null;
+        }
+        try {
+            return LocalTime.of(hour, minute, second, nano);
+        } catch (DateTimeException exception) {
+            return null;
+        }
+    }
+
+    private static ZoneOffset offset(CharSequence text, int start) {
+        char sign = text.charAt(start);
+        if ((sign != '+' && sign != '-') || text.charAt(start + 3) != ':') {
+            return null;
+        }
+        int hours = digits(text, start + 1, start + 3);
+        int minutes = digits(text, start + 4, start + 6);
+        if (hours < 0 || minutes < 0) {
+            return null;
+        }
+        try {
+            if (sign == '-') {
+                return ZoneOffset.ofHoursMinutes(-hours, -minutes);
+            }
+            return ZoneOffset.ofHoursMinutes(hours, minutes);
+        } catch (DateTimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the decimal number between start and end or -1 when there is a character that is not a digit
+     */
+    private static int digits(CharSequence text, int start, int end) {
+        int result = 0;
+        for (int index = start; index < end; index++) {
+            int digit = text.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+}
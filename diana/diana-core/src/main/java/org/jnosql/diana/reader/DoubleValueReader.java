@@ -41,7 +41,7 @@ public final class DoubleValueReader implements ValueReader {
         if (Number.class.isInstance(value)) {
             return (T) Double.valueOf(Number.class.cast(value).doubleValue());
         } else {
-            return (T) Double.valueOf(value.toString());
+            return (T) Double.valueOf(CharSequenceParsers.toDouble(CharSequenceParsers.toText(value)));
         }
     }
 }
@@ -41,7 +41,7 @@ public final class IntegerValueReader implements ValueReader {
         if (Number.class.isInstance(value)) {
             return (T) Integer.valueOf(Number.class.cast(value).intValue());
         } else {
-            return (T) Integer.valueOf(value.toString());
+            return (T) Integer.valueOf(CharSequenceParsers.toInt(CharSequenceParsers.toText(value)));
         }
     }
 }
@@ -55,6 +55,6 @@ public class LocalDateTimeValueReader implements ValueReader {
             return (T) new Date(((Number) value).longValue()).toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
         }
 
-        return (T) LocalDateTime.parse(value.toString());
+        return (T) CharSequenceParsers.toLocalDateTime(CharSequenceParsers.toText(value));
     }
 }
@@ -56,6 +56,6 @@ public final class LocalDateValueReader implements ValueReader {
             return (T) new Date(((Number) value).longValue()).toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
         }
 
-        return (T) LocalDate.parse(value.toString());
+        return (T) CharSequenceParsers.toLocalDate(CharSequenceParsers.toText(value));
     }
 }
@@ -53,6 +53,6 @@ public class LocalTimeValueReader implements ValueReader {
             return (T) new Date(((Number) value).longValue()).toInstant().atZone(ZoneId.systemDefault()).toLocalTime();
         }
 
-        return (T) LocalTime.parse(value.toString());
+        return (T) CharSequenceParsers.toLocalTime(CharSequenceParsers.toText(value));
     }
 }
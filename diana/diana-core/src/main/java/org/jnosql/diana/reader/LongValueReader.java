@@ -41,7 +41,7 @@ public final class LongValueReader implements ValueReader {
         if (Number.class.isInstance(value)) {
             return (T) Long.valueOf(Number.class.cast(value).longValue());
         } else {
-            return (T) Long.valueOf(value.toString());
+            return (T) Long.valueOf(CharSequenceParsers.toLong(CharSequenceParsers.toText(value)));
         }
     }
 }
@@ -37,7 +37,7 @@ public final class NumberValueReader implements ValueReader {
         if (Number.class.isInstance(value)) {
             return (T) value;
         } else {
-            return (T) Double.valueOf(value.toString());
+            return (T) Double.valueOf(CharSequenceParsers.toDouble(CharSequenceParsers.toText(value)));
         }
     }
 
@@ -53,6 +53,6 @@ public class ZonedDateTimeValueReader implements ValueReader {
             return (T) new Date(((Number) value).longValue()).toInstant().atZone(ZoneId.systemDefault());
         }
 
-        return (T) ZonedDateTime.parse(value.toString());
+        return (T) CharSequenceParsers.toZonedDateTime(CharSequenceParsers.toText(value));
     }
 }
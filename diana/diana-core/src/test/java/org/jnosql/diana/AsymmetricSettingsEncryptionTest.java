@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
@@ -117,4 +118,27 @@ class AsymmetricSettingsEncryptionTest {
         assertEquals(text, decrypt);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReloadKeyWhenFileIsModified() throws NoSuchAlgorithmException, IOException {
+        Settings settings = Settings.builder()
+                .put(AsymmetricSettingsEncryption.PUBLIC_PROPERTY, PUBLIC_PATH)
+                .put(AsymmetricSettingsEncryption.PRIVATE_PROPERTY, PRIVATE_PATH)
+                .build();
+        String encrypt = settingsEncryption.encrypt("Ada Lovelace", settings);
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(KEY_SIZE);
+        KeyPair pair = keyPairGenerator.generateKeyPair();
+        Path publicPath = Paths.get(PUBLIC_PATH);
+        Path privatePath = Paths.get(PRIVATE_PATH);
+        FileTime modified = FileTime.fromMillis(Files.getLastModifiedTime(publicPath).toMillis() + 1_000);
+        Files.write(publicPath, pair.getPublic().getEncoded());
+        Files.write(privatePath, pair.getPrivate().getEncoded());
+        Files.setLastModifiedTime(publicPath, modified);
+        Files.setLastModifiedTime(privatePath, modified);
+
+        assertThrows(EncryptionException.class, () -> settingsEncryption.decrypt(encrypt, settings));
+        String text = "Grace Hopper";
+        assertEquals(text, settingsEncryption.decrypt(settingsEncryption.encrypt(text, settings), settings));
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -34,6 +35,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -224,5 +226,36 @@ public class DefaultSettingsTest {
 
     }
 
+    @Test
+    public void shouldFindOverlappedPrefixesOnce() {
+        Settings settings = Settings.builder()
+                .put("host-1", "host-1")
+                .put("host", "host")
+                .put("hostname", "hostname")
+                .put("server", "server")
+                .build();
+
+        List<Object> hosts = settings.prefix(Arrays.asList("server", "host-", "host", "missing"));
+        assertThat(hosts, contains("host", "host-1", "hostname", "server"));
+    }
+
+    @Test
+    public void shouldGetFirstKeyFound() {
+        Settings settings = Settings.builder()
+                .put("host", "host")
+                .put("server", "server")
+                .build();
 
+        assertEquals("server", settings.get(Arrays.asList("missing", "server", "host")).get());
+        assertFalse(settings.get(Collections.singletonList("missing")).isPresent());
+    }
+
+    @Test
+    public void shouldCacheImmutableTypes() {
+        Settings settings = Settings.of(singletonMap("key", "1000"));
+        assertSame(settings.get("key", Integer.class).get(), settings.get("key", Integer.class).get());
+        AtomicInteger counter = settings.get("key", AtomicInteger.class).get();
+        counter.incrementAndGet();
+        assertEquals(1000, settings.get("key", AtomicInteger.class).get().get());
+    }
 }
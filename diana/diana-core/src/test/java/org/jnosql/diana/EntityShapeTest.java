@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityShapeTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> EntityShape.of(null));
+        assertThrows(NullPointerException.class, () -> EntityShape.of("shape_null").add(null));
+        assertThrows(NullPointerException.class, () -> EntityShape.of("shape_null").indexOf(null));
+    }
+
+    @Test
+    public void shouldShareTheShapes() {
+        EntityShape shape = EntityShape.of("shape_share").add("name").add("age");
+        assertSame(EntityShape.of("shape_share"), EntityShape.of("shape_share"));
+        assertSame(shape, EntityShape.of("shape_share").add("name").add("age"));
+        assertNotSame(shape, EntityShape.of("shape_share").add("age").add("name"));
+        assertNotSame(EntityShape.of("shape_share"), EntityShape.of("shape_other"));
+    }
+
+    @Test
+    public void shouldIndexTheNamesInTheInsertionOrder() {
+        EntityShape shape = EntityShape.of("shape_index");
+        for (int index = 0; index < 20; index++) {
+            shape = shape.add("field" + index);
+        }
+        assertEquals(20, shape.size());
+        for (int index = 0; index < 20; index++) {
+            assertEquals(index, shape.indexOf("field" + index));
+            assertEquals("field" + index, shape.getName(index));
+        }
+        assertEquals(-1, shape.indexOf("name"));
+        assertThrows(IllegalArgumentException.class, () -> EntityShape.of("shape_index").add("name").add("name"));
+    }
+
+    @Test
+    public void shouldRemoveName() {
+        EntityShape shape = EntityShape.of("shape_remove").add("name").add("age").add("city");
+        EntityShape removed = shape.remove("age");
+        assertSame(EntityShape.of("shape_remove").add("name").add("city"), removed);
+        assertEquals(1, removed.indexOf("city"));
+        assertSame(shape, shape.remove("phone"));
+        assertSame(EntityShape.of("shape_remove"), shape.clear());
+    }
+
+    @Test
+    public void shouldReturnNames() {
+        EntityShape shape = EntityShape.of("shape_names").add("name").add("age");
+        assertThat(shape.getNames(), contains("name", "age"));
+        assertTrue(shape.getNames().contains("age"));
+        assertThrows(UnsupportedOperationException.class, () -> shape.getNames().remove("age"));
+    }
+
+    @Test
+    public void shouldReturnView() {
+        EntityShape shape = EntityShape.of("shape_view").add("name").add("age");
+        List<Object> view = shape.view(new Object[]{"Ada", 10, null, null});
+        assertEquals(asList("Ada", 10), view);
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(2));
+        assertThrows(UnsupportedOperationException.class, () -> view.add("London"));
+    }
+
+    @Test
+    public void shouldNotShareShapesPastTheMaxDepth() {
+        EntityShape shape = EntityShape.of("shape_depth");
+        EntityShape other = EntityShape.of("shape_depth");
+        for (int index = 0; index <= EntityShape.MAX_DEPTH; index++) {
+            shape = shape.add("field" + index);
+            other = other.add("field" + index);
+        }
+        assertEquals(EntityShape.MAX_DEPTH + 1, shape.size());
+        assertNotSame(shape, other);
+        assertEquals(EntityShape.MAX_DEPTH, shape.indexOf("field" + EntityShape.MAX_DEPTH));
+    }
+
+    @Test
+    public void shouldBoundTheShapesOfEachCollection() {
+        EntityShape root = EntityShape.of("shape_cache");
+        for (int index = 0; index < EntityShape.MAX_TRANSITIONS; index++) {
+            for (int field = 0; field < EntityShape.MAX_TRANSITIONS; field++) {
+                root.add("name" + index).add("age" + field);
+            }
+        }
+        assertEquals(EntityShape.MAX_SHAPES, root.getInternedShapes());
+        assertSame(root.add("name0").add("age0"), root.add("name0").add("age0"));
+        EntityShape shape = root.add("name0").add("age0").add("city");
+        assertNotSame(shape, root.add("name0").add("age0").add("city"));
+        assertEquals(2, shape.indexOf("city"));
+        assertEquals(0, shape.getInternedShapes());
+
+        EntityShape other = EntityShape.of("shape_cache_other").add("name").add("age");
+        assertSame(other, EntityShape.of("shape_cache_other").add("name").add("age"));
+    }
+
+    @Test
+    public void shouldKeepTheBranchesOfPrivateShapesApart() {
+        EntityShape shape = EntityShape.of("shape_branch");
+        for (int index = 0; index <= EntityShape.MAX_DEPTH; index++) {
+            shape = shape.add("field" + index);
+        }
+        EntityShape left = shape.add("left");
+        EntityShape right = shape.add("right");
+        EntityShape longer = left.add("longer");
+
+        assertEquals(-1, shape.indexOf("left"));
+        assertEquals(-1, left.indexOf("right"));
+        assertEquals(-1, right.indexOf("left"));
+        assertEquals(-1, left.indexOf("longer"));
+        assertEquals(EntityShape.MAX_DEPTH + 1, left.indexOf("left"));
+        assertEquals(EntityShape.MAX_DEPTH + 1, right.indexOf("right"));
+        assertEquals(EntityShape.MAX_DEPTH + 2, longer.indexOf("longer"));
+        assertEquals("right", right.getName(EntityShape.MAX_DEPTH + 1));
+        assertEquals(EntityShape.MAX_DEPTH + 2, left.getNames().size());
+        assertFalse(left.getNames().contains("longer"));
+        assertThrows(IndexOutOfBoundsException.class, () -> left.getName(EntityShape.MAX_DEPTH + 2));
+    }
+
+    @Test
+    public void shouldIndexLargeEntities() {
+        EntityShape shape = EntityShape.of("shape_large");
+        for (int index = 0; index < 10_000; index++) {
+            shape = shape.add("field" + index);
+        }
+        assertEquals(10_000, shape.size());
+        for (int index = 0; index < 10_000; index++) {
+            assertEquals(index, shape.indexOf("field" + index));
+        }
+        EntityShape removed = shape.remove("field0");
+        assertEquals(9_999, removed.size());
+        assertEquals(0, removed.indexOf("field1"));
+        assertEquals(-1, removed.indexOf("field0"));
+        assertEquals(0, shape.indexOf("field0"));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana;
+
+import jakarta.nosql.QueryException;
+import jakarta.nosql.Value;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedParamsTest {
+
+    @Test
+    public void shouldGiveSlotsInTheAddOrder() {
+        IndexedParams params = IndexedParams.newParams();
+        params.add("name");
+        params.add("age");
+        assertEquals(2, params.size());
+        assertEquals(0, params.indexOf("name"));
+        assertEquals(1, params.indexOf("age"));
+        assertEquals(-1, params.indexOf("city"));
+        assertThrows(NullPointerException.class, () -> params.indexOf(null));
+    }
+
+    @Test
+    public void shouldShareTheSlotWhenTheNameIsRepeated() {
+        IndexedParams params = IndexedParams.newParams();
+        Value first = params.add("age");
+        Value second = params.add("age");
+        assertSame(first, second);
+        assertEquals(1, params.size());
+        assertEquals(asList("age"), params.getParametersNames());
+        params.bind("age", 10);
+        assertEquals(10, second.get());
+    }
+
+    @Test
+    public void shouldBindBySlot() {
+        IndexedParams params = IndexedParams.newParams();
+        Value name = params.add("name");
+        Value age = params.add("age");
+        assertFalse(params.isBound());
+        assertEquals(asList("name", "age"), params.getUnboundNames());
+
+        params.bind(params.indexOf("age"), 10);
+        assertEquals(10, age.get());
+        assertEquals(asList("name"), params.getUnboundNames());
+
+        params.bind(0, "Ada");
+        assertEquals("Ada", name.get());
+        assertTrue(params.isBound());
+        assertEquals(emptyList(), params.getUnboundNames());
+        assertThrows(IndexOutOfBoundsException.class, () -> params.bind(2, "value"));
+    }
+
+    @Test
+    public void shouldClearBindings() {
+        IndexedParams params = IndexedParams.newParams();
+        Value age = params.add("age");
+        params.bind("age", 10);
+        assertTrue(params.isBound());
+
+        params.clearBindings();
+        assertFalse(params.isBound());
+        assertThrows(QueryException.class, age::get);
+
+        params.bind(0, 20);
+        assertEquals(20, age.get());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrimitiveValueTest {
+
+    @Test
+    public void shouldCreatePrimitiveValue() {
+        assertThat(Value.of(10), instanceOf(IntValue.class));
+        assertThat(Value.of(10L), instanceOf(LongValue.class));
+        assertThat(Value.of(10.5D), instanceOf(DoubleValue.class));
+        assertThat(Value.of(true), instanceOf(BooleanValue.class));
+        assertThat(Value.of("10"), instanceOf(DefaultValue.class));
+    }
+
+    @Test
+    public void shouldReturnSameInstanceInGet() {
+        Long number = 5_000L;
+        assertSame(number, Value.of(number).get());
+        assertEquals(5_000, PrimitiveValue.of(5_000).get());
+    }
+
+    @Test
+    public void shouldReadAsPrimitive() {
+        PrimitiveValue value = (PrimitiveValue) Value.of(10.5D);
+        assertEquals(10, value.getAsInt());
+        assertEquals(10L, value.getAsLong());
+        assertEquals(10.5D, value.getAsDouble());
+        assertTrue(value.getAsBoolean());
+        assertFalse(PrimitiveValue.of(0L).getAsBoolean());
+        assertEquals(Integer.MAX_VALUE, PrimitiveValue.of(Integer.MAX_VALUE).getAsLong());
+        assertTrue(PrimitiveValue.of(true).getAsBoolean());
+        Assertions.assertThrows(NumberFormatException.class, () -> PrimitiveValue.of(true).getAsInt());
+    }
+
+    @Test
+    public void shouldConvertLikeDefaultValue() {
+        Value value = PrimitiveValue.of(5_000L);
+        Value defaultValue = new DefaultValue(5_000L);
+        assertEquals(defaultValue.get(Integer.class), value.get(Integer.class));
+        assertEquals(defaultValue.get(int.class), value.get(int.class));
+        assertEquals(defaultValue.get(String.class), value.get(String.class));
+        assertEquals(defaultValue.get(AtomicInteger.class).get(), value.get(AtomicInteger.class).get());
+        assertEquals(defaultValue.get(boolean.class), value.get(boolean.class));
+        assertThat(value.get(new TypeReference<List<String>>() {
+        }), contains("5000"));
+        assertTrue(value.isInstanceOf(Number.class));
+    }
+
+    @Test
+    public void shouldBeEqualsToDefaultValue() {
+        Value value = PrimitiveValue.of(10);
+        Value defaultValue = new DefaultValue(10);
+        assertEquals(defaultValue, value);
+        assertEquals(value, defaultValue);
+        assertEquals(defaultValue.hashCode(), value.hashCode());
+        assertEquals(Value.of(true).hashCode(), PrimitiveValue.of(true).hashCode());
+    }
+}
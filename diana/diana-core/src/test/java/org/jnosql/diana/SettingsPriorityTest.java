@@ -21,12 +21,14 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SettingsPriorityTest {
 
@@ -92,4 +94,26 @@ class SettingsPriorityTest {
         Optional<Object> value = SettingsPriority.get(key);
         Assertions.assertEquals(env.get(key), value.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReadSystemPropertyAtLookup() {
+        String key = "settings.priority.lookup";
+        Settings settings = SettingsPriority.get(Collections.singletonMap(key, "value"));
+        assertEquals("value", settings.get(key).get());
+        System.setProperty(key, "system");
+        try {
+            assertEquals("system", settings.get(key).get());
+            assertEquals("system", settings.get(key, String.class).get());
+        } finally {
+            System.clearProperty(key);
+        }
+    }
+
+    @Test
+    public void shouldFindPrefixAtSystemProperties() {
+        Settings settings = SettingsPriority.get(Collections.singletonMap("java.prefix.test", "value"));
+        List<Object> values = settings.prefix("java.");
+        assertTrue(values.contains("value"));
+        assertTrue(values.contains(System.getProperty("java.version")));
+    }
+}
@@ -16,15 +16,21 @@
  */
 package org.jnosql.diana;
 
+import jakarta.nosql.Configurations;
 import jakarta.nosql.Settings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SymmetricSettingsEncryptionTest {
 
@@ -80,5 +86,51 @@ class SymmetricSettingsEncryptionTest {
         assertEquals(text, decrypt);
     }
 
+    @Test
+    public void shouldBoundTheKeyCache() {
+        for (int index = 0; index < 1_100; index++) {
+            Settings settings = Settings.builder()
+                    .put(SymmetricSettingsEncryption.PASSWORD_PROPERTY, "password-" + index)
+                    .build();
+            String text = "Ada Lovelace " + index;
+            assertEquals(text, settingsEncryption.decrypt(settingsEncryption.encrypt(text, settings), settings));
+        }
+        assertTrue(SymmetricSettingsEncryption.getCachedKeys() <= 1_024);
+    }
+
+    @Test
+    public void shouldDecryptAll() {
+        Settings settings = Settings.builder()
+                .put(SymmetricSettingsEncryption.PASSWORD_PROPERTY, "password")
+                .build();
+        Map<String, Object> configurations = new HashMap<>();
+        configurations.put("name", "Ada");
+        for (int index = 0; index < 100; index++) {
+            configurations.put("host-" + index, "ENC(" + settingsEncryption.encrypt("host-" + index, settings) + ")");
+        }
+        Settings encrypted = Mockito.mock(Settings.class);
+        Mockito.when(encrypted.toMap()).thenReturn(configurations);
+        Mockito.when(encrypted.get(SymmetricSettingsEncryption.PASSWORD_PROPERTY))
+                .thenReturn(Optional.of("password"));
+
+        Settings decrypted = settingsEncryption.decryptAll(encrypted);
+        assertEquals(101, decrypted.size());
+        assertEquals("Ada", decrypted.get("name").get());
+        assertEquals("host-42", decrypted.get("host-42").get());
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldDecryptSettingsValues() {
+        Settings settings = Settings.builder()
+                .put(SymmetricSettingsEncryption.PASSWORD_PROPERTY, "password")
+                .build();
+        Settings encrypted = Settings.builder()
+                .put(Configurations.ENCRYPTION.get(), "symmetric")
+                .put(SymmetricSettingsEncryption.PASSWORD_PROPERTY, "password")
+                .put("user", "ENC(" + settingsEncryption.encrypt("Ada", settings) + ")")
+                .put("password", "ENC(" + settingsEncryption.encrypt("Lovelace", settings) + ")")
+                .build();
+        assertEquals("Ada", encrypted.get("user").get());
+        assertEquals("Lovelace", encrypted.get("password").get());
+    }
+}
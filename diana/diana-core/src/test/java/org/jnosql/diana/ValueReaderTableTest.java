@@ -0,0 +1,81 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana;
+
+import jakarta.nosql.TypeReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ValueReaderTableTest {
+
+    private final ValueReaderTable table = ValueReaderTable.INSTANCE;
+
+    private final TypeReferenceReaderTable referenceTable = TypeReferenceReaderTable.INSTANCE;
+
+    @Test
+    public void shouldReturnSameInstanceWhenValueIsInstanceOfType() {
+        AtomicInteger number = new AtomicInteger(10);
+        assertSame(number, table.read(Number.class, number));
+        assertSame(DayOfWeek.MONDAY, table.read(DayOfWeek.class, DayOfWeek.MONDAY));
+    }
+
+    @Test
+    public void shouldConvert() {
+        assertEquals(10, table.read(Integer.class, "10"));
+        assertEquals(10D, table.read(Number.class, "10D"));
+        assertEquals(DayOfWeek.MONDAY, table.read(DayOfWeek.class, "MONDAY"));
+        assertEquals(DayOfWeek.TUESDAY, table.read(DayOfWeek.class, 1));
+        assertEquals(12L, table.read(Long.class, "12"));
+        assertEquals(12L, table.read(Long.class, 12));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsNotSupported() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> table.read(Bean.class, "name"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> table.read(Bean.class, "name"));
+    }
+
+    @Test
+    public void shouldConvertTypeReference() {
+        List<String> result = referenceTable.convert(new TypeReference<List<String>>() {
+        }, Arrays.asList(10, 20));
+        assertThat(result, contains("10", "20"));
+        List<Long> longs = referenceTable.convert(new TypeReference<List<Long>>() {
+        }, Arrays.asList("10", "20"));
+        assertThat(longs, contains(10L, 20L));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTypeReferenceIsNotSupported() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () ->
+                referenceTable.convert(new TypeReference<List<List<String>>>() {
+                }, Arrays.asList("10", "20")));
+    }
+
+    static class Bean {
+    }
+}
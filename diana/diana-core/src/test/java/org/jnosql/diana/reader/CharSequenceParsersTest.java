@@ -0,0 +1,94 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+package org.jnosql.diana.reader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CharSequenceParsersTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2019-01-31", "0001-12-01", "+12019-01-31", "2019-02-30", "2019-1-31", "2019/01/31",
+            "2019-01-31T10:00"})
+    public void shouldParseLocalDate(String text) {
+        assertSameResult(LocalDate::parse, CharSequenceParsers::toLocalDate, text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"10:15", "10:15:30", "10:15:30.1", "10:15:30.123456789", "23:59:59.9999999999",
+            "24:00", "10:15:30.", "10:15:3", "10-15"})
+    public void shouldParseLocalTime(String text) {
+        assertSameResult(LocalTime::parse, CharSequenceParsers::toLocalTime, text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2019-01-31T10:15", "2019-01-31T10:15:30.000001", "2019-01-31t10:15:30",
+            "2019-01-31 10:15:30", "2019-01-31T", "2019-01-31T25:00"})
+    public void shouldParseLocalDateTime(String text) {
+        assertSameResult(LocalDateTime::parse, CharSequenceParsers::toLocalDateTime, text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2019-01-31T10:15:30Z", "2019-01-31T10:15:30.5+01:00", "2019-01-31T10:15-03:30",
+            "2019-01-31T10:15:30-00:00", "2019-01-31T10:15:30+01:00[Europe/Paris]", "2019-01-31T10:15:30+01:00:30",
+            "2019-01-31T10:15:30+19:00", "2019-01-31T10:15:30"})
+    public void shouldParseZonedDateTime(String text) {
+        assertSameResult(ZonedDateTime::parse, CharSequenceParsers::toZonedDateTime, text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"10", "-10", "0", "-0", "123456789012345678", "9007199254740993", "1234567890123456789",
+            "10.5", "1e3", "+10", " 10", "-", ""})
+    public void shouldParseDouble(String text) {
+        assertSameResult(Double::valueOf, CharSequenceParsers::toDouble, text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"10", "-10", "+10", "9223372036854775807", "9223372036854775808", "10.5", ""})
+    public void shouldParseLong(String text) {
+        assertSameResult(Long::valueOf, CharSequenceParsers::toLong, text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2019-01-31T10:15:30Z", "2019-01-31T10:15:30+01:00"})
+    public void shouldParseCharSequence(String text) {
+        assertEquals(ZonedDateTime.parse(text), CharSequenceParsers.toZonedDateTime(new StringBuilder(text)));
+    }
+
+    private static <T> void assertSameResult(Function<String, T> expected, Function<CharSequence, T> actual,
+                                             String text) {
+        T result;
+        try {
+            result = expected.apply(text);
+        } catch (DateTimeParseException | NumberFormatException exception) {
+            Assertions.assertThrows(exception.getClass(), () -> actual.apply(text));
+            return;
+        }
+        assertEquals(result, actual.apply(text));
+    }
+}
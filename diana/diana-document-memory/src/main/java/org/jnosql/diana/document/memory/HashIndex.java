@@ -0,0 +1,86 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.document.DocumentCondition;
+import org.jnosql.diana.document.DocumentValues;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@link MemoryIndexType#HASH} index
+ */
+final class HashIndex implements MemoryIndex {
+
+    private final String name;
+
+    private final Map<Object, Set<Object>> ids = new HashMap<>();
+
+    HashIndex(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void add(Object value, Object id) {
+        MemoryIndex.forEach(value, v -> ids.computeIfAbsent(DocumentValues.key(v), k -> new HashSet<>()).add(id));
+    }
+
+    @Override
+    public void remove(Object value, Object id) {
+        MemoryIndex.forEach(value, v -> ids.computeIfPresent(DocumentValues.key(v), (k, values) -> {
+            values.remove(id);
+            return values.isEmpty() ? null : values;
+        }));
+    }
+
+    @Override
+    public Set<Object> find(DocumentCondition condition) {
+        Object value = condition.getDocument().get();
+        switch (condition.getCondition()) {
+            case EQUALS:
+                if (value == null) {
+                    return null;
+                }
+                return ids.getOrDefault(DocumentValues.key(value), Collections.emptySet());
+            case IN:
+                Set<Object> result = new HashSet<>();
+                for (Object element : (Iterable<?>) value) {
+                    result.addAll(ids.getOrDefault(DocumentValues.key(element), Collections.emptySet()));
+                }
+                return result;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HashIndex{" +
+                "name='" + name + '\'' +
+                ", size=" + ids.size() +
+                '}';
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.jnosql.diana.document.DocumentConditions;
+import org.jnosql.diana.document.DocumentValues;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A document collection of the in-memory engine. It keeps a copy of each entity by the value of its id document
+ * and the secondary indexes of the collection. A query uses the indexes to find the candidates of the EQUALS, IN
+ * and range conditions, at an AND the index lookup with the fewest candidates, and then checks the whole condition
+ * on them; without an index it checks every entity. The reads share a lock and the writes hold it alone, so an entity
+ * and its index entries are always changed together.
+ */
+final class MemoryCollection {
+
+    private static final long MAX_TTL = Long.MAX_VALUE / 2;
+
+    private final String name;
+
+    private final String id;
+
+    private final TimerWheel wheel;
+
+    private final Map<Object, Record> records = new LinkedHashMap<>();
+
+    private final Map<String, MemoryIndex> indexes = new LinkedHashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    MemoryCollection(String name, String id, TimerWheel wheel, Map<String, MemoryIndexType> indexes) {
+        this.name = name;
+        this.id = id;
+        this.wheel = wheel;
+        indexes.forEach(this::createIndex);
+    }
+
+    /**
+     * Creates a secondary index, it indexes the entities the collection already has.
+     *
+     * @param document the document name
+     * @param type     the index type
+     * @throws IllegalArgumentException when the document name is a sub-document path
+     */
+    void createIndex(String document, MemoryIndexType type) {
+        if (document.indexOf('.') >= 0) {
+            throw new IllegalArgumentException("The index must be of a document of the entity: " + document);
+        }
+        write(() -> {
+            MemoryIndex index = MemoryIndex.of(document, type);
+            records.forEach((key, record) -> index.add(value(record.entity, document), key));
+            indexes.put(document, index);
+        });
+    }
+
+    /**
+     * Inserts or replaces the entity by its id, when the entity does not have the id document it is created.
+     *
+     * @param entity the entity
+     * @param ttl    the time to live or null
+     * @return the entity
+     */
+    DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        if (!entity.find(id).isPresent()) {
+            entity.add(id, UUID.randomUUID().toString());
+        }
+        long deadline = ttl == null ? 0L : deadline(ttl);
+        store(entity, ttl != null, deadline);
+        return entity;
+    }
+
+    /**
+     * Replaces the entity by its id, it keeps the TTL of the entity it replaces and inserts the entity when there is
+     * no entity with the id.
+     *
+     * @param entity the entity
+     * @return the entity
+     * @throws IllegalArgumentException when the entity does not have the id document
+     */
+    DocumentEntity update(DocumentEntity entity) {
+        if (!entity.find(id).isPresent()) {
+            throw new IllegalArgumentException("The entity " + name + " requires the id document: " + id);
+        }
+        Object key = DocumentValues.key(entity.find(id).get().get());
+        Record current = read(() -> records.get(key));
+        boolean expires = current != null && current.expires;
+        store(entity, expires, expires ? current.deadline : 0L);
+        return entity;
+    }
+
+    List<DocumentEntity> select(DocumentQuery query) {
+        DocumentCondition condition = query.getCondition().map(DocumentConditions::normalize).orElse(null);
+        Predicate<DocumentEntity> predicate = condition == null ? e -> true : DocumentConditions.toPredicate(condition);
+        List<Sort> sorts = query.getSorts();
+        long skip = query.getSkip();
+        long limit = query.getLimit() > 0 ? query.getLimit() : Long.MAX_VALUE;
+        long wanted = sorts.isEmpty() && limit != Long.MAX_VALUE ? skip + limit : Long.MAX_VALUE;
+        List<DocumentEntity> entities = new ArrayList<>();
+        read(() -> {
+            long now = wheel.now();
+            for (Record record : candidates(condition)) {
+                if (entities.size() >= wanted) {
+                    break;
+                }
+                if (!record.isExpired(now) && predicate.test(record.entity)) {
+                    entities.add(record.entity);
+                }
+            }
+            return null;
+        });
+        if (!sorts.isEmpty()) {
+            entities.sort(comparator(sorts));
+        }
+        List<String> documents = query.getDocuments();
+        List<DocumentEntity> result = new ArrayList<>();
+        for (long index = skip; index < entities.size() && result.size() < limit; index++) {
+            result.add(project(entities.get((int) index), documents));
+        }
+        return result;
+    }
+
+    /**
+     * Deletes the entities that match the query, when the query has documents it only deletes these documents
+     * from the entities.
+     *
+     * @param query the query
+     */
+    void delete(DocumentDeleteQuery query) {
+        DocumentCondition condition = query.getCondition().map(DocumentConditions::normalize).orElse(null);
+        Predicate<DocumentEntity> predicate = condition == null ? e -> true : DocumentConditions.toPredicate(condition);
+        List<String> documents = query.getDocuments();
+        write(() -> {
+            long now = wheel.now();
+            List<Object> keys = new ArrayList<>();
+            for (Record record : candidates(condition)) {
+                if (!record.isExpired(now) && predicate.test(record.entity)) {
+                    keys.add(record.key);
+                }
+            }
+            for (Object key : keys) {
+                Record record = remove(key);
+                if (!documents.isEmpty()) {
+                    DocumentEntity entity = record.entity.copy();
+                    documents.stream().filter(d -> !id.equals(d)).forEach(entity::remove);
+                    put(new Record(key, entity, record.expires, record.deadline));
+                }
+            }
+        });
+    }
+
+    long count() {
+        return read(() -> {
+            long now = wheel.now();
+            return records.values().stream().filter(r -> !r.isExpired(now)).count();
+        });
+    }
+
+    private void store(DocumentEntity entity, boolean expires, long deadline) {
+        Object key = DocumentValues.key(entity.find(id).get().get());
+        Record record = new Record(key, entity.copy(), expires, deadline);
+        write(() -> {
+            remove(key);
+            put(record);
+        });
+        if (expires) {
+            wheel.schedule(deadline, () -> expire(key));
+        }
+    }
+
+    private void expire(Object key) {
+        write(() -> {
+            Record record = records.get(key);
+            if (record != null && record.isExpired(wheel.now())) {
+                remove(key);
+            }
+        });
+    }
+
+    private void put(Record record) {
+        records.put(record.key, record);
+        indexes.values().forEach(index -> index.add(value(record.entity, index.getName()), record.key));
+    }
+
+    private Record remove(Object key) {
+        Record record = records.remove(key);
+        if (record != null) {
+            indexes.values().forEach(index -> index.remove(value(record.entity, index.getName()), key));
+        }
+        return record;
+    }
+
+    /**
+     * Returns the records that might match the condition, either the ones the indexes find or all of them.
+     */
+    private Collection<Record> candidates(DocumentCondition condition) {
+        Set<Object> keys = condition == null ? null : find(condition);
+        if (keys == null) {
+            return new ArrayList<>(records.values());
+        }
+        List<Record> candidates = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            Record record = records.get(key);
+            if (record != null) {
+                candidates.add(record);
+            }
+        }
+        return candidates;
+    }
+
+    private Set<Object> find(DocumentCondition condition) {
+        switch (condition.getCondition()) {
+            case AND:
+                Set<Object> smallest = null;
+                for (DocumentCondition child : conditions(condition)) {
+                    if (isLookup(child)) {
+                        smallest = smallest(smallest, find(child));
+                    }
+                }
+                if (smallest != null) {
+                    return smallest;
+                }
+                for (DocumentCondition child : conditions(condition)) {
+                    if (!isLookup(child)) {
+                        smallest = smallest(smallest, find(child));
+                    }
+                }
+                return smallest;
+            case OR:
+                Set<Object> union = new HashSet<>();
+                for (DocumentCondition child : conditions(condition)) {
+                    Set<Object> keys = find(child);
+                    if (keys == null) {
+                        return null;
+                    }
+                    union.addAll(keys);
+                }
+                return union;
+            case NOT:
+                return null;
+            default:
+                MemoryIndex index = indexes.get(condition.getDocument().getName());
+                return index == null ? null : index.find(condition);
+        }
+    }
+
+    /**
+     * Checks if the condition is either an EQUALS or an IN, their ids are read without visiting a range of the index,
+     * so at an AND they are tried before the others.
+     */
+    private static boolean isLookup(DocumentCondition condition) {
+        return Condition.EQUALS.equals(condition.getCondition()) || Condition.IN.equals(condition.getCondition());
+    }
+
+    private static Set<Object> smallest(Set<Object> keys, Set<Object> other) {
+        if (keys == null || (other != null && other.size() < keys.size())) {
+            return other;
+        }
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Iterable<DocumentCondition> conditions(DocumentCondition condition) {
+        Object conditions = condition.getDocument().get();
+        if (conditions instanceof Iterable) {
+            return (Iterable<DocumentCondition>) conditions;
+        }
+        return condition.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+    }
+
+    private static Comparator<DocumentEntity> comparator(List<Sort> sorts) {
+        Comparator<DocumentEntity> comparator = null;
+        for (Sort sort : sorts) {
+            Comparator<DocumentEntity> next = Comparator.comparing(e -> value(e, sort.getName()), MemoryValues.ORDER);
+            if (SortType.DESC.equals(sort.getType())) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private static DocumentEntity project(DocumentEntity entity, List<String> documents) {
+        if (documents.isEmpty()) {
+            return entity.copy();
+        }
+        DocumentEntity projection = DocumentEntity.of(entity.getName());
+        documents.forEach(document -> entity.find(document).ifPresent(projection::add));
+        return projection;
+    }
+
+    private static Object value(DocumentEntity entity, String document) {
+        Optional<Document> value = entity.find(document);
+        return value.isPresent() ? value.get().get() : null;
+    }
+
+    /**
+     * Returns the deadline of the TTL, a TTL longer than {@link MemoryCollection#MAX_TTL} nanoseconds is cut to it,
+     * so the deadlines are compared by their difference to the clock.
+     */
+    private long deadline(Duration ttl) {
+        long nanos = ttl.compareTo(Duration.ofNanos(MAX_TTL)) > 0 ? MAX_TTL : ttl.toNanos();
+        return wheel.now() + nanos;
+    }
+
+    private <T> T read(Supplier<T> action) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return action.get();
+        } finally {
+            read.unlock();
+        }
+    }
+
+    private void write(Runnable action) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            action.run();
+        } finally {
+            write.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryCollection{" +
+                "name='" + name + '\'' +
+                ", id='" + id + '\'' +
+                ", indexes=" + indexes.values() +
+                '}';
+    }
+
+    private static final class Record {
+
+        private final Object key;
+
+        private final DocumentEntity entity;
+
+        private final boolean expires;
+
+        private final long deadline;
+
+        private Record(Object key, DocumentEntity entity, boolean expires, long deadline) {
+            this.key = key;
+            this.entity = entity;
+            this.expires = expires;
+            this.deadline = deadline;
+        }
+
+        private boolean isExpired(long now) {
+            return expires && deadline - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * The in-memory {@link DocumentCollectionManager}. Each document collection keeps the entities by the value of the
+ * id document, see {@link MemoryDocumentConfiguration#ID}: an insert either replaces the entity with the same id or,
+ * when the entity does not have the id document, adds it to the entity with a random UUID. The collections are
+ * created at the first insert and the managers of the same database share them.
+ * Closing the manager does nothing, the data lives until the {@link MemoryDocumentCollectionManagerFactory} is
+ * closed.
+ */
+public final class MemoryDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final String database;
+
+    private final String id;
+
+    private final TimerWheel wheel;
+
+    private final Map<String, Map<String, MemoryIndexType>> indexes;
+
+    private final Map<String, MemoryCollection> collections = new ConcurrentHashMap<>();
+
+    MemoryDocumentCollectionManager(String database, String id, TimerWheel wheel,
+                                    Map<String, Map<String, MemoryIndexType>> indexes) {
+        this.database = database;
+        this.id = id;
+        this.wheel = wheel;
+        this.indexes = indexes;
+    }
+
+    /**
+     * @return the database name
+     */
+    public String getDatabase() {
+        return database;
+    }
+
+    /**
+     * Creates a secondary index of a document collection, the queries use it to find the entities of a condition
+     * of this document. The index replaces the one of the same document.
+     *
+     * @param documentCollection the document collection
+     * @param document           the document name
+     * @param type               the index type
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the document name is a sub-document path
+     */
+    public void createIndex(String documentCollection, String document, MemoryIndexType type) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        Objects.requireNonNull(document, "document is required");
+        Objects.requireNonNull(type, "type is required");
+        getCollection(documentCollection).createIndex(document, type);
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return getCollection(entity.getName()).insert(entity, null);
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return getCollection(entity.getName()).insert(entity, ttl);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return StreamSupport.stream(entities.spliterator(), false)
+                .map(this::insert).collect(Collectors.toList());
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> insert(e, ttl)).collect(Collectors.toList());
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return getCollection(entity.getName()).update(entity);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return StreamSupport.stream(entities.spliterator(), false)
+                .map(this::update).collect(Collectors.toList());
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryCollection collection = collections.get(query.getDocumentCollection());
+        if (collection != null) {
+            collection.delete(query);
+        }
+    }
+
+    @Override
+    public List<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MemoryCollection collection = collections.get(query.getDocumentCollection());
+        if (collection == null) {
+            return Collections.emptyList();
+        }
+        return collection.select(query);
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        MemoryCollection collection = collections.get(documentCollection);
+        return collection == null ? 0L : collection.count();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    void clear() {
+        collections.clear();
+    }
+
+    private MemoryCollection getCollection(String name) {
+        return collections.computeIfAbsent(name, n -> new MemoryCollection(n, id, wheel,
+                indexes.getOrDefault(n, Collections.emptyMap())));
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryDocumentCollectionManager{" +
+                "database='" + database + '\'' +
+                ", collections=" + collections.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.document.DocumentCollectionManagerAsync;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * The in-memory {@link DocumentCollectionManagerAsync}, it runs the operations of the
+ * {@link MemoryDocumentCollectionManager} of the same database at an {@link Executor} and then calls the callback.
+ */
+public final class MemoryDocumentCollectionManagerAsync implements DocumentCollectionManagerAsync {
+
+    private final MemoryDocumentCollectionManager manager;
+
+    private final Executor executor;
+
+    MemoryDocumentCollectionManagerAsync(MemoryDocumentCollectionManager manager, Executor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public void insert(DocumentEntity entity) {
+        insert(entity, e -> {
+        });
+    }
+
+    @Override
+    public void insert(DocumentEntity entity, Duration ttl) {
+        insert(entity, ttl, e -> {
+        });
+    }
+
+    @Override
+    public void insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        executor.execute(() -> manager.insert(entities));
+    }
+
+    @Override
+    public void insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        executor.execute(() -> manager.insert(entities, ttl));
+    }
+
+    @Override
+    public void insert(DocumentEntity entity, Consumer<DocumentEntity> callBack) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        executor.execute(() -> callBack.accept(manager.insert(entity)));
+    }
+
+    @Override
+    public void insert(DocumentEntity entity, Duration ttl, Consumer<DocumentEntity> callBack) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        executor.execute(() -> callBack.accept(manager.insert(entity, ttl)));
+    }
+
+    @Override
+    public void update(DocumentEntity entity) {
+        update(entity, e -> {
+        });
+    }
+
+    @Override
+    public void update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        executor.execute(() -> manager.update(entities));
+    }
+
+    @Override
+    public void update(DocumentEntity entity, Consumer<DocumentEntity> callBack) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        executor.execute(() -> callBack.accept(manager.update(entity)));
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        delete(query, v -> {
+        });
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query, Consumer<Void> callBack) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        executor.execute(() -> {
+            manager.delete(query);
+            callBack.accept(null);
+        });
+    }
+
+    @Override
+    public void select(DocumentQuery query, Consumer<List<DocumentEntity>> callBack) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        executor.execute(() -> callBack.accept(manager.select(query)));
+    }
+
+    @Override
+    public void count(String documentCollection, Consumer<Long> callback) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        Objects.requireNonNull(callback, "callback is required");
+        executor.execute(() -> callback.accept(manager.count(documentCollection)));
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryDocumentCollectionManagerAsync{" +
+                "manager=" + manager +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.document.DocumentCollectionManagerAsyncFactory;
+import jakarta.nosql.document.DocumentCollectionManagerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * The in-memory {@link DocumentCollectionManagerFactory} and {@link DocumentCollectionManagerAsyncFactory}, it keeps
+ * one {@link MemoryDocumentCollectionManager} per database, so the managers of the same database share the data.
+ * Closing the factory drops the data of every database and stops the TTL timer.
+ */
+public final class MemoryDocumentCollectionManagerFactory implements DocumentCollectionManagerFactory,
+        DocumentCollectionManagerAsyncFactory {
+
+    private final String id;
+
+    private final Map<String, Map<String, MemoryIndexType>> indexes;
+
+    private final TimerWheel wheel;
+
+    private final Executor executor;
+
+    private final Map<String, MemoryDocumentCollectionManager> managers = new ConcurrentHashMap<>();
+
+    MemoryDocumentCollectionManagerFactory(String id, Map<String, Map<String, MemoryIndexType>> indexes,
+                                           TimerWheel wheel, Executor executor) {
+        this.id = id;
+        this.indexes = indexes;
+        this.wheel = wheel;
+        this.executor = executor;
+    }
+
+    @Override
+    public MemoryDocumentCollectionManager get(String database) {
+        Objects.requireNonNull(database, "database is required");
+        return managers.computeIfAbsent(database, d -> new MemoryDocumentCollectionManager(d, id, wheel, indexes));
+    }
+
+    @Override
+    public MemoryDocumentCollectionManagerAsync getAsync(String database) {
+        return new MemoryDocumentCollectionManagerAsync(get(database), executor);
+    }
+
+    @Override
+    public void close() {
+        wheel.close();
+        managers.values().forEach(MemoryDocumentCollectionManager::clear);
+        managers.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryDocumentCollectionManagerFactory{" +
+                "id='" + id + '\'' +
+                ", indexes=" + indexes +
+                ", databases=" + managers.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.document.DocumentConfiguration;
+import jakarta.nosql.document.DocumentConfigurationAsync;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link DocumentConfiguration} and {@link DocumentConfigurationAsync} of the in-memory document engine, it does
+ * not need any setting. It reads these optional settings:
+ * <ul>
+ * <li>{@link MemoryDocumentConfiguration#ID}: the name of the id document, the default is {@code _id}</li>
+ * <li>{@link MemoryDocumentConfiguration#INDEX}: the secondary indexes, the key is the prefix followed by the
+ * document collection and the document name separated by a dot, and the value is either {@code hash} or
+ * {@code sorted}, e.g.: {@code jnosql.memory.document.index.person.age=sorted}</li>
+ * <li>{@link MemoryDocumentConfiguration#TTL_TICK}: the milliseconds between the TTL expirations, the default is
+ * 100</li>
+ * </ul>
+ * The async managers run the operations at the common {@link ForkJoinPool}.
+ */
+public final class MemoryDocumentConfiguration implements DocumentConfiguration, DocumentConfigurationAsync {
+
+    /**
+     * The setting of the name of the id document
+     */
+    public static final String ID = "jnosql.memory.document.id";
+
+    /**
+     * The prefix of the settings of the secondary indexes
+     */
+    public static final String INDEX = "jnosql.memory.document.index.";
+
+    /**
+     * The setting of the milliseconds between the TTL expirations
+     */
+    public static final String TTL_TICK = "jnosql.memory.document.ttl.tick";
+
+    private static final String DEFAULT_ID = "_id";
+
+    private static final long DEFAULT_TTL_TICK = 100L;
+
+    @Override
+    public MemoryDocumentCollectionManagerFactory get() {
+        return get(Settings.of(Collections.emptyMap()));
+    }
+
+    @Override
+    public MemoryDocumentCollectionManagerFactory get(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        String id = settings.get(ID).map(Object::toString).orElse(DEFAULT_ID);
+        long tick = settings.get(TTL_TICK).map(Object::toString).map(Long::parseLong).orElse(DEFAULT_TTL_TICK);
+        Map<String, Map<String, MemoryIndexType>> indexes = new HashMap<>();
+        settings.forEach((key, value) -> {
+            if (key.startsWith(INDEX)) {
+                String index = key.substring(INDEX.length());
+                int separator = index.lastIndexOf('.');
+                if (separator <= 0 || separator == index.length() - 1) {
+                    throw new IllegalArgumentException("The index setting must have the document collection and " +
+                            "the document name: " + key);
+                }
+                MemoryIndexType type = MemoryIndexType.valueOf(value.toString().trim().toUpperCase(Locale.ENGLISH));
+                indexes.computeIfAbsent(index.substring(0, separator), k -> new HashMap<>())
+                        .put(index.substring(separator + 1), type);
+            }
+        });
+        TimerWheel wheel = new TimerWheel(TimeUnit.MILLISECONDS.toNanos(tick), System::nanoTime, true);
+        return new MemoryDocumentCollectionManagerFactory(id, indexes, wheel, ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.document.DocumentCondition;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A secondary index of one document of a collection, it maps the values to the ids of the entities that have
+ * them. A document whose value is a collection is indexed by each element as well, since a condition matches any
+ * of them. The index is not thread-safe, the {@link MemoryCollection} guards it.
+ */
+interface MemoryIndex {
+
+    /**
+     * @return the document name
+     */
+    String getName();
+
+    /**
+     * Adds the value of an entity
+     *
+     * @param value the document value
+     * @param id    the entity id
+     */
+    void add(Object value, Object id);
+
+    /**
+     * Removes the value of an entity
+     *
+     * @param value the document value
+     * @param id    the entity id
+     */
+    void remove(Object value, Object id);
+
+    /**
+     * Finds the ids of the entities that might match the condition of this document, the caller still checks the
+     * condition on them. The result must not be changed.
+     *
+     * @param condition the condition
+     * @return the ids or null when this index cannot find the condition
+     */
+    Set<Object> find(DocumentCondition condition);
+
+    /**
+     * Creates an index
+     *
+     * @param name the document name
+     * @param type the index type
+     * @return a new instance
+     */
+    static MemoryIndex of(String name, MemoryIndexType type) {
+        switch (type) {
+            case HASH:
+                return new HashIndex(name);
+            case SORTED:
+                return new SortedIndex(name);
+            default:
+                throw new UnsupportedOperationException("There is not support the index type: " + type);
+        }
+    }
+
+    /**
+     * Calls the action to the value and, when the value is a collection, to each element of it.
+     */
+    static void forEach(Object value, Consumer<Object> action) {
+        if (value == null) {
+            return;
+        }
+        action.accept(value);
+        if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                forEach(element, action);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+/**
+ * The secondary index types of the in-memory document engine
+ */
+public enum MemoryIndexType {
+
+    /**
+     * An index that finds the EQUALS and the IN conditions
+     */
+    HASH,
+    /**
+     * An index that finds the EQUALS and the IN conditions of either numbers or texts, and the GREATER_THAN,
+     * GREATER_EQUALS_THAN, LESSER_THAN, LESSER_EQUALS_THAN and BETWEEN conditions
+     */
+    SORTED
+}
@@ -0,0 +1,62 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import org.jnosql.diana.document.DocumentValues;
+
+import java.util.Comparator;
+
+/**
+ * The value order of the in-memory engine, built on the {@link DocumentValues} rules the conditions use.
+ */
+final class MemoryValues {
+
+    /**
+     * Orders any value: null first, then the numbers, then the other {@link Comparable} values grouped by class,
+     * then the remaining values by their text.
+     */
+    static final Comparator<Object> ORDER = MemoryValues::order;
+
+    private MemoryValues() {
+    }
+
+    private static int order(Object value, Object other) {
+        if (value == null || other == null) {
+            return value == null ? (other == null ? 0 : -1) : 1;
+        }
+        Class<?> group = DocumentValues.group(value);
+        Class<?> otherGroup = DocumentValues.group(other);
+        if (group != null && group.equals(otherGroup)) {
+            return DocumentValues.compare(value, other);
+        }
+        int rank = Integer.compare(rank(group), rank(otherGroup));
+        if (rank != 0) {
+            return rank;
+        }
+        if (group != null) {
+            return group.getName().compareTo(otherGroup.getName());
+        }
+        return value.toString().compareTo(other.toString());
+    }
+
+    private static int rank(Class<?> group) {
+        if (Number.class.equals(group)) {
+            return 0;
+        }
+        return group == null ? 2 : 1;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.document.DocumentCondition;
+import org.jnosql.diana.document.DocumentValues;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The {@link MemoryIndexType#SORTED} index. It keeps one sorted map per {@link DocumentValues#group(Object)}, since
+ * a range condition only matches values of the same group, and it does not keep the values that cannot be ordered.
+ */
+final class SortedIndex implements MemoryIndex {
+
+    private final String name;
+
+    private final Map<Class<?>, NavigableMap<Object, Set<Object>>> groups = new HashMap<>();
+
+    SortedIndex(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void add(Object value, Object id) {
+        MemoryIndex.forEach(value, v -> {
+            Class<?> group = DocumentValues.group(v);
+            if (group != null) {
+                groups.computeIfAbsent(group, g -> new TreeMap<>(DocumentValues::compare))
+                        .computeIfAbsent(v, k -> new HashSet<>()).add(id);
+            }
+        });
+    }
+
+    @Override
+    public void remove(Object value, Object id) {
+        MemoryIndex.forEach(value, v -> {
+            NavigableMap<Object, Set<Object>> values = groups.get(DocumentValues.group(v));
+            if (values != null) {
+                values.computeIfPresent(v, (k, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        });
+    }
+
+    @Override
+    public Set<Object> find(DocumentCondition condition) {
+        Object value = condition.getDocument().get();
+        NavigableMap<Object, Set<Object>> ordered = values(value);
+        switch (condition.getCondition()) {
+            case EQUALS:
+                if (!isEquatable(value)) {
+                    return null;
+                }
+                return ordered.getOrDefault(value, Collections.emptySet());
+            case IN:
+                Set<Object> result = new HashSet<>();
+                for (Object element : (Iterable<?>) value) {
+                    if (!isEquatable(element)) {
+                        return null;
+                    }
+                    result.addAll(values(element).getOrDefault(element, Collections.emptySet()));
+                }
+                return result;
+            case GREATER_THAN:
+                return ordered.isEmpty() ? Collections.emptySet() : union(ordered.tailMap(value, false).values());
+            case GREATER_EQUALS_THAN:
+                return ordered.isEmpty() ? Collections.emptySet() : union(ordered.tailMap(value, true).values());
+            case LESSER_THAN:
+                return ordered.isEmpty() ? Collections.emptySet() : union(ordered.headMap(value, false).values());
+            case LESSER_EQUALS_THAN:
+                return ordered.isEmpty() ? Collections.emptySet() : union(ordered.headMap(value, true).values());
+            case BETWEEN:
+                Iterator<?> bounds = ((Iterable<?>) value).iterator();
+                Object lower = bounds.next();
+                Object upper = bounds.next();
+                Class<?> group = DocumentValues.group(lower);
+                if (group == null || !group.equals(DocumentValues.group(upper))
+                        || values(lower).isEmpty() || DocumentValues.compare(lower, upper) > 0) {
+                    return Collections.emptySet();
+                }
+                return union(values(lower).subMap(lower, true, upper, true).values());
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Only numbers and texts are equal when they compare as equal, so only their equality is found at this index.
+     */
+    private static boolean isEquatable(Object value) {
+        return value instanceof Number || value instanceof String;
+    }
+
+    private NavigableMap<Object, Set<Object>> values(Object value) {
+        Class<?> group = DocumentValues.group(value);
+        if (group == null) {
+            return Collections.emptyNavigableMap();
+        }
+        return groups.getOrDefault(group, Collections.emptyNavigableMap());
+    }
+
+    private static Set<Object> union(Collection<Set<Object>> values) {
+        Set<Object> result = new HashSet<>();
+        values.forEach(result::addAll);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "SortedIndex{" +
+                "name='" + name + '\'' +
+                ", groups=" + groups.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A hashed timer wheel that expires the entities inserted with a TTL. A deadline is kept at the slot of its tick,
+ * so scheduling is constant time and each tick only visits one slot; a deadline further than a turn of the wheel
+ * stays at its slot until the turn that reaches it. The deadlines are in nanoseconds of the wheel clock.
+ */
+final class TimerWheel implements AutoCloseable {
+
+    private static final int SLOTS = 512;
+
+    private final Queue<Timeout>[] slots;
+
+    private final long tick;
+
+    private final LongSupplier clock;
+
+    private final boolean scheduled;
+
+    private volatile long current;
+
+    private volatile ScheduledExecutorService executor;
+
+    private boolean closed;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long tick, LongSupplier clock, boolean scheduled) {
+        if (tick <= 0) {
+            throw new IllegalArgumentException("The tick must be positive: " + tick);
+        }
+        this.tick = tick;
+        this.clock = clock;
+        this.scheduled = scheduled;
+        this.slots = new Queue[SLOTS];
+        for (int index = 0; index < SLOTS; index++) {
+            slots[index] = new ConcurrentLinkedQueue<>();
+        }
+        this.current = clock.getAsLong() / tick;
+    }
+
+    /**
+     * @return the current time of the wheel clock
+     */
+    long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Schedules the action to the deadline, a deadline that already passed runs at the next tick. When the wheel
+     * is scheduled, the first call starts the thread that advances it.
+     *
+     * @param deadline the deadline
+     * @param action   the action to run when the deadline passes
+     */
+    void schedule(long deadline, Runnable action) {
+        if (scheduled && executor == null) {
+            start();
+        }
+        long index = Math.max(deadline / tick, current);
+        slots[(int) (index & (SLOTS - 1))].add(new Timeout(deadline, action));
+    }
+
+    /**
+     * Runs the actions whose deadlines passed, it visits the slots of the ticks since the last call.
+     */
+    synchronized void advance() {
+        long now = clock.getAsLong();
+        long last = now / tick;
+        long first = Math.max(current, last - SLOTS + 1);
+        for (long index = first; index <= last; index++) {
+            Iterator<Timeout> timeouts = slots[(int) (index & (SLOTS - 1))].iterator();
+            while (timeouts.hasNext()) {
+                Timeout timeout = timeouts.next();
+                if (timeout.deadline <= now) {
+                    timeouts.remove();
+                    timeout.action.run();
+                }
+            }
+        }
+        current = last;
+    }
+
+    private synchronized void start() {
+        if (executor == null && !closed) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "diana-document-memory-ttl");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleAtFixedRate(this::advance, tick, tick, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        for (Queue<Timeout> slot : slots) {
+            slot.clear();
+        }
+    }
+
+    private static final class Timeout {
+
+        private final long deadline;
+
+        private final Runnable action;
+
+        private Timeout(long deadline, Runnable action) {
+            this.deadline = deadline;
+            this.action = action;
+        }
+    }
+}
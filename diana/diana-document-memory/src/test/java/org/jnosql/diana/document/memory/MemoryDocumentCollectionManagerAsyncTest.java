@@ -0,0 +1,93 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static jakarta.nosql.document.DocumentDeleteQuery.delete;
+import static jakarta.nosql.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryDocumentCollectionManagerAsyncTest {
+
+    private static final String COLLECTION = "person";
+
+    private MemoryDocumentCollectionManager manager;
+
+    private MemoryDocumentCollectionManagerAsync managerAsync;
+
+    @BeforeEach
+    public void setUp() {
+        TimerWheel wheel = new TimerWheel(TimeUnit.MILLISECONDS.toNanos(10), new AtomicLong()::get, false);
+        MemoryDocumentCollectionManagerFactory factory = new MemoryDocumentCollectionManagerFactory("_id",
+                Collections.emptyMap(), wheel, Runnable::run);
+        manager = factory.get("database");
+        managerAsync = factory.getAsync("database");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> managerAsync.insert((DocumentEntity) null));
+        assertThrows(NullPointerException.class, () -> managerAsync.select(null, l -> {
+        }));
+        assertThrows(NullPointerException.class, () -> managerAsync.count(COLLECTION, null));
+    }
+
+    @Test
+    public void shouldShareDataWithManager() {
+        AtomicReference<DocumentEntity> inserted = new AtomicReference<>();
+        managerAsync.insert(person(1, "Ada"), inserted::set);
+        managerAsync.insert(person(2, "Grace"), Duration.ofDays(1));
+        assertEquals(person(1, "Ada"), inserted.get());
+        assertEquals(2L, manager.count(COLLECTION));
+
+        List<DocumentEntity> entities = new ArrayList<>();
+        managerAsync.select(select().from(COLLECTION).where("name").eq("Grace").build(), entities::addAll);
+        assertEquals(Collections.singletonList(person(2, "Grace")), entities);
+    }
+
+    @Test
+    public void shouldDeleteAndCount() {
+        manager.insert(Arrays.asList(person(1, "Ada"), person(2, "Grace")));
+        List<Object> deleted = new ArrayList<>();
+        managerAsync.delete(delete().from(COLLECTION).where("name").eq("Ada").build(), deleted::add);
+        assertEquals(1, deleted.size());
+
+        AtomicLong count = new AtomicLong();
+        managerAsync.count(COLLECTION, count::set);
+        assertEquals(1L, count.get());
+        assertTrue(manager.select(select().from(COLLECTION).where("name").eq("Ada").build()).isEmpty());
+    }
+
+    private static DocumentEntity person(Object id, String name) {
+        return DocumentEntity.of(COLLECTION, Arrays.asList(Document.of("_id", id), Document.of("name", name)));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static jakarta.nosql.document.DocumentDeleteQuery.delete;
+import static jakarta.nosql.document.DocumentQuery.select;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryDocumentCollectionManagerTest {
+
+    private static final String COLLECTION = "person";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private TimerWheel wheel;
+
+    private MemoryDocumentCollectionManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        wheel = new TimerWheel(TimeUnit.MILLISECONDS.toNanos(10), clock::get, false);
+        manager = new MemoryDocumentCollectionManagerFactory("_id", Collections.emptyMap(), wheel, Runnable::run)
+                .get("database");
+        manager.insert(Arrays.asList(person(1, "Ada", 30, "London"), person(2, "Grace", 85, "New York"),
+                person(3, "Alan", 41, "London"), person(4, "Linus", 50L, "Helsinki"),
+                person(5, "Margaret", 25.0, "Boston")));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> manager.insert((DocumentEntity) null));
+        assertThrows(NullPointerException.class, () -> manager.insert(person(6, "Ana", 1, "Rome"), null));
+        assertThrows(NullPointerException.class, () -> manager.select(null));
+        assertThrows(NullPointerException.class, () -> manager.createIndex(COLLECTION, "age", null));
+    }
+
+    @Test
+    public void shouldSelect() {
+        DocumentQuery query = select().from(COLLECTION).where("city").eq("London").and("age").gt(35).build();
+        assertThat(names(manager.select(query)), contains("Alan"));
+        assertTrue(manager.select(select().from("animal").build()).isEmpty());
+    }
+
+    @Test
+    public void shouldSelectWithIndexes() {
+        List<DocumentQuery> queries = Arrays.asList(
+                select().from(COLLECTION).where("city").eq("London").and("age").gt(35).build(),
+                select().from(COLLECTION).where("city").in(Arrays.asList("Boston", "Helsinki")).build(),
+                select().from(COLLECTION).where("age").gte(30).and("age").lt(50.5).build(),
+                select().from(COLLECTION).where("age").between(25, 41L).or("name").eq("Grace").build(),
+                select().from(COLLECTION).where("age").lte(41).or("city").eq("Helsinki").build(),
+                select().from(COLLECTION).where("age").eq(50).build(),
+                select().from(COLLECTION).where("age").eq(25).and("city").not().eq("Rome").build());
+        List<List<String>> expected = queries.stream().map(q -> names(manager.select(q)))
+                .collect(Collectors.toList());
+
+        manager.createIndex(COLLECTION, "city", MemoryIndexType.HASH);
+        manager.createIndex(COLLECTION, "age", MemoryIndexType.SORTED);
+        for (int index = 0; index < queries.size(); index++) {
+            List<String> names = names(manager.select(queries.get(index)));
+            assertThat(names, containsInAnyOrder(expected.get(index).toArray()));
+        }
+        assertThat(expected.get(2), containsInAnyOrder("Ada", "Alan", "Linus"));
+        assertThat(expected.get(5), contains("Linus"));
+    }
+
+    @Test
+    public void shouldKeepIndexesWhenEntitiesChange() {
+        manager.createIndex(COLLECTION, "age", MemoryIndexType.SORTED);
+        manager.update(person(3, "Alan", 19, "London"));
+        manager.delete(delete().from(COLLECTION).where("name").eq("Ada").build());
+        DocumentQuery query = select().from(COLLECTION).where("age").lt(35).build();
+        assertThat(names(manager.select(query)), containsInAnyOrder("Alan", "Margaret"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenIndexIsSubDocument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> manager.createIndex(COLLECTION, "address.city", MemoryIndexType.HASH));
+    }
+
+    @Test
+    public void shouldSortSkipAndLimit() {
+        DocumentQuery query = select().from(COLLECTION).orderBy("age").desc().skip(1).limit(3).build();
+        assertThat(names(manager.select(query)), contains("Linus", "Alan", "Ada"));
+        DocumentQuery byCity = select().from(COLLECTION).orderBy("city").asc().orderBy("name").desc().build();
+        assertThat(names(manager.select(byCity)), contains("Margaret", "Linus", "Alan", "Ada", "Grace"));
+    }
+
+    @Test
+    public void shouldSelectDocuments() {
+        DocumentQuery query = select("name").from(COLLECTION).where("_id").eq(2).build();
+        List<DocumentEntity> entities = manager.select(query);
+        assertEquals(1, entities.size());
+        assertEquals(Collections.singletonList(Document.of("name", "Grace")), entities.get(0).getDocuments());
+    }
+
+    @Test
+    public void shouldReplaceEntityWithSameId() {
+        manager.insert(person(1L, "Ada Lovelace", 36, "London"));
+        assertEquals(5L, manager.count(COLLECTION));
+        DocumentQuery query = select().from(COLLECTION).where("_id").eq(1).build();
+        assertThat(names(manager.select(query)), contains("Ada Lovelace"));
+    }
+
+    @Test
+    public void shouldCreateId() {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION, Collections.singletonList(Document.of("name", "Ana")));
+        manager.insert(entity);
+        assertTrue(entity.find("_id").isPresent());
+        assertEquals(6L, manager.count(COLLECTION));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenUpdateHasNotId() {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION, Collections.singletonList(Document.of("name", "Ana")));
+        assertThrows(IllegalArgumentException.class, () -> manager.update(entity));
+    }
+
+    @Test
+    public void shouldNotChangeStoredEntity() {
+        DocumentEntity entity = person(6, "Ana", 20, "Rome");
+        manager.insert(entity);
+        entity.add("name", "Other");
+        DocumentQuery query = select().from(COLLECTION).where("_id").eq(6).build();
+        DocumentEntity result = manager.select(query).get(0);
+        result.add("name", "Another");
+        assertThat(names(manager.select(query)), contains("Ana"));
+    }
+
+    @Test
+    public void shouldDelete() {
+        manager.delete(delete().from(COLLECTION).where("city").eq("London").build());
+        assertEquals(3L, manager.count(COLLECTION));
+        manager.delete(delete().from(COLLECTION).build());
+        assertEquals(0L, manager.count(COLLECTION));
+    }
+
+    @Test
+    public void shouldDeleteDocuments() {
+        manager.createIndex(COLLECTION, "city", MemoryIndexType.HASH);
+        manager.delete(delete("city").from(COLLECTION).where("name").eq("Ada").build());
+        assertEquals(5L, manager.count(COLLECTION));
+        DocumentQuery query = select().from(COLLECTION).where("city").eq("London").build();
+        assertThat(names(manager.select(query)), contains("Alan"));
+    }
+
+    @Test
+    public void shouldExpireEntities() {
+        manager.insert(person(6, "Ana", 20, "Rome"), Duration.ofMillis(100));
+        manager.insert(person(7, "Bia", 21, "Rome"), Duration.ofSeconds(20));
+        manager.createIndex(COLLECTION, "city", MemoryIndexType.HASH);
+        DocumentQuery query = select().from(COLLECTION).where("city").eq("Rome").build();
+        assertThat(names(manager.select(query)), containsInAnyOrder("Ana", "Bia"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(names(manager.select(query)), contains("Bia"));
+        assertEquals(6L, manager.count(COLLECTION));
+        wheel.advance();
+        assertEquals(6L, manager.count(COLLECTION));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        wheel.advance();
+        assertFalse(manager.select(query).iterator().hasNext());
+        assertEquals(5L, manager.count(COLLECTION));
+    }
+
+    @Test
+    public void shouldKeepTTLWhenUpdate() {
+        manager.insert(person(6, "Ana", 20, "Rome"), Duration.ofMillis(100));
+        manager.update(person(6, "Ana Maria", 20, "Rome"));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        wheel.advance();
+        assertEquals(5L, manager.count(COLLECTION));
+    }
+
+    private static List<String> names(List<DocumentEntity> entities) {
+        return entities.stream().map(e -> e.find("name").get().get(String.class)).collect(Collectors.toList());
+    }
+
+    private static DocumentEntity person(Object id, String name, Number age, String city) {
+        return DocumentEntity.of(COLLECTION, Arrays.asList(Document.of("_id", id), Document.of("name", name),
+                Document.of("age", age), Document.of("city", city)));
+    }
+}
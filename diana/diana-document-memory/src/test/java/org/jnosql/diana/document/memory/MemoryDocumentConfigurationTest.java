@@ -0,0 +1,80 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.memory;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentConfiguration;
+import jakarta.nosql.document.DocumentEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ServiceLoader;
+import java.util.stream.StreamSupport;
+
+import static jakarta.nosql.document.DocumentQuery.select;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryDocumentConfigurationTest {
+
+    @Test
+    public void shouldLoadConfiguration() {
+        assertTrue(StreamSupport.stream(ServiceLoader.load(DocumentConfiguration.class).spliterator(), false)
+                .anyMatch(MemoryDocumentConfiguration.class::isInstance));
+    }
+
+    @Test
+    public void shouldCreateFactory() {
+        MemoryDocumentCollectionManagerFactory factory = new MemoryDocumentConfiguration().get();
+        MemoryDocumentCollectionManager manager = factory.get("database");
+        assertSame(manager, factory.get("database"));
+        manager.insert(DocumentEntity.of("person", Collections.singletonList(Document.of("_id", 1))));
+        assertEquals(1L, factory.get("database").count("person"));
+        factory.close();
+        assertEquals(0L, manager.count("person"));
+    }
+
+    @Test
+    public void shouldReadSettings() {
+        Settings settings = Settings.builder().put(MemoryDocumentConfiguration.ID, "id")
+                .put(MemoryDocumentConfiguration.INDEX + "person.age", "sorted")
+                .put(MemoryDocumentConfiguration.INDEX + "person.name", "hash").build();
+        MemoryDocumentCollectionManagerFactory factory = new MemoryDocumentConfiguration().get(settings);
+        MemoryDocumentCollectionManager manager = factory.get("database");
+        manager.insert(DocumentEntity.of("person", Arrays.asList(Document.of("id", 1),
+                Document.of("age", 10))));
+        assertEquals(1, manager.select(select().from("person").where("age").gt(5).build()).size());
+        assertThat(manager.toString(), containsString("person"));
+        factory.close();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenIndexSettingIsInvalid() {
+        Settings withoutDocument = Settings.builder().put(MemoryDocumentConfiguration.INDEX + "person", "hash").build();
+        Settings wrongType = Settings.builder().put(MemoryDocumentConfiguration.INDEX + "person.age", "tree").build();
+        MemoryDocumentConfiguration configuration = new MemoryDocumentConfiguration();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(withoutDocument));
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(wrongType));
+        assertThrows(NullPointerException.class, () -> configuration.get(null));
+    }
+}
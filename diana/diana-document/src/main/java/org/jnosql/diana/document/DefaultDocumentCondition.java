@@ -24,9 +24,12 @@ import jakarta.nosql.Value;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCondition;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -41,15 +44,34 @@ final class DefaultDocumentCondition implements DocumentCondition {
 
     private final Condition condition;
 
+    private final List<DocumentCondition> conditions;
+
+    private final Chain chain;
+
     private DefaultDocumentCondition(Document document, Condition condition) {
         this.document = document;
         this.condition = condition;
+        this.conditions = null;
+        this.chain = null;
+    }
+
+    private DefaultDocumentCondition(Condition condition, Chain chain, List<DocumentCondition> conditions) {
+        this.document = Document.of(condition.getNameField(), conditions);
+        this.condition = condition;
+        this.conditions = conditions;
+        this.chain = chain;
     }
 
     public static DefaultDocumentCondition of(Document document, Condition condition) {
         return new DefaultDocumentCondition(Objects.requireNonNull(document, "Document is required"), condition);
     }
 
+    static DefaultDocumentCondition of(Condition condition, List<DocumentCondition> conditions) {
+        Chain chain = new Chain(conditions.toArray(new DocumentCondition[0]));
+        return new DefaultDocumentCondition(condition, chain, chain.view());
+    }
+
+
     static DocumentCondition between(Document document) {
         Objects.requireNonNull(document, "document is required");
         checkBetweenClause(document.get());
@@ -87,15 +109,13 @@ final class DefaultDocumentCondition implements DocumentCondition {
 
     static DefaultDocumentCondition and(DocumentCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Document document = Document.of(Condition.AND.getNameField(), asList(conditions));
-        return DefaultDocumentCondition.of(document, Condition.AND);
+        return DefaultDocumentCondition.of(Condition.AND, asList(conditions));
     }
 
 
     static DefaultDocumentCondition or(DocumentCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Document document = Document.of(Condition.OR.getNameField(), asList(conditions));
-        return DefaultDocumentCondition.of(document, Condition.OR);
+        return DefaultDocumentCondition.of(Condition.OR, asList(conditions));
     }
 
 
@@ -111,8 +131,7 @@ final class DefaultDocumentCondition implements DocumentCondition {
     public DocumentCondition and(DocumentCondition condition) {
         requireNonNull(condition, "Conditions is required");
         if (Condition.AND.equals(this.condition)) {
-            Document column = getConditions(condition, Condition.AND);
-            return new DefaultDocumentCondition(column, Condition.AND);
+            return append(condition);
         }
         return DefaultDocumentCondition.and(this, condition);
     }
@@ -131,17 +150,44 @@ final class DefaultDocumentCondition implements DocumentCondition {
     public DocumentCondition or(DocumentCondition condition) {
         requireNonNull(condition, "Condition is required");
         if (Condition.OR.equals(this.condition)) {
-            Document newDocument = getConditions(condition, Condition.OR);
-            return new DefaultDocumentCondition(newDocument, Condition.OR);
+            return append(condition);
         }
         return DefaultDocumentCondition.or(this, condition);
     }
 
-    private Document getConditions(DocumentCondition columnCondition, Condition condition) {
-        List<DocumentCondition> conditions = new ArrayList<>(document.get(new TypeReference<List<DocumentCondition>>() {
-        }));
-        conditions.add(columnCondition);
-        return Document.of(condition.getNameField(), conditions);
+    /**
+     * Appends the condition to the conditions of this AND or OR condition. When this condition holds the last
+     * element of its chain, the condition is written in place after it, otherwise, the conditions are copied.
+     * Either way, this condition does not change, so chained and/or calls are amortized constant time.
+     */
+    private DocumentCondition append(DocumentCondition condition) {
+        if (chain != null) {
+            synchronized (chain) {
+                if (chain.size == conditions.size()) {
+                    chain.add(condition);
+                    return new DefaultDocumentCondition(this.condition, chain, chain.view());
+                }
+            }
+        }
+        List<DocumentCondition> children = getConditions();
+        List<DocumentCondition> conditions = new ArrayList<>(children.size() + 1);
+        conditions.addAll(children);
+        conditions.add(condition);
+        return DefaultDocumentCondition.of(this.condition, conditions);
+    }
+
+    /**
+     * Returns the conditions of either an AND or an OR condition, without reading them from the document value when
+     * this condition was created with them.
+     *
+     * @return the conditions
+     */
+    List<DocumentCondition> getConditions() {
+        if (conditions != null) {
+            return conditions;
+        }
+        return document.get(new TypeReference<List<DocumentCondition>>() {
+        });
     }
 
     @Override
@@ -169,5 +215,53 @@ final class DefaultDocumentCondition implements DocumentCondition {
                 '}';
     }
 
+    /**
+     * The conditions of AND and OR conditions chained from each other. The elements are only appended, so each
+     * condition keeps the array and the size it was created with as its view.
+     */
+    private static final class Chain {
+
+        private DocumentCondition[] elements;
+
+        private int size;
+
+        private Chain(DocumentCondition[] elements) {
+            this.elements = elements;
+            this.size = elements.length;
+        }
+
+        private void add(DocumentCondition condition) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(4, size * 2));
+            }
+            elements[size++] = condition;
+        }
+
+        private List<DocumentCondition> view() {
+            return new ChainView(elements, size);
+        }
+    }
+
+    private static final class ChainView extends AbstractList<DocumentCondition> implements RandomAccess {
 
+        private final DocumentCondition[] elements;
+
+        private final int size;
+
+        private ChainView(DocumentCondition[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        public DocumentCondition get(int index) {
+            Objects.checkIndex(index, size);
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
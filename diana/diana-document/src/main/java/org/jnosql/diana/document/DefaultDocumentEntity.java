@@ -21,8 +21,11 @@ package org.jnosql.diana.document;
 import jakarta.nosql.Value;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
+import org.jnosql.diana.EntityShape;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,28 +33,40 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import static java.util.Collections.singletonMap;
-import static java.util.Collections.unmodifiableSet;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
-import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toList;
 
 /**
- * A default implementation of {@link DocumentEntity}
+ * A default implementation of {@link DocumentEntity}. The documents are kept in an array, in the insertion order,
+ * at the indexes of an {@link EntityShape} shared with the other entities of the same collection. Either
+ * {@link DocumentEntity#copy()} or the list views share the array, which is copied at the next change.
  */
 final class DefaultDocumentEntity implements DocumentEntity {
 
-    private final Map<String, Document> documents = new HashMap<>();
+    private static final Document[] EMPTY = new Document[0];
 
     private final String name;
 
+    private EntityShape shape;
+
+    private Document[] documents;
+
+    private boolean shared;
+
 
     DefaultDocumentEntity(String name) {
+        this(name, 0);
+    }
+
+    DefaultDocumentEntity(String name, int expectedSize) {
         this.name = name;
+        this.shape = EntityShape.of(name);
+        this.documents = expectedSize == 0 ? EMPTY : new Document[expectedSize];
     }
 
     @Override
@@ -62,21 +77,36 @@ final class DefaultDocumentEntity implements DocumentEntity {
     @Override
     public boolean remove(String documentName) {
         requireNonNull(documentName, "documentName is required");
-        return documents.remove(documentName) != null;
+        int index = shape.indexOf(documentName);
+        if (index < 0) {
+            return false;
+        }
+        int size = shape.size();
+        Document[] values = writable(size);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        values[size - 1] = null;
+        shape = shape.remove(documentName);
+        return true;
     }
 
     @Override
     public List<Document> getDocuments() {
-        return documents.entrySet()
-                .stream()
-                .map(Map.Entry::getValue)
-                .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        shared = true;
+        return shape.view(documents);
     }
 
     @Override
     public void add(Document document) {
         requireNonNull(document, "Document is required");
-        documents.put(document.getName(), document);
+        String documentName = document.getName();
+        int index = shape.indexOf(documentName);
+        if (index >= 0) {
+            writable(shape.size())[index] = document;
+            return;
+        }
+        int size = shape.size();
+        writable(size + 1)[size] = document;
+        shape = shape.add(documentName);
     }
 
     @Override
@@ -103,55 +133,67 @@ final class DefaultDocumentEntity implements DocumentEntity {
     @Override
     public Optional<Document> find(String documentName) {
         requireNonNull(documentName, "documentName is required");
-        Document document = documents.get(documentName);
-        return ofNullable(document);
+        int index = shape.indexOf(documentName);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(documents[index]);
     }
 
     @Override
     public int size() {
-        return documents.size();
+        return shape.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return documents.isEmpty();
+        return shape.size() == 0;
     }
 
     @Override
     public DocumentEntity copy() {
         DefaultDocumentEntity entity = new DefaultDocumentEntity(this.name);
-        entity.documents.putAll(new HashMap<>(this.documents));
+        entity.shape = this.shape;
+        entity.documents = this.documents;
+        entity.shared = true;
+        this.shared = true;
         return entity;
     }
 
     @Override
     public void clear() {
-        this.documents.clear();
+        if (shared) {
+            documents = new Document[documents.length];
+            shared = false;
+        } else {
+            Arrays.fill(documents, 0, shape.size(), null);
+        }
+        shape = shape.clear();
     }
 
     @Override
     public Set<String> getDocumentNames() {
-        return unmodifiableSet(documents.keySet());
+        return shape.getNames();
     }
 
     @Override
     public Collection<Value> getValues() {
-        return documents.values().stream()
-                .map(Document::getValue)
-                .collect(toList());
+        shared = true;
+        return new Values(documents, shape.size());
     }
 
     @Override
     public boolean contains(String documentName) {
         requireNonNull(documentName, "documentName is required");
-        return documents.containsKey(documentName);
+        return shape.indexOf(documentName) >= 0;
     }
 
     @Override
     public Map<String, Object> toMap() {
-        Map<String, Object> map = new HashMap<>();
-        for (Map.Entry<String, Document> entry : documents.entrySet()) {
-            Document value = entry.getValue();
+        int size = shape.size();
+        Map<String, Object> map = new HashMap<>(Math.max(16, size * 2));
+        for (int index = 0; index < size; index++) {
+            Document value = documents[index];
             map.put(value.getName(), convert(value.get()));
         }
         return Collections.unmodifiableMap(map);
@@ -169,6 +211,20 @@ final class DefaultDocumentEntity implements DocumentEntity {
         return value;
     }
 
+    /**
+     * Returns the array to change with room to the size, copying it when it is either shared or full.
+     */
+    private Document[] writable(int size) {
+        if (documents.length < size) {
+            documents = Arrays.copyOf(documents, Math.max(size, Math.max(4, documents.length * 2)));
+            shared = false;
+        } else if (shared) {
+            documents = documents.clone();
+            shared = false;
+        }
+        return documents;
+    }
+
 
     @Override
     public boolean equals(Object o) {
@@ -179,14 +235,18 @@ final class DefaultDocumentEntity implements DocumentEntity {
             return false;
         }
         DocumentEntity that = (DocumentEntity) o;
-        return Objects.equals(this.getDocuments().stream().sorted(comparing(Document::getName)).collect(toList()),
+        return Objects.equals(shape.view(documents).stream().sorted(comparing(Document::getName)).collect(toList()),
                 that.getDocuments().stream().sorted(comparing(Document::getName)).collect(toList())) &&
                 Objects.equals(name, that.getName());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(documents, name);
+        int documentsHash = 0;
+        for (int index = 0; index < shape.size(); index++) {
+            documentsHash += shape.getName(index).hashCode() ^ documents[index].hashCode();
+        }
+        return Objects.hash(documentsHash, name);
     }
 
     @Override
@@ -195,4 +255,27 @@ final class DefaultDocumentEntity implements DocumentEntity {
                 ", name='" + name + '\'' +
                 '}';
     }
+
+    private static final class Values extends AbstractList<Value> implements RandomAccess {
+
+        private final Document[] documents;
+
+        private final int size;
+
+        private Values(Document[] documents, int size) {
+            this.documents = documents;
+            this.size = size;
+        }
+
+        @Override
+        public Value get(int index) {
+            Objects.checkIndex(index, size);
+            return documents[index].getValue();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
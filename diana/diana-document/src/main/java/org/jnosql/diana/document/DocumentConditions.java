@@ -0,0 +1,400 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.QueryException;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utilitarian class to {@link DocumentCondition}: a builder that creates one AND or OR condition from many
+ * conditions, a normalization that simplifies a condition before it is sent to a database, and a compiler of
+ * a condition into an in-memory {@link Predicate}.
+ */
+public final class DocumentConditions {
+
+    private DocumentConditions() {
+    }
+
+    /**
+     * Creates a builder of an AND condition
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder and() {
+        return new Builder(Condition.AND);
+    }
+
+    /**
+     * Creates a builder of an OR condition
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder or() {
+        return new Builder(Condition.OR);
+    }
+
+    /**
+     * Simplifies the condition without changing its result:
+     * <ul>
+     * <li>the AND conditions inside an AND, and the OR conditions inside an OR, are flattened</li>
+     * <li>an AND or an OR with one condition is replaced by it</li>
+     * <li>a double negation is removed</li>
+     * <li>at an OR, the equals and in conditions of the same document become one in condition</li>
+     * <li>at an AND, the range conditions of the same document become the intersection of the ranges, when their
+     * values are {@link Comparable} of the same type</li>
+     * </ul>
+     * The values of the conditions are read, so the parameters of a prepared statement must be bound before.
+     *
+     * @param condition the condition
+     * @return the simplified condition, or the same instance when there is nothing to simplify
+     * @throws NullPointerException when condition is null
+     */
+    public static DocumentCondition normalize(DocumentCondition condition) {
+        requireNonNull(condition, "condition is required");
+        switch (condition.getCondition()) {
+            case NOT:
+                DocumentCondition negated = condition.getDocument().get(DocumentCondition.class);
+                if (Condition.NOT.equals(negated.getCondition())) {
+                    return normalize(negated.getDocument().get(DocumentCondition.class));
+                }
+                DocumentCondition normalized = normalize(negated);
+                return normalized == negated ? condition : normalized.negate();
+            case AND:
+            case OR:
+                return normalize(condition, getConditions(condition));
+            default:
+                return condition;
+        }
+    }
+
+    /**
+     * Compiles the condition into a {@link Predicate} that evaluates it on a {@link DocumentEntity}, at the client
+     * side. A document name with dots that is not at the entity is read as a path of sub-documents. When the value at
+     * the entity is a collection, the condition matches when either an element or the collection matches.
+     * Numbers are compared by their numeric value, the like pattern uses % and _ as wildcards,
+     * and a condition on a missing document does not match.
+     *
+     * @param condition the condition
+     * @return the predicate
+     * @throws NullPointerException when condition is null
+     * @throws QueryException       when the condition type is not supported
+     */
+    public static Predicate<DocumentEntity> toPredicate(DocumentCondition condition) {
+        requireNonNull(condition, "condition is required");
+        return DocumentPredicates.compile(condition);
+    }
+
+    private static DocumentCondition normalize(DocumentCondition condition, List<DocumentCondition> children) {
+        Condition operator = condition.getCondition();
+        List<DocumentCondition> conditions = new ArrayList<>(children.size());
+        boolean changed = false;
+        for (DocumentCondition child : children) {
+            DocumentCondition normalized = normalize(child);
+            changed |= normalized != child;
+            if (operator.equals(normalized.getCondition())) {
+                conditions.addAll(getConditions(normalized));
+                changed = true;
+            } else {
+                conditions.add(normalized);
+            }
+        }
+        List<DocumentCondition> merged = Condition.OR.equals(operator) ? mergeEquals(conditions)
+                : mergeRanges(conditions);
+        if (merged.size() == 1) {
+            return merged.get(0);
+        }
+        if (!changed && merged.size() == conditions.size()) {
+            return condition;
+        }
+        return DefaultDocumentCondition.of(operator, merged);
+    }
+
+    private static List<DocumentCondition> mergeEquals(List<DocumentCondition> conditions) {
+        Map<String, Set<Object>> values = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (DocumentCondition condition : conditions) {
+            if (isEqualsOrIn(condition)) {
+                counts.merge(condition.getDocument().getName(), 1, Integer::sum);
+            }
+        }
+        if (counts.values().stream().allMatch(count -> count == 1)) {
+            return conditions;
+        }
+        for (DocumentCondition condition : conditions) {
+            String name = condition.getDocument().getName();
+            if (isEqualsOrIn(condition) && counts.get(name) > 1) {
+                Set<Object> set = values.computeIfAbsent(name, n -> new LinkedHashSet<>());
+                Object value = condition.getDocument().get();
+                if (Condition.IN.equals(condition.getCondition())) {
+                    Iterable.class.cast(value).forEach(set::add);
+                } else {
+                    set.add(value);
+                }
+            }
+        }
+        List<DocumentCondition> merged = new ArrayList<>(conditions.size());
+        for (DocumentCondition condition : conditions) {
+            String name = condition.getDocument().getName();
+            if (!isEqualsOrIn(condition) || counts.get(name) == 1) {
+                merged.add(condition);
+            } else if (values.containsKey(name)) {
+                merged.add(DocumentCondition.in(Document.of(name, new ArrayList<>(values.remove(name)))));
+            }
+        }
+        return merged;
+    }
+
+    private static List<DocumentCondition> mergeRanges(List<DocumentCondition> conditions) {
+        Map<String, Range> ranges = new LinkedHashMap<>();
+        for (DocumentCondition condition : conditions) {
+            if (Range.isRange(condition)) {
+                String name = condition.getDocument().getName();
+                ranges.computeIfAbsent(name, Range::new).add(condition);
+            }
+        }
+        ranges.values().removeIf(range -> !range.isMergeable());
+        if (ranges.isEmpty()) {
+            return conditions;
+        }
+        List<DocumentCondition> merged = new ArrayList<>(conditions.size());
+        for (DocumentCondition condition : conditions) {
+            Range range = Range.isRange(condition) ? ranges.get(condition.getDocument().getName()) : null;
+            if (range == null) {
+                merged.add(condition);
+            } else if (!range.isWritten()) {
+                merged.addAll(range.toConditions());
+            }
+        }
+        return merged;
+    }
+
+    private static boolean isEqualsOrIn(DocumentCondition condition) {
+        return Condition.EQUALS.equals(condition.getCondition()) || Condition.IN.equals(condition.getCondition());
+    }
+
+    static List<DocumentCondition> getConditions(DocumentCondition condition) {
+        if (condition instanceof DefaultDocumentCondition) {
+            return ((DefaultDocumentCondition) condition).getConditions();
+        }
+        return condition.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+    }
+
+    /**
+     * A builder of either an AND or an OR condition. It keeps the conditions at one list, so adding a condition
+     * does not copy the ones added before, and a condition of the same type is flattened into the list.
+     * The builder must not be shared across threads.
+     */
+    public static final class Builder {
+
+        private final Condition condition;
+
+        private final List<DocumentCondition> conditions = new ArrayList<>();
+
+        private Builder(Condition condition) {
+            this.condition = condition;
+        }
+
+        /**
+         * Adds a condition
+         *
+         * @param condition the condition
+         * @return this builder
+         * @throws NullPointerException when condition is null
+         */
+        public Builder add(DocumentCondition condition) {
+            requireNonNull(condition, "condition is required");
+            if (this.condition.equals(condition.getCondition())) {
+                conditions.addAll(getConditions(condition));
+            } else {
+                conditions.add(condition);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the conditions
+         *
+         * @param conditions the conditions
+         * @return this builder
+         * @throws NullPointerException when conditions is null
+         */
+        public Builder addAll(Iterable<DocumentCondition> conditions) {
+            requireNonNull(conditions, "conditions is required");
+            conditions.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Creates the condition with the conditions added so far, the builder might still be used after it
+         *
+         * @return the condition
+         * @throws IllegalStateException when there is no condition
+         */
+        public DocumentCondition build() {
+            if (conditions.isEmpty()) {
+                throw new IllegalStateException("At least one condition is required to create the " + condition);
+            }
+            return DefaultDocumentCondition.of(condition, new ArrayList<>(conditions));
+        }
+    }
+
+    /**
+     * The range conditions of one document at an AND condition, the lower and the upper bounds are the tightest
+     * ones, on a tie the exclusive bound wins.
+     */
+    private static final class Range {
+
+        private final String name;
+
+        private Comparable<Object> lower;
+
+        private boolean lowerInclusive;
+
+        private Comparable<Object> upper;
+
+        private boolean upperInclusive;
+
+        private Class<?> type;
+
+        private int size;
+
+        private boolean mergeable = true;
+
+        private boolean written;
+
+        private Range(String name) {
+            this.name = name;
+        }
+
+        static boolean isRange(DocumentCondition condition) {
+            switch (condition.getCondition()) {
+                case GREATER_THAN:
+                case GREATER_EQUALS_THAN:
+                case LESSER_THAN:
+                case LESSER_EQUALS_THAN:
+                case BETWEEN:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        void add(DocumentCondition condition) {
+            size++;
+            if (!mergeable) {
+                return;
+            }
+            Object value = condition.getDocument().get();
+            switch (condition.getCondition()) {
+                case GREATER_THAN:
+                    lower(value, false);
+                    break;
+                case GREATER_EQUALS_THAN:
+                    lower(value, true);
+                    break;
+                case LESSER_THAN:
+                    upper(value, false);
+                    break;
+                case LESSER_EQUALS_THAN:
+                    upper(value, true);
+                    break;
+                default:
+                    Iterator<?> iterator = Iterable.class.cast(value).iterator();
+                    lower(iterator.next(), true);
+                    upper(iterator.next(), true);
+            }
+        }
+
+        boolean isMergeable() {
+            return mergeable && size > 1;
+        }
+
+        boolean isWritten() {
+            return written;
+        }
+
+        List<DocumentCondition> toConditions() {
+            written = true;
+            if (lower != null && upper != null && lowerInclusive && upperInclusive) {
+                Document document = Document.of(name, Arrays.asList(lower, upper));
+                return Collections.singletonList(DocumentCondition.between(document));
+            }
+            List<DocumentCondition> conditions = new ArrayList<>(2);
+            if (lower != null) {
+                Document document = Document.of(name, lower);
+                conditions.add(lowerInclusive ? DocumentCondition.gte(document) : DocumentCondition.gt(document));
+            }
+            if (upper != null) {
+                Document document = Document.of(name, upper);
+                conditions.add(upperInclusive ? DocumentCondition.lte(document) : DocumentCondition.lt(document));
+            }
+            return conditions;
+        }
+
+        private void lower(Object value, boolean inclusive) {
+            Comparable<Object> comparable = comparable(value);
+            if (comparable == null) {
+                return;
+            }
+            int compare = lower == null ? 1 : comparable.compareTo(lower);
+            if (compare > 0 || (compare == 0 && !inclusive)) {
+                lower = comparable;
+                lowerInclusive = inclusive;
+            }
+        }
+
+        private void upper(Object value, boolean inclusive) {
+            Comparable<Object> comparable = comparable(value);
+            if (comparable == null) {
+                return;
+            }
+            int compare = upper == null ? -1 : comparable.compareTo(upper);
+            if (compare < 0 || (compare == 0 && !inclusive)) {
+                upper = comparable;
+                upperInclusive = inclusive;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Comparable<Object> comparable(Object value) {
+            if (!(value instanceof Comparable) || (type != null && !type.equals(value.getClass()))) {
+                mergeable = false;
+                return null;
+            }
+            type = value.getClass();
+            return (Comparable<Object>) value;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document;
+
+import jakarta.nosql.QueryException;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.jnosql.diana.document.DocumentValues.UNCOMPARABLE;
+import static org.jnosql.diana.document.DocumentValues.compare;
+import static org.jnosql.diana.document.DocumentValues.key;
+
+/**
+ * Compiles a {@link DocumentCondition} into a {@link Predicate} of {@link DocumentEntity}. The work that does not
+ * depend on the entity is done once: the values are read, the in values are hashed, the like patterns are
+ * compiled and the document names are split into the sub-document path.
+ */
+final class DocumentPredicates {
+
+    private static final Object MISSING = new Object();
+
+    private DocumentPredicates() {
+    }
+
+    static Predicate<DocumentEntity> compile(DocumentCondition condition) {
+        switch (condition.getCondition()) {
+            case AND:
+                Predicate<DocumentEntity>[] and = compile(DocumentConditions.getConditions(condition));
+                return entity -> {
+                    for (Predicate<DocumentEntity> predicate : and) {
+                        if (!predicate.test(entity)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            case OR:
+                Predicate<DocumentEntity>[] or = compile(DocumentConditions.getConditions(condition));
+                return entity -> {
+                    for (Predicate<DocumentEntity> predicate : or) {
+                        if (predicate.test(entity)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            case NOT:
+                return compile(condition.getDocument().get(DocumentCondition.class)).negate();
+            default:
+                return field(condition.getDocument().getName(), matcher(condition));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<DocumentEntity>[] compile(List<DocumentCondition> conditions) {
+        Predicate<DocumentEntity>[] predicates = new Predicate[conditions.size()];
+        for (int index = 0; index < predicates.length; index++) {
+            predicates[index] = compile(conditions.get(index));
+        }
+        return predicates;
+    }
+
+    private static Predicate<DocumentEntity> field(String name, Predicate<Object> matcher) {
+        String[] path = name.split("\\.");
+        return entity -> {
+            Object value = find(entity, name, path);
+            return value != MISSING && matches(matcher, value);
+        };
+    }
+
+    private static boolean matches(Predicate<Object> matcher, Object value) {
+        if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                if (matches(matcher, element)) {
+                    return true;
+                }
+            }
+            return matcher.test(value);
+        }
+        return value != null && matcher.test(value);
+    }
+
+    private static Predicate<Object> matcher(DocumentCondition condition) {
+        Object value = condition.getDocument().get();
+        switch (condition.getCondition()) {
+            case EQUALS:
+                Object key = key(value);
+                return v -> key.equals(key(v));
+            case GREATER_THAN:
+                return v -> compare(v, value) > 0;
+            case GREATER_EQUALS_THAN:
+                return v -> compare(v, value) >= 0;
+            case LESSER_THAN:
+                return v -> {
+                    int compare = compare(v, value);
+                    return compare < 0 && compare != UNCOMPARABLE;
+                };
+            case LESSER_EQUALS_THAN:
+                return v -> {
+                    int compare = compare(v, value);
+                    return compare <= 0 && compare != UNCOMPARABLE;
+                };
+            case IN:
+                Set<Object> keys = new HashSet<>();
+                ((Iterable<?>) value).forEach(v -> keys.add(key(v)));
+                return v -> keys.contains(key(v));
+            case BETWEEN:
+                Iterator<?> bounds = ((Iterable<?>) value).iterator();
+                Object lower = bounds.next();
+                Object upper = bounds.next();
+                return v -> {
+                    int compareLower = compare(v, lower);
+                    int compareUpper = compare(v, upper);
+                    return compareLower >= 0 && compareUpper <= 0 && compareUpper != UNCOMPARABLE;
+                };
+            case LIKE:
+                return like(value.toString());
+            default:
+                throw new QueryException("There is not support the type: " + condition.getCondition());
+        }
+    }
+
+    /**
+     * Compiles the like pattern, where % matches any sequence and _ matches one character, the patterns that
+     * only have a % either at the start or at the end do not use a regular expression.
+     */
+    private static Predicate<Object> like(String pattern) {
+        String text = pattern.replace("%", "");
+        boolean single = pattern.indexOf('_') >= 0;
+        int wildcards = pattern.length() - text.length();
+        if (!single && wildcards == 0) {
+            return v -> v instanceof CharSequence && text.contentEquals((CharSequence) v);
+        }
+        if (!single && wildcards == 1 && pattern.endsWith("%")) {
+            return v -> v instanceof CharSequence && v.toString().startsWith(text);
+        }
+        if (!single && wildcards == 1 && pattern.startsWith("%")) {
+            return v -> v instanceof CharSequence && v.toString().endsWith(text);
+        }
+        if (!single && wildcards == 2 && pattern.length() > 1 && pattern.startsWith("%") && pattern.endsWith("%")) {
+            return v -> v instanceof CharSequence && v.toString().contains(text);
+        }
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        Pattern compiled = Pattern.compile(regex.toString(), Pattern.DOTALL);
+        return v -> v instanceof CharSequence && compiled.matcher((CharSequence) v).matches();
+    }
+
+    /**
+     * Returns the value of the document, when the entity does not have a document with this name, the name is
+     * read as a path of sub-documents separated by dots.
+     */
+    private static Object find(DocumentEntity entity, String name, String[] path) {
+        Optional<Document> document = entity.find(name);
+        if (document.isPresent()) {
+            return document.get().get();
+        }
+        if (path.length == 1) {
+            return MISSING;
+        }
+        Object value = entity.find(path[0]).<Object>map(Document::get).orElse(MISSING);
+        for (int index = 1; index < path.length && value != MISSING; index++) {
+            value = child(value, path[index]);
+        }
+        return value;
+    }
+
+    private static Object child(Object value, String name) {
+        if (value instanceof Document) {
+            Document document = (Document) value;
+            return name.equals(document.getName()) ? document.get() : MISSING;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            return map.containsKey(name) ? map.get(name) : MISSING;
+        }
+        if (value instanceof Iterable) {
+            List<Object> values = new ArrayList<>();
+            for (Object element : (Iterable<?>) value) {
+                if (element instanceof Document) {
+                    Document document = (Document) element;
+                    if (name.equals(document.getName())) {
+                        return document.get();
+                    }
+                } else {
+                    Object child = child(element, name);
+                    if (child != MISSING) {
+                        values.add(child);
+                    }
+                }
+            }
+            return values.isEmpty() ? MISSING : values;
+        }
+        return MISSING;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Utilitarian class to the values the conditions compare: the numbers are equal and ordered by their numeric value
+ * whatever their types are, so 1, 1L and {@link BigDecimal#ONE} are the same value, and the other values are only
+ * ordered against values of the same class. The in-memory predicates of {@link DocumentConditions} and the
+ * in-memory engines use these rules, so they agree on every comparison.
+ */
+public final class DocumentValues {
+
+    /**
+     * The result of {@link DocumentValues#compare(Object, Object)} when the values cannot be compared
+     */
+    public static final int UNCOMPARABLE = Integer.MIN_VALUE;
+
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private DocumentValues() {
+    }
+
+    /**
+     * Returns the value used to either hash or equals, the numbers with the same numeric value have the same key.
+     *
+     * @param value the value
+     * @return the key of the value
+     */
+    public static Object key(Object value) {
+        if (!(value instanceof Number) || value instanceof Long) {
+            return value;
+        }
+        if (isIntegral(value)) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (!Double.isFinite(number)) {
+                return number;
+            }
+            if (number == Math.rint(number) && Math.abs(number) <= MAX_EXACT_DOUBLE) {
+                return (long) number;
+            }
+        }
+        BigDecimal decimal = decimal((Number) value).stripTrailingZeros();
+        if (decimal.scale() <= 0 && decimal.precision() - decimal.scale() < 19) {
+            return decimal.longValue();
+        }
+        return decimal;
+    }
+
+    /**
+     * Returns the group where the value is ordered, either {@link Number} or the class of a {@link Comparable}.
+     *
+     * @param value the value
+     * @return the group or null when the value cannot be ordered
+     */
+    public static Class<?> group(Object value) {
+        if (value instanceof Number) {
+            return Number.class;
+        }
+        if (value instanceof Comparable) {
+            return value.getClass();
+        }
+        return null;
+    }
+
+    /**
+     * Compares the values, the numbers are compared by their numeric value whatever their types are.
+     *
+     * @param value the value
+     * @param other the other value
+     * @return -1, 0 or 1, or {@link DocumentValues#UNCOMPARABLE} when the values are not in the same
+     * {@link DocumentValues#group(Object)}
+     */
+    @SuppressWarnings("unchecked")
+    public static int compare(Object value, Object other) {
+        if (value instanceof Number && other instanceof Number) {
+            Number number = (Number) value;
+            Number otherNumber = (Number) other;
+            if (isIntegral(number) && isIntegral(otherNumber)) {
+                return Long.compare(number.longValue(), otherNumber.longValue());
+            }
+            if (!isFinite(number) || !isFinite(otherNumber)) {
+                return Double.compare(number.doubleValue(), otherNumber.doubleValue());
+            }
+            return decimal(number).compareTo(decimal(otherNumber));
+        }
+        if (value instanceof Comparable && other != null && value.getClass().equals(other.getClass())) {
+            return Integer.signum(((Comparable<Object>) value).compareTo(other));
+        }
+        return UNCOMPARABLE;
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isFinite(Number number) {
+        return !(number instanceof Double || number instanceof Float) || Double.isFinite(number.doubleValue());
+    }
+
+    private static BigDecimal decimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return new BigDecimal(number.toString());
+    }
+}
@@ -19,6 +19,7 @@ package org.jnosql.diana.document;
 
 import jakarta.nosql.Value;
 import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
 
 import java.util.List;
 import java.util.Map;
@@ -67,6 +68,24 @@ public final class Documents {
                 .collect(toList());
     }
 
+    /**
+     * Creates a {@link DocumentEntity} with room to the expected number of documents, so adding them does not
+     * grow its storage. It has the same behavior of {@link DocumentEntity#of(String)}
+     *
+     * @param name         the collection name
+     * @param expectedSize the expected number of documents
+     * @return a new {@link DocumentEntity}
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when expectedSize is negative
+     */
+    public static DocumentEntity newEntity(String name, int expectedSize) {
+        Objects.requireNonNull(name, "name is required");
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size must not be negative: " + expectedSize);
+        }
+        return new DefaultDocumentEntity(name, expectedSize);
+    }
+
     private static Object getValue(Object value) {
 
         if (value instanceof Map) {
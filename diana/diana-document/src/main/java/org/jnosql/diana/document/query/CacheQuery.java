@@ -18,16 +18,23 @@ package org.jnosql.diana.document.query;
 
 import jakarta.nosql.document.DocumentObserverParser;
 
-import java.util.Map;
+import java.util.Iterator;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 
-import static java.util.Collections.synchronizedMap;
-
+/**
+ * A bounded, concurrent cache of statement templates keyed by the query and the identity of the
+ * {@link DocumentObserverParser}, so the same query text resolved by two observers never shares a template.
+ *
+ * @param <V> the template type
+ */
 final class CacheQuery<V> {
 
-    private final Map<String, V> store = synchronizedMap(new WeakHashMap<>());
+    static final int MAXIMUM_SIZE = 1_000;
+
+    private final ConcurrentMap<CacheKey, V> store = new ConcurrentHashMap<>();
     private final BiFunction<String, DocumentObserverParser, V> supplier;
 
     CacheQuery(BiFunction<String, DocumentObserverParser, V> supplier) {
@@ -35,19 +42,56 @@ final class CacheQuery<V> {
     }
 
 
-    public V get(String key, DocumentObserverParser observer) {
+    public V get(String query, DocumentObserverParser observer) {
+        CacheKey key = new CacheKey(query, observer);
         V value = this.store.get(key);
         if (Objects.isNull(value)) {
+            value = store.computeIfAbsent(key, k -> supplier.apply(k.query, k.observer));
+            evictIfNecessary(key);
+        }
+        return value;
+    }
 
-            synchronized (key) {
-                value = supplier.apply(key, observer);
-                put(key, value);
+    int size() {
+        return store.size();
+    }
+
+    private void evictIfNecessary(CacheKey current) {
+        Iterator<CacheKey> keys = store.keySet().iterator();
+        while (store.size() > MAXIMUM_SIZE && keys.hasNext()) {
+            CacheKey key = keys.next();
+            if (!key.equals(current)) {
+                keys.remove();
             }
         }
-        return value;
     }
 
-    private V put(String key, V value) {
-        return store.put(key, value);
+    private static final class CacheKey {
+
+        private final String query;
+
+        private final DocumentObserverParser observer;
+
+        private CacheKey(String query, DocumentObserverParser observer) {
+            this.query = query;
+            this.observer = observer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return observer == cacheKey.observer && query.equals(cacheKey.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * query.hashCode() + System.identityHashCode(observer);
+        }
     }
 }
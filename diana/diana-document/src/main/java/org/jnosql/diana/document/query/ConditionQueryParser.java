@@ -16,14 +16,12 @@
  */
 package org.jnosql.diana.document.query;
 
-import jakarta.nosql.Params;
 import jakarta.nosql.QueryException;
 import jakarta.nosql.document.Document;
-import jakarta.nosql.document.DocumentCondition;
-import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentObserverParser;
 import jakarta.nosql.query.JSONQueryValue;
 
+import java.time.Duration;
 import java.util.List;
 
 
@@ -32,23 +30,20 @@ import java.util.List;
  */
 abstract class ConditionQueryParser {
 
-    protected DocumentEntity getEntity(ConditionQuerySupplier query, String collection, Params params,
-                                       DocumentObserverParser observer) {
-        DocumentEntity entity = DocumentEntity.of(collection);
+    protected EntityTemplate getTemplate(ConditionQuerySupplier query, String collection, Duration ttl,
+                                         DocumentObserverParser observer) {
 
         if (query.useJSONCondition()) {
             JSONQueryValue jsonValue = query.getValue().orElseThrow(() -> new QueryException("It is an invalid state of" +
                     " either Update or Insert."));
             List<Document> documents = JsonObjects.getDocuments(jsonValue.get());
-            entity.addAll(documents);
-            return entity;
+            return new EntityTemplate(collection, documents, null, ttl);
         }
 
-        query.getConditions()
+        ConditionTemplate[] conditions = query.getConditions()
                 .stream()
-                .map(c -> Conditions.getCondition(c, params, observer, collection))
-                .map(DocumentCondition::getDocument)
-                .forEach(entity::add);
-        return entity;
+                .map(c -> ConditionTemplate.of(c, observer, collection))
+                .toArray(ConditionTemplate[]::new);
+        return new EntityTemplate(collection, null, conditions, ttl);
     }
 }
@@ -0,0 +1,121 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.query;
+
+import jakarta.nosql.Params;
+import jakarta.nosql.QueryException;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentObserverParser;
+import jakarta.nosql.query.Condition;
+import jakarta.nosql.query.ConditionQueryValue;
+import jakarta.nosql.query.Operator;
+import jakarta.nosql.query.QueryValue;
+
+import java.util.List;
+
+import static jakarta.nosql.document.DocumentCondition.and;
+import static jakarta.nosql.document.DocumentCondition.between;
+import static jakarta.nosql.document.DocumentCondition.eq;
+import static jakarta.nosql.document.DocumentCondition.gt;
+import static jakarta.nosql.document.DocumentCondition.gte;
+import static jakarta.nosql.document.DocumentCondition.in;
+import static jakarta.nosql.document.DocumentCondition.like;
+import static jakarta.nosql.document.DocumentCondition.lt;
+import static jakarta.nosql.document.DocumentCondition.lte;
+import static jakarta.nosql.document.DocumentCondition.or;
+
+/**
+ * An immutable {@link Condition} whose field names were already resolved by the {@link DocumentObserverParser}.
+ * Binding it to a {@link Params} creates a new {@link DocumentCondition} without calling the observer again.
+ */
+final class ConditionTemplate {
+
+    private static final ConditionTemplate[] EMPTY = new ConditionTemplate[0];
+
+    private final Operator operator;
+
+    private final String name;
+
+    private final QueryValue<?> value;
+
+    private final ConditionTemplate[] conditions;
+
+    private ConditionTemplate(Operator operator, String name, QueryValue<?> value, ConditionTemplate[] conditions) {
+        this.operator = operator;
+        this.name = name;
+        this.value = value;
+        this.conditions = conditions;
+    }
+
+    DocumentCondition bind(Params params) {
+        switch (operator) {
+            case EQUALS:
+                return eq(getDocument(params));
+            case GREATER_THAN:
+                return gt(getDocument(params));
+            case GREATER_EQUALS_THAN:
+                return gte(getDocument(params));
+            case LESSER_THAN:
+                return lt(getDocument(params));
+            case LESSER_EQUALS_THAN:
+                return lte(getDocument(params));
+            case IN:
+                return in(getDocument(params));
+            case LIKE:
+                return like(getDocument(params));
+            case BETWEEN:
+                return between(getDocument(params));
+            case NOT:
+                return conditions[0].bind(params).negate();
+            case OR:
+                return or(bind(conditions, params));
+            case AND:
+                return and(bind(conditions, params));
+            default:
+                throw new QueryException("There is not support the type: " + operator);
+        }
+    }
+
+    private Document getDocument(Params params) {
+        return Document.of(name, Values.get(value, params));
+    }
+
+    private static DocumentCondition[] bind(ConditionTemplate[] conditions, Params params) {
+        DocumentCondition[] documentConditions = new DocumentCondition[conditions.length];
+        for (int index = 0; index < conditions.length; index++) {
+            documentConditions[index] = conditions[index].bind(params);
+        }
+        return documentConditions;
+    }
+
+    static ConditionTemplate of(Condition condition, DocumentObserverParser observer, String entity) {
+        Operator operator = condition.getOperator();
+        switch (operator) {
+            case NOT:
+            case OR:
+            case AND:
+                List<Condition> conditions = ConditionQueryValue.class.cast(condition.getValue()).get();
+                return new ConditionTemplate(operator, null, null, conditions.stream()
+                        .map(c -> of(c, observer, entity))
+                        .toArray(ConditionTemplate[]::new));
+            default:
+                return new ConditionTemplate(operator, observer.fireField(entity, condition.getName()),
+                        condition.getValue(), EMPTY);
+        }
+    }
+}
@@ -24,16 +24,21 @@ import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentPreparedStatement;
 import jakarta.nosql.document.DocumentQuery;
+import org.jnosql.diana.IndexedParams;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
-final class DefaultDocumentPreparedStatement implements DocumentPreparedStatement {
+final class DefaultDocumentPreparedStatement implements IndexedDocumentPreparedStatement {
+
+    private static final boolean COPY_ON_BIND = Boolean.getBoolean(IndexedParams.COPY_ON_BIND_PROPERTY);
 
     private final DocumentEntity entity;
 
@@ -43,50 +48,79 @@ final class DefaultDocumentPreparedStatement implements DocumentPreparedStatemen
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final IndexedParams params;
 
     private final String query;
 
-    private final List<String> paramsLeft;
-
     private final Duration duration;
 
     private final DocumentCollectionManager manager;
 
+    private final Supplier<DefaultDocumentPreparedStatement> copy;
+
     private DefaultDocumentPreparedStatement(DocumentEntity entity,
                                              DocumentQuery documentQuery,
                                              DocumentDeleteQuery documentDeleteQuery,
                                              PreparedStatementType type,
-                                             Params params,
+                                             IndexedParams params,
                                              String query,
-                                             List<String> paramsLeft,
                                              Duration duration,
-                                             DocumentCollectionManager manager) {
+                                             DocumentCollectionManager manager,
+                                             Supplier<DefaultDocumentPreparedStatement> copy) {
         this.entity = entity;
         this.documentQuery = documentQuery;
         this.documentDeleteQuery = documentDeleteQuery;
         this.type = type;
         this.params = params;
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
+        this.copy = copy;
     }
 
     @Override
-    public DocumentPreparedStatement bind(String name, Object value) {
+    public IndexedDocumentPreparedStatement bind(String name, Object value) {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        int index = params.indexOf(name);
+        if (index < 0) {
+            return this;
+        }
+        return bindSlot(index, value);
+    }
+
+    @Override
+    public int indexOf(String name) {
+        return params.indexOf(name);
+    }
+
+    @Override
+    public IndexedDocumentPreparedStatement bind(int index, Object value) {
+        Objects.requireNonNull(value, "value is required");
+        if (index < 0 || index >= params.size()) {
+            throw new IndexOutOfBoundsException("There is no parameter at the index: " + index);
+        }
+        return bindSlot(index, value);
+    }
+
+    @Override
+    public IndexedDocumentPreparedStatement clearBindings() {
+        params.clearBindings();
         return this;
     }
 
+    private IndexedDocumentPreparedStatement bindSlot(int index, Object value) {
+        DefaultDocumentPreparedStatement statement = Objects.isNull(copy) ? this : copy.get();
+        statement.params.bind(index, value);
+        return statement;
+    }
+
     @Override
     public List<DocumentEntity> getResultList() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        if (!params.isBound()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: "
+                    + params.getUnboundNames());
         }
         switch (type) {
             case SELECT:
@@ -131,46 +165,69 @@ final class DefaultDocumentPreparedStatement implements DocumentPreparedStatemen
         return query;
     }
 
-    static DocumentPreparedStatement select(
-            DocumentQuery documentQuery,
-            Params params,
-            String query,
-            DocumentCollectionManager manager) {
-        return new DefaultDocumentPreparedStatement(null, documentQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
-
+    static DefaultDocumentPreparedStatement select(Function<Params, DocumentQuery> template,
+                                                   String query,
+                                                   DocumentCollectionManager manager) {
+        return select(template, query, manager, COPY_ON_BIND);
     }
 
-    static DocumentPreparedStatement delete(DocumentDeleteQuery documentDeleteQuery,
-                                            Params params,
-                                            String query,
-                                            DocumentCollectionManager manager) {
+    static DefaultDocumentPreparedStatement delete(Function<Params, DocumentDeleteQuery> template,
+                                                   String query,
+                                                   DocumentCollectionManager manager) {
+        return delete(template, query, manager, COPY_ON_BIND);
+    }
 
-        return new DefaultDocumentPreparedStatement(null, null,
-                documentDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultDocumentPreparedStatement insert(Function<Params, DocumentEntity> template,
+                                                   String query,
+                                                   Duration duration,
+                                                   DocumentCollectionManager manager) {
+        return insert(template, query, duration, manager, COPY_ON_BIND);
+    }
 
+    static DefaultDocumentPreparedStatement update(Function<Params, DocumentEntity> template,
+                                                   String query,
+                                                   DocumentCollectionManager manager) {
+        return update(template, query, manager, COPY_ON_BIND);
     }
 
-    static DocumentPreparedStatement insert(DocumentEntity entity,
-                                            Params params,
-                                            String query,
-                                            Duration duration,
-                                            DocumentCollectionManager manager) {
-        return new DefaultDocumentPreparedStatement(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+    static DefaultDocumentPreparedStatement select(Function<Params, DocumentQuery> template,
+                                                           String query,
+                                                           DocumentCollectionManager manager,
+                                                           boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultDocumentPreparedStatement(null, template.apply(params),
+                null, PreparedStatementType.SELECT, params, query, null, manager,
+                copyOnBind ? () -> select(template, query, manager, false) : null);
+    }
 
+    static DefaultDocumentPreparedStatement delete(Function<Params, DocumentDeleteQuery> template,
+                                                           String query,
+                                                           DocumentCollectionManager manager,
+                                                           boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultDocumentPreparedStatement(null, null,
+                template.apply(params), PreparedStatementType.DELETE, params, query, null, manager,
+                copyOnBind ? () -> delete(template, query, manager, false) : null);
     }
 
-    static DocumentPreparedStatement update(DocumentEntity entity,
-                                            Params params,
-                                            String query,
-                                            DocumentCollectionManager manager) {
-        return new DefaultDocumentPreparedStatement(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultDocumentPreparedStatement insert(Function<Params, DocumentEntity> template,
+                                                           String query,
+                                                           Duration duration,
+                                                           DocumentCollectionManager manager,
+                                                           boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultDocumentPreparedStatement(template.apply(params), null,
+                null, PreparedStatementType.INSERT, params, query, duration, manager,
+                copyOnBind ? () -> insert(template, query, duration, manager, false) : null);
+    }
 
+    static DefaultDocumentPreparedStatement update(Function<Params, DocumentEntity> template,
+                                                           String query,
+                                                           DocumentCollectionManager manager,
+                                                           boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultDocumentPreparedStatement(template.apply(params), null,
+                null, PreparedStatementType.UPDATE, params, query, null, manager,
+                copyOnBind ? () -> update(template, query, manager, false) : null);
     }
 }
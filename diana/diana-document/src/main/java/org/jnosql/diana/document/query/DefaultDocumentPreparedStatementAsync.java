@@ -24,6 +24,7 @@ import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentPreparedStatementAsync;
 import jakarta.nosql.document.DocumentQuery;
+import org.jnosql.diana.IndexedParams;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -31,8 +32,12 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedStatementAsync {
+final class DefaultDocumentPreparedStatementAsync implements IndexedDocumentPreparedStatementAsync {
+
+    private static final boolean COPY_ON_BIND = Boolean.getBoolean(IndexedParams.COPY_ON_BIND_PROPERTY);
 
     private final DocumentEntity entity;
 
@@ -42,52 +47,81 @@ final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedSta
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final IndexedParams params;
 
     private final String query;
 
-    private final List<String> paramsLeft;
-
     private final Duration duration;
 
     private final DocumentCollectionManagerAsync manager;
 
+    private final Supplier<DefaultDocumentPreparedStatementAsync> copy;
+
     private DefaultDocumentPreparedStatementAsync(DocumentEntity entity,
                                                   DocumentQuery documentQuery,
                                                   DocumentDeleteQuery documentDeleteQuery,
                                                   PreparedStatementType type,
-                                                  Params params,
+                                                  IndexedParams params,
                                                   String query,
-                                                  List<String> paramsLeft,
                                                   Duration duration,
-                                                  DocumentCollectionManagerAsync manager) {
+                                                  DocumentCollectionManagerAsync manager,
+                                                  Supplier<DefaultDocumentPreparedStatementAsync> copy) {
         this.entity = entity;
         this.documentQuery = documentQuery;
         this.documentDeleteQuery = documentDeleteQuery;
         this.type = type;
         this.params = params;
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
+        this.copy = copy;
     }
 
     @Override
-    public DocumentPreparedStatementAsync bind(String name, Object value) {
+    public IndexedDocumentPreparedStatementAsync bind(String name, Object value) {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        int index = params.indexOf(name);
+        if (index < 0) {
+            return this;
+        }
+        return bindSlot(index, value);
+    }
+
+    @Override
+    public int indexOf(String name) {
+        return params.indexOf(name);
+    }
+
+    @Override
+    public IndexedDocumentPreparedStatementAsync bind(int index, Object value) {
+        Objects.requireNonNull(value, "value is required");
+        if (index < 0 || index >= params.size()) {
+            throw new IndexOutOfBoundsException("There is no parameter at the index: " + index);
+        }
+        return bindSlot(index, value);
+    }
+
+    @Override
+    public IndexedDocumentPreparedStatementAsync clearBindings() {
+        params.clearBindings();
         return this;
     }
 
+    private IndexedDocumentPreparedStatementAsync bindSlot(int index, Object value) {
+        DefaultDocumentPreparedStatementAsync statement = Objects.isNull(copy) ? this : copy.get();
+        statement.params.bind(index, value);
+        return statement;
+    }
+
     @Override
     public void getResultList(Consumer<List<DocumentEntity>> callBack) {
         Objects.requireNonNull(callBack, "callBack is required");
 
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        if (!params.isBound()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: "
+                    + params.getUnboundNames());
         }
         switch (type) {
             case SELECT:
@@ -139,46 +173,69 @@ final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedSta
         return query;
     }
 
-    static DefaultDocumentPreparedStatementAsync select(
-            DocumentQuery documentQuery,
-            Params params,
-            String query,
-            DocumentCollectionManagerAsync manager) {
-        return new DefaultDocumentPreparedStatementAsync(null, documentQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
-
+    static DefaultDocumentPreparedStatementAsync select(Function<Params, DocumentQuery> template,
+                                                        String query,
+                                                        DocumentCollectionManagerAsync manager) {
+        return select(template, query, manager, COPY_ON_BIND);
     }
 
-    static DefaultDocumentPreparedStatementAsync delete(DocumentDeleteQuery documentDeleteQuery,
-                                                        Params params,
-                                            String query,
-                                            DocumentCollectionManagerAsync manager) {
+    static DefaultDocumentPreparedStatementAsync delete(Function<Params, DocumentDeleteQuery> template,
+                                                        String query,
+                                                        DocumentCollectionManagerAsync manager) {
+        return delete(template, query, manager, COPY_ON_BIND);
+    }
 
-        return new DefaultDocumentPreparedStatementAsync(null, null,
-                documentDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultDocumentPreparedStatementAsync insert(Function<Params, DocumentEntity> template,
+                                                        String query,
+                                                        Duration duration,
+                                                        DocumentCollectionManagerAsync manager) {
+        return insert(template, query, duration, manager, COPY_ON_BIND);
+    }
 
+    static DefaultDocumentPreparedStatementAsync update(Function<Params, DocumentEntity> template,
+                                                        String query,
+                                                        DocumentCollectionManagerAsync manager) {
+        return update(template, query, manager, COPY_ON_BIND);
     }
 
-    static DefaultDocumentPreparedStatementAsync insert(DocumentEntity entity,
-                                                        Params params,
-                                            String query,
-                                            Duration duration,
-                                            DocumentCollectionManagerAsync manager) {
-        return new DefaultDocumentPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+    static DefaultDocumentPreparedStatementAsync select(Function<Params, DocumentQuery> template,
+                                                                String query,
+                                                                DocumentCollectionManagerAsync manager,
+                                                                boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultDocumentPreparedStatementAsync(null, template.apply(params),
+                null, PreparedStatementType.SELECT, params, query, null, manager,
+                copyOnBind ? () -> select(template, query, manager, false) : null);
+    }
 
+    static DefaultDocumentPreparedStatementAsync delete(Function<Params, DocumentDeleteQuery> template,
+                                                                String query,
+                                                                DocumentCollectionManagerAsync manager,
+                                                                boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultDocumentPreparedStatementAsync(null, null,
+                template.apply(params), PreparedStatementType.DELETE, params, query, null, manager,
+                copyOnBind ? () -> delete(template, query, manager, false) : null);
     }
 
-    static DefaultDocumentPreparedStatementAsync update(DocumentEntity entity,
-                                                        Params params,
-                                            String query,
-                                            DocumentCollectionManagerAsync manager) {
-        return new DefaultDocumentPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultDocumentPreparedStatementAsync insert(Function<Params, DocumentEntity> template,
+                                                                String query,
+                                                                Duration duration,
+                                                                DocumentCollectionManagerAsync manager,
+                                                                boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultDocumentPreparedStatementAsync(template.apply(params), null,
+                null, PreparedStatementType.INSERT, params, query, duration, manager,
+                copyOnBind ? () -> insert(template, query, duration, manager, false) : null);
+    }
 
+    static DefaultDocumentPreparedStatementAsync update(Function<Params, DocumentEntity> template,
+                                                                String query,
+                                                                DocumentCollectionManagerAsync manager,
+                                                                boolean copyOnBind) {
+        IndexedParams params = IndexedParams.newParams();
+        return new DefaultDocumentPreparedStatementAsync(template.apply(params), null,
+                null, PreparedStatementType.UPDATE, params, query, null, manager,
+                copyOnBind ? () -> update(template, query, manager, false) : null);
     }
 }
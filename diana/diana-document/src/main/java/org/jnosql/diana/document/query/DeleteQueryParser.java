@@ -22,7 +22,6 @@ import jakarta.nosql.ServiceLoaderProvider;
 import jakarta.nosql.document.DeleteQueryConverter;
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentCollectionManagerAsync;
-import jakarta.nosql.document.DocumentCondition;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentDeleteQueryParams;
 import jakarta.nosql.document.DocumentEntity;
@@ -36,7 +35,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * The default implementation of {@link DeleteQueryConverter}
@@ -44,16 +42,16 @@ import java.util.stream.Collectors;
 public final class DeleteQueryParser implements DeleteQueryConverter {
 
     private final DeleteQueryProvider deleteQueryProvider;
-    private final CacheQuery<DocumentDeleteQuery> cache;
+    private final CacheQuery<DeleteTemplate> cache;
 
     public DeleteQueryParser() {
         this.deleteQueryProvider = ServiceLoaderProvider.get(DeleteQueryProvider.class);
-        cache = new CacheQuery<>(this::getQuery);
+        cache = new CacheQuery<>(this::getTemplate);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        DocumentDeleteQuery documentQuery = cache.get(query, observer);
+        DocumentDeleteQuery documentQuery = getQuery(query, observer);
         collectionManager.delete(documentQuery);
         return Collections.emptyList();
     }
@@ -61,23 +59,19 @@ public final class DeleteQueryParser implements DeleteQueryConverter {
     void queryAsync(String query, DocumentCollectionManagerAsync collectionManager,
                     Consumer<List<DocumentEntity>> callBack, DocumentObserverParser observer) {
 
-        DocumentDeleteQuery documentQuery = cache.get(query, observer);
+        DocumentDeleteQuery documentQuery = getQuery(query, observer);
         collectionManager.delete(documentQuery, v -> callBack.accept(Collections.emptyList()));
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager,
                                       DocumentObserverParser observer) {
-        Params params = Params.newParams();
-        DocumentDeleteQuery documentQuery = getQuery(query, params, observer);
-        return DefaultDocumentPreparedStatement.delete(documentQuery, params, query, collectionManager);
+        return DefaultDocumentPreparedStatement.delete(cache.get(query, observer)::bind, query, collectionManager);
     }
 
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager,
                                                 DocumentObserverParser observer) {
-        Params params = Params.newParams();
-        DocumentDeleteQuery documentQuery = getQuery(query, params, observer);
-        return DefaultDocumentPreparedStatementAsync.delete(documentQuery, params, query, collectionManager);
+        return DefaultDocumentPreparedStatementAsync.delete(cache.get(query, observer)::bind, query, collectionManager);
 
     }
 
@@ -86,49 +80,22 @@ public final class DeleteQueryParser implements DeleteQueryConverter {
         Objects.requireNonNull(deleteQuery, "deleteQuery is required");
         Objects.requireNonNull(observer, "observer is required");
         Params params = Params.newParams();
-        DocumentDeleteQuery query = getQuery(params, observer, deleteQuery);
+        DocumentDeleteQuery query = DeleteTemplate.of(deleteQuery, observer).bind(params);
         return new DefaultDocumentDeleteQueryParams(query, params);
     }
 
-    private DocumentDeleteQuery getQuery(String query, Params params, DocumentObserverParser observer) {
-        DeleteQuery deleteQuery = deleteQueryProvider.apply(query);
-
-        return getQuery(params, observer, deleteQuery);
-    }
-
-    private DocumentDeleteQuery getQuery(Params params, DocumentObserverParser observer,
-                                         DeleteQuery deleteQuery) {
-        String collection = observer.fireEntity(deleteQuery.getEntity());
-        List<String> documents = deleteQuery.getFields().stream()
-                .map(f -> observer.fireField(collection, f))
-                .collect(Collectors.toList());
-        DocumentCondition condition = null;
-
-        if (deleteQuery.getWhere().isPresent()) {
-            condition = deleteQuery.getWhere().map(c -> Conditions.getCondition(c, params, observer, collection)).get();
-        }
-
-        return new DefaultDocumentDeleteQuery(collection, condition, documents);
-    }
-
     private DocumentDeleteQuery getQuery(String query, DocumentObserverParser observer) {
-        DeleteQuery deleteQuery = deleteQueryProvider.apply(query);
-
-        String collection = observer.fireEntity(deleteQuery.getEntity());
-        List<String> documents = deleteQuery.getFields().stream()
-                .map(f -> observer.fireField(collection, f))
-                .collect(Collectors.toList());
-        DocumentCondition condition = null;
         Params params = Params.newParams();
-
-        if (deleteQuery.getWhere().isPresent()) {
-            condition = deleteQuery.getWhere().map(c -> Conditions.getCondition(c, params, observer, collection)).get();
-        }
-
+        DocumentDeleteQuery documentQuery = cache.get(query, observer).bind(params);
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultDocumentDeleteQuery(collection, condition, documents);
+        return documentQuery;
+    }
+
+    private DeleteTemplate getTemplate(String query, DocumentObserverParser observer) {
+        DeleteQuery deleteQuery = deleteQueryProvider.apply(query);
+        return DeleteTemplate.of(deleteQuery, observer);
     }
 
 
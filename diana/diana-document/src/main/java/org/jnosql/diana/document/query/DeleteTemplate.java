@@ -0,0 +1,67 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.query;
+
+import jakarta.nosql.Params;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentObserverParser;
+import jakarta.nosql.query.DeleteQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An immutable delete statement whose names were already resolved by the {@link DocumentObserverParser}.
+ * Each {@link #bind(Params)} creates a new {@link DocumentDeleteQuery}, so one template serves many executions.
+ */
+final class DeleteTemplate {
+
+    private final String collection;
+
+    private final List<String> documents;
+
+    private final ConditionTemplate condition;
+
+    private DeleteTemplate(String collection, List<String> documents, ConditionTemplate condition) {
+        this.collection = collection;
+        this.documents = documents;
+        this.condition = condition;
+    }
+
+    DocumentDeleteQuery bind(Params params) {
+        DocumentCondition documentCondition = null;
+        if (Objects.nonNull(condition)) {
+            documentCondition = condition.bind(params);
+        }
+        return new DefaultDocumentDeleteQuery(collection, documentCondition, documents);
+    }
+
+    static DeleteTemplate of(DeleteQuery deleteQuery, DocumentObserverParser observer) {
+        String collection = observer.fireEntity(deleteQuery.getEntity());
+        List<String> documents = deleteQuery.getFields().stream()
+                .map(f -> observer.fireField(collection, f))
+                .collect(toList());
+        ConditionTemplate condition = deleteQuery.getWhere()
+                .map(w -> ConditionTemplate.of(w.getCondition(), observer, collection))
+                .orElse(null);
+        return new DeleteTemplate(collection, unmodifiableList(documents), condition);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.query;
+
+import jakarta.nosql.Params;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable insert or update statement whose names were already resolved by the
+ * {@link jakarta.nosql.document.DocumentObserverParser}. Each {@link #bind(Params)} creates a new
+ * {@link DocumentEntity}, so one template serves many executions.
+ */
+final class EntityTemplate {
+
+    private final String collection;
+
+    private final List<Document> documents;
+
+    private final ConditionTemplate[] conditions;
+
+    private final Duration ttl;
+
+    EntityTemplate(String collection, List<Document> documents, ConditionTemplate[] conditions, Duration ttl) {
+        this.collection = collection;
+        this.documents = documents;
+        this.conditions = conditions;
+        this.ttl = ttl;
+    }
+
+    DocumentEntity bind(Params params) {
+        DocumentEntity entity = DocumentEntity.of(collection);
+        if (Objects.nonNull(documents)) {
+            entity.addAll(documents);
+            return entity;
+        }
+        for (ConditionTemplate condition : conditions) {
+            entity.add(condition.bind(params).getDocument());
+        }
+        return entity;
+    }
+
+    Optional<Duration> getTtl() {
+        return Optional.ofNullable(ttl);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.query;
+
+import jakarta.nosql.document.DocumentPreparedStatementAsync;
+import org.jnosql.diana.IndexedParams;
+
+/**
+ * A {@link DocumentPreparedStatementAsync} whose parameters might be bound by slot, see {@link IndexedParams}. The bindings
+ * might be cleared, so the same statement runs again with new values. When the
+ * {@value IndexedParams#COPY_ON_BIND_PROPERTY} system property is true, binding returns a bound copy and leaves
+ * this statement untouched.
+ */
+public interface IndexedDocumentPreparedStatementAsync extends DocumentPreparedStatementAsync {
+
+    @Override
+    IndexedDocumentPreparedStatementAsync bind(String name, Object value);
+
+    /**
+     * Returns the slot of the parameter
+     *
+     * @param name the parameter name
+     * @return the slot or -1 when there is not a parameter with this name
+     * @throws NullPointerException when name is null
+     */
+    int indexOf(String name);
+
+    /**
+     * Binds a value to the slot
+     *
+     * @param index the slot
+     * @param value the value
+     * @return the statement to run, either this one or a bound copy
+     * @throws NullPointerException      when value is null
+     * @throws IndexOutOfBoundsException when there is no slot at the index
+     */
+    IndexedDocumentPreparedStatementAsync bind(int index, Object value);
+
+    /**
+     * Removes the value of every parameter, so the statement might be bound again
+     *
+     * @return this statement
+     */
+    IndexedDocumentPreparedStatementAsync clearBindings();
+}
@@ -40,24 +40,19 @@ import static java.util.Collections.singletonList;
 final class InsertQueryParser extends ConditionQueryParser {
 
     private final InsertQueryProvider insertQueryProvider;
+    private final CacheQuery<EntityTemplate> cache;
 
     InsertQueryParser() {
         this.insertQueryProvider = ServiceLoaderProvider.get(InsertQueryProvider.class);
+        this.cache = new CacheQuery<>(this::getTemplate);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        InsertQuery insertQuery = insertQueryProvider.apply(query);
-
-        String collection = insertQuery.getEntity();
-        Params params = Params.newParams();
-
-        DocumentEntity entity = getEntity(insertQuery, collection, params, observer);
+        EntityTemplate template = cache.get(query, observer);
+        DocumentEntity entity = getEntity(template);
 
-        Optional<Duration> ttl = insertQuery.getTtl();
-        if (params.isNotEmpty()) {
-            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
-        }
+        Optional<Duration> ttl = template.getTtl();
         if (ttl.isPresent()) {
             return singletonList(collectionManager.insert(entity, ttl.get()));
         } else {
@@ -67,17 +62,11 @@ final class InsertQueryParser extends ConditionQueryParser {
 
     void queryAsync(String query, DocumentCollectionManagerAsync collectionManager,
                     Consumer<List<DocumentEntity>> callBack, DocumentObserverParser observer) {
-        InsertQuery insertQuery = insertQueryProvider.apply(query);
 
-        String collection = observer.fireEntity(insertQuery.getEntity());
-        Params params = Params.newParams();
+        EntityTemplate template = cache.get(query, observer);
+        DocumentEntity entity = getEntity(template);
 
-        DocumentEntity entity = getEntity(insertQuery, collection, params, observer);
-
-        Optional<Duration> ttl = insertQuery.getTtl();
-        if (params.isNotEmpty()) {
-            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
-        }
+        Optional<Duration> ttl = template.getTtl();
         if (ttl.isPresent()) {
             collectionManager.insert(entity, ttl.get(), c -> callBack.accept(singletonList(c)));
         } else {
@@ -86,31 +75,32 @@ final class InsertQueryParser extends ConditionQueryParser {
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
-        InsertQuery insertQuery = insertQueryProvider.apply(query);
-
-        String collection = observer.fireEntity(insertQuery.getEntity());
-        Params params = Params.newParams();
-
-        Optional<Duration> ttl = insertQuery.getTtl();
-        DocumentEntity entity = getEntity(insertQuery, collection, params, observer);
-
-        return DefaultDocumentPreparedStatement.insert(entity, params, query, ttl.orElse(null), collectionManager);
+        EntityTemplate template = cache.get(query, observer);
+        return DefaultDocumentPreparedStatement.insert(template::bind, query, template.getTtl().orElse(null),
+                collectionManager);
 
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager, DocumentObserverParser observer) {
+        EntityTemplate template = cache.get(query, observer);
+        return DefaultDocumentPreparedStatementAsync.insert(template::bind, query, template.getTtl().orElse(null),
+                collectionManager);
+    }
+
+    private DocumentEntity getEntity(EntityTemplate template) {
         Params params = Params.newParams();
+        DocumentEntity entity = template.bind(params);
+        if (params.isNotEmpty()) {
+            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
+        }
+        return entity;
+    }
 
+    private EntityTemplate getTemplate(String query, DocumentObserverParser observer) {
         InsertQuery insertQuery = insertQueryProvider.apply(query);
         String collection = observer.fireEntity(insertQuery.getEntity());
-        Optional<Duration> ttl = insertQuery.getTtl();
-        DocumentEntity entity = getEntity(insertQuery, collection, params, observer);
-
-        return DefaultDocumentPreparedStatementAsync.insert(entity, params, query, ttl.orElse(null), collectionManager);
-    }
-
-    private DocumentEntity getEntity(InsertQuery insertQuery, String collection, Params params, DocumentObserverParser observer) {
-        return getEntity(new InsertQueryConditionSupplier(insertQuery), collection, params, observer);
+        return getTemplate(new InsertQueryConditionSupplier(insertQuery), collection,
+                insertQuery.getTtl().orElse(null), observer);
     }
 
 
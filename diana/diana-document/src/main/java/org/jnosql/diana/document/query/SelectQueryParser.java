@@ -19,10 +19,8 @@ package org.jnosql.diana.document.query;
 import jakarta.nosql.Params;
 import jakarta.nosql.QueryException;
 import jakarta.nosql.ServiceLoaderProvider;
-import jakarta.nosql.Sort;
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentCollectionManagerAsync;
-import jakarta.nosql.document.DocumentCondition;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentObserverParser;
 import jakarta.nosql.document.DocumentPreparedStatement;
@@ -36,9 +34,6 @@ import jakarta.nosql.query.SelectQuery.SelectQueryProvider;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
-
-import static java.util.stream.Collectors.toList;
 
 /**
  * The default implementation of {@link SelectQueryConverter}
@@ -46,44 +41,34 @@ import static java.util.stream.Collectors.toList;
 public final class SelectQueryParser implements SelectQueryConverter {
 
     private final SelectQueryProvider selectQueryProvider;
-    private final CacheQuery<DocumentQuery> cache;
+    private final CacheQuery<SelectTemplate> cache;
 
     public SelectQueryParser() {
         this.selectQueryProvider = ServiceLoaderProvider.get(SelectQueryProvider.class);
-        this.cache = new CacheQuery<>(this::getDocumentQuery);
+        this.cache = new CacheQuery<>(this::getTemplate);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        DocumentQuery documentQuery = cache.get(query, observer);
+        DocumentQuery documentQuery = getDocumentQuery(query, observer);
         return collectionManager.select(documentQuery);
     }
 
     void queryAsync(String query, DocumentCollectionManagerAsync collectionManager, Consumer<List<DocumentEntity>> callBack,
                     DocumentObserverParser observer) {
 
-        DocumentQuery documentQuery = cache.get(query, observer);
+        DocumentQuery documentQuery = getDocumentQuery(query, observer);
         collectionManager.select(documentQuery, callBack);
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        Params params = Params.newParams();
-
-        SelectQuery selectQuery = selectQueryProvider.apply(query);
-
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
-        return DefaultDocumentPreparedStatement.select(documentQuery, params, query, collectionManager);
+        return DefaultDocumentPreparedStatement.select(cache.get(query, observer)::bind, query, collectionManager);
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager,
                                                 DocumentObserverParser observer) {
-        Params params = Params.newParams();
-
-        SelectQuery selectQuery = selectQueryProvider.apply(query);
-
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
-        return DefaultDocumentPreparedStatementAsync.select(documentQuery, params, query, collectionManager);
+        return DefaultDocumentPreparedStatementAsync.select(cache.get(query, observer)::bind, query, collectionManager);
     }
 
     @Override
@@ -91,54 +76,22 @@ public final class SelectQueryParser implements SelectQueryConverter {
         Objects.requireNonNull(selectQuery, "selectQuery is required");
         Objects.requireNonNull(observer, "observer is required");
         Params params = Params.newParams();
-        DocumentQuery columnQuery = getDocumentQuery(params, selectQuery, observer);
+        DocumentQuery columnQuery = SelectTemplate.of(selectQuery, observer).bind(params);
         return new DefaultDocumentQueryParams(columnQuery, params);
     }
 
     private DocumentQuery getDocumentQuery(String query, DocumentObserverParser observer) {
-
-        SelectQuery selectQuery = selectQueryProvider.apply(query);
-        String collection = observer.fireEntity(selectQuery.getEntity());
-        long limit = selectQuery.getLimit();
-        long skip = selectQuery.getSkip();
-        List<String> documents = selectQuery.getFields().stream()
-                .map(f -> observer.fireField(collection, f))
-                .collect(Collectors.toList());
-        List<Sort> sorts = selectQuery.getOrderBy().stream().map(s -> toSort(s, observer, collection))
-                .collect(toList());
-        DocumentCondition condition = null;
         Params params = Params.newParams();
-        if (selectQuery.getWhere().isPresent()) {
-            condition = selectQuery.getWhere().map(c -> Conditions.getCondition(c, params, observer, collection)).get();
-        }
-
+        DocumentQuery documentQuery = cache.get(query, observer).bind(params);
         if (params.isNotEmpty()) {
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
-        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
-    }
-
-    private DocumentQuery getDocumentQuery(Params params, SelectQuery selectQuery, DocumentObserverParser observer) {
-
-        String collection = observer.fireEntity(selectQuery.getEntity());
-        long limit = selectQuery.getLimit();
-        long skip = selectQuery.getSkip();
-        List<String> documents = selectQuery.getFields().stream()
-                .map(f -> observer.fireField(collection, f))
-                .collect(Collectors.toList());
-
-        List<Sort> sorts = selectQuery.getOrderBy().stream().map(s -> toSort(s, observer, collection)).collect(toList());
-        DocumentCondition condition = null;
-        if (selectQuery.getWhere().isPresent()) {
-            condition = selectQuery.getWhere().map(c -> Conditions.getCondition(c, params, observer, collection)).get();
-        }
-
-        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, condition);
+        return documentQuery;
     }
 
-    private Sort toSort(Sort sort, DocumentObserverParser observer, String entity) {
-        return Sort.of(observer.fireField(entity, sort.getName()), sort.getType());
+    private SelectTemplate getTemplate(String query, DocumentObserverParser observer) {
+        SelectQuery selectQuery = selectQueryProvider.apply(query);
+        return SelectTemplate.of(selectQuery, observer);
     }
 
-
 }
@@ -0,0 +1,82 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.query;
+
+import jakarta.nosql.Params;
+import jakarta.nosql.Sort;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentObserverParser;
+import jakarta.nosql.document.DocumentQuery;
+import jakarta.nosql.query.SelectQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An immutable select statement whose names were already resolved by the {@link DocumentObserverParser}.
+ * Each {@link #bind(Params)} creates a new {@link DocumentQuery}, so one template serves many executions.
+ */
+final class SelectTemplate {
+
+    private final String collection;
+
+    private final long limit;
+
+    private final long skip;
+
+    private final List<String> documents;
+
+    private final List<Sort> sorts;
+
+    private final ConditionTemplate condition;
+
+    private SelectTemplate(String collection, long limit, long skip, List<String> documents, List<Sort> sorts,
+                           ConditionTemplate condition) {
+        this.collection = collection;
+        this.limit = limit;
+        this.skip = skip;
+        this.documents = documents;
+        this.sorts = sorts;
+        this.condition = condition;
+    }
+
+    DocumentQuery bind(Params params) {
+        DocumentCondition documentCondition = null;
+        if (Objects.nonNull(condition)) {
+            documentCondition = condition.bind(params);
+        }
+        return new DefaultDocumentQuery(limit, skip, collection, documents, sorts, documentCondition);
+    }
+
+    static SelectTemplate of(SelectQuery selectQuery, DocumentObserverParser observer) {
+        String collection = observer.fireEntity(selectQuery.getEntity());
+        List<String> documents = selectQuery.getFields().stream()
+                .map(f -> observer.fireField(collection, f))
+                .collect(toList());
+        List<Sort> sorts = selectQuery.getOrderBy().stream()
+                .map(s -> Sort.of(observer.fireField(collection, s.getName()), s.getType()))
+                .collect(toList());
+        ConditionTemplate condition = selectQuery.getWhere()
+                .map(w -> ConditionTemplate.of(w.getCondition(), observer, collection))
+                .orElse(null);
+        return new SelectTemplate(collection, selectQuery.getLimit(), selectQuery.getSkip(),
+                unmodifiableList(documents), unmodifiableList(sorts), condition);
+    }
+}
@@ -39,63 +39,48 @@ import static java.util.Collections.singletonList;
 final class UpdateQueryParser extends ConditionQueryParser {
 
     private final UpdateQueryProvider supplier;
+    private final CacheQuery<EntityTemplate> cache;
 
     UpdateQueryParser() {
         this.supplier = ServiceLoaderProvider.get(UpdateQueryProvider.class);
+        this.cache = new CacheQuery<>(this::getTemplate);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        Params params = Params.newParams();
-
-        DocumentEntity entity = getEntity(params, updateQuery, observer);
-
-        if (params.isNotEmpty()) {
-            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
-        }
+        DocumentEntity entity = getEntity(query, observer);
         return singletonList(collectionManager.update(entity));
     }
 
     void queryAsync(String query, DocumentCollectionManagerAsync collectionManager,
                     Consumer<List<DocumentEntity>> callBack, DocumentObserverParser observer) {
 
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        Params params = Params.newParams();
-
-        DocumentEntity entity = getEntity(params, updateQuery, observer);
-
-        if (params.isNotEmpty()) {
-            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
-        }
+        DocumentEntity entity = getEntity(query, observer);
         collectionManager.update(entity, c -> callBack.accept(singletonList(c)));
     }
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        Params params = Params.newParams();
-
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        DocumentEntity entity = getEntity(params, updateQuery, observer);
-
-        return DefaultDocumentPreparedStatement.update(entity, params, query, collectionManager);
+        return DefaultDocumentPreparedStatement.update(cache.get(query, observer)::bind, query, collectionManager);
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager, DocumentObserverParser observer) {
-        Params params = Params.newParams();
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        DocumentEntity entity = getEntity(params, updateQuery, observer);
+        return DefaultDocumentPreparedStatementAsync.update(cache.get(query, observer)::bind, query, collectionManager);
+    }
 
-        return DefaultDocumentPreparedStatementAsync.update(entity, params, query, collectionManager);
+    private DocumentEntity getEntity(String query, DocumentObserverParser observer) {
+        Params params = Params.newParams();
+        DocumentEntity entity = cache.get(query, observer).bind(params);
+        if (params.isNotEmpty()) {
+            throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
+        }
+        return entity;
     }
 
-    private DocumentEntity getEntity(Params params, UpdateQuery updateQuery, DocumentObserverParser observer) {
+    private EntityTemplate getTemplate(String query, DocumentObserverParser observer) {
+        UpdateQuery updateQuery = supplier.apply(query);
         String collection = observer.fireEntity(updateQuery.getEntity());
-        return getEntity(new UpdasteQueryConditioinSupplier(updateQuery), collection, params, observer);
+        return getTemplate(new UpdasteQueryConditioinSupplier(updateQuery), collection, null, observer);
     }
 
     private static final class UpdasteQueryConditioinSupplier implements ConditionQuerySupplier {
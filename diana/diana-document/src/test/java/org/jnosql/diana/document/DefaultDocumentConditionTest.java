@@ -242,4 +242,29 @@ public class DefaultDocumentConditionTest {
         });
         assertThat(integers, contains(12, 13));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldAppendChainedConditionsWithoutChangingThePreviousOnes() {
+        DocumentCondition condition = DocumentCondition.eq(Document.of("field0", 0));
+        DocumentCondition first = null;
+        for (int index = 1; index < 1_000; index++) {
+            condition = condition.and(DocumentCondition.eq(Document.of("field" + index, index)));
+            if (first == null) {
+                first = condition;
+            }
+        }
+        List<DocumentCondition> conditions = condition.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+        assertEquals(1_000, conditions.size());
+        assertEquals(DocumentCondition.eq(Document.of("field999", 999)), conditions.get(999));
+        assertEquals(2, first.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        }).size());
+
+        DocumentCondition branch = first.and(DocumentCondition.eq(Document.of("age", 10)));
+        List<DocumentCondition> branchConditions = branch.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+        assertEquals(3, branchConditions.size());
+        assertEquals(DocumentCondition.eq(Document.of("age", 10)), branchConditions.get(2));
+        assertEquals(DocumentCondition.eq(Document.of("field2", 2)), conditions.get(2));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static jakarta.nosql.document.DocumentCondition.and;
+import static jakarta.nosql.document.DocumentCondition.between;
+import static jakarta.nosql.document.DocumentCondition.eq;
+import static jakarta.nosql.document.DocumentCondition.gt;
+import static jakarta.nosql.document.DocumentCondition.gte;
+import static jakarta.nosql.document.DocumentCondition.in;
+import static jakarta.nosql.document.DocumentCondition.like;
+import static jakarta.nosql.document.DocumentCondition.lt;
+import static jakarta.nosql.document.DocumentCondition.lte;
+import static jakarta.nosql.document.DocumentCondition.or;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DocumentConditionsTest {
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNull() {
+        assertThrows(NullPointerException.class, () -> DocumentConditions.normalize(null));
+        assertThrows(NullPointerException.class, () -> DocumentConditions.and().add(null));
+        assertThrows(NullPointerException.class, () -> DocumentConditions.or().addAll(null));
+        assertThrows(IllegalStateException.class, () -> DocumentConditions.and().build());
+    }
+
+    @Test
+    public void shouldBuildFlattenedCondition() {
+        DocumentConditions.Builder builder = DocumentConditions.and();
+        for (int index = 0; index < 500; index++) {
+            builder.add(eq(Document.of("field" + index, index)));
+        }
+        builder.add(and(eq(Document.of("name", "Ada")), eq(Document.of("city", "London"))));
+        DocumentCondition condition = builder.build();
+        assertEquals(Condition.AND, condition.getCondition());
+        List<DocumentCondition> conditions = getConditions(condition);
+        assertEquals(502, conditions.size());
+        assertEquals(eq(Document.of("city", "London")), conditions.get(501));
+    }
+
+    @Test
+    public void shouldAppendConditions() {
+        DocumentCondition condition = eq(Document.of("name", "Ada"));
+        for (int index = 0; index < 500; index++) {
+            condition = condition.or(eq(Document.of("field" + index, index)));
+        }
+        assertEquals(Condition.OR, condition.getCondition());
+        assertEquals(501, getConditions(condition).size());
+    }
+
+    @Test
+    public void shouldFlattenAndRemoveDoubleNegation() {
+        DocumentCondition name = eq(Document.of("name", "Ada"));
+        DocumentCondition age = eq(Document.of("age", 10));
+        DocumentCondition condition = and(name, and(age.negate().negate(), and(name)));
+        assertEquals(and(name, age, name), DocumentConditions.normalize(condition));
+        assertEquals(name, DocumentConditions.normalize(and(name)));
+    }
+
+    @Test
+    public void shouldMergeEqualsIntoIn() {
+        DocumentCondition condition = or(eq(Document.of("name", "Ada")), eq(Document.of("age", 10)),
+                or(eq(Document.of("name", "Grace")), in(Document.of("name", Arrays.asList("Ada", "Linus")))));
+        DocumentCondition normalized = DocumentConditions.normalize(condition);
+        assertEquals(or(in(Document.of("name", Arrays.asList("Ada", "Grace", "Linus"))), eq(Document.of("age", 10))),
+                normalized);
+    }
+
+    @Test
+    public void shouldIntersectRanges() {
+        DocumentCondition condition = and(eq(Document.of("name", "Ada")), gt(Document.of("age", 10)),
+                gte(Document.of("age", 12)), lt(Document.of("age", 30)), lte(Document.of("age", 30)));
+        assertThat(getConditions(DocumentConditions.normalize(condition)), contains(eq(Document.of("name", "Ada")),
+                gte(Document.of("age", 12)), lt(Document.of("age", 30))));
+
+        DocumentCondition between = and(gte(Document.of("age", 10)), lte(Document.of("age", 20)),
+                between(Document.of("age", Arrays.asList(15, 40))));
+        assertEquals(between(Document.of("age", Arrays.asList(15, 20))), DocumentConditions.normalize(between));
+    }
+
+    @Test
+    public void shouldReturnSameConditionWhenThereIsNothingToNormalize() {
+        DocumentCondition condition = and(eq(Document.of("name", "Ada")), eq(Document.of("age", 10)));
+        assertSame(condition, DocumentConditions.normalize(condition));
+        DocumentCondition types = and(gt(Document.of("age", 10)), lt(Document.of("age", 20L)));
+        assertSame(types, DocumentConditions.normalize(types));
+    }
+
+    @Test
+    public void shouldEvaluateCondition() {
+        DocumentEntity entity = DocumentEntity.of("person", Arrays.asList(Document.of("name", "Ada Lovelace"),
+                Document.of("age", 36), Document.of("salary", 10.5),
+                Document.of("tags", Arrays.asList("math", "poetry"))));
+
+        assertTrue(test(eq(Document.of("age", 36L)), entity));
+        assertTrue(test(eq(Document.of("age", 36.0)), entity));
+        assertFalse(test(eq(Document.of("age", 37)), entity));
+        assertTrue(test(gt(Document.of("age", 35.5)), entity));
+        assertFalse(test(gt(Document.of("age", 36)), entity));
+        assertTrue(test(gte(Document.of("age", 36)), entity));
+        assertTrue(test(lte(Document.of("age", 36)), entity));
+        assertFalse(test(lt(Document.of("age", 36)), entity));
+        assertFalse(test(lt(Document.of("name", 10)), entity));
+        assertTrue(test(in(Document.of("age", Arrays.asList(1, 36L))), entity));
+        assertTrue(test(between(Document.of("salary", Arrays.asList(10, 11))), entity));
+        assertFalse(test(between(Document.of("salary", Arrays.asList(11, 12))), entity));
+        assertTrue(test(eq(Document.of("tags", "math")), entity));
+        assertFalse(test(eq(Document.of("phone", "123")), entity));
+        assertTrue(test(eq(Document.of("phone", "123")).negate(), entity));
+        assertTrue(test(and(eq(Document.of("age", 36)), or(eq(Document.of("name", "Grace")),
+                like(Document.of("name", "Ada%")))), entity));
+        assertFalse(test(and(eq(Document.of("age", 36)), eq(Document.of("name", "Grace"))), entity));
+    }
+
+    @Test
+    public void shouldEvaluateLike() {
+        DocumentEntity entity = DocumentEntity.of("person", Arrays.asList(Document.of("name", "Ada (Lovelace)")));
+        assertTrue(test(like(Document.of("name", "Ada%")), entity));
+        assertTrue(test(like(Document.of("name", "%(Lovelace)")), entity));
+        assertTrue(test(like(Document.of("name", "%Love%")), entity));
+        assertTrue(test(like(Document.of("name", "A_a (%e)")), entity));
+        assertTrue(test(like(Document.of("name", "Ada (Lovelace)")), entity));
+        assertFalse(test(like(Document.of("name", "A_a")), entity));
+        assertFalse(test(like(Document.of("name", "%Grace%")), entity));
+    }
+
+    @Test
+    public void shouldEvaluateSubDocument() {
+        DocumentEntity entity = DocumentEntity.of("person", Arrays.asList(Document.of("address",
+                Arrays.asList(Document.of("city", "London"), Document.of("zip", 123)))));
+        assertTrue(test(eq(Document.of("address.city", "London")), entity));
+        assertTrue(test(gt(Document.of("address.zip", 100)), entity));
+        assertFalse(test(eq(Document.of("address.city", "Paris")), entity));
+        assertFalse(test(eq(Document.of("address.country", "England")), entity));
+    }
+
+    private boolean test(DocumentCondition condition, DocumentEntity entity) {
+        return DocumentConditions.toPredicate(condition).test(entity);
+    }
+
+    private List<DocumentCondition> getConditions(DocumentCondition condition) {
+        return condition.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+    }
+}
@@ -367,4 +367,46 @@ public class DocumentEntityTest {
         assertTrue(collection.isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldKeepTheInsertionOrder() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        entity.add("city", "London");
+        entity.add("age", 11);
+        entity.remove("name");
+        entity.add("name", "Grace");
+
+        assertEquals(asList(Document.of("age", 11), Document.of("city", "London"), Document.of("name", "Grace")),
+                entity.getDocuments());
+    }
+
+    @Test
+    public void shouldNotChangeTheCopyWhenTheEntityChanges() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        List<Document> documents = entity.getDocuments();
+        DocumentEntity copy = entity.copy();
+
+        entity.add("age", 11);
+        entity.remove("name");
+        copy.add("city", "London");
+
+        assertEquals(asList(Document.of("name", "Ada"), Document.of("age", 10)), documents);
+        assertEquals(singletonList(Document.of("age", 11)), entity.getDocuments());
+        assertEquals(asList(Document.of("name", "Ada"), Document.of("age", 10), Document.of("city", "London")),
+                copy.getDocuments());
+    }
+
+    @Test
+    public void shouldCreateWithExpectedSize() {
+        DocumentEntity entity = Documents.newEntity("person", 1);
+        entity.add("name", "Ada");
+        entity.add("age", 10);
+        assertEquals(DocumentEntity.of("person", asList(Document.of("age", 10), Document.of("name", "Ada"))), entity);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Documents.newEntity("person", -1));
+        Assertions.assertThrows(NullPointerException.class, () -> Documents.newEntity(null, 1));
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DocumentValuesTest {
+
+    @Test
+    public void shouldReturnTheSameKeyToTheSameNumber() {
+        assertEquals(DocumentValues.key(1L), DocumentValues.key(1));
+        assertEquals(DocumentValues.key(1L), DocumentValues.key(new BigDecimal("1.00")));
+        assertEquals(DocumentValues.key(1L), DocumentValues.key(1.0D));
+        assertEquals(DocumentValues.key(1L), DocumentValues.key(BigInteger.ONE));
+        assertEquals(DocumentValues.key(new BigDecimal("1.5")), DocumentValues.key(1.5F));
+        assertEquals("Ada", DocumentValues.key("Ada"));
+    }
+
+    @Test
+    public void shouldCompareNumbersOfDifferentTypes() {
+        assertEquals(0, DocumentValues.compare(1, 1L));
+        assertEquals(0, DocumentValues.compare(1L, BigDecimal.ONE));
+        assertEquals(-1, DocumentValues.compare(1, 1.5D));
+        assertEquals(1, DocumentValues.compare(new BigDecimal("10"), 9));
+    }
+
+    @Test
+    public void shouldNotCompareDifferentGroups() {
+        assertEquals(DocumentValues.UNCOMPARABLE, DocumentValues.compare(1, "1"));
+        assertEquals(DocumentValues.UNCOMPARABLE, DocumentValues.compare("Ada", null));
+        assertEquals(-1, DocumentValues.compare("Ada", "Diana"));
+        assertEquals(Number.class, DocumentValues.group(BigDecimal.ONE));
+        assertEquals(String.class, DocumentValues.group("Ada"));
+        assertNull(DocumentValues.group(new Object()));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.document.query;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.Params;
+import jakarta.nosql.QueryException;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentCollectionManagerAsync;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static jakarta.nosql.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+class DefaultDocumentPreparedStatementTest {
+
+    private static final String QUERY = "select * from God where name = @name and age = @age";
+
+    private static final Function<Params, DocumentQuery> TEMPLATE = params -> select().from("God")
+            .where("name").eq(params.add("name"))
+            .and("age").eq(params.add("age"))
+            .build();
+
+    private DocumentCollectionManager manager;
+
+    private List<List<Object>> values;
+
+    @BeforeEach
+    public void setUp() {
+        this.manager = Mockito.mock(DocumentCollectionManager.class);
+        this.values = new ArrayList<>();
+        Mockito.when(manager.select(any(DocumentQuery.class))).thenAnswer(invocation -> {
+            values.add(getValues(invocation.getArgument(0)));
+            return new ArrayList<>();
+        });
+    }
+
+    @Test
+    public void shouldBindInPlaceWithoutCopyOnBind() {
+        DefaultDocumentPreparedStatement prepared = DefaultDocumentPreparedStatement.select(TEMPLATE, QUERY,
+                manager, false);
+        assertSame(prepared, prepared.bind("name", "Diana"));
+        assertSame(prepared, prepared.bind("age", 10));
+        assertSame(prepared, prepared.bind("unknown", "value"));
+        prepared.getResultList();
+        assertEquals(Arrays.asList(Arrays.asList("Diana", 10)), values);
+    }
+
+    @Test
+    public void shouldBindCopyWithCopyOnBind() {
+        DefaultDocumentPreparedStatement prepared = DefaultDocumentPreparedStatement.select(TEMPLATE, QUERY,
+                manager, true);
+        IndexedDocumentPreparedStatement diana = prepared.bind("name", "Diana");
+        IndexedDocumentPreparedStatement artemis = prepared.bind("name", "Artemis");
+        assertNotSame(prepared, diana);
+        assertNotSame(diana, artemis);
+        assertSame(diana, diana.bind("age", 10));
+        assertSame(artemis, artemis.bind(prepared.indexOf("age"), 20));
+
+        assertThrows(QueryException.class, prepared::getResultList);
+        diana.getResultList();
+        artemis.getResultList();
+        assertEquals(Arrays.asList(Arrays.asList("Diana", 10), Arrays.asList("Artemis", 20)), values);
+    }
+
+    @Test
+    public void shouldRebindAfterClearBindings() {
+        DefaultDocumentPreparedStatement prepared = DefaultDocumentPreparedStatement.select(TEMPLATE, QUERY,
+                manager, false);
+        prepared.bind("name", "Diana").bind("age", 10).getResultList();
+
+        assertSame(prepared, prepared.clearBindings());
+        assertThrows(QueryException.class, prepared::getResultList);
+
+        prepared.bind("name", "Artemis").bind("age", 20).getResultList();
+        assertEquals(Arrays.asList(Arrays.asList("Diana", 10), Arrays.asList("Artemis", 20)), values);
+    }
+
+    @Test
+    public void shouldBindBySlot() {
+        DefaultDocumentPreparedStatement prepared = DefaultDocumentPreparedStatement.select(TEMPLATE, QUERY,
+                manager, false);
+        assertEquals(0, prepared.indexOf("name"));
+        assertEquals(1, prepared.indexOf("age"));
+        assertEquals(-1, prepared.indexOf("unknown"));
+        assertThrows(IndexOutOfBoundsException.class, () -> prepared.bind(2, "value"));
+        assertThrows(IndexOutOfBoundsException.class, () -> prepared.bind(-1, "value"));
+        assertThrows(NullPointerException.class, () -> prepared.bind(0, null));
+
+        prepared.bind(0, "Diana").bind(1, 10).getResultList();
+        assertEquals(Arrays.asList(Arrays.asList("Diana", 10)), values);
+    }
+
+    @Test
+    public void shouldBindAsyncBySlotAndClearBindings() {
+        DocumentCollectionManagerAsync managerAsync = Mockito.mock(DocumentCollectionManagerAsync.class);
+        DefaultDocumentPreparedStatementAsync prepared = DefaultDocumentPreparedStatementAsync.select(TEMPLATE,
+                QUERY, managerAsync, true);
+        Consumer<List<DocumentEntity>> callBack = l -> {
+        };
+        IndexedDocumentPreparedStatementAsync diana = prepared.bind(0, "Diana").bind(1, 10);
+        assertNotSame(prepared, diana);
+        diana.getResultList(callBack);
+        diana.clearBindings();
+        assertThrows(QueryException.class, () -> diana.getResultList(callBack));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerAsync).select(captor.capture(), any(Consumer.class));
+        assertEquals("God", captor.getValue().getDocumentCollection());
+    }
+
+    private static List<Object> getValues(DocumentQuery query) {
+        List<Object> result = new ArrayList<>();
+        query.getCondition().ifPresent(condition -> collect(condition, result));
+        return result;
+    }
+
+    private static void collect(DocumentCondition condition, List<Object> values) {
+        if (Condition.AND.equals(condition.getCondition())) {
+            condition.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+            }).forEach(c -> collect(c, values));
+            return;
+        }
+        values.add(condition.getDocument().get());
+    }
+}
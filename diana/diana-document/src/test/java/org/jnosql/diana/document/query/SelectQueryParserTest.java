@@ -37,7 +37,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -515,6 +517,32 @@ public class SelectQueryParserTest {
         assertEquals(12, document.get());
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldExecutePrepareStatementWithNewValues(String query) {
+        List<Object> ages = new ArrayList<>();
+        Mockito.when(documentCollection.select(Mockito.any(DocumentQuery.class))).then(invocation -> {
+            DocumentQuery documentQuery = invocation.getArgument(0);
+            ages.add(documentQuery.getCondition().get().getDocument().get());
+            return Collections.emptyList();
+        });
+
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("age", 12).getResultList();
+        prepare.bind("age", 20).getResultList();
+        assertThat(ages, contains(12, 20));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldIgnoreUnknownParameter(String query) {
+        DocumentPreparedStatement prepare = parser.prepare(query, documentCollection, observer);
+        prepare.bind("name", "Ada");
+        QueryException exception = assertThrows(QueryException.class, prepare::getResultList);
+        assertTrue(exception.getMessage().endsWith("[age]"));
+    }
+
+
 
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select  * from God where age = @age"})
@@ -577,6 +605,53 @@ public class SelectQueryParserTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select name from God where age = 20"})
+    public void shouldUseObserverWhenQueryIsCached(String query) {
+        DocumentObserverParser upperCase = new DocumentObserverParser() {
+            @Override
+            public String fireEntity(String entity) {
+                return entity.toUpperCase();
+            }
+
+            @Override
+            public String fireField(String entity, String field) {
+                return field.toUpperCase();
+            }
+        };
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        parser.query(query, documentCollection, observer);
+        parser.query(query, documentCollection, upperCase);
+        Mockito.verify(documentCollection, Mockito.times(2)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+
+        assertEquals("God", queries.get(0).getDocumentCollection());
+        assertThat(queries.get(0).getDocuments(), contains("name"));
+        assertEquals("age", queries.get(0).getCondition().get().getDocument().getName());
+        assertEquals("GOD", queries.get(1).getDocumentCollection());
+        assertThat(queries.get(1).getDocuments(), contains("NAME"));
+        assertEquals("AGE", queries.get(1).getCondition().get().getDocument().getName());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldPrepareIndependentStatements(String query) {
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+
+        DocumentPreparedStatement first = parser.prepare(query, documentCollection, observer);
+        DocumentPreparedStatement second = parser.prepare(query, documentCollection, observer);
+        first.bind("age", 12);
+        second.bind("age", 20);
+        first.getResultList();
+        second.getResultList();
+        Mockito.verify(documentCollection, Mockito.times(2)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+
+        assertEquals(12, queries.get(0).getCondition().get().getDocument().get());
+        assertEquals(20, queries.get(1).getCondition().get().getDocument().get());
+    }
+
+
     private void checkBaseQuery(DocumentQuery documentQuery, long limit, long skip) {
         assertTrue(documentQuery.getDocuments().isEmpty());
         assertTrue(documentQuery.getSorts().isEmpty());
@@ -0,0 +1,163 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The default {@link ValueCodec}. The first byte is the type: {@link String}, {@link Integer}, {@link Long},
+ * {@link Double}, {@link Boolean} and byte arrays are written as their bytes, since they are the most common keys
+ * and values, and any other value is written by the Java serialization, so it must be {@link java.io.Serializable}.
+ * The {@link Byte}, {@link Short}, {@link Integer} and {@link Long} keys are all written as a long, so the key 1 and
+ * the key 1L are the same key. The deserialization goes through an {@link ObjectInputFilter}, the
+ * {@link DefaultValueCodec#DEFAULT_SERIAL_FILTER} limits by default; when the JVM has a process-wide filter, the
+ * jdk.serialFilter system property, that one is used instead.
+ */
+public final class DefaultValueCodec implements ValueCodec {
+
+    /**
+     * The default filter of the deserialized values, in the {@link ObjectInputFilter.Config#createFilter(String)}
+     * pattern
+     */
+    public static final String DEFAULT_SERIAL_FILTER = "maxdepth=128;maxrefs=1000000;maxarray=16777216";
+
+    private static final byte SERIALIZED = 0;
+
+    private static final byte STRING = 1;
+
+    private static final byte INTEGER = 2;
+
+    private static final byte LONG = 3;
+
+    private static final byte DOUBLE = 4;
+
+    private static final byte BOOLEAN = 5;
+
+    private static final byte BYTES = 6;
+
+    private final ObjectInputFilter filter;
+
+    /**
+     * Creates a codec with the {@link DefaultValueCodec#DEFAULT_SERIAL_FILTER} filter
+     */
+    public DefaultValueCodec() {
+        this(ObjectInputFilter.Config.createFilter(DEFAULT_SERIAL_FILTER));
+    }
+
+    /**
+     * Creates a codec whose deserialized values go through the filter
+     *
+     * @param filter the filter
+     * @throws NullPointerException when filter is null
+     */
+    public DefaultValueCodec(ObjectInputFilter filter) {
+        this.filter = Objects.requireNonNull(filter, "filter is required");
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        Objects.requireNonNull(value, "value is required");
+        if (value instanceof String) {
+            return tagged(STRING, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+        if (value instanceof Integer) {
+            return ByteBuffer.allocate(5).put(INTEGER).putInt((Integer) value).array();
+        }
+        if (value instanceof Long) {
+            return ByteBuffer.allocate(9).put(LONG).putLong((Long) value).array();
+        }
+        if (value instanceof Double) {
+            return ByteBuffer.allocate(9).put(DOUBLE).putDouble((Double) value).array();
+        }
+        if (value instanceof Boolean) {
+            return new byte[]{BOOLEAN, (byte) ((Boolean) value ? 1 : 0)};
+        }
+        if (value instanceof byte[]) {
+            return tagged(BYTES, (byte[]) value);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(SERIALIZED);
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(value);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("There is an error when the value is serialized: " + value, exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public byte[] encodeKey(Object key) {
+        Objects.requireNonNull(key, "key is required");
+        if (key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return encode(((Number) key).longValue());
+        }
+        return encode(key);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes is required");
+        switch (bytes[0]) {
+            case STRING:
+                return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            case INTEGER:
+                return ByteBuffer.wrap(bytes, 1, 4).getInt();
+            case LONG:
+                return ByteBuffer.wrap(bytes, 1, 8).getLong();
+            case DOUBLE:
+                return ByteBuffer.wrap(bytes, 1, 8).getDouble();
+            case BOOLEAN:
+                return bytes[1] != 0;
+            case BYTES:
+                return Arrays.copyOfRange(bytes, 1, bytes.length);
+            case SERIALIZED:
+                return deserialize(bytes);
+            default:
+                throw new IllegalArgumentException("The bytes were not written by this codec, type: " + bytes[0]);
+        }
+    }
+
+    private Object deserialize(byte[] bytes) {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            if (input.getObjectInputFilter() == null) {
+                input.setObjectInputFilter(filter);
+            }
+            return input.readObject();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("There is an error when the value is deserialized", exception);
+        } catch (ClassNotFoundException exception) {
+            throw new IllegalStateException("There is an error when the value is deserialized", exception);
+        }
+    }
+
+    private static byte[] tagged(byte type, byte[] value) {
+        byte[] bytes = new byte[value.length + 1];
+        bytes[0] = type;
+        System.arraycopy(value, 0, bytes, 1, value.length);
+        return bytes;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.key.BucketManager;
+import jakarta.nosql.key.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * The off-heap {@link BucketManager}, the keys and the values are converted by a {@link ValueCodec} and kept at
+ * direct memory, so the entries do not add objects to the heap. An entry with TTL is not returned after its
+ * deadline and its memory is reused either when it is read or when the memory is full.
+ * The queries are run by the key-value query parser. Closing the manager does nothing, the entries live until the
+ * {@link OffHeapBucketManagerFactory} is closed.
+ */
+public final class OffHeapBucketManager implements BucketManager {
+
+    private static final long MAX_TTL = Long.MAX_VALUE / 2;
+
+    private final String bucket;
+
+    private final OffHeapStore store;
+
+    private final ValueCodec codec;
+
+    private final LongSupplier clock;
+
+    OffHeapBucketManager(String bucket, OffHeapStore store, ValueCodec codec, LongSupplier clock) {
+        this.bucket = bucket;
+        this.store = store;
+        this.codec = codec;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the bucket name
+     */
+    public String getBucket() {
+        return bucket;
+    }
+
+    /**
+     * @return the number of entries, the expired ones whose memory was not reused yet included
+     */
+    public long size() {
+        return store.size();
+    }
+
+    /**
+     * @return the bytes of off-heap memory this bucket took
+     */
+    public long getReservedMemory() {
+        return store.reserved();
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        store.put(codec.encodeKey(key), codec.encode(value), Segment.NEVER);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        put(entity.getKey(), entity.getValue());
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        store.put(codec.encodeKey(entity.getKey()), codec.encode(entity.getValue()), deadline(ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        put(entities, Segment.NEVER);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        put(entities, deadline(ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        byte[] value = store.get(codec.encodeKey(key));
+        return value == null ? Optional.empty() : Optional.of(Value.of(codec.decode(value)));
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> result = new ArrayList<>();
+        for (byte[] value : store.get(encode(keys))) {
+            if (value != null) {
+                result.add(Value.of(codec.decode(value)));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <K> void remove(K key) {
+        Objects.requireNonNull(key, "key is required");
+        store.remove(codec.encodeKey(key));
+    }
+
+    @Override
+    public <K> void remove(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        store.remove(encode(keys));
+    }
+
+    @Override
+    public void close() {
+    }
+
+    void clear() {
+        store.clear();
+    }
+
+    private void put(Iterable<KeyValueEntity> entities, long deadline) {
+        List<byte[]> keys = new ArrayList<>();
+        List<byte[]> values = new ArrayList<>();
+        for (KeyValueEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            keys.add(codec.encodeKey(entity.getKey()));
+            values.add(codec.encode(entity.getValue()));
+        }
+        store.put(keys, values, deadline);
+    }
+
+    private <K> List<byte[]> encode(Iterable<K> keys) {
+        List<byte[]> encoded = new ArrayList<>();
+        for (K key : keys) {
+            encoded.add(codec.encodeKey(Objects.requireNonNull(key, "key is required")));
+        }
+        return encoded;
+    }
+
+    /**
+     * Returns the deadline of the TTL, a TTL longer than {@link OffHeapBucketManager#MAX_TTL} nanoseconds is cut
+     * to it, so the deadlines are compared by their difference to the clock.
+     */
+    private long deadline(Duration ttl) {
+        long nanos = ttl.compareTo(Duration.ofNanos(MAX_TTL)) > 0 ? MAX_TTL : ttl.toNanos();
+        long deadline = clock.getAsLong() + nanos;
+        return deadline == Segment.NEVER ? deadline - 1 : deadline;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapBucketManager{" +
+                "bucket='" + bucket + '\'' +
+                ", size=" + store.size() +
+                ", reserved=" + store.reserved() +
+                '}';
+    }
+}
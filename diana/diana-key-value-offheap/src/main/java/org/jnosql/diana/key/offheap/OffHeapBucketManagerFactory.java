@@ -0,0 +1,116 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import jakarta.nosql.key.BucketManagerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * The off-heap {@link BucketManagerFactory}, it keeps one {@link OffHeapBucketManager} per bucket and the buckets
+ * share the off-heap capacity. Closing the factory drops every entry. The collection structures, {@link Map},
+ * {@link Queue}, {@link Set} and {@link List}, are not supported, they throw {@link UnsupportedOperationException}.
+ */
+public final class OffHeapBucketManagerFactory implements BucketManagerFactory {
+
+    private final long capacity;
+
+    private final AtomicLong available;
+
+    private final int pageSize;
+
+    private final int segments;
+
+    private final ValueCodec codec;
+
+    private final LongSupplier clock;
+
+    private final Map<String, OffHeapBucketManager> managers = new ConcurrentHashMap<>();
+
+    OffHeapBucketManagerFactory(long capacity, int pageSize, int segments, ValueCodec codec, LongSupplier clock) {
+        this.capacity = capacity;
+        this.available = new AtomicLong(capacity);
+        this.pageSize = pageSize;
+        this.segments = segments;
+        this.codec = codec;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the bytes of off-heap memory the buckets did not take yet
+     */
+    public long getAvailableMemory() {
+        return available.get();
+    }
+
+    /**
+     * @return the bytes of off-heap memory the buckets can take
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public OffHeapBucketManager getBucketManager(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        return managers.computeIfAbsent(bucketName, name -> new OffHeapBucketManager(name,
+                new OffHeapStore(segments, pageSize, available, clock), codec, clock));
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+        throw new UnsupportedOperationException("The off-heap key-value does not support Map");
+    }
+
+    @Override
+    public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
+        throw new UnsupportedOperationException("The off-heap key-value does not support Queue");
+    }
+
+    @Override
+    public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
+        throw new UnsupportedOperationException("The off-heap key-value does not support Set");
+    }
+
+    @Override
+    public <T> List<T> getList(String bucketName, Class<T> clazz) {
+        throw new UnsupportedOperationException("The off-heap key-value does not support List");
+    }
+
+    @Override
+    public void close() {
+        managers.values().forEach(OffHeapBucketManager::clear);
+        managers.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapBucketManagerFactory{" +
+                "capacity=" + capacity +
+                ", available=" + available.get() +
+                ", pageSize=" + pageSize +
+                ", buckets=" + managers.keySet() +
+                '}';
+    }
+}
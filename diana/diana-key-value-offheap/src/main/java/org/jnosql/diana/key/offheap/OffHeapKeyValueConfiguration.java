@@ -0,0 +1,110 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.key.KeyValueConfiguration;
+
+import java.io.ObjectInputFilter;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link KeyValueConfiguration} of the off-heap key-value, it does not need any setting. It reads these optional
+ * settings:
+ * <ul>
+ * <li>{@link OffHeapKeyValueConfiguration#CAPACITY}: the bytes of off-heap memory of every bucket, the default is
+ * 64 MiB; the JVM direct memory, -XX:MaxDirectMemorySize, must allow it</li>
+ * <li>{@link OffHeapKeyValueConfiguration#PAGE_SIZE}: the bytes of a page, the largest entry, the default is
+ * 1 MiB</li>
+ * <li>{@link OffHeapKeyValueConfiguration#SEGMENTS}: the number of segments of a bucket, a power of two, the
+ * default is 16</li>
+ * <li>{@link OffHeapKeyValueConfiguration#CODEC}: the class of the {@link ValueCodec}, the default is
+ * {@link DefaultValueCodec}</li>
+ * <li>{@link OffHeapKeyValueConfiguration#SERIAL_FILTER}: the {@link ObjectInputFilter} pattern of the values the
+ * {@link DefaultValueCodec} deserializes, the default is {@link DefaultValueCodec#DEFAULT_SERIAL_FILTER}</li>
+ * </ul>
+ */
+public final class OffHeapKeyValueConfiguration implements KeyValueConfiguration {
+
+    /**
+     * The setting of the bytes of off-heap memory
+     */
+    public static final String CAPACITY = "jnosql.offheap.capacity";
+
+    /**
+     * The setting of the bytes of a page
+     */
+    public static final String PAGE_SIZE = "jnosql.offheap.page.size";
+
+    /**
+     * The setting of the number of segments of a bucket
+     */
+    public static final String SEGMENTS = "jnosql.offheap.segments";
+
+    /**
+     * The setting of the class of the {@link ValueCodec}
+     */
+    public static final String CODEC = "jnosql.offheap.codec";
+
+    /**
+     * The setting of the {@link ObjectInputFilter} pattern of the {@link DefaultValueCodec}
+     */
+    public static final String SERIAL_FILTER = "jnosql.offheap.serial.filter";
+
+    private static final long DEFAULT_CAPACITY = 64L * 1024 * 1024;
+
+    private static final int DEFAULT_PAGE_SIZE = 1024 * 1024;
+
+    private static final int DEFAULT_SEGMENTS = 16;
+
+    @Override
+    public OffHeapBucketManagerFactory get() {
+        return get(Settings.of(Collections.emptyMap()));
+    }
+
+    @Override
+    public OffHeapBucketManagerFactory get(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        long capacity = settings.get(CAPACITY).map(Object::toString).map(Long::parseLong).orElse(DEFAULT_CAPACITY);
+        int pageSize = settings.get(PAGE_SIZE).map(Object::toString).map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+        int segments = settings.get(SEGMENTS).map(Object::toString).map(Integer::parseInt).orElse(DEFAULT_SEGMENTS);
+        if (pageSize < Slabs.MIN_CHUNK || capacity < 0) {
+            throw new IllegalArgumentException("The page size must be at least " + Slabs.MIN_CHUNK
+                    + " and the capacity must not be negative");
+        }
+        if (segments <= 0 || Integer.bitCount(segments) != 1) {
+            throw new IllegalArgumentException("The number of segments must be a power of two: " + segments);
+        }
+        Optional<ObjectInputFilter> filter = settings.get(SERIAL_FILTER).map(Object::toString)
+                .map(ObjectInputFilter.Config::createFilter);
+        ValueCodec codec = settings.get(CODEC).map(Object::toString).map(OffHeapKeyValueConfiguration::codec)
+                .orElseGet(() -> filter.map(DefaultValueCodec::new).orElseGet(DefaultValueCodec::new));
+        return new OffHeapBucketManagerFactory(capacity, pageSize, segments, codec, System::nanoTime);
+    }
+
+    private static ValueCodec codec(String className) {
+        try {
+            Class<?> type = Class.forName(className.trim());
+            return (ValueCodec) type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException exception) {
+            throw new IllegalArgumentException("The codec must be a ValueCodec with a public constructor without "
+                    + "parameters: " + className, exception);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * The off-heap entries of a bucket, split into {@link Segment}s by the key hash, so the operations on different
+ * segments do not wait for each other, and every segment takes its memory from the same {@link Pages}. The bulk
+ * operations visit each segment once.
+ */
+final class OffHeapStore {
+
+    private final Pages pages;
+
+    private final Segment[] segments;
+
+    private final int shift;
+
+    OffHeapStore(int segments, int pageSize, AtomicLong capacity, LongSupplier clock) {
+        if (Integer.bitCount(segments) != 1) {
+            throw new IllegalArgumentException("The number of segments must be a power of two: " + segments);
+        }
+        this.pages = new Pages(pageSize, capacity);
+        this.segments = new Segment[segments];
+        for (int index = 0; index < segments; index++) {
+            this.segments[index] = new Segment(pages, clock);
+        }
+        this.shift = 32 - Integer.numberOfTrailingZeros(segments);
+    }
+
+    byte[] get(byte[] key) {
+        int hash = hash(key);
+        return segment(hash).get(key, hash);
+    }
+
+    /**
+     * Reads the values of the keys segment by segment
+     *
+     * @param keys the keys
+     * @return the values at the position of their keys, null when there is no value
+     */
+    byte[][] get(List<byte[]> keys) {
+        byte[][] values = new byte[keys.size()][];
+        int[] hashes = hashes(keys);
+        bySegment(hashes, index -> values[index] = segment(hashes[index]).get(keys.get(index), hashes[index]));
+        return values;
+    }
+
+    void put(byte[] key, byte[] value, long deadline) {
+        int hash = hash(key);
+        segment(hash).put(key, hash, value, deadline);
+    }
+
+    /**
+     * Writes the entries segment by segment
+     *
+     * @param keys     the keys
+     * @param values   the values at the position of their keys
+     * @param deadline the deadline of every entry
+     */
+    void put(List<byte[]> keys, List<byte[]> values, long deadline) {
+        int[] hashes = hashes(keys);
+        bySegment(hashes, index -> segment(hashes[index]).put(keys.get(index), hashes[index], values.get(index),
+                deadline));
+    }
+
+    void remove(byte[] key) {
+        int hash = hash(key);
+        segment(hash).remove(key, hash);
+    }
+
+    void remove(List<byte[]> keys) {
+        int[] hashes = hashes(keys);
+        bySegment(hashes, index -> segment(hashes[index]).remove(keys.get(index), hashes[index]));
+    }
+
+    /**
+     * @return the number of entries, the expired ones that were not removed yet included
+     */
+    long size() {
+        return Arrays.stream(segments).mapToLong(Segment::size).sum();
+    }
+
+    /**
+     * @return the bytes of off-heap memory taken
+     */
+    long reserved() {
+        return pages.reserved();
+    }
+
+    int purge() {
+        return Arrays.stream(segments).mapToInt(Segment::purge).sum();
+    }
+
+    void clear() {
+        Arrays.stream(segments).forEach(Segment::clear);
+        pages.trim();
+    }
+
+    private Segment segment(int hash) {
+        return shift == 32 ? segments[0] : segments[hash >>> shift];
+    }
+
+    private int[] hashes(List<byte[]> keys) {
+        int[] hashes = new int[keys.size()];
+        for (int index = 0; index < hashes.length; index++) {
+            hashes[index] = hash(keys.get(index));
+        }
+        return hashes;
+    }
+
+    /**
+     * Calls the action to the positions of the hashes, sorted by their segments, holding the lock of each segment
+     * while its positions are visited.
+     */
+    private void bySegment(int[] hashes, IntConsumer action) {
+        int[] order = order(hashes);
+        int start = 0;
+        while (start < order.length) {
+            Segment segment = segment(hashes[order[start]]);
+            int end = start;
+            synchronized (segment) {
+                while (end < order.length && segment(hashes[order[end]]) == segment) {
+                    action.accept(order[end++]);
+                }
+            }
+            start = end;
+        }
+    }
+
+    private int[] order(int[] hashes) {
+        if (shift == 32) {
+            int[] order = new int[hashes.length];
+            Arrays.setAll(order, index -> index);
+            return order;
+        }
+        long[] keys = new long[hashes.length];
+        for (int index = 0; index < hashes.length; index++) {
+            keys[index] = ((long) (hashes[index] >>> shift) << 32) | index;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[hashes.length];
+        for (int index = 0; index < order.length; index++) {
+            order[index] = (int) keys[index];
+        }
+        return order;
+    }
+
+    /**
+     * Mixes the bytes hash, so both the high bits that pick the segment and the low bits that pick the slot are
+     * spread.
+     */
+    static int hash(byte[] key) {
+        int hash = Arrays.hashCode(key);
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
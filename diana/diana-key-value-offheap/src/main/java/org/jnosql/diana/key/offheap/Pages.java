@@ -0,0 +1,194 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The off-heap pages of an {@link OffHeapStore}, shared by its {@link Segment}s. A page is a direct buffer cut into
+ * up to 64 blocks, a free bit per block, and the {@link Slabs} of a segment take a run of blocks to a size class, a
+ * few blocks to the small classes and just the blocks of a chunk to the large ones, so a class does not hold a page
+ * to a handful of entries. A run that has no entry left comes back here and any segment and class can take it again.
+ * The pages are taken from a capacity shared by every store of the factory and kept until
+ * {@link Pages#trim()}. It is thread-safe.
+ */
+final class Pages {
+
+    private static final int MAX_BLOCKS = 64;
+
+    private static final int SLAB_CHUNKS = 8;
+
+    private static final int SLAB_BLOCKS = 8;
+
+    private final int pageSize;
+
+    private final int blocks;
+
+    private final int blockSize;
+
+    private final AtomicLong capacity;
+
+    private ByteBuffer[] buffers = new ByteBuffer[0];
+
+    private long[] free = new long[0];
+
+    private volatile Slabs.Slab[] slabs = new Slabs.Slab[0];
+
+    private int reserved;
+
+    Pages(int pageSize, AtomicLong capacity) {
+        this.pageSize = pageSize;
+        this.blocks = Math.max(1, Math.min(MAX_BLOCKS, pageSize / Slabs.MIN_CHUNK));
+        this.blockSize = pageSize / blocks;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the bytes of a page, the largest chunk
+     */
+    int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Takes a run of free blocks to the size class, large enough to eight chunks of the size while they fit in eight
+     * blocks, to a single chunk otherwise. The pages with free blocks are tried first, a new page only when none of
+     * them has the run.
+     *
+     * @param chunk the size class
+     * @param size  the bytes of a chunk of the class
+     * @return the slab of the run or null when there is no memory left
+     */
+    synchronized Slabs.Slab take(int chunk, int size) {
+        long chunks = Math.max(1, Math.min(SLAB_CHUNKS, (long) SLAB_BLOCKS * blockSize / size));
+        int length = (int) Math.min(blocks, (chunks * size + blockSize - 1) / blockSize);
+        int page = -1;
+        int block = -1;
+        for (int index = 0; index < free.length && block < 0; index++) {
+            if (buffers[index] != null && free[index] != full()) {
+                page = index;
+                block = run(free[index], length);
+            }
+        }
+        for (int index = 0; index < free.length && block < 0; index++) {
+            if (buffers[index] != null && free[index] == full()) {
+                page = index;
+                block = 0;
+            }
+        }
+        if (block < 0) {
+            page = newPage();
+            if (page < 0) {
+                return null;
+            }
+            block = 0;
+        }
+        free[page] &= ~(mask(length) << block);
+        int end = block + length == blocks ? pageSize : (block + length) * blockSize;
+        Slabs.Slab slab = new Slabs.Slab(page, buffers[page].duplicate(), block * blockSize, end, chunk, size);
+        Arrays.fill(slabs, page * blocks + block, page * blocks + block + length, slab);
+        return slab;
+    }
+
+    /**
+     * Gives the blocks of the slab back, the slab must not have any entry
+     *
+     * @param slab the slab
+     */
+    synchronized void give(Slabs.Slab slab) {
+        int block = slab.start() / blockSize;
+        int length = slab.end() == pageSize ? blocks - block : (slab.end() - slab.start()) / blockSize;
+        Arrays.fill(slabs, slab.page() * blocks + block, slab.page() * blocks + block + length, null);
+        free[slab.page()] |= mask(length) << block;
+    }
+
+    /**
+     * @param address the address
+     * @return the slab of the address
+     */
+    Slabs.Slab slab(long address) {
+        int block = Math.min(blocks - 1, Slabs.offset(address) / blockSize);
+        return slabs[Slabs.pageNumber(address) * blocks + block];
+    }
+
+    /**
+     * @return the bytes of the pages taken from the capacity
+     */
+    synchronized long reserved() {
+        return (long) reserved * pageSize;
+    }
+
+    /**
+     * Gives the memory of the pages without any slab back to the capacity
+     */
+    synchronized void trim() {
+        for (int page = 0; page < buffers.length; page++) {
+            if (buffers[page] != null && free[page] == full()) {
+                buffers[page] = null;
+                reserved--;
+                capacity.addAndGet(pageSize);
+            }
+        }
+    }
+
+    /**
+     * Takes a page from the capacity, at a number whose page was trimmed or at a new number
+     *
+     * @return the page number or -1 when the capacity is over
+     */
+    private int newPage() {
+        if (capacity.addAndGet(-pageSize) < 0) {
+            capacity.addAndGet(pageSize);
+            return -1;
+        }
+        int page = 0;
+        while (page < buffers.length && buffers[page] != null) {
+            page++;
+        }
+        if (page == buffers.length) {
+            int length = Math.max(4, buffers.length * 2);
+            buffers = Arrays.copyOf(buffers, length);
+            free = Arrays.copyOf(free, length);
+            slabs = Arrays.copyOf(slabs, length * blocks);
+        }
+        buffers[page] = ByteBuffer.allocateDirect(pageSize);
+        free[page] = full();
+        reserved++;
+        return page;
+    }
+
+    private long full() {
+        return mask(blocks);
+    }
+
+    /**
+     * @return the first block of a run of free blocks of the length or -1 when there is not such run
+     */
+    private static int run(long free, int length) {
+        long runs = free;
+        for (int shift = 1; shift < length && runs != 0L; shift++) {
+            runs &= free >>> shift;
+        }
+        return runs == 0L ? -1 : Long.numberOfTrailingZeros(runs);
+    }
+
+    private static long mask(int length) {
+        return length == Long.SIZE ? -1L : (1L << length) - 1;
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * A part of the {@link OffHeapStore} with its own lock, size classes and hash index, the {@link Pages} are shared by
+ * the segments of the store. An entry is written at a chunk of the {@link Slabs} as the key length, the value length
+ * and the deadline followed by the key and the value bytes.
+ * The index is an open addressing table with linear probing of two primitive arrays, the key hashes and the entry
+ * addresses, so it does not give the garbage collector an object per entry; a removal shifts the following entries
+ * back instead of leaving a tombstone. An expired entry is removed when it is read and, when the memory is full,
+ * every expired entry is removed before giving up. A replacement of the same size class is written in place.
+ */
+final class Segment {
+
+    static final long NEVER = Long.MAX_VALUE;
+
+    private static final int HEADER = 16;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final Pages pages;
+
+    private final Slabs slabs;
+
+    private final LongSupplier clock;
+
+    private int[] hashes;
+
+    private long[] addresses;
+
+    private int mask;
+
+    private int size;
+
+    Segment(Pages pages, LongSupplier clock) {
+        this.pages = pages;
+        this.slabs = new Slabs(pages);
+        this.clock = clock;
+        this.hashes = new int[MIN_CAPACITY];
+        this.addresses = new long[MIN_CAPACITY];
+        this.mask = MIN_CAPACITY - 1;
+    }
+
+    /**
+     * @param key  the key bytes
+     * @param hash the key hash
+     * @return the value bytes or null when there is no entry
+     */
+    synchronized byte[] get(byte[] key, int hash) {
+        int slot = find(key, hash);
+        if (slot < 0) {
+            return null;
+        }
+        long address = addresses[slot];
+        ByteBuffer page = slabs.page(address);
+        int offset = Slabs.offset(address);
+        if (isExpired(page.getLong(offset + 8), clock.getAsLong())) {
+            delete(slot);
+            return null;
+        }
+        byte[] value = new byte[page.getInt(offset + 4)];
+        page.position(offset + HEADER + page.getInt(offset));
+        page.get(value);
+        return value;
+    }
+
+    /**
+     * Inserts or replaces the entry
+     *
+     * @param key      the key bytes
+     * @param hash     the key hash
+     * @param value    the value bytes
+     * @param deadline the deadline of the clock or {@link Segment#NEVER}
+     * @throws IllegalStateException    when there is no memory left
+     * @throws IllegalArgumentException when the entry is larger than a page
+     */
+    synchronized void put(byte[] key, int hash, byte[] value, long deadline) {
+        int length = HEADER + key.length + value.length;
+        int slot = find(key, hash);
+        if (slot >= 0 && slabs.isSameChunk(addresses[slot], length)) {
+            write(addresses[slot], key, value, deadline);
+            return;
+        }
+        long address = slabs.allocate(length);
+        if (address == 0L && purge() > 0) {
+            slot = find(key, hash);
+            address = slabs.allocate(length);
+        }
+        if (address == 0L && slot >= 0) {
+            address = replace(slot, length);
+        }
+        if (address == 0L) {
+            throw new IllegalStateException("There is no off-heap memory left to an entry of " + length + " bytes");
+        }
+        write(address, key, value, deadline);
+
+        if (slot >= 0) {
+            if (addresses[slot] != address) {
+                release(addresses[slot]);
+                addresses[slot] = address;
+            }
+            return;
+        }
+        if (size + 1 > (mask + 1) * 3L / 4) {
+            resize();
+            slot = find(key, hash);
+        }
+        slot = -slot - 1;
+        hashes[slot] = hash;
+        addresses[slot] = address;
+        size++;
+    }
+
+    /**
+     * @param key  the key bytes
+     * @param hash the key hash
+     * @return true when there was an entry
+     */
+    synchronized boolean remove(byte[] key, int hash) {
+        int slot = find(key, hash);
+        if (slot < 0) {
+            return false;
+        }
+        delete(slot);
+        return true;
+    }
+
+    /**
+     * @return the number of entries, the expired ones that were not removed yet included
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized void clear() {
+        slabs.clear();
+        hashes = new int[MIN_CAPACITY];
+        addresses = new long[MIN_CAPACITY];
+        mask = MIN_CAPACITY - 1;
+        size = 0;
+    }
+
+    /**
+     * Removes the expired entries
+     *
+     * @return the number of entries removed
+     */
+    synchronized int purge() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        int slot = 0;
+        while (slot <= mask) {
+            long address = addresses[slot];
+            if (address != 0L && isExpired(slabs.page(address).getLong(Slabs.offset(address) + 8), now)) {
+                delete(slot);
+                removed++;
+            } else {
+                slot++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the slot of the key or, when there is not the key, minus the empty slot where it would be minus one.
+     */
+    private int find(byte[] key, int hash) {
+        int slot = hash & mask;
+        while (addresses[slot] != 0L) {
+            if (hashes[slot] == hash && keyEquals(addresses[slot], key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    private boolean keyEquals(long address, byte[] key) {
+        ByteBuffer page = slabs.page(address);
+        int offset = Slabs.offset(address);
+        if (page.getInt(offset) != key.length) {
+            return false;
+        }
+        int start = offset + HEADER;
+        for (int index = 0; index < key.length; index++) {
+            if (page.get(start + index) != key[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the entry of the slot and moves back the entries of the same probe sequence that follow it.
+     */
+    private void delete(int slot) {
+        release(addresses[slot]);
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (addresses[next] != 0L) {
+            int ideal = hashes[next] & mask;
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                hashes[gap] = hashes[next];
+                addresses[gap] = addresses[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        hashes[gap] = 0;
+        addresses[gap] = 0L;
+        size--;
+    }
+
+    private void release(long address) {
+        slabs.free(address);
+    }
+
+    /**
+     * Frees the entry of the slot to allocate the length in its place, when the memory is full. The pages are held
+     * meanwhile, so another segment does not take the memory of the entry, and when the allocation fails the entry
+     * is allocated and written again, the slot keeps it.
+     *
+     * @return the address, the slot still has the old one, or zero when there is no memory
+     */
+    private long replace(int slot, int length) {
+        long old = addresses[slot];
+        ByteBuffer page = slabs.page(old);
+        int offset = Slabs.offset(old);
+        byte[] entry = new byte[HEADER + page.getInt(offset) + page.getInt(offset + 4)];
+        page.position(offset);
+        page.get(entry);
+        synchronized (pages) {
+            release(old);
+            long address = slabs.allocate(length);
+            if (address != 0L) {
+                addresses[slot] = address;
+                return address;
+            }
+            long restored = slabs.allocate(entry.length);
+            if (restored == 0L) {
+                throw new IllegalStateException("The off-heap entry could not be restored after a failed replace");
+            }
+            page = slabs.page(restored);
+            page.position(Slabs.offset(restored));
+            page.put(entry);
+            addresses[slot] = restored;
+            return 0L;
+        }
+    }
+
+    private void write(long address, byte[] key, byte[] value, long deadline) {
+        ByteBuffer page = slabs.page(address);
+        int offset = Slabs.offset(address);
+        page.putInt(offset, key.length);
+        page.putInt(offset + 4, value.length);
+        page.putLong(offset + 8, deadline);
+        page.position(offset + HEADER);
+        page.put(key);
+        page.put(value);
+    }
+
+    private void resize() {
+        int[] oldHashes = hashes;
+        long[] oldAddresses = addresses;
+        int capacity = oldAddresses.length * 2;
+        hashes = new int[capacity];
+        addresses = new long[capacity];
+        mask = capacity - 1;
+        for (int index = 0; index < oldAddresses.length; index++) {
+            if (oldAddresses[index] != 0L) {
+                int slot = oldHashes[index] & mask;
+                while (addresses[slot] != 0L) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[index];
+                addresses[slot] = oldAddresses[index];
+            }
+        }
+    }
+
+    private static boolean isExpired(long deadline, long now) {
+        return deadline != NEVER && deadline - now <= 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Segment{" +
+                "size=" + size +
+                ", capacity=" + (mask + 1) +
+                ", reserved=" + slabs.reserved() +
+                '}';
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A slab allocator of off-heap memory. The chunk sizes are split into classes, each class takes slabs, runs of
+ * blocks of the {@link Pages}, and cuts them into chunks of its size; a freed chunk goes back to the free list of
+ * its slab, kept at the chunks themselves, and a slab without chunks in use goes back to the pages, so the memory
+ * of a class that is not used anymore goes to the others. An address holds the page number plus one at the high
+ * bits and the offset at the low ones, so zero is never an address. It is not thread-safe, the {@link Segment} that
+ * owns it guards it.
+ */
+final class Slabs {
+
+    static final int MIN_CHUNK = 32;
+
+    private static final double GROWTH = 1.25;
+
+    private final Pages pages;
+
+    private final int[] chunks;
+
+    private final Slab[] partial;
+
+    private final Slab[] full;
+
+    private long reserved;
+
+    Slabs(Pages pages) {
+        this.pages = pages;
+        this.chunks = chunks(pages.pageSize());
+        this.partial = new Slab[chunks.length];
+        this.full = new Slab[chunks.length];
+    }
+
+    /**
+     * Allocates a chunk of at least the size
+     *
+     * @param size the size in bytes
+     * @return the address or zero when there is no memory left
+     * @throws IllegalArgumentException when the size is larger than a page
+     */
+    long allocate(int size) {
+        if (size > pages.pageSize()) {
+            throw new IllegalArgumentException("The entry has " + size + " bytes, it is larger than the page size: "
+                    + pages.pageSize());
+        }
+        int chunk = chunkOf(size);
+        Slab slab = partial[chunk];
+        if (slab == null) {
+            slab = pages.take(chunk, chunks[chunk]);
+            if (slab == null) {
+                return 0L;
+            }
+            reserved += slab.end - slab.start;
+            partial[chunk] = link(partial[chunk], slab);
+        }
+        long address = slab.allocate();
+        if (slab.isFull()) {
+            partial[chunk] = unlink(partial[chunk], slab);
+            full[chunk] = link(full[chunk], slab);
+        }
+        return address;
+    }
+
+    /**
+     * Gives the chunk back to its slab and the slab back to the pages when it has no chunk in use
+     *
+     * @param address the address
+     */
+    void free(long address) {
+        Slab slab = pages.slab(address);
+        int chunk = slab.chunk;
+        boolean wasFull = slab.isFull();
+        slab.free(offset(address));
+        if (wasFull) {
+            full[chunk] = unlink(full[chunk], slab);
+            partial[chunk] = link(partial[chunk], slab);
+        }
+        if (slab.used == 0) {
+            partial[chunk] = unlink(partial[chunk], slab);
+            reserved -= slab.end - slab.start;
+            pages.give(slab);
+        }
+    }
+
+    /**
+     * @param address the address
+     * @param size    the size in bytes
+     * @return true when the chunk of the address is of the size class of the size, so it can take it in place
+     */
+    boolean isSameChunk(long address, int size) {
+        return size <= pages.pageSize() && pages.slab(address).chunk == chunkOf(size);
+    }
+
+    /**
+     * @param address the address
+     * @return the page of the address
+     */
+    ByteBuffer page(long address) {
+        return pages.slab(address).buffer;
+    }
+
+    /**
+     * @param address the address
+     * @return the offset of the address at its page
+     */
+    static int offset(long address) {
+        return (int) address;
+    }
+
+    /**
+     * @param address the address
+     * @return the page number of the address
+     */
+    static int pageNumber(long address) {
+        return (int) (address >>> 32) - 1;
+    }
+
+    /**
+     * @return the bytes of the slabs taken
+     */
+    long reserved() {
+        return reserved;
+    }
+
+    /**
+     * Gives every slab back to the pages
+     */
+    void clear() {
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            for (Slab slab : Arrays.asList(partial[chunk], full[chunk])) {
+                while (slab != null) {
+                    Slab next = slab.next;
+                    pages.give(slab);
+                    slab = next;
+                }
+            }
+        }
+        Arrays.fill(partial, null);
+        Arrays.fill(full, null);
+        reserved = 0L;
+    }
+
+    private int chunkOf(int size) {
+        int index = Arrays.binarySearch(chunks, size);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static Slab link(Slab head, Slab slab) {
+        slab.previous = null;
+        slab.next = head;
+        if (head != null) {
+            head.previous = slab;
+        }
+        return slab;
+    }
+
+    private static Slab unlink(Slab head, Slab slab) {
+        if (slab.previous != null) {
+            slab.previous.next = slab.next;
+        }
+        if (slab.next != null) {
+            slab.next.previous = slab.previous;
+        }
+        Slab next = head == slab ? slab.next : head;
+        slab.previous = null;
+        slab.next = null;
+        return next;
+    }
+
+    private static long address(int page, int offset) {
+        return ((long) (page + 1) << 32) | offset;
+    }
+
+    /**
+     * The chunk sizes, from {@link Slabs#MIN_CHUNK} growing by {@link Slabs#GROWTH} aligned to eight bytes, and
+     * the page size as the last one.
+     */
+    private static int[] chunks(int pageSize) {
+        List<Integer> sizes = new ArrayList<>();
+        long size = MIN_CHUNK;
+        while (size < pageSize) {
+            sizes.add((int) size);
+            size = Math.max(size + 8, ((long) (size * GROWTH) + 7) & ~7L);
+        }
+        sizes.add(pageSize);
+        return sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A run of blocks of a page given to a size class. The chunks are taken from the free list first, then from
+     * the part of the run never used; a free chunk keeps the offset of the next free one, or -1, at its first
+     * bytes. The buffer is a duplicate of the page, so the segments that share the page do not share its position.
+     */
+    static final class Slab {
+
+        private final int page;
+
+        private final ByteBuffer buffer;
+
+        private final int start;
+
+        private final int end;
+
+        private final int chunk;
+
+        private final int size;
+
+        private int top;
+
+        private int recycled = -1;
+
+        private int used;
+
+        private Slab previous;
+
+        private Slab next;
+
+        Slab(int page, ByteBuffer buffer, int start, int end, int chunk, int size) {
+            this.page = page;
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+            this.chunk = chunk;
+            this.size = size;
+            this.top = start;
+        }
+
+        int page() {
+            return page;
+        }
+
+        int start() {
+            return start;
+        }
+
+        int end() {
+            return end;
+        }
+
+        private long allocate() {
+            int offset;
+            if (recycled >= 0) {
+                offset = recycled;
+                recycled = buffer.getInt(offset);
+            } else {
+                offset = top;
+                top += size;
+            }
+            used++;
+            return address(page, offset);
+        }
+
+        private void free(int offset) {
+            buffer.putInt(offset, recycled);
+            recycled = offset;
+            used--;
+        }
+
+        private boolean isFull() {
+            return recycled < 0 && top + size > end;
+        }
+    }
+}
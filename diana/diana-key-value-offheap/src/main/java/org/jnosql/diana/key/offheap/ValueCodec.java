@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+/**
+ * Converts the keys and the values of the {@link OffHeapBucketManager} to the bytes kept off-heap and back. Two keys
+ * are the same key when their bytes are equal. An implementation must be thread-safe, and to be set by the
+ * {@link OffHeapKeyValueConfiguration#CODEC} setting it must have a public constructor without parameters.
+ */
+public interface ValueCodec {
+
+    /**
+     * Converts the value to bytes
+     *
+     * @param value the value
+     * @return the bytes
+     * @throws NullPointerException when value is null
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Converts the key to bytes, by default as {@link ValueCodec#encode(Object)}. A key is never decoded, so an
+     * implementation may write the keys that must be the same key, such as 1 and 1L, as the same bytes.
+     *
+     * @param key the key
+     * @return the bytes
+     * @throws NullPointerException when key is null
+     */
+    default byte[] encodeKey(Object key) {
+        return encode(key);
+    }
+
+    /**
+     * Converts the bytes back to the value
+     *
+     * @param bytes the bytes
+     * @return the value
+     * @throws NullPointerException when bytes is null
+     */
+    Object decode(byte[] bytes);
+}
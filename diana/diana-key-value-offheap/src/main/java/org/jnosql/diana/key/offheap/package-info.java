@@ -0,0 +1,21 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+/**
+ * An off-heap key-value, it implements the key-value API keeping the entries at direct memory: the
+ * {@link org.jnosql.diana.key.offheap.OffHeapKeyValueConfiguration} creates the factory of the bucket managers.
+ */
+package org.jnosql.diana.key.offheap;
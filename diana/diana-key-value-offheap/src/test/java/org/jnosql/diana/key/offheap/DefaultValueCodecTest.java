@@ -0,0 +1,93 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ObjectInputFilter;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DefaultValueCodecTest {
+
+    private final ValueCodec codec = new DefaultValueCodec();
+
+    @ParameterizedTest
+    @MethodSource("values")
+    public void shouldEncodeAndDecode(Object value) {
+        assertEquals(value, codec.decode(codec.encode(value)));
+    }
+
+    @Test
+    public void shouldEncodeBytes() {
+        byte[] bytes = {1, 2, 3};
+        assertArrayEquals(bytes, (byte[]) codec.decode(codec.encode(bytes)));
+    }
+
+    @Test
+    public void shouldReturnError() {
+        assertThrows(NullPointerException.class, () -> codec.encode(null));
+        assertThrows(NullPointerException.class, () -> codec.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(new byte[]{42}));
+        assertThrows(UncheckedIOException.class, () -> codec.encode(new Object()));
+    }
+
+    @Test
+    public void shouldEncodeIntegralKeysTheSameWay() {
+        assertArrayEquals(codec.encodeKey(1L), codec.encodeKey(1));
+        assertArrayEquals(codec.encodeKey(1L), codec.encodeKey((short) 1));
+        assertArrayEquals(codec.encodeKey(1L), codec.encodeKey((byte) 1));
+        assertArrayEquals(codec.encode("Diana"), codec.encodeKey("Diana"));
+        assertEquals(1, codec.decode(codec.encode(1)));
+    }
+
+    @Test
+    public void shouldFilterTheDeserializedValues() {
+        ValueCodec filtered = new DefaultValueCodec(ObjectInputFilter.Config.createFilter("!java.time.*"));
+        byte[] date = filtered.encode(LocalDate.of(2019, 1, 1));
+        assertThrows(UncheckedIOException.class, () -> filtered.decode(date));
+        assertEquals(Arrays.asList("Diana", "Artemis"), filtered.decode(filtered.encode(
+                new ArrayList<>(Arrays.asList("Diana", "Artemis")))));
+    }
+
+    @Test
+    public void shouldLimitTheDepthByDefault() {
+        List<Object> value = new ArrayList<>();
+        for (int index = 0; index < 200; index++) {
+            List<Object> parent = new ArrayList<>();
+            parent.add(value);
+            value = parent;
+        }
+        byte[] bytes = codec.encode(value);
+        assertThrows(UncheckedIOException.class, () -> codec.decode(bytes));
+    }
+
+    static Stream<Object> values() {
+        return Stream.of("Diana", "", 10, -10L, 10.5, true, false, LocalDate.of(2019, 1, 1),
+                Arrays.asList("Diana", "Artemis"));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.key.KeyValueEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapBucketManagerTest {
+
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private OffHeapBucketManagerFactory factory;
+
+    private OffHeapBucketManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        factory = new OffHeapBucketManagerFactory(1024 * 1024, PAGE_SIZE, 4, new DefaultValueCodec(), clock::get);
+        manager = factory.getBucketManager("bucket");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> manager.put(null, "value"));
+        assertThrows(NullPointerException.class, () -> manager.put("key", null));
+        assertThrows(NullPointerException.class, () -> manager.put(KeyValueEntity.of("key", "value"), null));
+        assertThrows(NullPointerException.class, () -> manager.get((Object) null));
+        assertThrows(NullPointerException.class, () -> manager.remove((Iterable<Object>) null));
+    }
+
+    @Test
+    public void shouldPutAndGet() {
+        manager.put("Diana", "Hunt");
+        manager.put(KeyValueEntity.of(1L, Arrays.asList("Diana", "Artemis")));
+        assertEquals("Hunt", manager.get("Diana").map(Value::get).get());
+        assertEquals(Arrays.asList("Diana", "Artemis"), manager.get(1L).map(Value::get).get());
+        assertEquals(Arrays.asList("Diana", "Artemis"), manager.get(1).map(Value::get).get());
+        assertSame(manager, factory.getBucketManager("bucket"));
+    }
+
+    @Test
+    public void shouldReplace() {
+        manager.put("Diana", "Hunt");
+        manager.put("Diana", "goddess of the hunt and the moon");
+        assertEquals("goddess of the hunt and the moon", manager.get("Diana").get().get());
+        assertEquals(1L, manager.size());
+    }
+
+    @Test
+    public void shouldRemove() {
+        manager.put(Arrays.asList(KeyValueEntity.of("a", 1), KeyValueEntity.of("b", 2), KeyValueEntity.of("c", 3)));
+        manager.remove("a");
+        assertFalse(manager.get("a").isPresent());
+        manager.remove(Arrays.asList("b", "c", "d"));
+        assertEquals(0L, manager.size());
+    }
+
+    @Test
+    public void shouldGetInBulk() {
+        manager.put(Arrays.asList(KeyValueEntity.of("a", 1), KeyValueEntity.of("b", 2), KeyValueEntity.of("c", 3)));
+        List<Object> values = StreamSupport.stream(manager.get(Arrays.asList("c", "x", "a", "b")).spliterator(), false)
+                .map(Value::get).collect(Collectors.toList());
+        assertThat(values, contains(3, 1, 2));
+    }
+
+    @Test
+    public void shouldExpire() {
+        manager.put(KeyValueEntity.of("Diana", "Hunt"), Duration.ofMillis(100));
+        manager.put(Collections.singletonList(KeyValueEntity.of("Artemis", "Moon")), Duration.ofSeconds(1));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertFalse(manager.get("Diana").isPresent());
+        assertTrue(manager.get("Artemis").isPresent());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertFalse(manager.get("Artemis").isPresent());
+        assertEquals(0L, manager.size());
+    }
+
+    @Test
+    public void shouldReuseMemory() {
+        for (int index = 0; index < 1000; index++) {
+            manager.put(index, new byte[500]);
+        }
+        long reserved = manager.getReservedMemory();
+        manager.remove(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        for (int index = 0; index < 1000; index++) {
+            manager.put(index, new byte[500]);
+        }
+        assertEquals(reserved, manager.getReservedMemory());
+        assertEquals(1000L, manager.size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMemoryIsFull() {
+        assertThrows(IllegalStateException.class, () -> {
+            for (int index = 0; index < 10_000; index++) {
+                manager.put(index, new byte[500]);
+            }
+        });
+        manager.remove(0);
+        manager.put(0, new byte[500]);
+        assertThrows(IllegalArgumentException.class, () -> manager.put("large", new byte[PAGE_SIZE]));
+    }
+
+    @Test
+    public void shouldReuseExpiredEntriesWhenMemoryIsFull() {
+        int size = 0;
+        try {
+            for (; ; size++) {
+                manager.put(KeyValueEntity.of(size, new byte[500]), Duration.ofMillis(10));
+            }
+        } catch (IllegalStateException exception) {
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        long expired = manager.size();
+        manager.put(size, new byte[500]);
+        assertTrue(manager.get(size).isPresent());
+        assertTrue(manager.size() < expired);
+    }
+
+    @Test
+    public void shouldShareCapacity() {
+        manager.put("Diana", "Hunt");
+        factory.getBucketManager("other").put("Diana", "Moon");
+        assertEquals(2L * PAGE_SIZE, factory.getCapacity() - factory.getAvailableMemory());
+        factory.close();
+        assertEquals(factory.getCapacity(), factory.getAvailableMemory());
+        assertEquals(0L, manager.size());
+    }
+
+    @Test
+    public void shouldQuery() {
+        manager.query("put {\"Diana\", \"Hunt\"}");
+        List<Value> values = manager.query("get \"Diana\"");
+        assertEquals("Hunt", values.get(0).get());
+        manager.query("remove \"Diana\"");
+        assertFalse(manager.get("Diana").isPresent());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.key.KeyValueConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapKeyValueConfigurationTest {
+
+    private final OffHeapKeyValueConfiguration configuration = new OffHeapKeyValueConfiguration();
+
+    @Test
+    public void shouldLoadConfiguration() {
+        assertTrue(StreamSupport.stream(ServiceLoader.load(KeyValueConfiguration.class).spliterator(), false)
+                .anyMatch(OffHeapKeyValueConfiguration.class::isInstance));
+    }
+
+    @Test
+    public void shouldCreateFactory() {
+        OffHeapBucketManagerFactory factory = configuration.get();
+        factory.getBucketManager("bucket").put("Diana", "Hunt");
+        assertEquals("Hunt", factory.getBucketManager("bucket").get("Diana").get().get());
+        factory.close();
+    }
+
+    @Test
+    public void shouldReadSettings() {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(OffHeapKeyValueConfiguration.CAPACITY, 1024 * 1024);
+        settings.put(OffHeapKeyValueConfiguration.PAGE_SIZE, "65536");
+        settings.put(OffHeapKeyValueConfiguration.CODEC, DefaultValueCodec.class.getName());
+        OffHeapBucketManagerFactory factory = configuration.get(Settings.of(settings));
+        assertEquals(1024 * 1024, factory.getCapacity());
+        factory.close();
+    }
+
+    @Test
+    public void shouldNotSupportCollections() {
+        OffHeapBucketManagerFactory factory = configuration.get();
+        assertThrows(UnsupportedOperationException.class, () -> factory.getMap("bucket", String.class, String.class));
+        assertThrows(UnsupportedOperationException.class, () -> factory.getQueue("bucket", String.class));
+        assertThrows(UnsupportedOperationException.class, () -> factory.getSet("bucket", String.class));
+        assertThrows(UnsupportedOperationException.class, () -> factory.getList("bucket", String.class));
+        factory.close();
+    }
+
+    @Test
+    public void shouldReadSerialFilter() {
+        OffHeapBucketManagerFactory factory = configuration.get(setting(OffHeapKeyValueConfiguration.SERIAL_FILTER,
+                "!java.time.*"));
+        factory.getBucketManager("bucket").put("date", LocalDate.of(2019, 1, 1));
+        assertThrows(UncheckedIOException.class, () -> factory.getBucketManager("bucket").get("date"));
+        factory.close();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSettingIsInvalid() {
+        assertThrows(NullPointerException.class, () -> configuration.get(null));
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(setting(
+                OffHeapKeyValueConfiguration.SEGMENTS, "3")));
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(setting(
+                OffHeapKeyValueConfiguration.PAGE_SIZE, "8")));
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(setting(
+                OffHeapKeyValueConfiguration.CODEC, String.class.getName())));
+    }
+
+    private static Settings setting(String key, Object value) {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(key, value);
+        return Settings.of(settings);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapStoreTest {
+
+    private static final long CAPACITY = 64L * 1024 * 1024;
+
+    private static final int PAGE_SIZE = 1024 * 1024;
+
+    private static final int SEGMENTS = 16;
+
+    @Test
+    public void shouldFillTheDefaultCapacityWithMixedSizes() {
+        AtomicLong available = new AtomicLong(CAPACITY);
+        OffHeapStore store = new OffHeapStore(SEGMENTS, PAGE_SIZE, available, () -> 0L);
+        Random random = new Random(42);
+
+        List<byte[]> small = new ArrayList<>();
+        long bytes = fill(store, small, "small", () -> 1 + random.nextInt(4 * 1024));
+        assertTrue(bytes > CAPACITY * 7 / 10, "the small entries took " + bytes + " bytes");
+        assertEquals(CAPACITY, store.reserved());
+
+        store.remove(small);
+        assertEquals(0L, store.size());
+        long large = fill(store, new ArrayList<>(), "large", () -> 100_000 + random.nextInt(300_000));
+        assertTrue(large > CAPACITY * 7 / 10, "the large entries took " + large + " bytes");
+
+        store.clear();
+        assertEquals(CAPACITY, available.get());
+    }
+
+    @Test
+    public void shouldGiveEmptyPagesToAnySegment() {
+        AtomicLong available = new AtomicLong(4 * PAGE_SIZE);
+        OffHeapStore store = new OffHeapStore(SEGMENTS, PAGE_SIZE, available, () -> 0L);
+        List<byte[]> keys = new ArrayList<>();
+        fill(store, keys, "key", () -> 64);
+        store.remove(keys);
+        byte[] key = bytes("page");
+        store.put(key, new byte[PAGE_SIZE - 64], Segment.NEVER);
+        assertEquals(PAGE_SIZE - 64, store.get(key).length);
+        assertEquals(4L * PAGE_SIZE, store.reserved());
+    }
+
+    private static long fill(OffHeapStore store, List<byte[]> keys, String prefix, IntSupplier sizes) {
+        long bytes = 0L;
+        try {
+            for (int index = 0; ; index++) {
+                byte[] key = bytes(prefix + index);
+                byte[] value = new byte[sizes.getAsInt()];
+                store.put(key, value, Segment.NEVER);
+                keys.add(key);
+                bytes += key.length + value.length;
+            }
+        } catch (IllegalStateException exception) {
+            return bytes;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentTest {
+
+    @Test
+    public void shouldKeepEntriesWhenKeysCollide() {
+        Segment segment = new Segment(new Pages(4096, new AtomicLong(1024 * 1024)), () -> 0L);
+        for (int index = 0; index < 100; index++) {
+            segment.put(bytes("key" + index), 7, bytes("value" + index), Segment.NEVER);
+        }
+        for (int index = 0; index < 100; index += 2) {
+            assertTrue(segment.remove(bytes("key" + index), 7));
+        }
+        for (int index = 0; index < 100; index++) {
+            byte[] value = segment.get(bytes("key" + index), 7);
+            if (index % 2 == 0) {
+                assertNull(value);
+            } else {
+                assertArrayEquals(bytes("value" + index), value);
+            }
+        }
+        assertEquals(50, segment.size());
+    }
+
+    @Test
+    public void shouldWorkAsMap() {
+        Segment segment = new Segment(new Pages(4096, new AtomicLong(16 * 1024 * 1024)), () -> 0L);
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int operation = 0; operation < 100_000; operation++) {
+            int key = random.nextInt(2000);
+            byte[] bytes = bytes(Integer.toString(key));
+            int hash = OffHeapStore.hash(bytes);
+            switch (random.nextInt(3)) {
+                case 0:
+                    String value = "value" + operation;
+                    segment.put(bytes, hash, bytes(value), Segment.NEVER);
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key) != null, segment.remove(bytes, hash));
+                    break;
+                default:
+                    byte[] current = segment.get(bytes, hash);
+                    assertEquals(expected.get(key), current == null ? null : new String(current,
+                            StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(expected.size(), segment.size());
+    }
+
+    @Test
+    public void shouldPurgeExpiredEntries() {
+        AtomicLong clock = new AtomicLong();
+        Segment segment = new Segment(new Pages(4096, new AtomicLong(1024 * 1024)), clock::get);
+        for (int index = 0; index < 100; index++) {
+            byte[] key = bytes("key" + index);
+            segment.put(key, OffHeapStore.hash(key), key, index % 2 == 0 ? 10L : Segment.NEVER);
+        }
+        clock.set(10L);
+        assertEquals(50, segment.purge());
+        assertEquals(50, segment.size());
+        byte[] key = bytes("key1");
+        assertArrayEquals(key, segment.get(key, OffHeapStore.hash(key)));
+    }
+
+    @Test
+    public void shouldReplaceInPlaceWhenMemoryIsFull() {
+        Segment segment = new Segment(new Pages(4096, new AtomicLong(4096)), () -> 0L);
+        int size = fill(segment);
+        byte[] key = bytes("key0");
+        byte[] value = new byte[100];
+        Arrays.fill(value, (byte) 1);
+        segment.put(key, OffHeapStore.hash(key), value, Segment.NEVER);
+        assertArrayEquals(value, segment.get(key, OffHeapStore.hash(key)));
+        assertEquals(size, segment.size());
+    }
+
+    @Test
+    public void shouldKeepTheEntryWhenTheReplaceDoesNotFit() {
+        Segment segment = new Segment(new Pages(4096, new AtomicLong(4096)), () -> 0L);
+        int size = fill(segment);
+        byte[] key = bytes("key0");
+        assertThrows(IllegalStateException.class, () -> segment.put(key, OffHeapStore.hash(key), new byte[3000],
+                Segment.NEVER));
+        assertArrayEquals(new byte[100], segment.get(key, OffHeapStore.hash(key)));
+        assertEquals(size, segment.size());
+        assertTrue(segment.remove(key, OffHeapStore.hash(key)));
+        byte[] other = bytes("keyX");
+        segment.put(other, OffHeapStore.hash(other), new byte[100], Segment.NEVER);
+        assertArrayEquals(new byte[100], segment.get(other, OffHeapStore.hash(other)));
+    }
+
+    private static int fill(Segment segment) {
+        int size = 0;
+        try {
+            for (; ; size++) {
+                byte[] key = bytes("key" + size);
+                segment.put(key, OffHeapStore.hash(key), new byte[100], Segment.NEVER);
+            }
+        } catch (IllegalStateException exception) {
+            return size;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
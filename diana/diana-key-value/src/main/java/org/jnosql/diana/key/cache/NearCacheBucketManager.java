@@ -0,0 +1,486 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.cache;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.Value;
+import jakarta.nosql.key.BucketManager;
+import jakarta.nosql.key.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link BucketManager} decorator that keeps the values read from the bucket in a client-side cache, the near
+ * cache, so the next gets of the same key do not call the remote store. It works with any provider, and the
+ * key-value query language goes through it as well, since the query parser runs on this manager.
+ * <p>
+ * The cache holds the least recently used entries, bounded by {@link #MAX_ENTRIES} and, optionally, by the
+ * estimated size in {@link #MAX_BYTES}. A large cache is split by the key hash in up to 16 segments, each one with
+ * its own lock and its share of the bounds, so the reads of different keys do not wait for each other and the
+ * least recently used order is kept by segment. Every put and remove goes to the bucket and then invalidates the key. A
+ * put with time to live of a cached key also records when the key expires in the bucket, so the value loaded after
+ * it is not kept beyond that; for a key that is not cached it only invalidates, so the writes do not take the place
+ * of the cached values. {@link #EXPIRE_AFTER_WRITE} bounds how long a value written by other clients might be stale.
+ * <p>
+ * The concurrent misses of the same key share a single remote get. {@link #get(Iterable)} answers the cached keys
+ * and reads the others in a single remote call, which is not cached since the bulk get does not return the keys.
+ * The values follow the order of the keys; when the remote call does not find every key it was given, the position
+ * of its values does not tell their keys, so they follow the cached ones.
+ */
+public class NearCacheBucketManager implements BucketManager {
+
+    /**
+     * The setting of the maximum number of entries, 10000 by default
+     */
+    public static final String MAX_ENTRIES = "jnosql.keyvalue.nearcache.max.entries";
+
+    /**
+     * The setting of the maximum estimated bytes of keys and values, zero by default that means no limit
+     */
+    public static final String MAX_BYTES = "jnosql.keyvalue.nearcache.max.bytes";
+
+    /**
+     * The setting, in milliseconds, of how long a loaded value is kept, zero by default that means until it is
+     * either evicted or invalidated
+     */
+    public static final String EXPIRE_AFTER_WRITE = "jnosql.keyvalue.nearcache.expire.after.write";
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private static final Duration MAX_TTL = Duration.ofNanos(Long.MAX_VALUE / 2);
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private static final long MIN_SEGMENT_ENTRIES = 256L;
+
+    private static final long MIN_SEGMENT_BYTES = 64L * 1024;
+
+    private final BucketManager manager;
+
+    private final NearCacheSettings settings;
+
+    private final LongSupplier clock;
+
+    private final Segment[] segments;
+
+    private final ConcurrentMap<Object, CompletableFuture<Optional<Value>>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder loadFailures = new LongAdder();
+
+    private final LongAdder loadTime = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    NearCacheBucketManager(BucketManager manager, NearCacheSettings settings, LongSupplier clock) {
+        this.manager = manager;
+        this.settings = settings;
+        this.clock = clock;
+        long count = Math.min(MAX_SEGMENTS, settings.getMaxEntries() / MIN_SEGMENT_ENTRIES);
+        if (settings.getMaxBytes() > 0) {
+            count = Math.min(count, settings.getMaxBytes() / MIN_SEGMENT_BYTES);
+        }
+        this.segments = new Segment[Integer.highestOneBit((int) Math.max(1L, count))];
+        for (int index = 0; index < segments.length; index++) {
+            segments[index] = new Segment(divide(settings.getMaxEntries(), index),
+                    divide(settings.getMaxBytes(), index));
+        }
+    }
+
+    /**
+     * Creates a near cache in front of the manager
+     *
+     * @param manager  the manager of the bucket
+     * @param settings the near cache settings
+     * @return a new {@link NearCacheBucketManager}
+     * @throws NullPointerException     when either manager or settings is null
+     * @throws IllegalArgumentException when a setting is invalid
+     */
+    public static NearCacheBucketManager of(BucketManager manager, Settings settings) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new NearCacheBucketManager(manager, NearCacheSettings.of(settings), System::nanoTime);
+    }
+
+    /**
+     * @return a snapshot of the statistics of this near cache
+     */
+    public NearCacheStatistics getStatistics() {
+        return new NearCacheStatistics(hits.sum(), misses.sum(), loads.sum(), loadFailures.sum(), loadTime.sum(),
+                evictions.sum());
+    }
+
+    /**
+     * @return the number of entries in the near cache
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all the entries of the near cache, the bucket is not changed
+     */
+    public void invalidateAll() {
+        loading.clear();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.bytes = 0L;
+            }
+        }
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        manager.put(key, value);
+        invalidate(key);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        manager.put(entity);
+        invalidate(entity.getKey());
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        manager.put(entity, ttl);
+        expireAt(entity.getKey(), deadline(ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<KeyValueEntity> list = toList(entities);
+        manager.put(list);
+        list.forEach(e -> invalidate(e.getKey()));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<KeyValueEntity> list = toList(entities);
+        manager.put(list, ttl);
+        long deadline = deadline(ttl);
+        list.forEach(e -> expireAt(e.getKey(), deadline));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        Value value = getCached(key);
+        if (value != null) {
+            hits.increment();
+            return Optional.of(value);
+        }
+        misses.increment();
+        return load(key);
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        List<K> missing = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, "key is required");
+            Value value = getCached(key);
+            if (value == null) {
+                missing.add(key);
+                positions.add(values.size());
+                values.add(null);
+            } else {
+                hits.increment();
+                values.add(value);
+            }
+        }
+        misses.add(missing.size());
+        if (missing.size() == 1) {
+            values.set(positions.get(0), load(missing.get(0)).orElse(null));
+        } else if (!missing.isEmpty()) {
+            List<Value> loaded = new ArrayList<>(missing.size());
+            long start = clock.getAsLong();
+            try {
+                manager.get(missing).forEach(loaded::add);
+            } catch (RuntimeException exception) {
+                loadFailures.increment();
+                throw exception;
+            } finally {
+                loads.increment();
+                loadTime.add(clock.getAsLong() - start);
+            }
+            if (loaded.size() == missing.size()) {
+                for (int index = 0; index < loaded.size(); index++) {
+                    values.set(positions.get(index), loaded.get(index));
+                }
+            } else {
+                values.addAll(loaded);
+            }
+        }
+        values.removeIf(Objects::isNull);
+        return values;
+    }
+
+    @Override
+    public <K> void remove(K key) {
+        Objects.requireNonNull(key, "key is required");
+        manager.remove(key);
+        invalidate(key);
+    }
+
+    @Override
+    public <K> void remove(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<K> list = toList(keys);
+        manager.remove(list);
+        list.forEach(this::invalidate);
+    }
+
+    @Override
+    public void close() {
+        invalidateAll();
+        manager.close();
+    }
+
+    private Optional<Value> load(Object key) {
+        CompletableFuture<Optional<Value>> loader = new CompletableFuture<>();
+        CompletableFuture<Optional<Value>> current = loading.putIfAbsent(key, loader);
+        if (current != null) {
+            return join(current);
+        }
+        long start = clock.getAsLong();
+        try {
+            Optional<Value> value = manager.get(key);
+            Segment segment = segment(key);
+            synchronized (segment) {
+                if (loading.remove(key, loader)) {
+                    value.ifPresent(v -> store(segment, key, v));
+                }
+            }
+            loader.complete(value);
+            return value;
+        } catch (RuntimeException exception) {
+            loadFailures.increment();
+            loading.remove(key, loader);
+            loader.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            loads.increment();
+            loadTime.add(clock.getAsLong() - start);
+        }
+    }
+
+    private Value getCached(Object key) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            Entry entry = segment.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            long now = clock.getAsLong();
+            if (isExpired(entry.deadline, now)) {
+                segment.discard(key, entry);
+                return null;
+            }
+            if (entry.value != null && isExpired(entry.expiry, now)) {
+                segment.discard(key, entry);
+                if (entry.deadline != NEVER) {
+                    segment.add(key, new Entry(null, entry.deadline, entry.deadline, Weights.of(key)));
+                }
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    /**
+     * Caches a loaded value, it must hold the lock of the segment
+     */
+    private void store(Segment segment, Object key, Value value) {
+        Entry previous = segment.entries.get(key);
+        long deadline = previous == null ? NEVER : previous.deadline;
+        long expiry = deadline;
+        if (settings.getExpireAfterWrite() > 0) {
+            long writeExpiry = clock.getAsLong() + settings.getExpireAfterWrite();
+            if (writeExpiry == NEVER) {
+                writeExpiry--;
+            }
+            if (deadline == NEVER || writeExpiry - deadline < 0) {
+                expiry = writeExpiry;
+            }
+        }
+        if (previous != null) {
+            segment.discard(key, previous);
+        }
+        segment.add(key, new Entry(value, deadline, expiry, Weights.of(key) + Weights.of(value)));
+    }
+
+    private void invalidate(Object key) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            Entry entry = segment.entries.get(key);
+            if (entry != null) {
+                segment.discard(key, entry);
+            }
+            loading.remove(key);
+        }
+    }
+
+    private void expireAt(Object key, long deadline) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            Entry entry = segment.entries.get(key);
+            loading.remove(key);
+            if (entry != null) {
+                segment.discard(key, entry);
+                segment.add(key, new Entry(null, deadline, deadline, Weights.of(key)));
+            }
+        }
+    }
+
+    private Segment segment(Object key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Returns the share of the bound of the segment at the index, the first segments take the remainder
+     */
+    private long divide(long bound, int index) {
+        long share = bound / segments.length;
+        return index < bound % segments.length ? share + 1 : share;
+    }
+
+    private long deadline(Duration ttl) {
+        long nanos = ttl.compareTo(MAX_TTL) > 0 ? MAX_TTL.toNanos() : Math.max(ttl.toNanos(), 0L);
+        long deadline = clock.getAsLong() + nanos;
+        return deadline == NEVER ? deadline - 1 : deadline;
+    }
+
+    private static boolean isExpired(long deadline, long now) {
+        return deadline != NEVER && now - deadline >= 0;
+    }
+
+    private static Optional<Value> join(CompletableFuture<Optional<Value>> loader) {
+        try {
+            return loader.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private static <T> List<T> toList(Iterable<T> iterable) {
+        List<T> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheBucketManager{" +
+                "manager=" + manager +
+                ", statistics=" + getStatistics() +
+                '}';
+    }
+
+    /**
+     * A part of the near cache, its entries in the least recently used order; a thread must hold its lock to use it
+     */
+    private final class Segment {
+
+        private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+        private final long maxEntries;
+
+        private final long maxBytes;
+
+        private long bytes;
+
+        private Segment(long maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        private void add(Object key, Entry entry) {
+            entries.put(key, entry);
+            bytes += entry.weight;
+            Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext() && (entries.size() > maxEntries || maxBytes > 0 && bytes > maxBytes)) {
+                Entry eldest = iterator.next().getValue();
+                iterator.remove();
+                bytes -= eldest.weight;
+                evictions.increment();
+            }
+        }
+
+        private void discard(Object key, Entry entry) {
+            entries.remove(key);
+            bytes -= entry.weight;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Value value;
+
+        private final long deadline;
+
+        private final long expiry;
+
+        private final long weight;
+
+        private Entry(Value value, long deadline, long expiry, long weight) {
+            this.value = value;
+            this.deadline = deadline;
+            this.expiry = expiry;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.cache;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.key.BucketManagerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * A {@link BucketManagerFactory} decorator whose bucket managers are {@link NearCacheBucketManager}, so that any
+ * provider gets a near cache from {@link Settings}. Each {@link #getBucketManager(String)} call returns a manager
+ * with its own near cache; the map, queue, set and list structures are not cached.
+ */
+public class NearCacheBucketManagerFactory implements BucketManagerFactory {
+
+    private final BucketManagerFactory factory;
+
+    private final NearCacheSettings settings;
+
+    private NearCacheBucketManagerFactory(BucketManagerFactory factory, NearCacheSettings settings) {
+        this.factory = factory;
+        this.settings = settings;
+    }
+
+    /**
+     * Creates a factory whose bucket managers have a near cache
+     *
+     * @param factory  the factory of the provider
+     * @param settings the near cache settings
+     * @return a new {@link NearCacheBucketManagerFactory}
+     * @throws NullPointerException     when either factory or settings is null
+     * @throws IllegalArgumentException when a setting is invalid
+     */
+    public static NearCacheBucketManagerFactory of(BucketManagerFactory factory, Settings settings) {
+        Objects.requireNonNull(factory, "factory is required");
+        return new NearCacheBucketManagerFactory(factory, NearCacheSettings.of(settings));
+    }
+
+    @Override
+    public NearCacheBucketManager getBucketManager(String bucketName) {
+        return new NearCacheBucketManager(factory.getBucketManager(bucketName), settings, System::nanoTime);
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+        return factory.getMap(bucketName, keyValue, valueValue);
+    }
+
+    @Override
+    public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
+        return factory.getQueue(bucketName, clazz);
+    }
+
+    @Override
+    public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
+        return factory.getSet(bucketName, clazz);
+    }
+
+    @Override
+    public <T> List<T> getList(String bucketName, Class<T> clazz) {
+        return factory.getList(bucketName, clazz);
+    }
+
+    @Override
+    public void close() {
+        factory.close();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.cache;
+
+import jakarta.nosql.Settings;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The near cache options read from {@link Settings}
+ */
+final class NearCacheSettings {
+
+    private static final long DEFAULT_MAX_ENTRIES = 10_000L;
+
+    private final long maxEntries;
+
+    private final long maxBytes;
+
+    private final long expireAfterWrite;
+
+    private NearCacheSettings(long maxEntries, long maxBytes, long expireAfterWrite) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    long getMaxEntries() {
+        return maxEntries;
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return the expiration in nanoseconds, zero when the entries do not expire
+     */
+    long getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    static NearCacheSettings of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        long maxEntries = getLong(settings, NearCacheBucketManager.MAX_ENTRIES, DEFAULT_MAX_ENTRIES);
+        long maxBytes = getLong(settings, NearCacheBucketManager.MAX_BYTES, 0L);
+        long expireAfterWrite = getLong(settings, NearCacheBucketManager.EXPIRE_AFTER_WRITE, 0L);
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("The maximum entries must be greater than zero: " + maxEntries);
+        }
+        if (maxBytes < 0 || expireAfterWrite < 0) {
+            throw new IllegalArgumentException("The maximum bytes and the expiration must not be negative");
+        }
+        return new NearCacheSettings(maxEntries, maxBytes, TimeUnit.MILLISECONDS.toNanos(expireAfterWrite));
+    }
+
+    private static long getLong(Settings settings, String key, long defaultValue) {
+        return settings.get(key).map(Object::toString).map(String::trim).map(Long::parseLong).orElse(defaultValue);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.cache;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of the statistics of a {@link NearCacheBucketManager}
+ */
+public final class NearCacheStatistics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long loadCount;
+
+    private final long loadFailureCount;
+
+    private final long totalLoadTime;
+
+    private final long evictionCount;
+
+    NearCacheStatistics(long hitCount, long missCount, long loadCount, long loadFailureCount, long totalLoadTime,
+                        long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * @return the number of gets answered by the near cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of gets that were not in the near cache
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of remote gets, the concurrent misses of the same key share a single load
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * @return the number of remote gets that threw an exception
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * @return the time spent on the remote gets
+     */
+    public Duration getTotalLoadTime() {
+        return Duration.ofNanos(totalLoadTime);
+    }
+
+    /**
+     * @return the number of entries removed to respect either the maximum entries or the maximum bytes
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the ratio of hits over the gets, one when there is no get
+     */
+    public double getHitRatio() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * @return the average time of a remote get, zero when there is no load
+     */
+    public Duration getAverageLoadPenalty() {
+        return loadCount == 0 ? Duration.ZERO : Duration.ofNanos(totalLoadTime / loadCount);
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", loadCount=" + loadCount +
+                ", loadFailureCount=" + loadFailureCount +
+                ", totalLoadTime=" + totalLoadTime +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+}
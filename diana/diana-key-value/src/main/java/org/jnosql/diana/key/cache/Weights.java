@@ -0,0 +1,81 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.cache;
+
+import jakarta.nosql.Value;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estimates the bytes of the keys and values of the near cache. The sizes of strings, arrays, numbers and
+ * collections are close to the heap layout of a 64-bit JVM with compressed references; any other object counts as
+ * {@link #OBJECT} bytes.
+ */
+final class Weights {
+
+    static final long OBJECT = 64L;
+
+    private static final long HEADER = 16L;
+
+    private static final long REFERENCE = 4L;
+
+    private static final int MAX_DEPTH = 4;
+
+    private Weights() {
+    }
+
+    static long of(Object value) {
+        return of(value, 0);
+    }
+
+    private static long of(Object value, int depth) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof Value) {
+            return HEADER + of(((Value) value).get(), depth);
+        }
+        if (value instanceof CharSequence) {
+            return 2 * HEADER + 2L * ((CharSequence) value).length();
+        }
+        if (value instanceof byte[]) {
+            return HEADER + ((byte[]) value).length;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return HEADER + 8L;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT;
+        }
+        if (value instanceof Collection) {
+            long size = HEADER + REFERENCE;
+            for (Object element : (Collection<?>) value) {
+                size += REFERENCE + of(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map) {
+            long size = HEADER + REFERENCE;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += HEADER + of(entry.getKey(), depth + 1) + of(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        return OBJECT;
+    }
+}
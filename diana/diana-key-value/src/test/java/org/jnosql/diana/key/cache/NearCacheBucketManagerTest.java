@@ -0,0 +1,373 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.key.cache;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.Value;
+import jakarta.nosql.key.BucketManager;
+import jakarta.nosql.key.KeyValueEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NearCacheBucketManagerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private RemoteBucketManager remote;
+
+    private NearCacheBucketManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        remote = new RemoteBucketManager();
+        manager = create(Settings.of(new HashMap<>()));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> NearCacheBucketManager.of(null, Settings.of(new HashMap<>())));
+        assertThrows(NullPointerException.class, () -> NearCacheBucketManager.of(remote, null));
+        assertThrows(NullPointerException.class, () -> manager.get((Object) null));
+        assertThrows(NullPointerException.class, () -> manager.put((KeyValueEntity) null));
+        assertThrows(NullPointerException.class, () -> manager.remove((Object) null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSettingIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> NearCacheBucketManager.of(remote,
+                setting(NearCacheBucketManager.MAX_ENTRIES, 0)));
+        assertThrows(IllegalArgumentException.class, () -> NearCacheBucketManager.of(remote,
+                setting(NearCacheBucketManager.MAX_BYTES, -1)));
+        assertThrows(IllegalArgumentException.class, () -> NearCacheBucketManager.of(remote,
+                setting(NearCacheBucketManager.EXPIRE_AFTER_WRITE, "ten")));
+    }
+
+    @Test
+    public void shouldCacheGet() {
+        manager.put("Diana", "Hunt");
+        assertEquals("Hunt", manager.get("Diana").get().get());
+        assertEquals("Hunt", manager.get("Diana").get().get());
+        assertFalse(manager.get("Artemis").isPresent());
+
+        assertEquals(2, remote.gets.get());
+        NearCacheStatistics statistics = manager.getStatistics();
+        assertEquals(1L, statistics.getHitCount());
+        assertEquals(2L, statistics.getMissCount());
+        assertEquals(2L, statistics.getLoadCount());
+        assertEquals(1.0 / 3, statistics.getHitRatio(), 0.001);
+    }
+
+    @Test
+    public void shouldInvalidateOnPutAndRemove() {
+        manager.put(KeyValueEntity.of("Diana", "Hunt"));
+        manager.get("Diana");
+        manager.put(KeyValueEntity.of("Diana", "Moon"));
+        assertEquals("Moon", manager.get("Diana").get().get());
+
+        manager.put(singletonList(KeyValueEntity.of("Diana", "Hunt")));
+        assertEquals("Hunt", manager.get("Diana").get().get());
+
+        manager.remove("Diana");
+        assertFalse(manager.get("Diana").isPresent());
+        assertEquals(4, remote.gets.get());
+    }
+
+    @Test
+    public void shouldHonorTTL() {
+        remote.put("Diana", "Moon");
+        assertEquals("Moon", manager.get("Diana").get().get());
+        manager.put(KeyValueEntity.of("Diana", "Hunt"), Duration.ofNanos(100));
+        assertEquals("Hunt", manager.get("Diana").get().get());
+        assertEquals("Hunt", manager.get("Diana").get().get());
+        assertEquals(2, remote.gets.get());
+
+        clock.set(100);
+        remote.remove("Diana");
+        assertFalse(manager.get("Diana").isPresent());
+        assertEquals(3, remote.gets.get());
+    }
+
+    @Test
+    public void shouldNotEvictOnTTLPutOfUnreadKeys() {
+        manager = create(setting(NearCacheBucketManager.MAX_ENTRIES, 2));
+        remote.put("Diana", "Hunt");
+        remote.put("Artemis", "Moon");
+        manager.get("Diana");
+        manager.get("Artemis");
+
+        for (int index = 0; index < 10; index++) {
+            manager.put(KeyValueEntity.of("key" + index, "value" + index), Duration.ofSeconds(10));
+        }
+        assertEquals(2, manager.size());
+        assertEquals(0L, manager.getStatistics().getEvictionCount());
+        assertEquals("Hunt", manager.get("Diana").get().get());
+        assertEquals("Moon", manager.get("Artemis").get().get());
+        assertEquals(2, remote.gets.get());
+    }
+
+    @Test
+    public void shouldExpireAfterWrite() {
+        manager = create(setting(NearCacheBucketManager.EXPIRE_AFTER_WRITE, 1));
+        remote.put("Diana", "Hunt");
+        manager.get("Diana");
+        remote.put("Diana", "Moon");
+        assertEquals("Hunt", manager.get("Diana").get().get());
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals("Moon", manager.get("Diana").get().get());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        manager = create(setting(NearCacheBucketManager.MAX_ENTRIES, 2));
+        remote.put("Diana", "Hunt");
+        remote.put("Artemis", "Moon");
+        remote.put("Apollo", "Sun");
+        manager.get("Diana");
+        manager.get("Artemis");
+        manager.get("Diana");
+        manager.get("Apollo");
+
+        assertEquals(2, manager.size());
+        assertEquals(1L, manager.getStatistics().getEvictionCount());
+        manager.get("Diana");
+        assertEquals(3, remote.gets.get());
+        manager.get("Artemis");
+        assertEquals(4, remote.gets.get());
+    }
+
+    @Test
+    public void shouldBoundBytes() {
+        manager = create(setting(NearCacheBucketManager.MAX_BYTES, 1024));
+        for (int index = 0; index < 100; index++) {
+            remote.put(index, "value" + index);
+            manager.get(index);
+        }
+        assertTrue(manager.size() < 100);
+        assertTrue(manager.getStatistics().getEvictionCount() > 0);
+    }
+
+    @Test
+    public void shouldGetIterable() {
+        remote.put("Diana", "Hunt");
+        remote.put("Artemis", "Moon");
+        remote.put("Apollo", "Sun");
+        manager.get("Diana");
+
+        Iterable<Value> values = manager.get(Arrays.asList("Diana", "Artemis", "Apollo"));
+        List<Object> result = new ArrayList<>();
+        values.forEach(v -> result.add(v.get()));
+
+        assertThat(result, containsInAnyOrder("Hunt", "Moon", "Sun"));
+        assertEquals(1, remote.bulkGets.get());
+        assertEquals(1, remote.gets.get());
+    }
+
+    @Test
+    public void shouldGetIterableInTheKeyOrder() {
+        remote.put("Diana", "Hunt");
+        remote.put("Artemis", "Moon");
+        remote.put("Apollo", "Sun");
+        manager.get("Artemis");
+
+        List<Object> result = new ArrayList<>();
+        manager.get(Arrays.asList("Diana", "Artemis", "Apollo")).forEach(v -> result.add(v.get()));
+        assertThat(result, contains("Hunt", "Moon", "Sun"));
+
+        List<Object> partial = new ArrayList<>();
+        manager.get(Arrays.asList("Diana", "Artemis", "Hera", "Apollo")).forEach(v -> partial.add(v.get()));
+        assertThat(partial, containsInAnyOrder("Hunt", "Moon", "Sun"));
+    }
+
+    @Test
+    public void shouldBoundEntriesAcrossSegments() {
+        manager = create(setting(NearCacheBucketManager.MAX_ENTRIES, 4_096));
+        for (int index = 0; index < 10_000; index++) {
+            remote.put(index, "value" + index);
+            manager.get(index);
+        }
+        assertTrue(manager.size() <= 4_096);
+        assertEquals(10_000 - manager.size(), manager.getStatistics().getEvictionCount());
+        manager.get(9_999);
+        assertEquals(10_000, remote.gets.get());
+    }
+
+    @Test
+    public void shouldLoadOnceOnConcurrentMisses() throws Exception {
+        remote.put("Diana", "Hunt");
+        remote.latch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Optional<Value>>> results = new ArrayList<>();
+            for (int index = 0; index < 4; index++) {
+                results.add(executor.submit(() -> manager.get("Diana")));
+            }
+            while (manager.getStatistics().getMissCount() < 4) {
+                Thread.yield();
+            }
+            TimeUnit.MILLISECONDS.sleep(100L);
+            remote.latch.countDown();
+            for (Future<Optional<Value>> result : results) {
+                assertEquals("Hunt", result.get(10, TimeUnit.SECONDS).get().get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, remote.gets.get());
+        assertEquals(1L, manager.getStatistics().getLoadCount());
+    }
+
+    @Test
+    public void shouldNotCacheLoadStartedBeforeInvalidation() throws Exception {
+        remote.put("Diana", "Hunt");
+        CountDownLatch latch = new CountDownLatch(1);
+        remote.latch = latch;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<Value>> result = executor.submit(() -> manager.get("Diana"));
+            while (remote.gets.get() == 0) {
+                Thread.yield();
+            }
+            remote.latch = null;
+            manager.put("Diana", "Moon");
+            latch.countDown();
+            assertEquals("Hunt", result.get(10, TimeUnit.SECONDS).get().get());
+        } finally {
+            latch.countDown();
+            executor.shutdownNow();
+        }
+        assertEquals("Moon", manager.get("Diana").get().get());
+    }
+
+    @Test
+    public void shouldExecuteQuery() {
+        manager.query("put {\"Diana\", \"Hunt\"}");
+        assertEquals("Hunt", manager.query("get \"Diana\"").get(0).get());
+        assertEquals("Hunt", manager.query("get \"Diana\"").get(0).get());
+        assertEquals(1L, manager.getStatistics().getHitCount());
+        manager.query("remove \"Diana\"");
+        assertTrue(manager.query("get \"Diana\"").isEmpty());
+    }
+
+    private NearCacheBucketManager create(Settings settings) {
+        return new NearCacheBucketManager(remote, NearCacheSettings.of(settings), clock::get);
+    }
+
+    private static Settings setting(String key, Object value) {
+        return Settings.builder().put(key, value).build();
+    }
+
+    private static class RemoteBucketManager implements BucketManager {
+
+        private final Map<Object, Object> values = new HashMap<>();
+
+        private final AtomicInteger gets = new AtomicInteger();
+
+        private final AtomicInteger bulkGets = new AtomicInteger();
+
+        private volatile CountDownLatch latch;
+
+        @Override
+        public synchronized <K, V> void put(K key, V value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void put(KeyValueEntity entity) {
+            put(entity.getKey(), entity.getValue());
+        }
+
+        @Override
+        public void put(KeyValueEntity entity, Duration ttl) {
+            put(entity);
+        }
+
+        @Override
+        public void put(Iterable<KeyValueEntity> entities) {
+            entities.forEach(this::put);
+        }
+
+        @Override
+        public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+            put(entities);
+        }
+
+        @Override
+        public <K> Optional<Value> get(K key) {
+            Object value;
+            synchronized (this) {
+                value = values.get(key);
+            }
+            gets.incrementAndGet();
+            CountDownLatch current = latch;
+            if (current != null) {
+                try {
+                    current.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Optional.ofNullable(value).map(Value::of);
+        }
+
+        @Override
+        public synchronized <K> Iterable<Value> get(Iterable<K> keys) {
+            bulkGets.incrementAndGet();
+            List<Value> result = new ArrayList<>();
+            keys.forEach(k -> Optional.ofNullable(values.get(k)).map(Value::of).ifPresent(result::add));
+            return result;
+        }
+
+        @Override
+        public synchronized <K> void remove(K key) {
+            values.remove(key);
+        }
+
+        @Override
+        public <K> void remove(Iterable<K> keys) {
+            keys.forEach(this::remove);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
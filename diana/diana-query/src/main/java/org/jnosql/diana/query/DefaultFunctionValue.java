@@ -65,6 +65,10 @@ final class DefaultFunctionQueryValue implements FunctionQueryValue {
         QueryParser.ConvertContext converter = context.convert();
         QueryValue<?> value = Elements.getElement(converter.element());
         String text = converter.name().getText();
+        return convert(value, text);
+    }
+
+    static FunctionQueryValue convert(QueryValue<?> value, String text) {
         try {
             Object[] params = new Object[]{value, Class.forName(text)};
             Function function1 = DefaultFunction.of("convert", params);
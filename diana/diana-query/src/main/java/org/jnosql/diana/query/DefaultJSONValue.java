@@ -56,7 +56,11 @@ final class DefaultJSONQueryValue implements JSONQueryValue {
     }
 
     public static JSONQueryValue of(QueryParser.JsonContext context) {
-        JsonReader jsonReader = Json.createReader(new StringReader(context.getText()));
+        return of(context.getText());
+    }
+
+    static JSONQueryValue of(String json) {
+        JsonReader jsonReader = Json.createReader(new StringReader(json));
         return new DefaultJSONQueryValue(jsonReader.readObject());
     }
 
@@ -52,7 +52,10 @@ class DefaultNumberQueryValue implements NumberQueryValue {
     }
 
     public static NumberQueryValue of(QueryParser.NumberContext context) {
-        String value = context.getText();
+        return of(context.getText());
+    }
+
+    static NumberQueryValue of(String value) {
         if (value.contains(".")) {
             return new DefaultNumberQueryValue(Double.valueOf(value));
         }
@@ -0,0 +1,273 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana.query;
+
+import jakarta.nosql.QueryException;
+
+import java.util.Arrays;
+
+/**
+ * The tokenizer of the {@link DescentParser}. It follows the lexer rules of the Query.g4 grammar: the longest match
+ * wins, and a keyword wins over a name of the same length. Tokens are kept as offsets in primitive arrays, so the
+ * text is only extracted when the parser needs it.
+ */
+final class DescentLexer {
+
+    static final int EOF = 0;
+
+    static final int STRING = 1;
+
+    static final int INT = 2;
+
+    static final int NUMBER = 3;
+
+    static final int NAME = 4;
+
+    static final int PARAMETER = 5;
+
+    static final int KEYWORD = 6;
+
+    static final int SYMBOL = 7;
+
+    static final String CONVERT = "convert(";
+
+    private static final String[] KEYWORDS = {"select", "from", "delete", "insert", "update", "get", "remove", "put",
+            "skip", "limit", "order", "by", "where", "not", "asc", "desc", "and", "or", "between", "in", "like",
+            "day", "hour", "minute", "second", "millisecond", "nanosecond", "true", "false", "null"};
+
+    private static final String SYMBOLS = ",(){}[]:=<>*-";
+
+    private static final String ESCAPES = "\"\\/bfnrt";
+
+    private final String query;
+
+    private int[] types = new int[16];
+
+    private int[] starts = new int[16];
+
+    private int[] ends = new int[16];
+
+    private int size;
+
+    private DescentLexer(String query) {
+        this.query = query;
+    }
+
+    int type(int index) {
+        if (index >= size) {
+            return EOF;
+        }
+        return types[index];
+    }
+
+    int start(int index) {
+        return starts[index];
+    }
+
+    String text(int index) {
+        if (types[index] == EOF) {
+            return "<EOF>";
+        }
+        return query.substring(starts[index], ends[index]);
+    }
+
+    String text(int index, int startOffset, int endOffset) {
+        return query.substring(starts[index] + startOffset, ends[index] - endOffset);
+    }
+
+    boolean is(int index, String text) {
+        int start = starts[index];
+        return ends[index] - start == text.length() && query.regionMatches(start, text, 0, text.length());
+    }
+
+    QueryException error(int offset, String message) {
+        int line = 1;
+        int column = 0;
+        for (int index = 0; index < offset; index++) {
+            if (query.charAt(index) == '\n') {
+                line++;
+                column = 0;
+            } else {
+                column++;
+            }
+        }
+        return new QueryException("line " + line + ":" + column + " " + message);
+    }
+
+    private void tokenize() {
+        int length = query.length();
+        int position = 0;
+        while (position < length) {
+            char character = query.charAt(position);
+            if (character == ' ' || character == '\t' || character == '\r' || character == '\n') {
+                position++;
+            } else if (character == '/' && query.startsWith("//", position)) {
+                int newLine = query.indexOf('\n', position + 2);
+                if (newLine < 0) {
+                    throw recognitionError(position);
+                }
+                position = newLine + 1;
+            } else if (character == '"' || character == '\'') {
+                position = string(position);
+            } else if (isDigit(character)) {
+                position = number(position);
+            } else if (isNameStart(character)) {
+                position = name(position);
+            } else if (character == '@') {
+                int end = nameEnd(position + 1);
+                add(PARAMETER, position, end);
+                position = end;
+            } else if ((character == '>' || character == '<') && position + 1 < length
+                    && query.charAt(position + 1) == '=') {
+                add(SYMBOL, position, position + 2);
+                position += 2;
+            } else if (SYMBOLS.indexOf(character) >= 0) {
+                add(SYMBOL, position, position + 1);
+                position++;
+            } else {
+                throw recognitionError(position);
+            }
+        }
+        add(EOF, length, length);
+    }
+
+    private int string(int start) {
+        char quote = query.charAt(start);
+        int accepted = -1;
+        int position = start + 1;
+        while (position < query.length()) {
+            char character = query.charAt(position);
+            if (character == quote) {
+                accepted = position + 1;
+                if (quote == '"') {
+                    break;
+                }
+                position++;
+            } else if (character == '"') {
+                break;
+            } else if (character == '\\') {
+                position = escape(position);
+                if (position < 0) {
+                    break;
+                }
+            } else {
+                position++;
+            }
+        }
+        if (accepted < 0) {
+            throw recognitionError(start);
+        }
+        add(STRING, start, accepted);
+        return accepted;
+    }
+
+    private int escape(int position) {
+        int next = position + 1;
+        if (next >= query.length()) {
+            return -1;
+        }
+        char character = query.charAt(next);
+        if (ESCAPES.indexOf(character) >= 0) {
+            return next + 1;
+        }
+        if (character == 'u' && next + 4 < query.length()) {
+            for (int index = next + 1; index <= next + 4; index++) {
+                if (Character.digit(query.charAt(index), 16) < 0) {
+                    return -1;
+                }
+            }
+            return next + 5;
+        }
+        return -1;
+    }
+
+    private int number(int start) {
+        int end = digitsEnd(start);
+        int type = INT;
+        if (end < query.length() && query.charAt(end) == '.') {
+            end = digitsEnd(end + 1);
+            type = NUMBER;
+        }
+        add(type, start, end);
+        return end;
+    }
+
+    private int name(int start) {
+        int end = nameEnd(start + 1);
+        int length = end - start;
+        if (length == CONVERT.length() - 1 && end < query.length() && query.charAt(end) == '('
+                && query.regionMatches(start, CONVERT, 0, length)) {
+            add(KEYWORD, start, end + 1);
+            return end + 1;
+        }
+        add(isKeyword(start, length) ? KEYWORD : NAME, start, end);
+        return end;
+    }
+
+    private boolean isKeyword(int start, int length) {
+        for (String keyword : KEYWORDS) {
+            if (keyword.length() == length && query.regionMatches(start, keyword, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int digitsEnd(int position) {
+        while (position < query.length() && isDigit(query.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private int nameEnd(int position) {
+        while (position < query.length() && isNamePart(query.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private void add(int type, int start, int end) {
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size * 2);
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        types[size] = type;
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    private QueryException recognitionError(int position) {
+        return error(position, "token recognition error at: '" + query.charAt(position) + "'");
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isNameStart(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                || character == '_' || character == '.';
+    }
+
+    private static boolean isNamePart(char character) {
+        return isNameStart(character) || isDigit(character);
+    }
+
+    static DescentLexer of(String query) {
+        DescentLexer lexer = new DescentLexer(query);
+        lexer.tokenize();
+        return lexer;
+    }
+}
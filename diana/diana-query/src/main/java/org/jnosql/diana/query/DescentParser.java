@@ -0,0 +1,544 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana.query;
+
+import jakarta.nosql.QueryException;
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+import jakarta.nosql.query.Condition;
+import jakarta.nosql.query.DeleteQuery;
+import jakarta.nosql.query.GetQuery;
+import jakarta.nosql.query.InsertQuery;
+import jakarta.nosql.query.JSONQueryValue;
+import jakarta.nosql.query.Operator;
+import jakarta.nosql.query.PutQuery;
+import jakarta.nosql.query.QueryValue;
+import jakarta.nosql.query.RemoveQuery;
+import jakarta.nosql.query.SelectQuery;
+import jakarta.nosql.query.StringQueryValue;
+import jakarta.nosql.query.UpdateQuery;
+import jakarta.nosql.query.Where;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static jakarta.nosql.query.Operator.BETWEEN;
+import static jakarta.nosql.query.Operator.EQUALS;
+import static jakarta.nosql.query.Operator.GREATER_EQUALS_THAN;
+import static jakarta.nosql.query.Operator.GREATER_THAN;
+import static jakarta.nosql.query.Operator.IN;
+import static jakarta.nosql.query.Operator.LESSER_EQUALS_THAN;
+import static jakarta.nosql.query.Operator.LESSER_THAN;
+import static jakarta.nosql.query.Operator.LIKE;
+import static java.util.Collections.emptyList;
+import static org.jnosql.diana.query.DescentLexer.CONVERT;
+import static org.jnosql.diana.query.DescentLexer.EOF;
+import static org.jnosql.diana.query.DescentLexer.INT;
+import static org.jnosql.diana.query.DescentLexer.KEYWORD;
+import static org.jnosql.diana.query.DescentLexer.NAME;
+import static org.jnosql.diana.query.DescentLexer.NUMBER;
+import static org.jnosql.diana.query.DescentLexer.PARAMETER;
+import static org.jnosql.diana.query.DescentLexer.STRING;
+import static org.jnosql.diana.query.DescentLexer.SYMBOL;
+
+/**
+ * A recursive-descent parser of the Query.g4 grammar that builds the query objects straight from the tokens,
+ * without a parse tree or a tree walk. It creates the same objects as the Antlr4 providers: a syntax error is
+ * reported as a {@link QueryException}, and an error when converting a value, such as an unknown class in the
+ * convert function, is only thrown once the whole query is known to be valid, as the Antlr4 providers do.
+ * An instance parses a single query.
+ */
+final class DescentParser {
+
+    private static final String[] UNITS = {"day", "hour", "minute", "second", "millisecond", "nanosecond"};
+
+    private final DescentLexer lexer;
+
+    private int index;
+
+    private JSONQueryValue json;
+
+    private RuntimeException deferred;
+
+    private DescentParser(DescentLexer lexer) {
+        this.lexer = lexer;
+    }
+
+    SelectQuery select() {
+        keyword("select");
+        List<String> fields = emptyList();
+        if (!consumeSymbol("*")) {
+            fields = names();
+        }
+        keyword("from");
+        String entity = name();
+        Where where = where();
+        long skip = 0;
+        if (consumeKeyword("skip")) {
+            skip = longValue();
+        }
+        long limit = 0;
+        if (consumeKeyword("limit")) {
+            limit = longValue();
+        }
+        List<Sort> sorts = emptyList();
+        if (consumeKeyword("order")) {
+            keyword("by");
+            sorts = new ArrayList<>();
+            do {
+                sorts.add(sort());
+            } while (lexer.type(index) == NAME);
+        }
+        end();
+        return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where);
+    }
+
+    DeleteQuery delete() {
+        keyword("delete");
+        List<String> fields = emptyList();
+        if (lexer.type(index) == NAME) {
+            fields = names();
+        }
+        keyword("from");
+        String entity = name();
+        Where where = where();
+        end();
+        return new DefaultDeleteQuery(entity, fields, where);
+    }
+
+    InsertQuery insert() {
+        keyword("insert");
+        String entity = name();
+        List<Condition> conditions = changes();
+        Duration ttl = null;
+        if (lexer.type(index) == INT) {
+            ttl = ttl();
+        }
+        end();
+        return new DefaultInsertQuery(entity, ttl, conditions, json);
+    }
+
+    UpdateQuery update() {
+        keyword("update");
+        String entity = name();
+        List<Condition> conditions = changes();
+        end();
+        return new DefaultUpdateQuery(entity, conditions, json);
+    }
+
+    GetQuery get() {
+        keyword("get");
+        List<QueryValue<?>> keys = keys();
+        end();
+        return new DefaultGetQuery(keys);
+    }
+
+    RemoveQuery remove() {
+        keyword("remove");
+        List<QueryValue<?>> keys = keys();
+        end();
+        return new DefaultRemoveQuery(keys);
+    }
+
+    PutQuery put() {
+        keyword("put");
+        symbol("{");
+        QueryValue<?> key = value();
+        symbol(",");
+        QueryValue<?> value = value();
+        Duration ttl = null;
+        if (consumeSymbol(",")) {
+            ttl = ttl();
+        }
+        symbol("}");
+        end();
+        return new DefaultPutQuery(key, value, ttl);
+    }
+
+    private List<String> names() {
+        List<String> names = new ArrayList<>();
+        do {
+            names.add(name());
+        } while (consumeSymbol(","));
+        return names;
+    }
+
+    private Sort sort() {
+        String name = name();
+        if (consumeKeyword("desc")) {
+            return Sort.of(name, SortType.DESC);
+        }
+        consumeKeyword("asc");
+        return Sort.of(name, SortType.ASC);
+    }
+
+    private Where where() {
+        if (!consumeKeyword("where")) {
+            return null;
+        }
+        WhereBuilder builder = new WhereBuilder();
+        condition(builder);
+        while (true) {
+            if (consumeKeyword("and")) {
+                builder.and();
+            } else if (consumeKeyword("or")) {
+                builder.or();
+            } else {
+                return builder.build();
+            }
+            condition(builder);
+        }
+    }
+
+    private void condition(WhereBuilder builder) {
+        boolean hasNot = consumeKeyword("not");
+        String name = name();
+        if (!hasNot) {
+            boolean negated = consumeKeyword("not");
+            if (consumeKeyword("in")) {
+                builder.append(new DefaultCondition(name, IN, in()), negated);
+                return;
+            }
+            if (consumeKeyword("like")) {
+                builder.append(new DefaultCondition(name, LIKE, string()), negated);
+                return;
+            }
+            if (negated) {
+                throw mismatched("'in' or 'like'");
+            }
+        }
+        if (consumeKeyword("between")) {
+            QueryValue<?> first = value();
+            keyword("and");
+            QueryValue<?> second = value();
+            DefaultArrayValue values = DefaultArrayValue.of(new QueryValue<?>[]{first, second});
+            builder.append(new DefaultCondition(name, BETWEEN, values), hasNot);
+            return;
+        }
+        Operator operator = operator();
+        builder.append(new DefaultCondition(name, operator, value()), hasNot);
+    }
+
+    private Operator operator() {
+        if (lexer.type(index) == SYMBOL) {
+            Operator operator = null;
+            if (lexer.is(index, "=")) {
+                operator = EQUALS;
+            } else if (lexer.is(index, ">")) {
+                operator = GREATER_THAN;
+            } else if (lexer.is(index, ">=")) {
+                operator = GREATER_EQUALS_THAN;
+            } else if (lexer.is(index, "<")) {
+                operator = LESSER_THAN;
+            } else if (lexer.is(index, "<=")) {
+                operator = LESSER_EQUALS_THAN;
+            }
+            if (Objects.nonNull(operator)) {
+                index++;
+                return operator;
+            }
+        }
+        throw mismatched("a condition operator");
+    }
+
+    private DefaultArrayValue in() {
+        symbol("(");
+        List<QueryValue<?>> values = new ArrayList<>();
+        do {
+            values.add(value());
+        } while (consumeSymbol(","));
+        symbol(")");
+        return DefaultArrayValue.of(values.toArray(new QueryValue<?>[0]));
+    }
+
+    private List<Condition> changes() {
+        if (isSymbol("{") || isSymbol("[")) {
+            json();
+            return emptyList();
+        }
+        symbol("(");
+        List<Condition> conditions = new ArrayList<>();
+        do {
+            String name = name();
+            symbol("=");
+            conditions.add(new DefaultCondition(name, EQUALS, value()));
+        } while (consumeSymbol(","));
+        symbol(")");
+        return conditions;
+    }
+
+    private List<QueryValue<?>> keys() {
+        List<QueryValue<?>> keys = new ArrayList<>();
+        do {
+            keys.add(value());
+        } while (consumeSymbol(","));
+        return keys;
+    }
+
+    private Duration ttl() {
+        long value = longValue();
+        if (lexer.type(index) == KEYWORD) {
+            for (String unit : UNITS) {
+                if (lexer.is(index, unit)) {
+                    index++;
+                    return Durations.get(value, unit);
+                }
+            }
+        }
+        throw mismatched("a time unit");
+    }
+
+    private QueryValue<?> value() {
+        switch (lexer.type(index)) {
+            case STRING:
+                return string();
+            case INT:
+            case NUMBER:
+                return number();
+            case PARAMETER:
+                return new DefaultParamQueryValue(lexer.text(index++, 1, 0));
+            case KEYWORD:
+                if (lexer.is(index, CONVERT)) {
+                    return convert();
+                }
+                break;
+            case SYMBOL:
+                if (lexer.is(index, "-")) {
+                    return number();
+                }
+                if (lexer.is(index, "[") || (lexer.is(index, "{") && isObjectJson())) {
+                    return json();
+                }
+                if (lexer.is(index, "{")) {
+                    return array();
+                }
+                break;
+            default:
+                break;
+        }
+        throw mismatched("a value");
+    }
+
+    private boolean isObjectJson() {
+        int next = index + 1;
+        if (lexer.type(next) == SYMBOL && lexer.is(next, "}")) {
+            return true;
+        }
+        return lexer.type(next) == STRING && lexer.type(next + 1) == SYMBOL && lexer.is(next + 1, ":");
+    }
+
+    private DefaultArrayValue array() {
+        symbol("{");
+        List<QueryValue<?>> elements = new ArrayList<>();
+        do {
+            elements.add(element());
+        } while (consumeSymbol(","));
+        symbol("}");
+        return DefaultArrayValue.of(elements.toArray(new QueryValue<?>[0]));
+    }
+
+    private QueryValue<?> element() {
+        if (lexer.type(index) == STRING) {
+            return string();
+        }
+        return number();
+    }
+
+    private QueryValue<?> convert() {
+        index++;
+        QueryValue<?> value = element();
+        symbol(",");
+        String type = name();
+        symbol(")");
+        try {
+            return DefaultFunctionQueryValue.convert(value, type);
+        } catch (RuntimeException exception) {
+            return defer(exception);
+        }
+    }
+
+    private StringQueryValue string() {
+        if (lexer.type(index) != STRING) {
+            throw mismatched("STRING");
+        }
+        return new DefaultStringQueryValue(lexer.text(index++, 1, 1));
+    }
+
+    private QueryValue<?> number() {
+        String text = numberText();
+        try {
+            return DefaultNumberQueryValue.of(text);
+        } catch (RuntimeException exception) {
+            return defer(exception);
+        }
+    }
+
+    private String numberText() {
+        boolean negative = consumeSymbol("-");
+        int type = lexer.type(index);
+        if (type != INT && type != NUMBER) {
+            throw mismatched("a number");
+        }
+        String text = lexer.text(index++);
+        return negative ? "-" + text : text;
+    }
+
+    private long longValue() {
+        if (lexer.type(index) != INT) {
+            throw mismatched("INT");
+        }
+        String text = lexer.text(index++);
+        try {
+            return Long.parseLong(text);
+        } catch (RuntimeException exception) {
+            defer(exception);
+            return 0L;
+        }
+    }
+
+    private JSONQueryValue json() {
+        StringBuilder text = new StringBuilder();
+        if (isSymbol("[")) {
+            arrayJson(text);
+        } else {
+            objectJson(text);
+        }
+        try {
+            this.json = DefaultJSONQueryValue.of(text.toString());
+        } catch (RuntimeException exception) {
+            this.json = defer(exception);
+        }
+        return json;
+    }
+
+    private void objectJson(StringBuilder text) {
+        appendSymbol(text, "{");
+        if (isSymbol("}")) {
+            appendSymbol(text, "}");
+            return;
+        }
+        pairJson(text);
+        while (isSymbol(",")) {
+            appendSymbol(text, ",");
+            pairJson(text);
+        }
+        appendSymbol(text, "}");
+    }
+
+    private void pairJson(StringBuilder text) {
+        if (lexer.type(index) != STRING) {
+            throw mismatched("STRING");
+        }
+        text.append(lexer.text(index++));
+        appendSymbol(text, ":");
+        valueJson(text);
+    }
+
+    private void arrayJson(StringBuilder text) {
+        appendSymbol(text, "[");
+        if (isSymbol("]")) {
+            appendSymbol(text, "]");
+            return;
+        }
+        valueJson(text);
+        while (isSymbol(",")) {
+            appendSymbol(text, ",");
+            valueJson(text);
+        }
+        appendSymbol(text, "]");
+    }
+
+    private void valueJson(StringBuilder text) {
+        int type = lexer.type(index);
+        if (type == STRING || (type == KEYWORD && (lexer.is(index, "true") || lexer.is(index, "false")
+                || lexer.is(index, "null")))) {
+            text.append(lexer.text(index++));
+        } else if (isSymbol("{")) {
+            objectJson(text);
+        } else if (isSymbol("[")) {
+            arrayJson(text);
+        } else {
+            text.append(numberText());
+        }
+    }
+
+    private void appendSymbol(StringBuilder text, String symbol) {
+        symbol(symbol);
+        text.append(symbol);
+    }
+
+    private String name() {
+        if (lexer.type(index) != NAME) {
+            throw mismatched("a name");
+        }
+        return lexer.text(index++);
+    }
+
+    private void keyword(String keyword) {
+        if (!consumeKeyword(keyword)) {
+            throw mismatched("'" + keyword + "'");
+        }
+    }
+
+    private boolean consumeKeyword(String keyword) {
+        if (lexer.type(index) == KEYWORD && lexer.is(index, keyword)) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void symbol(String symbol) {
+        if (!consumeSymbol(symbol)) {
+            throw mismatched("'" + symbol + "'");
+        }
+    }
+
+    private boolean consumeSymbol(String symbol) {
+        if (isSymbol(symbol)) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isSymbol(String symbol) {
+        return lexer.type(index) == SYMBOL && lexer.is(index, symbol);
+    }
+
+    private void end() {
+        if (lexer.type(index) != EOF) {
+            throw mismatched("<EOF>");
+        }
+        if (Objects.nonNull(deferred)) {
+            throw deferred;
+        }
+    }
+
+    private <T> T defer(RuntimeException exception) {
+        if (Objects.isNull(deferred)) {
+            this.deferred = exception;
+        }
+        return null;
+    }
+
+    private QueryException mismatched(String expecting) {
+        return lexer.error(lexer.start(index), "mismatched input '" + lexer.text(index) + "' expecting " + expecting);
+    }
+
+    static DescentParser of(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return new DescentParser(DescentLexer.of(query));
+    }
+}
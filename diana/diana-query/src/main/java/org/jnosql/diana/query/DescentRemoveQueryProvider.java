@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana.query;
+
+import jakarta.nosql.query.RemoveQuery;
+import jakarta.nosql.query.RemoveQuery.RemoveQueryProvider;
+
+/**
+ * The {@link RemoveQueryProvider} implementation that uses a hand-written recursive-descent parser instead of Antlr4.
+ * It does not build a parse tree and keeps no state between queries, so an instance can be shared.
+ */
+public final class DescentRemoveQueryProvider implements RemoveQueryProvider {
+
+    @Override
+    public RemoveQuery apply(String query) {
+        return DescentParser.of(query).remove();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana.query;
+
+import jakarta.nosql.query.Condition;
+import jakarta.nosql.query.ConditionQueryValue;
+import jakarta.nosql.query.Operator;
+import jakarta.nosql.query.Where;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static jakarta.nosql.query.Operator.AND;
+import static jakarta.nosql.query.Operator.NOT;
+import static jakarta.nosql.query.Operator.OR;
+
+/**
+ * Combines the conditions of a where clause, in the order they are read, into a single {@link Condition}.
+ * It is shared by the Antlr4 listeners and the recursive-descent parser, so both build the same {@link Where}.
+ */
+final class WhereBuilder {
+
+    private Condition condition;
+
+    private boolean and = true;
+
+    void and() {
+        this.and = true;
+    }
+
+    void or() {
+        this.and = false;
+    }
+
+    Where build() {
+        if (Objects.nonNull(condition)) {
+            return new DefaultWhere(condition);
+        }
+        return null;
+    }
+
+    void append(Condition condition, boolean hasNot) {
+        Condition newCondition = checkNotCondition(condition, hasNot);
+        if (Objects.isNull(this.condition)) {
+            this.condition = newCondition;
+            return;
+        }
+        if (and) {
+            appendCondition(AND, newCondition);
+        } else {
+            appendCondition(OR, newCondition);
+        }
+
+    }
+
+    private void appendCondition(Operator operator, Condition newCondition) {
+
+        if (operator.equals(this.condition.getOperator())) {
+            ConditionQueryValue conditionValue = ConditionQueryValue.class.cast(this.condition.getValue());
+            List<Condition> conditions = new ArrayList<>(conditionValue.get());
+            conditions.add(newCondition);
+            this.condition = new DefaultCondition("_" + operator.name(), operator, DefaultConditionValue.of(conditions));
+        } else if (isNotAppendable()) {
+            List<Condition> conditions = Arrays.asList(this.condition, newCondition);
+            this.condition = new DefaultCondition("_" + operator.name(), operator, DefaultConditionValue.of(conditions));
+        } else {
+            List<Condition> conditions = ConditionQueryValue.class.cast(this.condition.getValue()).get();
+            Condition lastCondition = conditions.get(conditions.size() - 1);
+
+            if (isAppendable(lastCondition) && operator.equals(lastCondition.getOperator())) {
+                List<Condition> lastConditions = new ArrayList<>(ConditionQueryValue.class
+                        .cast(lastCondition.getValue()).get());
+                lastConditions.add(newCondition);
+
+                Condition newAppendable = new DefaultCondition("_" + operator.name(),
+                        operator, DefaultConditionValue.of(lastConditions));
+
+                List<Condition> newConditions = new ArrayList<>(conditions.subList(0, conditions.size() - 1));
+                newConditions.add(newAppendable);
+                this.condition = new DefaultCondition(this.condition.getName(), this.condition.getOperator(),
+                        DefaultConditionValue.of(newConditions));
+            } else {
+                Condition newAppendable = new DefaultCondition("_" + operator.name(),
+                        operator, DefaultConditionValue.of(Collections.singletonList(newCondition)));
+
+                List<Condition> newConditions = new ArrayList<>(conditions);
+                newConditions.add(newAppendable);
+                this.condition = new DefaultCondition(this.condition.getName(), this.condition.getOperator(),
+                        DefaultConditionValue.of(newConditions));
+            }
+
+        }
+    }
+
+    private boolean isAppendable(Condition condition) {
+        return (AND.equals(condition.getOperator()) || OR.equals(condition.getOperator()));
+    }
+
+    private boolean isNotAppendable() {
+        return !isAppendable(this.condition);
+    }
+
+    private Condition checkNotCondition(Condition condition, boolean hasNot) {
+        if (hasNot) {
+            ConditionQueryValue conditions = DefaultConditionValue.of(Collections.singletonList(condition));
+            return new DefaultCondition("_NOT", NOT, conditions);
+        } else {
+            return condition;
+        }
+    }
+}
@@ -11,50 +11,197 @@
  */
 package org.jnosql.diana.query.cache;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
-import static java.util.Collections.synchronizedMap;
-
+/**
+ * A bounded, concurrent cache of parsed queries.
+ * <p>Reads never lock: a hit is a single {@link ConcurrentHashMap} lookup. Concurrent misses on the same query
+ * share one load, so a query is parsed only once. When the cache grows beyond the maximum size, a single thread
+ * evicts the entries with the lowest access frequency, using the last access as tie-breaker. Once as many entries as
+ * the maximum size have been evicted, every frequency is halved so that formerly hot queries can age out.</p>
+ *
+ * @param <V> the cached value type
+ */
 final class CacheQuery<V> {
 
-    private final Map<String, V> store = synchronizedMap(new WeakHashMap<>());
+    static final String MAXIMUM_SIZE_PROPERTY = "org.jnosql.diana.query.cache.size";
+
+    static final int DEFAULT_MAXIMUM_SIZE = Integer.getInteger(MAXIMUM_SIZE_PROPERTY, 1_000);
+
+    private static final int MAXIMUM_FREQUENCY = 255;
+
+    private static final Comparator<CachedValue<?>> EVICTION_ORDER = Comparator
+            .<CachedValue<?>>comparingInt(CachedValue::getFrequency)
+            .thenComparingLong(CachedValue::getLastAccess);
+
+    private final ConcurrentMap<String, CachedValue<V>> store = new ConcurrentHashMap<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
     private final Function<String, V> supplier;
 
-    private CacheQuery(Function<String, V> supplier) {
+    private final int maximumSize;
+
+    private int evictedSinceAging;
+
+    private CacheQuery(Function<String, V> supplier, int maximumSize) {
         this.supplier = supplier;
+        this.maximumSize = maximumSize;
     }
 
-
     public V get(String key) {
-        V value = this.store.get(key);
-        if (Objects.isNull(value)) {
-            synchronized (key) {
-                value = supplier.apply(key);
-                put(key, value);
-            }
+        Objects.requireNonNull(key, "key is required");
+        CachedValue<V> entry = store.get(key);
+        if (Objects.nonNull(entry)) {
+            hits.increment();
+            entry.touch(System.nanoTime());
+            return entry.join();
+        }
+        CachedValue<V> created = new CachedValue<>(System.nanoTime());
+        entry = store.putIfAbsent(key, created);
+        if (Objects.nonNull(entry)) {
+            hits.increment();
+            entry.touch(System.nanoTime());
+            return entry.join();
         }
-        return value;
+        misses.increment();
+        return load(key, created);
     }
 
     public int size() {
         return store.size();
     }
 
-    private V put(String key, V value) {
-        return store.put(key, value);
+    public QueryCacheStatistics getStatistics() {
+        return new QueryCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), store.size(), maximumSize);
+    }
+
+    private V load(String key, CachedValue<V> entry) {
+        try {
+            V value = supplier.apply(key);
+            entry.value.complete(value);
+            evictIfNecessary();
+            return value;
+        } catch (RuntimeException exception) {
+            store.remove(key, entry);
+            entry.value.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    private void evictIfNecessary() {
+        if (store.size() <= maximumSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int overflow = store.size() - maximumSize;
+            if (overflow <= 0) {
+                return;
+            }
+            int target = Math.max(overflow, maximumSize / 10);
+            List<Map.Entry<String, CachedValue<V>>> candidates = new ArrayList<>(store.entrySet());
+            candidates.sort(Map.Entry.comparingByValue(EVICTION_ORDER));
+            int removed = 0;
+            for (Map.Entry<String, CachedValue<V>> candidate : candidates) {
+                if (removed >= target) {
+                    break;
+                }
+                if (candidate.getValue().isDone() && store.remove(candidate.getKey(), candidate.getValue())) {
+                    removed++;
+                }
+            }
+            evictions.add(removed);
+            evictedSinceAging += removed;
+            if (evictedSinceAging >= maximumSize) {
+                evictedSinceAging = 0;
+                store.values().forEach(CachedValue::age);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
     }
 
     @Override
     public String toString() {
-        return "CacheQuery{" + "store=" + store +
+        return "CacheQuery{" + "size=" + store.size() +
+                ", maximumSize=" + maximumSize +
                 '}';
     }
 
     public static <V> CacheQuery<V> of(Function<String, V> supplier) {
-        return new CacheQuery<>(supplier);
+        return of(supplier, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public static <V> CacheQuery<V> of(Function<String, V> supplier, int maximumSize) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be greater than zero");
+        }
+        return new CacheQuery<>(supplier, maximumSize);
     }
 
+    private static final class CachedValue<V> {
+
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+
+        private final AtomicInteger frequency = new AtomicInteger(1);
+
+        private volatile long lastAccess;
+
+        private CachedValue(long lastAccess) {
+            this.lastAccess = lastAccess;
+        }
+
+        private void touch(long time) {
+            this.lastAccess = time;
+            if (frequency.get() < MAXIMUM_FREQUENCY) {
+                frequency.incrementAndGet();
+            }
+        }
+
+        private void age() {
+            frequency.getAndUpdate(f -> f >> 1);
+        }
+
+        private int getFrequency() {
+            return frequency.get();
+        }
+
+        private long getLastAccess() {
+            return lastAccess;
+        }
+
+        private boolean isDone() {
+            return value.isDone();
+        }
+
+        private V join() {
+            try {
+                return value.join();
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) exception.getCause();
+                }
+                throw exception;
+            }
+        }
+    }
 }
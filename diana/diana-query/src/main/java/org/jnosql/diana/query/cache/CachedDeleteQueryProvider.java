@@ -14,19 +14,30 @@ package org.jnosql.diana.query.cache;
 import jakarta.nosql.query.DeleteQuery;
 import jakarta.nosql.query.DeleteQuery.DeleteQueryProvider;
 import org.jnosql.diana.query.AntlrDeleteQueryProvider;
+import org.jnosql.diana.query.DescentDeleteQueryProvider;
 
 import java.util.Objects;
 
 /**
- * The {@link AntlrDeleteQueryProvider} cache wrapper.
+ * The {@link DescentDeleteQueryProvider} cache wrapper. It uses the {@link AntlrDeleteQueryProvider} instead when the
+ * <code>org.jnosql.diana.query.parser</code> system property is <code>antlr</code>.
  */
 public final class CachedDeleteQueryProvider implements DeleteQueryProvider {
 
     private final CacheQuery<DeleteQuery> cached;
 
-
     public CachedDeleteQueryProvider() {
-        this.cached = CacheQuery.of(q -> new AntlrDeleteQueryProvider().apply(q));
+        this.cached = CacheQuery.of(QueryParsers.delete());
+    }
+
+    /**
+     * Creates a cache that keeps at most the given number of parsed queries.
+     *
+     * @param maximumSize the maximum number of queries in the cache
+     * @throws IllegalArgumentException when maximumSize is not positive
+     */
+    public CachedDeleteQueryProvider(int maximumSize) {
+        this.cached = CacheQuery.of(QueryParsers.delete(), maximumSize);
     }
 
     @Override
@@ -34,4 +45,11 @@ public final class CachedDeleteQueryProvider implements DeleteQueryProvider {
         Objects.requireNonNull(query, "query is required");
         return cached.get(query);
     }
+
+    /**
+     * @return a snapshot of the hit, miss and eviction statistics of this provider's cache
+     */
+    public QueryCacheStatistics getStatistics() {
+        return cached.getStatistics();
+    }
 }
@@ -14,20 +14,31 @@ package org.jnosql.diana.query.cache;
 import jakarta.nosql.query.GetQuery;
 import jakarta.nosql.query.GetQuery.GetQueryProvider;
 import org.jnosql.diana.query.AntlrGetQueryProvider;
+import org.jnosql.diana.query.DescentGetQueryProvider;
 
 import java.util.Objects;
 
 
 /**
- * The {@link AntlrGetQueryProvider} cache wrapper.
+ * The {@link DescentGetQueryProvider} cache wrapper. It uses the {@link AntlrGetQueryProvider} instead when the
+ * <code>org.jnosql.diana.query.parser</code> system property is <code>antlr</code>.
  */
 public final class CachedGetQueryProvider implements GetQueryProvider {
 
     private final CacheQuery<GetQuery> cached;
 
-
     public CachedGetQueryProvider() {
-        this.cached = CacheQuery.of(q -> new AntlrGetQueryProvider().apply(q));
+        this.cached = CacheQuery.of(QueryParsers.get());
+    }
+
+    /**
+     * Creates a cache that keeps at most the given number of parsed queries.
+     *
+     * @param maximumSize the maximum number of queries in the cache
+     * @throws IllegalArgumentException when maximumSize is not positive
+     */
+    public CachedGetQueryProvider(int maximumSize) {
+        this.cached = CacheQuery.of(QueryParsers.get(), maximumSize);
     }
 
     @Override
@@ -35,4 +46,11 @@ public final class CachedGetQueryProvider implements GetQueryProvider {
         Objects.requireNonNull(query, "query is required");
         return cached.get(query);
     }
+
+    /**
+     * @return a snapshot of the hit, miss and eviction statistics of this provider's cache
+     */
+    public QueryCacheStatistics getStatistics() {
+        return cached.getStatistics();
+    }
 }
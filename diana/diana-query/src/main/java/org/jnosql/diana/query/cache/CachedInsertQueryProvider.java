@@ -14,18 +14,30 @@ package org.jnosql.diana.query.cache;
 import jakarta.nosql.query.InsertQuery;
 import jakarta.nosql.query.InsertQuery.InsertQueryProvider;
 import org.jnosql.diana.query.AntlrInsertQueryProvider;
+import org.jnosql.diana.query.DescentInsertQueryProvider;
 
 import java.util.Objects;
 
 /**
- * The {@link AntlrInsertQueryProvider} cache wrapper.
+ * The {@link DescentInsertQueryProvider} cache wrapper. It uses the {@link AntlrInsertQueryProvider} instead when the
+ * <code>org.jnosql.diana.query.parser</code> system property is <code>antlr</code>.
  */
 public final class CachedInsertQueryProvider implements InsertQueryProvider {
 
     private final CacheQuery<InsertQuery> cached;
 
     public CachedInsertQueryProvider() {
-        this.cached = CacheQuery.of(q -> new AntlrInsertQueryProvider().apply(q));
+        this.cached = CacheQuery.of(QueryParsers.insert());
+    }
+
+    /**
+     * Creates a cache that keeps at most the given number of parsed queries.
+     *
+     * @param maximumSize the maximum number of queries in the cache
+     * @throws IllegalArgumentException when maximumSize is not positive
+     */
+    public CachedInsertQueryProvider(int maximumSize) {
+        this.cached = CacheQuery.of(QueryParsers.insert(), maximumSize);
     }
 
     @Override
@@ -33,4 +45,11 @@ public final class CachedInsertQueryProvider implements InsertQueryProvider {
         Objects.requireNonNull(query, "query is required");
         return cached.get(query);
     }
+
+    /**
+     * @return a snapshot of the hit, miss and eviction statistics of this provider's cache
+     */
+    public QueryCacheStatistics getStatistics() {
+        return cached.getStatistics();
+    }
 }
@@ -14,19 +14,30 @@ package org.jnosql.diana.query.cache;
 import jakarta.nosql.query.PutQuery;
 import jakarta.nosql.query.PutQuery.PutQueryProvider;
 import org.jnosql.diana.query.AntlrPutQueryProvider;
+import org.jnosql.diana.query.DescentPutQueryProvider;
 
 import java.util.Objects;
 
 /**
- * The {@link AntlrPutQueryProvider} cache wrapper.
+ * The {@link DescentPutQueryProvider} cache wrapper. It uses the {@link AntlrPutQueryProvider} instead when the
+ * <code>org.jnosql.diana.query.parser</code> system property is <code>antlr</code>.
  */
 public final class CachedPutQueryProvider implements PutQueryProvider {
 
     private final CacheQuery<PutQuery> cached;
 
-
     public CachedPutQueryProvider() {
-        this.cached = CacheQuery.of(q -> new AntlrPutQueryProvider().apply(q));
+        this.cached = CacheQuery.of(QueryParsers.put());
+    }
+
+    /**
+     * Creates a cache that keeps at most the given number of parsed queries.
+     *
+     * @param maximumSize the maximum number of queries in the cache
+     * @throws IllegalArgumentException when maximumSize is not positive
+     */
+    public CachedPutQueryProvider(int maximumSize) {
+        this.cached = CacheQuery.of(QueryParsers.put(), maximumSize);
     }
 
     @Override
@@ -34,4 +45,11 @@ public final class CachedPutQueryProvider implements PutQueryProvider {
         Objects.requireNonNull(query, "query is required");
         return cached.get(query);
     }
+
+    /**
+     * @return a snapshot of the hit, miss and eviction statistics of this provider's cache
+     */
+    public QueryCacheStatistics getStatistics() {
+        return cached.getStatistics();
+    }
 }
@@ -14,19 +14,30 @@ package org.jnosql.diana.query.cache;
 import jakarta.nosql.query.RemoveQuery;
 import jakarta.nosql.query.RemoveQuery.RemoveQueryProvider;
 import org.jnosql.diana.query.AntlrRemoveQueryProvider;
+import org.jnosql.diana.query.DescentRemoveQueryProvider;
 
 import java.util.Objects;
 
 /**
- * The {@link AntlrRemoveQueryProvider} cache wrapper.
+ * The {@link DescentRemoveQueryProvider} cache wrapper. It uses the {@link AntlrRemoveQueryProvider} instead when the
+ * <code>org.jnosql.diana.query.parser</code> system property is <code>antlr</code>.
  */
 public final class CachedRemoveQueryProvider implements RemoveQueryProvider {
 
     private final CacheQuery<RemoveQuery> cached;
 
-
     public CachedRemoveQueryProvider() {
-        this.cached = CacheQuery.of(q -> new AntlrRemoveQueryProvider().apply(q));
+        this.cached = CacheQuery.of(QueryParsers.remove());
+    }
+
+    /**
+     * Creates a cache that keeps at most the given number of parsed queries.
+     *
+     * @param maximumSize the maximum number of queries in the cache
+     * @throws IllegalArgumentException when maximumSize is not positive
+     */
+    public CachedRemoveQueryProvider(int maximumSize) {
+        this.cached = CacheQuery.of(QueryParsers.remove(), maximumSize);
     }
 
     @Override
@@ -34,4 +45,11 @@ public final class CachedRemoveQueryProvider implements RemoveQueryProvider {
         Objects.requireNonNull(query, "query is required");
         return cached.get(query);
     }
+
+    /**
+     * @return a snapshot of the hit, miss and eviction statistics of this provider's cache
+     */
+    public QueryCacheStatistics getStatistics() {
+        return cached.getStatistics();
+    }
 }
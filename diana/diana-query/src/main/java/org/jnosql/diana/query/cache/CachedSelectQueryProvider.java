@@ -14,19 +14,30 @@ package org.jnosql.diana.query.cache;
 import jakarta.nosql.query.SelectQuery;
 import jakarta.nosql.query.SelectQuery.SelectQueryProvider;
 import org.jnosql.diana.query.AntlrSelectQueryProvider;
+import org.jnosql.diana.query.DescentSelectQueryProvider;
 
 import java.util.Objects;
 
 /**
- * The {@link AntlrSelectQueryProvider} cache wrapper.
+ * The {@link DescentSelectQueryProvider} cache wrapper. It uses the {@link AntlrSelectQueryProvider} instead when the
+ * <code>org.jnosql.diana.query.parser</code> system property is <code>antlr</code>.
  */
 public final class CachedSelectQueryProvider implements SelectQueryProvider {
 
     private final CacheQuery<SelectQuery> cached;
 
-
     public CachedSelectQueryProvider() {
-        this.cached = CacheQuery.of(q -> new AntlrSelectQueryProvider().apply(q));
+        this.cached = CacheQuery.of(QueryParsers.select());
+    }
+
+    /**
+     * Creates a cache that keeps at most the given number of parsed queries.
+     *
+     * @param maximumSize the maximum number of queries in the cache
+     * @throws IllegalArgumentException when maximumSize is not positive
+     */
+    public CachedSelectQueryProvider(int maximumSize) {
+        this.cached = CacheQuery.of(QueryParsers.select(), maximumSize);
     }
 
     @Override
@@ -34,4 +45,11 @@ public final class CachedSelectQueryProvider implements SelectQueryProvider {
         Objects.requireNonNull(query, "query is required");
         return cached.get(query);
     }
+
+    /**
+     * @return a snapshot of the hit, miss and eviction statistics of this provider's cache
+     */
+    public QueryCacheStatistics getStatistics() {
+        return cached.getStatistics();
+    }
 }
@@ -14,19 +14,30 @@ package org.jnosql.diana.query.cache;
 import jakarta.nosql.query.UpdateQuery;
 import jakarta.nosql.query.UpdateQuery.UpdateQueryProvider;
 import org.jnosql.diana.query.AntlrUpdateQueryProvider;
+import org.jnosql.diana.query.DescentUpdateQueryProvider;
 
 import java.util.Objects;
 
 /**
- * The {@link AntlrUpdateQueryProvider} cache wrapper.
+ * The {@link DescentUpdateQueryProvider} cache wrapper. It uses the {@link AntlrUpdateQueryProvider} instead when the
+ * <code>org.jnosql.diana.query.parser</code> system property is <code>antlr</code>.
  */
 public final class CachedUpdateQueryProvider implements UpdateQueryProvider {
 
     private final CacheQuery<UpdateQuery> cached;
 
-
     public CachedUpdateQueryProvider() {
-        this.cached = CacheQuery.of(q -> new AntlrUpdateQueryProvider().apply(q));
+        this.cached = CacheQuery.of(QueryParsers.update());
+    }
+
+    /**
+     * Creates a cache that keeps at most the given number of parsed queries.
+     *
+     * @param maximumSize the maximum number of queries in the cache
+     * @throws IllegalArgumentException when maximumSize is not positive
+     */
+    public CachedUpdateQueryProvider(int maximumSize) {
+        this.cached = CacheQuery.of(QueryParsers.update(), maximumSize);
     }
 
     @Override
@@ -34,4 +45,11 @@ public final class CachedUpdateQueryProvider implements UpdateQueryProvider {
         Objects.requireNonNull(query, "query is required");
         return cached.get(query);
     }
+
+    /**
+     * @return a snapshot of the hit, miss and eviction statistics of this provider's cache
+     */
+    public QueryCacheStatistics getStatistics() {
+        return cached.getStatistics();
+    }
 }
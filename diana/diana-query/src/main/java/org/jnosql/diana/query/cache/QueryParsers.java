@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana.query.cache;
+
+import jakarta.nosql.query.DeleteQuery;
+import jakarta.nosql.query.GetQuery;
+import jakarta.nosql.query.InsertQuery;
+import jakarta.nosql.query.PutQuery;
+import jakarta.nosql.query.RemoveQuery;
+import jakarta.nosql.query.SelectQuery;
+import jakarta.nosql.query.UpdateQuery;
+import org.jnosql.diana.query.AntlrDeleteQueryProvider;
+import org.jnosql.diana.query.AntlrGetQueryProvider;
+import org.jnosql.diana.query.AntlrInsertQueryProvider;
+import org.jnosql.diana.query.AntlrPutQueryProvider;
+import org.jnosql.diana.query.AntlrRemoveQueryProvider;
+import org.jnosql.diana.query.AntlrSelectQueryProvider;
+import org.jnosql.diana.query.AntlrUpdateQueryProvider;
+import org.jnosql.diana.query.DescentDeleteQueryProvider;
+import org.jnosql.diana.query.DescentGetQueryProvider;
+import org.jnosql.diana.query.DescentInsertQueryProvider;
+import org.jnosql.diana.query.DescentPutQueryProvider;
+import org.jnosql.diana.query.DescentRemoveQueryProvider;
+import org.jnosql.diana.query.DescentSelectQueryProvider;
+import org.jnosql.diana.query.DescentUpdateQueryProvider;
+
+import java.util.function.Function;
+
+/**
+ * Chooses the parser the cached providers use on a cache miss. The recursive-descent parser is the default; set the
+ * {@value #PARSER_PROPERTY} system property to <code>antlr</code> to parse with Antlr4 instead.
+ */
+final class QueryParsers {
+
+    static final String PARSER_PROPERTY = "org.jnosql.diana.query.parser";
+
+    private static final boolean ANTLR = "antlr".equalsIgnoreCase(System.getProperty(PARSER_PROPERTY));
+
+    private QueryParsers() {
+    }
+
+    static Function<String, SelectQuery> select() {
+        if (ANTLR) {
+            return q -> new AntlrSelectQueryProvider().apply(q);
+        }
+        return new DescentSelectQueryProvider()::apply;
+    }
+
+    static Function<String, DeleteQuery> delete() {
+        if (ANTLR) {
+            return q -> new AntlrDeleteQueryProvider().apply(q);
+        }
+        return new DescentDeleteQueryProvider()::apply;
+    }
+
+    static Function<String, InsertQuery> insert() {
+        if (ANTLR) {
+            return q -> new AntlrInsertQueryProvider().apply(q);
+        }
+        return new DescentInsertQueryProvider()::apply;
+    }
+
+    static Function<String, UpdateQuery> update() {
+        if (ANTLR) {
+            return q -> new AntlrUpdateQueryProvider().apply(q);
+        }
+        return new DescentUpdateQueryProvider()::apply;
+    }
+
+    static Function<String, GetQuery> get() {
+        if (ANTLR) {
+            return q -> new AntlrGetQueryProvider().apply(q);
+        }
+        return new DescentGetQueryProvider()::apply;
+    }
+
+    static Function<String, PutQuery> put() {
+        if (ANTLR) {
+            return q -> new AntlrPutQueryProvider().apply(q);
+        }
+        return new DescentPutQueryProvider()::apply;
+    }
+
+    static Function<String, RemoveQuery> remove() {
+        if (ANTLR) {
+            return q -> new AntlrRemoveQueryProvider().apply(q);
+        }
+        return new DescentRemoveQueryProvider()::apply;
+    }
+}
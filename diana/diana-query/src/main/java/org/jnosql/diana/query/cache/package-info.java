@@ -11,7 +11,10 @@
  */
 
 /**
- *  This package contains the wrapper to the Antlr supplier implementation; this wrapper
- *  cache keeps the values converter to 5 minutes at least after that time the result will be expired.
+ *  This package contains the wrapper to the query supplier implementations; this wrapper
+ *  caches the parsed queries in a bounded, concurrent cache. The maximum size defaults to 1000 queries per provider
+ *  and can be changed with the <code>org.jnosql.diana.query.cache.size</code> system property.
+ *  A cache miss is parsed by the recursive-descent parser, or by Antlr when the
+ *  <code>org.jnosql.diana.query.parser</code> system property is <code>antlr</code>.
  */
 package org.jnosql.diana.query.cache;
\ No newline at end of file
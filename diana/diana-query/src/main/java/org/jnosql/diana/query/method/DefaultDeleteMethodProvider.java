@@ -14,16 +14,17 @@ package org.jnosql.diana.query.method;
 import jakarta.nosql.query.DeleteQuery;
 
 import java.lang.reflect.Method;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum DefaultDeleteMethodProvider implements DeleteMethodProvider {
     INSTANCE;
 
+    private final Map<MethodKey, DeleteQuery> cache = new ConcurrentHashMap<>();
+
     @Override
     public DeleteQuery apply(Method method, String entity) {
-        Objects.requireNonNull(method, "method is required");
-        Objects.requireNonNull(entity, "entity is required");
-        DeleteByMethodQueryProvider supplier = new DeleteByMethodQueryProvider();
-        return supplier.apply(method.getName(), entity);
+        MethodKey key = MethodKey.of(method, entity);
+        return cache.computeIfAbsent(key, k -> new DeleteByMethodQueryProvider().apply(k.getName(), k.getEntity()));
     }
 }
@@ -14,17 +14,18 @@ package org.jnosql.diana.query.method;
 import jakarta.nosql.query.SelectQuery;
 
 import java.lang.reflect.Method;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum DefaultSelectMethodProvider implements SelectMethodProvider {
 
     INSTANCE;
 
+    private final Map<MethodKey, SelectQuery> cache = new ConcurrentHashMap<>();
+
     @Override
     public SelectQuery apply(Method method, String entity) {
-        Objects.requireNonNull(method, "method is required");
-        Objects.requireNonNull(entity, "entity is required");
-        FindByMethodQueryProvider supplier = new FindByMethodQueryProvider();
-        return supplier.apply(method.getName(), entity);
+        MethodKey key = MethodKey.of(method, entity);
+        return cache.computeIfAbsent(key, k -> new FindByMethodQueryProvider().apply(k.getName(), k.getEntity()));
     }
 }
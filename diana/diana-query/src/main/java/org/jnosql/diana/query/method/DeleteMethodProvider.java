@@ -26,7 +26,8 @@ import java.util.function.BiFunction;
 public interface DeleteMethodProvider extends BiFunction<Method, String, DeleteQuery> {
 
     /**
-     * Returns a default implementation of {@link DeleteMethodProvider}
+     * Returns a default implementation of {@link DeleteMethodProvider}, it parses a method name once
+     * for each entity and keeps the {@link DeleteQuery} to the next calls.
      *
      * @return {@link DeleteMethodProvider}
      */
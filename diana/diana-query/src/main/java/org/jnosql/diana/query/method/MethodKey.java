@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana.query.method;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+/**
+ * The cache key of a parsed repository method. The query only depends on the method name and on the entity, so the
+ * key keeps the name instead of the {@link Method}, which would hold a reference to the repository class.
+ */
+final class MethodKey {
+
+    private final String name;
+
+    private final String entity;
+
+    private MethodKey(String name, String entity) {
+        this.name = name;
+        this.entity = entity;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getEntity() {
+        return entity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MethodKey)) {
+            return false;
+        }
+        MethodKey that = (MethodKey) o;
+        return name.equals(that.name) && entity.equals(that.entity);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + entity.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return entity + "#" + name;
+    }
+
+    static MethodKey of(Method method, String entity) {
+        Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(entity, "entity is required");
+        return new MethodKey(method.getName(), entity);
+    }
+}
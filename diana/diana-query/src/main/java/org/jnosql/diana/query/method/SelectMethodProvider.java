@@ -26,7 +26,8 @@ import java.util.function.BiFunction;
 public interface SelectMethodProvider extends BiFunction<Method, String, SelectQuery> {
 
     /**
-     * Returns a default implementation of {@link SelectMethodProvider}
+     * Returns a default implementation of {@link SelectMethodProvider}, it parses a method name once
+     * for each entity and keeps the {@link SelectQuery} to the next calls.
      *
      * @return {@link SelectMethodProvider}
      */
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana.query.cache;
+
+import jakarta.nosql.QueryException;
+import jakarta.nosql.query.SelectQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheQueryTest {
+
+    @Test
+    public void shouldReturnErrorWhenKeyIsNull() {
+        CacheQuery<String> cache = CacheQuery.of(String::toUpperCase);
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMaximumSizeIsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CacheQuery.of(String::toUpperCase, 0));
+    }
+
+    @Test
+    public void shouldReturnCachedValue() {
+        AtomicInteger loads = new AtomicInteger();
+        CacheQuery<String> cache = CacheQuery.of(k -> {
+            loads.incrementAndGet();
+            return k.toUpperCase();
+        });
+        String first = cache.get("select * from God");
+        String second = cache.get("select * from God");
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+
+        QueryCacheStatistics statistics = cache.getStatistics();
+        assertEquals(1L, statistics.getHitCount());
+        assertEquals(1L, statistics.getMissCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    public void shouldRespectMaximumSize() {
+        CacheQuery<String> cache = CacheQuery.of(String::toUpperCase, 10);
+        for (int index = 0; index < 100; index++) {
+            cache.get("select * from God where age = " + index);
+        }
+        assertTrue(cache.size() <= 10);
+        assertTrue(cache.getStatistics().getEvictionCount() >= 90L);
+    }
+
+    @Test
+    public void shouldKeepFrequentlyUsedValues() {
+        CacheQuery<String> cache = CacheQuery.of(String::toUpperCase, 10);
+        String hot = "select * from God";
+        cache.get(hot);
+        for (int index = 0; index < 100; index++) {
+            cache.get(hot);
+            cache.get("select * from God where age = " + index);
+        }
+        long misses = cache.getStatistics().getMissCount();
+        cache.get(hot);
+        assertEquals(misses, cache.getStatistics().getMissCount());
+    }
+
+    @Test
+    public void shouldNotCacheError() {
+        AtomicInteger loads = new AtomicInteger();
+        CacheQuery<String> cache = CacheQuery.of(k -> {
+            loads.incrementAndGet();
+            throw new QueryException("invalid query");
+        });
+        Assertions.assertThrows(QueryException.class, () -> cache.get("select"));
+        Assertions.assertThrows(QueryException.class, () -> cache.get("select"));
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldLoadOnceWhenConcurrentMiss() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CacheQuery<String> cache = CacheQuery.of(k -> {
+            loads.incrementAndGet();
+            return k.toUpperCase();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int index = 0; index < futures.length; index++) {
+                futures[index] = executor.submit(() -> {
+                    start.await();
+                    return cache.get("select * from God");
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                assertEquals("SELECT * FROM GOD", future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldExposeStatisticsByProvider() {
+        CachedSelectQueryProvider provider = new CachedSelectQueryProvider(10);
+        SelectQuery query = provider.apply("select * from God");
+        assertSame(query, provider.apply("select * from God"));
+        QueryCacheStatistics statistics = provider.getStatistics();
+        assertEquals(1L, statistics.getHitCount());
+        assertEquals(1L, statistics.getMissCount());
+        assertEquals(10, statistics.getMaximumSize());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana.query.method;
+
+import jakarta.nosql.QueryException;
+import jakarta.nosql.query.DeleteQuery;
+import jakarta.nosql.query.SelectQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MethodProviderCacheTest {
+
+    @Test
+    public void shouldReturnSameSelectQueryToSameMethod() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByNameAndAgeGreaterThan", String.class, int.class);
+        SelectQuery query = SelectMethodProvider.get().apply(method, "Person");
+        assertSame(query, SelectMethodProvider.get().apply(method, "Person"));
+        assertEquals("Person", query.getEntity());
+    }
+
+    @Test
+    public void shouldReturnSelectQueryByEntity() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByNameAndAgeGreaterThan", String.class, int.class);
+        SelectQuery person = SelectMethodProvider.get().apply(method, "Person");
+        SelectQuery god = SelectMethodProvider.get().apply(method, "God");
+        assertNotSame(person, god);
+        assertEquals("God", god.getEntity());
+        assertEquals(person.getWhere(), god.getWhere());
+    }
+
+    @Test
+    public void shouldReturnSameDeleteQueryToSameMethod() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("deleteByName", String.class);
+        DeleteQuery query = DeleteMethodProvider.get().apply(method, "Person");
+        assertSame(query, DeleteMethodProvider.get().apply(method, "Person"));
+    }
+
+    @Test
+    public void shouldNotCacheInvalidMethod() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByNameAnd", String.class);
+        Assertions.assertThrows(QueryException.class, () -> SelectMethodProvider.get().apply(method, "Person"));
+        Assertions.assertThrows(QueryException.class, () -> SelectMethodProvider.get().apply(method, "Person"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("deleteByName", String.class);
+        Assertions.assertThrows(NullPointerException.class, () -> SelectMethodProvider.get().apply(null, "Person"));
+        Assertions.assertThrows(NullPointerException.class, () -> DeleteMethodProvider.get().apply(method, null));
+    }
+
+    interface PersonRepository {
+
+        Object findByNameAndAgeGreaterThan(String name, int age);
+
+        Object findByNameAnd(String name);
+
+        void deleteByName(String name);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.diana.query.provider;
+
+import jakarta.nosql.QueryException;
+import jakarta.nosql.query.PutQuery;
+import org.jnosql.diana.query.AntlrDeleteQueryProvider;
+import org.jnosql.diana.query.AntlrGetQueryProvider;
+import org.jnosql.diana.query.AntlrInsertQueryProvider;
+import org.jnosql.diana.query.AntlrPutQueryProvider;
+import org.jnosql.diana.query.AntlrRemoveQueryProvider;
+import org.jnosql.diana.query.AntlrSelectQueryProvider;
+import org.jnosql.diana.query.AntlrUpdateQueryProvider;
+import org.jnosql.diana.query.DescentDeleteQueryProvider;
+import org.jnosql.diana.query.DescentGetQueryProvider;
+import org.jnosql.diana.query.DescentInsertQueryProvider;
+import org.jnosql.diana.query.DescentPutQueryProvider;
+import org.jnosql.diana.query.DescentRemoveQueryProvider;
+import org.jnosql.diana.query.DescentSelectQueryProvider;
+import org.jnosql.diana.query.DescentUpdateQueryProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the query corpus through the Antlr4 and the recursive-descent providers and checks that both create the
+ * same queries and fail on the same input.
+ */
+public class DescentQueryConformanceTest {
+
+    @ParameterizedTest
+    @ArgumentsSource(SelectQueryArgumentProvider.class)
+    @ValueSource(strings = {"//ignore this line \n select * from Person",
+            "select * from Person where name = 'Ada' and age = 'x'",
+            "select * from Person where name like \"Ada%\" or age not in (1, -2.5)",
+            "select selection from orders order by selection asc"})
+    public void shouldSelect(String query) {
+        assertConformance(query, q -> new AntlrSelectQueryProvider().apply(q), new DescentSelectQueryProvider(),
+                Assertions::assertEquals);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongSelectQueryArgumentProvider.class)
+    @ValueSource(strings = {"select * from Person //without new line", "select * from Person where age = #"})
+    public void shouldNotSelect(String query) {
+        assertError(query, q -> new AntlrSelectQueryProvider().apply(q), new DescentSelectQueryProvider());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(DeleteQueryArgumentProvider.class)
+    public void shouldDelete(String query) {
+        assertConformance(query, q -> new AntlrDeleteQueryProvider().apply(q), new DescentDeleteQueryProvider(),
+                Assertions::assertEquals);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongDeleteQueryArgumentProvider.class)
+    public void shouldNotDelete(String query) {
+        assertError(query, q -> new AntlrDeleteQueryProvider().apply(q), new DescentDeleteQueryProvider());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(InsertQueryArgumentProvider.class)
+    @ValueSource(strings = {"insert Person (age = 10, siblings = {\"Ana\": \"Sister\"}, name = \"Ada\") 10 day"})
+    public void shouldInsert(String query) {
+        assertConformance(query, q -> new AntlrInsertQueryProvider().apply(q), new DescentInsertQueryProvider(),
+                Assertions::assertEquals);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongInsertQueryArgumentProvider.class)
+    public void shouldNotInsert(String query) {
+        assertError(query, q -> new AntlrInsertQueryProvider().apply(q), new DescentInsertQueryProvider());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(UpdateQueryArgumentProvider.class)
+    public void shouldUpdate(String query) {
+        assertConformance(query, q -> new AntlrUpdateQueryProvider().apply(q), new DescentUpdateQueryProvider(),
+                Assertions::assertEquals);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongUpdateQueryArgumentProvider.class)
+    public void shouldNotUpdate(String query) {
+        assertError(query, q -> new AntlrUpdateQueryProvider().apply(q), new DescentUpdateQueryProvider());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(GetQueryArgumentProvider.class)
+    public void shouldGet(String query) {
+        assertConformance(query, q -> new AntlrGetQueryProvider().apply(q), new DescentGetQueryProvider(),
+                Assertions::assertEquals);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongGetQueryArgumentProvider.class)
+    public void shouldNotGet(String query) {
+        assertError(query, q -> new AntlrGetQueryProvider().apply(q), new DescentGetQueryProvider());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(RemoveQueryArgumentProvider.class)
+    public void shouldRemove(String query) {
+        assertConformance(query, q -> new AntlrRemoveQueryProvider().apply(q), new DescentRemoveQueryProvider(),
+                Assertions::assertEquals);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongRemoveQueryArgumentProvider.class)
+    public void shouldNotRemove(String query) {
+        assertError(query, q -> new AntlrRemoveQueryProvider().apply(q), new DescentRemoveQueryProvider());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PutQueryArgumentProvider.class)
+    public void shouldPut(String query) {
+        assertConformance(query, q -> new AntlrPutQueryProvider().apply(q), new DescentPutQueryProvider(),
+                DescentQueryConformanceTest::assertPut);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(WrongPutQueryArgumentProvider.class)
+    public void shouldNotPut(String query) {
+        assertError(query, q -> new AntlrPutQueryProvider().apply(q), new DescentPutQueryProvider());
+    }
+
+    private static void assertPut(PutQuery expected, PutQuery actual) {
+        assertEquals(expected.getKey(), actual.getKey());
+        assertEquals(expected.getValue(), actual.getValue());
+        assertEquals(expected.getTtl(), actual.getTtl());
+    }
+
+    private static <T> void assertConformance(String query, Function<String, T> antlr, Function<String, T> descent,
+                                              BiConsumer<T, T> assertion) {
+        T expected;
+        try {
+            expected = antlr.apply(query);
+        } catch (RuntimeException exception) {
+            RuntimeException actual = Assertions.assertThrows(RuntimeException.class, () -> descent.apply(query));
+            assertEquals(exception.getClass(), actual.getClass());
+            return;
+        }
+        assertion.accept(expected, descent.apply(query));
+    }
+
+    private static <T> void assertError(String query, Function<String, T> antlr, Function<String, T> descent) {
+        Assertions.assertThrows(QueryException.class, () -> antlr.apply(query));
+        Assertions.assertThrows(QueryException.class, () -> descent.apply(query));
+    }
+}